@@ -0,0 +1,30 @@
+#!/bin/sh
+# Performance regression gate.
+#
+# Compiles the project sources and the gate with the JDK on PATH (no Maven,
+# no network) and compares against bench/perf-baseline.json.
+#
+#   bench/perf-gate.sh                     compare, exit 1 on a regression
+#   bench/perf-gate.sh --update-baseline   re-measure and rewrite the baseline
+#   bench/perf-gate.sh --filter xml.       only the parser cases
+#
+# Each case runs in several fresh JVMs (--forks, default 5) with the options
+# below, and a case that looks slower is re-measured at the end of the run
+# before it fails the gate.
+#
+# Refresh the baseline deliberately, on the machine that runs the gate, and
+# commit it together with the change that justifies it.
+set -e
+
+HERE=$(cd "$(dirname "$0")" && pwd)
+ROOT=$(dirname "$HERE")
+CLASSES=$(mktemp -d "${TMPDIR:-/tmp}/perfgate.XXXXXX")
+trap 'rm -rf "$CLASSES"' EXIT
+
+javac -encoding UTF-8 -nowarn -d "$CLASSES" \
+    $(find "$ROOT/src" -name '*.java') \
+    "$HERE"/src/main/java/perfgate/*.java \
+    "$HERE"/src/main/java/benchmarks/XmlCorpus.java
+
+java -Xms1g -Xmx1g -XX:+UseParallelGC -cp "$CLASSES" \
+    perfgate.PerfGate --baseline "$HERE/perf-baseline.json" "$@"
@@ -0,0 +1,201 @@
+package benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+
+import exceptions.EmptyQueueException;
+import implementations.MyArrayQueue;
+import implementations.MyQueue;
+import implementations.MyStack;
+import utilities.Iterator;
+import utilities.QueueADT;
+import utilities.StackADT;
+
+/**
+ * Uniform view over the stack and queue implementations under test.
+ * <p>
+ * {@code put} and {@code take} map to push/pop for stacks and to
+ * enqueue/dequeue for queues, so the same benchmark body measures both
+ * disciplines.
+ * </p>
+ */
+public interface BufferOps {
+
+    void put(Object e);
+
+    Object take();
+
+    boolean contains(Object e);
+
+    int size();
+
+    /**
+     * Walks every element with the implementation's own iterator.
+     *
+     * @return a value derived from every element, to be consumed by the caller
+     */
+    int iterate();
+
+    /**
+     * Walks every element with the implementation's own {@code forEach}.
+     *
+     * @return the same value as {@link #iterate()}
+     */
+    int forEach();
+
+    Object[] toArray();
+
+    /**
+     * Creates an empty buffer for the named implementation.
+     *
+     * @param impl one of {@code MyStack}, {@code MyQueue}, {@code MyArrayQueue},
+     *             {@code ArrayDeque.stack}, {@code ArrayDeque.queue},
+     *             {@code LinkedList.stack} or {@code LinkedList.queue}
+     * @return a new, empty buffer
+     * @throws IllegalArgumentException if {@code impl} is not recognised
+     */
+    static BufferOps create(String impl) {
+        switch (impl) {
+            case "MyStack":
+                return new Stack(new MyStack<>());
+            case "MyQueue":
+                return new Queue(new MyQueue<>());
+            case "MyArrayQueue":
+                return new Queue(new MyArrayQueue<>());
+            case "ArrayDeque.stack":
+                return new Jdk(new ArrayDeque<>(), true);
+            case "ArrayDeque.queue":
+                return new Jdk(new ArrayDeque<>(), false);
+            case "LinkedList.stack":
+                return new Jdk(new LinkedList<>(), true);
+            case "LinkedList.queue":
+                return new Jdk(new LinkedList<>(), false);
+            default:
+                throw new IllegalArgumentException("Unknown buffer: " + impl);
+        }
+    }
+
+    /**
+     * Adapter for {@code StackADT} implementations.
+     */
+    final class Stack implements BufferOps {
+        final StackADT<Object> stack;
+
+        Stack(StackADT<Object> stack) {
+            this.stack = stack;
+        }
+
+        public void put(Object e) { stack.push(e); }
+
+        public Object take() { return stack.pop(); }
+
+        public boolean contains(Object e) { return stack.contains(e); }
+
+        public int size() { return stack.size(); }
+
+        public int iterate() {
+            int h = 0;
+            Iterator<Object> it = stack.iterator();
+            while (it.hasNext()) {
+                h += it.next().hashCode();
+            }
+            return h;
+        }
+
+        public int forEach() {
+            HashSum sum = new HashSum();
+            stack.forEach(sum);
+            return sum.h;
+        }
+
+        public Object[] toArray() { return stack.toArray(); }
+    }
+
+    /**
+     * Adapter for {@code QueueADT} implementations.
+     */
+    final class Queue implements BufferOps {
+        final QueueADT<Object> queue;
+
+        Queue(QueueADT<Object> queue) {
+            this.queue = queue;
+        }
+
+        public void put(Object e) { queue.enqueue(e); }
+
+        public Object take() {
+            try {
+                return queue.dequeue();
+            } catch (EmptyQueueException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public boolean contains(Object e) { return queue.contains(e); }
+
+        public int size() { return queue.size(); }
+
+        public int iterate() {
+            int h = 0;
+            Iterator<Object> it = queue.iterator();
+            while (it.hasNext()) {
+                h += it.next().hashCode();
+            }
+            return h;
+        }
+
+        // QueueADT has no forEach, so dispatch to the implementations'
+        public int forEach() {
+            HashSum sum = new HashSum();
+            if (queue instanceof MyArrayQueue)
+                ((MyArrayQueue<Object>) queue).forEach(sum);
+            else
+                ((MyQueue<Object>) queue).forEach(sum);
+            return sum.h;
+        }
+
+        public Object[] toArray() { return queue.toArray(); }
+    }
+
+    /**
+     * Adapter for {@code java.util.Deque} used either as a stack (LIFO) or as a
+     * queue (FIFO).
+     */
+    final class Jdk implements BufferOps {
+        final Deque<Object> deque;
+        final boolean lifo;
+
+        Jdk(Deque<Object> deque, boolean lifo) {
+            this.deque = deque;
+            this.lifo = lifo;
+        }
+
+        public void put(Object e) {
+            if (lifo) deque.push(e);
+            else deque.addLast(e);
+        }
+
+        public Object take() { return deque.removeFirst(); }
+
+        public boolean contains(Object e) { return deque.contains(e); }
+
+        public int size() { return deque.size(); }
+
+        public int iterate() {
+            int h = 0;
+            for (Object e : deque) {
+                h += e.hashCode();
+            }
+            return h;
+        }
+
+        public int forEach() {
+            HashSum sum = new HashSum();
+            deque.forEach(sum);
+            return sum.h;
+        }
+
+        public Object[] toArray() { return deque.toArray(); }
+    }
+}
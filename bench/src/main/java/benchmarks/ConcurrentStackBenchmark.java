@@ -0,0 +1,108 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import implementations.MyConcurrentStack;
+import implementations.MyStack;
+import utilities.StackADT;
+
+/**
+ * Scaling of a shared stack used as a free-list: every thread pushes one
+ * element and pops one element per operation.
+ * <p>
+ * {@code MyConcurrentStack} (Treiber stack with elimination) is compared with
+ * {@code MyStack} guarded by a single monitor. JMH runs a benchmark with the
+ * thread count given by {@code -t}; {@link #main(String[])} sweeps 1 to 64
+ * threads in one go.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentStackBenchmark {
+
+    /** Thread counts swept by {@link #main(String[])}. */
+    private static final int[] THREADS = { 1, 2, 4, 8, 16, 32, 64 };
+
+    /** Elements present before measuring, so pops never find the stack empty. */
+    private static final int PREFILL = 1024;
+
+    @Param({ "MyConcurrentStack", "synchronized MyStack" })
+    public String impl;
+
+    private StackADT<Object> stack;
+    private Object lock;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (impl.equals("MyConcurrentStack")) {
+            stack = new MyConcurrentStack<>();
+            lock = null;
+        } else {
+            stack = new MyStack<>();
+            lock = stack;
+        }
+        for (int i = 0; i < PREFILL; i++) {
+            stack.push(Integer.valueOf(i));
+        }
+    }
+
+    /**
+     * Per-thread element so pushes do not allocate.
+     */
+    @State(Scope.Thread)
+    public static class Payload {
+        final Object element = new Object();
+    }
+
+    /** One push followed by one pop on the shared stack. */
+    @Benchmark
+    public Object pushPop(Payload p) {
+        if (lock == null) {
+            stack.push(p.element);
+            return stack.pop();
+        }
+        synchronized (lock) {
+            stack.push(p.element);
+        }
+        synchronized (lock) {
+            return stack.pop();
+        }
+    }
+
+    /**
+     * Runs {@link #pushPop} for every thread count from 1 to 64.
+     *
+     * @param args unused
+     * @throws RunnerException if JMH fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            Options opt = new OptionsBuilder()
+                    .include(ConcurrentStackBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(opt).run();
+        }
+    }
+}
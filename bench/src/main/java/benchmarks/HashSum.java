@@ -0,0 +1,17 @@
+package benchmarks;
+
+import java.util.function.Consumer;
+
+/**
+ * Action for the {@code forEach} benchmarks: sums element hash codes, the
+ * same value the {@code iterate} benchmarks compute with an external loop.
+ */
+final class HashSum implements Consumer<Object> {
+
+    int h;
+
+    @Override
+    public void accept(Object e) {
+        h += e.hashCode();
+    }
+}
@@ -0,0 +1,138 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@code MyArrayList} and {@code MyDLL} with {@code java.util.ArrayList}
+ * and {@code java.util.LinkedList}.
+ * <p>
+ * Every benchmark runs over the cross product of implementation, list size
+ * and payload kind. Operations that build or copy a whole list report the time
+ * for the full list; the remaining operations report the time for a single
+ * call against a list of {@code size} elements.
+ * </p>
+ * Example: {@code java -jar target/benchmarks.jar ListBenchmark.get -p size=1000}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ListBenchmark {
+
+    /** Number of pre-computed random indices; must be a power of two. */
+    private static final int INDEX_COUNT = 1024;
+
+    @Param({ "MyArrayList", "MyDLL", "ArrayList", "LinkedList" })
+    public String impl;
+
+    @Param({ "10", "1000", "100000", "10000000" })
+    public int size;
+
+    @Param({ "OBJECT", "INTEGER" })
+    public String payload;
+
+    private Object[] elements;
+    private ListOps list;
+    private int[] indices;
+    private int cursor;
+    private Object extra;
+    private Object last;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = Payloads.makeAll(payload, size);
+        list = ListOps.create(impl);
+        for (Object e : elements) {
+            list.add(e);
+        }
+
+        SplittableRandom rnd = new SplittableRandom(42);
+        indices = new int[INDEX_COUNT];
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            indices[i] = rnd.nextInt(size);
+        }
+
+        extra = Payloads.make(payload, size);
+        // An equal but distinct instance, so contains() has to call equals()
+        last = Payloads.make(payload, size - 1);
+    }
+
+    private int nextIndex() {
+        return indices[cursor++ & (INDEX_COUNT - 1)];
+    }
+
+    /** Builds a list of {@code size} elements by repeated appends. */
+    @Benchmark
+    public ListOps add() {
+        ListOps fresh = ListOps.create(impl);
+        for (Object e : elements) {
+            fresh.add(e);
+        }
+        return fresh;
+    }
+
+    /** Reads one element at a random index. */
+    @Benchmark
+    public Object get() {
+        return list.get(nextIndex());
+    }
+
+    /** Inserts and then removes one element at a random index. */
+    @Benchmark
+    public Object insertRemove() {
+        int index = nextIndex();
+        list.add(index, extra);
+        return list.remove(index);
+    }
+
+    /** Searches for the last element (worst case linear scan). */
+    @Benchmark
+    public boolean contains() {
+        return list.contains(last);
+    }
+
+    /** Visits every element through the implementation's iterator. */
+    @Benchmark
+    public int iterate() {
+        return list.iterate();
+    }
+
+    /**
+     * Visits every element through the implementation's {@code forEach}; the
+     * internal-iteration counterpart of {@link #iterate()}.
+     */
+    @Benchmark
+    public int forEach() {
+        return list.forEach();
+    }
+
+    /** Copies the whole list into a new {@code Object[]}. */
+    @Benchmark
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    /** Appends the whole list to a new, empty list of the same type. */
+    @Benchmark
+    public ListOps addAll() {
+        ListOps fresh = ListOps.create(impl);
+        fresh.addAll(list);
+        return fresh;
+    }
+}
@@ -0,0 +1,164 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Uniform view over the list implementations under test.
+ * <p>
+ * {@code ListADT} and {@code java.util.List} do not share a supertype, so the
+ * benchmarks go through this small interface instead. Every JMH fork only
+ * loads one implementation, which keeps the call sites monomorphic and the
+ * indirection free after inlining.
+ * </p>
+ */
+public interface ListOps {
+
+    void add(Object e);
+
+    void add(int index, Object e);
+
+    Object get(int index);
+
+    Object remove(int index);
+
+    boolean contains(Object e);
+
+    int size();
+
+    /**
+     * Walks every element with the implementation's own iterator.
+     *
+     * @return a value derived from every element, to be consumed by the caller
+     */
+    int iterate();
+
+    /**
+     * Walks every element with the implementation's own {@code forEach}.
+     *
+     * @return the same value as {@link #iterate()}
+     */
+    int forEach();
+
+    Object[] toArray();
+
+    /**
+     * Appends every element of {@code other}, which must come from the same
+     * implementation.
+     *
+     * @param other the source list
+     */
+    void addAll(ListOps other);
+
+    /**
+     * Creates an empty list for the named implementation.
+     *
+     * @param impl one of {@code MyArrayList}, {@code MyDLL}, {@code ArrayList}
+     *             or {@code LinkedList}
+     * @return a new, empty list
+     * @throws IllegalArgumentException if {@code impl} is not recognised
+     */
+    static ListOps create(String impl) {
+        switch (impl) {
+            case "MyArrayList":
+                return new Adt(new MyArrayList<>());
+            case "MyDLL":
+                return new Adt(new MyDLL<>());
+            case "ArrayList":
+                return new Jdk(new ArrayList<>());
+            case "LinkedList":
+                return new Jdk(new LinkedList<>());
+            default:
+                throw new IllegalArgumentException("Unknown list: " + impl);
+        }
+    }
+
+    /**
+     * Adapter for the project's {@code ListADT} implementations.
+     */
+    final class Adt implements ListOps {
+        final ListADT<Object> list;
+
+        Adt(ListADT<Object> list) {
+            this.list = list;
+        }
+
+        public void add(Object e) { list.add(e); }
+
+        public void add(int index, Object e) { list.add(index, e); }
+
+        public Object get(int index) { return list.get(index); }
+
+        public Object remove(int index) { return list.remove(index); }
+
+        public boolean contains(Object e) { return list.contains(e); }
+
+        public int size() { return list.size(); }
+
+        public int iterate() {
+            int h = 0;
+            Iterator<Object> it = list.iterator();
+            while (it.hasNext()) {
+                h += it.next().hashCode();
+            }
+            return h;
+        }
+
+        public int forEach() {
+            HashSum sum = new HashSum();
+            list.forEach(sum);
+            return sum.h;
+        }
+
+        public Object[] toArray() { return list.toArray(); }
+
+        public void addAll(ListOps other) { list.addAll(((Adt) other).list); }
+    }
+
+    /**
+     * Adapter for the {@code java.util} reference implementations.
+     */
+    final class Jdk implements ListOps {
+        final List<Object> list;
+
+        Jdk(List<Object> list) {
+            this.list = list;
+        }
+
+        public void add(Object e) { list.add(e); }
+
+        public void add(int index, Object e) { list.add(index, e); }
+
+        public Object get(int index) { return list.get(index); }
+
+        public Object remove(int index) { return list.remove(index); }
+
+        public boolean contains(Object e) { return list.contains(e); }
+
+        public int size() { return list.size(); }
+
+        public int iterate() {
+            int h = 0;
+            for (Object e : list) {
+                h += e.hashCode();
+            }
+            return h;
+        }
+
+        public int forEach() {
+            HashSum sum = new HashSum();
+            list.forEach(sum);
+            return sum.h;
+        }
+
+        public Object[] toArray() { return list.toArray(); }
+
+        public void addAll(ListOps other) { list.addAll(((Jdk) other).list); }
+    }
+}
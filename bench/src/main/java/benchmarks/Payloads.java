@@ -0,0 +1,84 @@
+package benchmarks;
+
+/**
+ * Element factory shared by the data structure benchmarks.
+ * <p>
+ * Two payload shapes are supported:
+ * <ul>
+ *   <li>{@code OBJECT} — a small user-defined value object ({@link Item}),
+ *       standing in for domain objects such as parsed tags.</li>
+ *   <li>{@code INTEGER} — boxed {@code Integer}s outside the
+ *       {@code Integer.valueOf} cache, so every element is a distinct heap
+ *       object exactly as it would be in production lists of numbers.</li>
+ * </ul>
+ * </p>
+ */
+public final class Payloads {
+
+    /** Offset that keeps boxed values outside the -128..127 cache. */
+    private static final int BOX_OFFSET = 1_000_000;
+
+    private Payloads() {
+    }
+
+    /**
+     * Creates {@code n} distinct elements of the requested payload kind.
+     *
+     * @param kind either {@code "OBJECT"} or {@code "INTEGER"}
+     * @param n number of elements to create
+     * @return the elements in creation order
+     * @throws IllegalArgumentException if {@code kind} is not recognised
+     */
+    public static Object[] makeAll(String kind, int n) {
+        Object[] out = new Object[n];
+        for (int i = 0; i < n; i++) {
+            out[i] = make(kind, i);
+        }
+        return out;
+    }
+
+    /**
+     * Creates a single element for the given sequence number.
+     *
+     * @param kind either {@code "OBJECT"} or {@code "INTEGER"}
+     * @param i sequence number of the element
+     * @return a new element
+     * @throws IllegalArgumentException if {@code kind} is not recognised
+     */
+    public static Object make(String kind, int i) {
+        switch (kind) {
+            case "OBJECT":
+                return new Item(i);
+            case "INTEGER":
+                return Integer.valueOf(i + BOX_OFFSET);
+            default:
+                throw new IllegalArgumentException("Unknown payload: " + kind);
+        }
+    }
+
+    /**
+     * Small immutable value object used as the {@code OBJECT} payload.
+     */
+    public static final class Item {
+        private final int id;
+        private final String label;
+
+        Item(int id) {
+            this.id = id;
+            this.label = "item";
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Item)) return false;
+            Item other = (Item) o;
+            return id == other.id && label.equals(other.label);
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+}
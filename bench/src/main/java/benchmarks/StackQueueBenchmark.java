@@ -0,0 +1,111 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@code MyStack}, {@code MyQueue} and {@code MyArrayQueue} with {@code java.util.ArrayDeque}
+ * and {@code java.util.LinkedList} used in the same discipline.
+ * <p>
+ * {@code putTake} measures the steady state of a buffer that already holds
+ * {@code size} elements: one element in, one element out. The other
+ * benchmarks mirror the list benchmarks.
+ * </p>
+ * Example: {@code java -jar target/benchmarks.jar StackQueueBenchmark -p impl=MyQueue,ArrayDeque.queue}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class StackQueueBenchmark {
+
+    @Param({ "MyStack", "ArrayDeque.stack", "LinkedList.stack",
+             "MyQueue", "MyArrayQueue", "ArrayDeque.queue", "LinkedList.queue" })
+    public String impl;
+
+    @Param({ "10", "1000", "100000", "10000000" })
+    public int size;
+
+    @Param({ "OBJECT", "INTEGER" })
+    public String payload;
+
+    private Object[] elements;
+    private BufferOps buffer;
+    private Object extra;
+    private Object probe;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = Payloads.makeAll(payload, size);
+        buffer = BufferOps.create(impl);
+        for (Object e : elements) {
+            buffer.put(e);
+        }
+        extra = Payloads.make(payload, size);
+        // Equal but distinct instance of the element inserted first
+        probe = Payloads.make(payload, 0);
+    }
+
+    /** Fills a new buffer with {@code size} elements. */
+    @Benchmark
+    public BufferOps fill() {
+        BufferOps fresh = BufferOps.create(impl);
+        for (Object e : elements) {
+            fresh.put(e);
+        }
+        return fresh;
+    }
+
+    /** Adds one element to and removes one element from a full buffer. */
+    @Benchmark
+    public Object putTake() {
+        buffer.put(extra);
+        Object out = buffer.take();
+        // Queues hand back the oldest element; recycle it so the size stays fixed
+        if (out != extra) {
+            extra = out;
+        }
+        return out;
+    }
+
+    /** Searches for the first element inserted. */
+    @Benchmark
+    public boolean contains() {
+        return buffer.contains(probe);
+    }
+
+    /** Visits every element through the implementation's iterator. */
+    @Benchmark
+    public int iterate() {
+        return buffer.iterate();
+    }
+
+    /**
+     * Visits every element through the implementation's {@code forEach}; the
+     * internal-iteration counterpart of {@link #iterate()}.
+     */
+    @Benchmark
+    public int forEach() {
+        return buffer.forEach();
+    }
+
+    /** Copies the whole buffer into a new {@code Object[]}. */
+    @Benchmark
+    public Object[] toArray() {
+        return buffer.toArray();
+    }
+}
@@ -0,0 +1,233 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of synthetic XML documents for benchmarking
+ * {@code XMLParser}.
+ * <p>
+ * The same shape, size, error rate and seed always produce byte-identical
+ * output, so runs on different machines parse exactly the same input. The
+ * generator only depends on the JDK and can also be run stand-alone to write
+ * a corpus file:
+ * </p>
+ * <pre>
+ *   java -cp target/benchmarks.jar benchmarks.XmlCorpus WIDE 64 0.01 wide.xml
+ * </pre>
+ * (shape, size in MB, error rate, output file).
+ */
+public final class XmlCorpus {
+
+    /**
+     * Document shapes that stress different parts of the parser.
+     */
+    public enum Shape {
+        /** Chains of 1,000 nested elements, one tag per line. */
+        DEEP,
+        /** A single root with many small sibling elements. */
+        WIDE,
+        /** Sibling elements carrying a dozen attributes each. */
+        ATTRIBUTES,
+        /** A WIDE document written on a single line after the declaration. */
+        MINIFIED,
+        /** WIDE content with a whole-line comment after every element. */
+        COMMENTS
+    }
+
+    /** Nesting depth of each DEEP block. */
+    private static final int DEEP_BLOCK = 1000;
+
+    /** Number of attributes per ATTRIBUTES element. */
+    private static final int ATTRIBUTE_COUNT = 12;
+
+    private static final String[] NAMES = {
+        "Submission", "Category", "Driver", "Vehicle", "Record", "Item",
+        "Entry", "Value", "Note", "Detail", "Address", "Contact"
+    };
+
+    private final StringBuilder sb;
+    private final SplittableRandom rnd;
+    private final double errorRate;
+    private long tags;
+    private long errors;
+
+    private XmlCorpus(int expectedChars, double errorRate, long seed) {
+        this.sb = new StringBuilder(expectedChars + 4096);
+        this.rnd = new SplittableRandom(seed);
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Generates a document of roughly {@code targetBytes} bytes.
+     *
+     * @param shape document shape
+     * @param targetBytes approximate size of the document; generation stops at
+     *                    the first element boundary past this size
+     * @param errorRate probability in {@code [0, 1]} that an element is
+     *                  generated with a structural error (missing, misnamed or
+     *                  extra closing tag)
+     * @param seed random seed; equal seeds give identical documents
+     * @return the generated document
+     * @throws IllegalArgumentException if {@code targetBytes} is negative or
+     *                                  {@code errorRate} is outside [0, 1]
+     */
+    public static Document generate(Shape shape, int targetBytes, double errorRate, long seed) {
+        if (targetBytes < 0)
+            throw new IllegalArgumentException("targetBytes: " + targetBytes);
+        if (errorRate < 0.0 || errorRate > 1.0)
+            throw new IllegalArgumentException("errorRate: " + errorRate);
+
+        XmlCorpus g = new XmlCorpus(targetBytes, errorRate, seed);
+        g.sb.append("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n");
+        String sep = shape == Shape.MINIFIED ? "" : "\n";
+        g.open("XMLDATA", 0, sep);
+
+        while (g.sb.length() < targetBytes) {
+            switch (shape) {
+                case DEEP:
+                    g.deepBlock(sep);
+                    break;
+                case WIDE:
+                case MINIFIED:
+                    g.leaf(0, sep);
+                    break;
+                case ATTRIBUTES:
+                    g.leaf(ATTRIBUTE_COUNT, sep);
+                    break;
+                case COMMENTS:
+                    g.leaf(0, sep);
+                    g.sb.append("<!-- generated comment ").append(g.tags).append(" -->\n");
+                    break;
+                default:
+                    throw new AssertionError(shape);
+            }
+        }
+
+        g.close("XMLDATA", "\n");
+        return new Document(g.sb.toString().getBytes(StandardCharsets.UTF_8), g.tags, g.errors);
+    }
+
+    private String name() {
+        return NAMES[rnd.nextInt(NAMES.length)];
+    }
+
+    private void open(String name, int attributes, String sep) {
+        sb.append('<').append(name);
+        for (int i = 0; i < attributes; i++) {
+            sb.append(' ').append("attr").append(i).append("=\"").append(rnd.nextInt(1_000_000)).append('"');
+        }
+        sb.append('>').append(sep);
+        tags++;
+    }
+
+    private void close(String name, String sep) {
+        sb.append("</").append(name).append('>').append(sep);
+        tags++;
+    }
+
+    /**
+     * Emits the closing tag for {@code name}, or with probability
+     * {@code errorRate} one of the three supported structural errors.
+     */
+    private void closeOrBreak(String name, String sep) {
+        if (errorRate > 0.0 && rnd.nextDouble() < errorRate) {
+            errors++;
+            switch (rnd.nextInt(3)) {
+                case 0:
+                    // missing closing tag
+                    return;
+                case 1:
+                    close(name + "X", sep);
+                    return;
+                default:
+                    close(name, sep);
+                    close(name(), sep);
+                    return;
+            }
+        }
+        close(name, sep);
+    }
+
+    private void leaf(int attributes, String sep) {
+        String name = name();
+        if (!sep.isEmpty()) sb.append('\t');
+        open(name, attributes, "");
+        sb.append("value ").append(rnd.nextInt(1_000_000));
+        closeOrBreak(name, sep);
+    }
+
+    private void deepBlock(String sep) {
+        String[] stack = new String[DEEP_BLOCK];
+        for (int i = 0; i < DEEP_BLOCK; i++) {
+            stack[i] = name();
+            open(stack[i], 0, sep);
+        }
+        for (int i = DEEP_BLOCK - 1; i >= 0; i--) {
+            closeOrBreak(stack[i], sep);
+        }
+    }
+
+    /**
+     * A generated document together with the counts needed to turn parse times
+     * into throughput figures.
+     */
+    public static final class Document {
+        private final byte[] bytes;
+        private final long tags;
+        private final long errors;
+
+        Document(byte[] bytes, long tags, long errors) {
+            this.bytes = bytes;
+            this.tags = tags;
+            this.errors = errors;
+        }
+
+        /** @return the UTF-8 encoded document */
+        public byte[] bytes() { return bytes; }
+
+        /** @return number of tags in the document */
+        public long tags() { return tags; }
+
+        /** @return number of injected structural errors */
+        public long errors() { return errors; }
+
+        /**
+         * Writes the document to {@code file}.
+         *
+         * @param file destination file; overwritten if it exists
+         * @throws IOException if the file cannot be written
+         */
+        public void writeTo(File file) throws IOException {
+            try (OutputStream os = Files.newOutputStream(file.toPath())) {
+                os.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Writes a corpus file: {@code <shape> <sizeMB> <errorRate> <file> [seed]}.
+     *
+     * @param args command-line arguments
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.out.println("Usage: XmlCorpus <shape> <sizeMB> <errorRate> <file> [seed]");
+            return;
+        }
+        Shape shape = Shape.valueOf(args[0]);
+        int bytes = Integer.parseInt(args[1]) << 20;
+        double rate = Double.parseDouble(args[2]);
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+
+        Document doc = generate(shape, bytes, rate, seed);
+        doc.writeTo(new File(args[3]));
+        System.out.println(args[3] + ": " + doc.bytes().length + " bytes, "
+                + doc.tags() + " tags, " + doc.errors() + " injected errors");
+    }
+}
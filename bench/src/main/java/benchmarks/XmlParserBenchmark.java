@@ -0,0 +1,141 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import appDomain.XMLParser;
+
+/**
+ * Parses synthetic {@link XmlCorpus} documents with {@code XMLParser}.
+ * <p>
+ * The documents are generated once per trial and written to a temporary file,
+ * so every invocation measures {@code XMLParser.parse(File)} end to end
+ * (reading, tag extraction and stack/queue work) from the page cache. The
+ * parser report is discarded.
+ * </p>
+ * <p>
+ * Besides the primary parses/s score, JMH prints two secondary rates from
+ * {@link Rates}: {@code megabytes} (MB/s) and {@code tags} (tags/s). Run
+ * {@link #main(String[])} or pass {@code -prof gc} to add allocation rate and
+ * GC counts.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class XmlParserBenchmark {
+
+    @Param({ "DEEP", "WIDE", "ATTRIBUTES", "MINIFIED", "COMMENTS" })
+    public String shape;
+
+    /** Document size in megabytes. */
+    @Param({ "1", "16" })
+    public int sizeMB;
+
+    /** Probability that an element carries a structural error. */
+    @Param({ "0", "0.0001", "0.01" })
+    public double errorRate;
+
+    private static final PrintStream NULL_OUT = new PrintStream(new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    });
+
+    private File file;
+    private long bytes;
+    private long tags;
+
+    /**
+     * Secondary counters reported by JMH as rates (per second).
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rates {
+        /** Megabytes parsed. */
+        public double megabytes;
+        /** Tags parsed. */
+        public long tags;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+            tags = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        XmlCorpus.Document doc = XmlCorpus.generate(
+                XmlCorpus.Shape.valueOf(shape), sizeMB << 20, errorRate, 42L);
+        file = File.createTempFile("corpus-" + shape + "-", ".xml");
+        file.deleteOnExit();
+        doc.writeTo(file);
+        bytes = doc.bytes().length;
+        tags = doc.tags();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    /**
+     * Parses the whole document once.
+     *
+     * @param rates secondary counters
+     * @return the parser, to keep the work observable
+     */
+    @Benchmark
+    public XMLParser parse(Rates rates) {
+        XMLParser parser = new XMLParser(NULL_OUT);
+        parser.parse(file);
+        rates.megabytes += bytes / (1024.0 * 1024.0);
+        rates.tags += tags;
+        return parser;
+    }
+
+    /**
+     * Runs every parser benchmark with the GC profiler attached.
+     *
+     * @param args optional JMH include pattern (defaults to this class)
+     * @throws RunnerException if JMH fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : XmlParserBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * JMH benchmarks for the project's data structures and XML parser.
+ *
+ * <p>
+ * This package lives in the separate {@code bench} Maven module and compiles
+ * the main {@code src} tree as an extra source root; it is not part of the
+ * Eclipse build path. Each benchmark class compares the project's
+ * implementations with the closest {@code java.util} equivalents:
+ * <ul>
+ *   <li>{@code ListBenchmark} — {@code MyArrayList} and {@code MyDLL} against
+ *       {@code ArrayList} and {@code LinkedList}.</li>
+ *   <li>{@code StackQueueBenchmark} — {@code MyStack} and {@code MyQueue}
+ *       against {@code ArrayDeque} and {@code LinkedList}.</li>
+ *   <li>{@code ConcurrentStackBenchmark} — {@code MyConcurrentStack} against a
+ *       synchronized {@code MyStack}, 1 to 64 threads.</li>
+ *   <li>{@code XmlParserBenchmark} — {@code XMLParser} over synthetic
+ *       documents produced by {@code XmlCorpus}, reporting MB/s and tags/s.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Build with {@code mvn -B package} from the {@code bench} directory and run
+ * {@code java -jar target/benchmarks.jar}. Standard JMH options apply, e.g.
+ * {@code -p size=1000} to restrict a parameter or {@code -prof gc} for
+ * allocation rates.
+ * </p>
+ *
+ * @author Alexander Raagas, Minh Tam, Mrinal Jha, Noah Zschogner
+ * @since 2025
+ */
+package benchmarks;
@@ -0,0 +1,590 @@
+package perfgate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import appDomain.XMLParser;
+import benchmarks.XmlCorpus;
+import exceptions.EmptyQueueException;
+import implementations.MyArrayList;
+import implementations.MyArrayQueue;
+import implementations.MyDLL;
+import implementations.MyQueue;
+import implementations.MyStack;
+import utilities.Iterator;
+
+/**
+ * Performance regression gate for the data structures and {@code XMLParser}.
+ * <p>
+ * Runs a fixed set of micro benchmarks (single data structure operations) and
+ * macro benchmarks (whole-document parses), then compares the mean cost per
+ * operation with the committed baseline {@code bench/perf-baseline.json}. A
+ * case fails only when it is both slower than the baseline by more than the
+ * tolerance (default 10%) <em>and</em> the slowdown is statistically
+ * significant (Welch's t statistic above {@value #T_CRITICAL}), so ordinary
+ * run-to-run noise does not break the build.
+ * </p>
+ * <p>
+ * Each case is measured in several forks, fresh JVMs started with the same
+ * options as the gate, and one fork's mean is one sample of the t test. JIT
+ * decisions and heap layout differ from one JVM to the next far more than
+ * between samples taken in one JVM, so a test on samples from a single JVM
+ * calls that difference significant; the spread of the fork means includes
+ * it. A case that still looks slower is measured again with new forks after
+ * the other cases, and only a slowdown that both sets show fails the gate.
+ * </p>
+ * <p>
+ * The gate needs nothing beyond a JDK and runs offline; use
+ * {@code bench/perf-gate.sh}. Options:
+ * </p>
+ * <pre>
+ *   --baseline FILE      baseline to compare with or write (required)
+ *   --update-baseline    measure and overwrite the baseline instead of comparing
+ *   --tolerance PCT      allowed slowdown in percent (default 10)
+ *   --filter TEXT        only run cases whose name contains TEXT
+ *   --forks N            JVMs per case (default 5, at least 2)
+ *   --quick              fewer forks and shorter samples (for local smoke runs)
+ * </pre>
+ * Exit status: 0 when no case regressed, 1 on a regression, 2 on bad usage or
+ * an unreadable baseline.
+ */
+public final class PerfGate {
+
+    /** Welch t statistic above which a difference counts as significant. */
+    static final double T_CRITICAL = 3.0;
+
+    /** Version 2: the samples are per-fork means rather than in-JVM samples. */
+    private static final int FORMAT = 2;
+
+    /** Option that makes a fork measure one case and print its mean. */
+    private static final String MEASURE = "--measure";
+
+    private static final PrintStream QUIET = new PrintStream(new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    });
+
+    /**
+     * One measurable unit of work. Each call to {@link #run()} performs
+     * {@link #ops()} operations and returns a value derived from them so the
+     * JIT cannot discard the work.
+     */
+    interface Workload {
+        long run() throws Exception;
+
+        int ops();
+    }
+
+    /**
+     * Prepares a workload. Only the fork that measures a case runs its
+     * setup, so no fork pays for the other cases' data.
+     */
+    interface Setup {
+        Workload create() throws Exception;
+    }
+
+    /**
+     * A named benchmark case.
+     */
+    static final class Case {
+        final String name;
+        final Setup setup;
+
+        Case(String name, Workload workload) {
+            this(name, () -> workload);
+        }
+
+        Case(String name, Setup setup) {
+            this.name = name;
+            this.setup = setup;
+        }
+    }
+
+    /**
+     * Mean and spread of the per-operation cost of one case.
+     */
+    static final class Stats {
+        final double mean;
+        final double stddev;
+        final int samples;
+
+        Stats(double mean, double stddev, int samples) {
+            this.mean = mean;
+            this.stddev = stddev;
+            this.samples = samples;
+        }
+
+        static Stats of(double[] xs) {
+            double sum = 0;
+            for (double x : xs) sum += x;
+            double mean = sum / xs.length;
+            double sq = 0;
+            for (double x : xs) sq += (x - mean) * (x - mean);
+            double stddev = xs.length > 1 ? Math.sqrt(sq / (xs.length - 1)) : 0.0;
+            return new Stats(mean, stddev, xs.length);
+        }
+
+        /**
+         * Welch's t statistic for {@code this} being slower than {@code base}.
+         */
+        double welchT(Stats base) {
+            double se = Math.sqrt(stddev * stddev / samples + base.stddev * base.stddev / base.samples);
+            double diff = mean - base.mean;
+            if (se == 0.0) return diff > 0 ? Double.POSITIVE_INFINITY : 0.0;
+            return diff / se;
+        }
+    }
+
+    private long sink;
+
+    private PerfGate() {
+    }
+
+    // ------------------ Cases ------------------
+
+    private static final int N = 100_000;
+
+    private static Integer[] boxed(int n) {
+        Integer[] values = new Integer[n];
+        for (int i = 0; i < n; i++) values[i] = i + 1_000_000;
+        return values;
+    }
+
+    private static List<Case> cases() throws IOException {
+        List<Case> cases = new ArrayList<>();
+        final Integer[] values = boxed(N);
+
+        final MyArrayList<Integer> array = new MyArrayList<>();
+        final MyDLL<Integer> dll = new MyDLL<>();
+        for (Integer v : values) {
+            array.add(v);
+            dll.add(v);
+        }
+        final int[] randomIndex = new int[N];
+        long seed = 42;
+        for (int i = 0; i < N; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            randomIndex[i] = (int) ((seed >>> 33) % N);
+        }
+
+        cases.add(new Case("list.MyArrayList.append", new Workload() {
+            public long run() {
+                MyArrayList<Integer> l = new MyArrayList<>();
+                for (Integer v : values) l.add(v);
+                return l.size();
+            }
+            public int ops() { return N; }
+        }));
+        cases.add(new Case("list.MyArrayList.getRandom", new Workload() {
+            public long run() {
+                long h = 0;
+                for (int i : randomIndex) h += array.get(i);
+                return h;
+            }
+            public int ops() { return N; }
+        }));
+        cases.add(new Case("list.MyArrayList.iterate", new Workload() {
+            public long run() {
+                long h = 0;
+                Iterator<Integer> it = array.iterator();
+                while (it.hasNext()) h += it.next();
+                return h;
+            }
+            public int ops() { return N; }
+        }));
+        cases.add(new Case("list.MyArrayList.forEach", new Workload() {
+            long h;
+            final Consumer<Integer> sum = new Consumer<Integer>() {
+                public void accept(Integer v) { h += v; }
+            };
+            public long run() {
+                h = 0;
+                array.forEach(sum);
+                return h;
+            }
+            public int ops() { return N; }
+        }));
+        cases.add(new Case("list.MyArrayList.contains", new Workload() {
+            final Integer last = Integer.valueOf(values[N - 1].intValue());
+            public long run() { return array.contains(last) ? 1 : 0; }
+            public int ops() { return N; }
+        }));
+        cases.add(new Case("list.MyDLL.append", new Workload() {
+            public long run() {
+                MyDLL<Integer> l = new MyDLL<>();
+                for (Integer v : values) l.add(v);
+                return l.size();
+            }
+            public int ops() { return N; }
+        }));
+        cases.add(new Case("list.MyDLL.iterate", new Workload() {
+            public long run() {
+                long h = 0;
+                Iterator<Integer> it = dll.iterator();
+                while (it.hasNext()) h += it.next();
+                return h;
+            }
+            public int ops() { return N; }
+        }));
+        cases.add(new Case("list.MyDLL.forEach", new Workload() {
+            long h;
+            final Consumer<Integer> sum = new Consumer<Integer>() {
+                public void accept(Integer v) { h += v; }
+            };
+            public long run() {
+                h = 0;
+                dll.forEach(sum);
+                return h;
+            }
+            public int ops() { return N; }
+        }));
+        final MyDLL<Integer> smallDll = new MyDLL<>();
+        for (int i = 0; i < 2_000; i++) smallDll.add(values[i]);
+        cases.add(new Case("list.MyDLL.getSequential", new Workload() {
+            public long run() {
+                long h = 0;
+                for (int i = 0; i < smallDll.size(); i++) h += smallDll.get(i);
+                return h;
+            }
+            public int ops() { return smallDll.size(); }
+        }));
+        cases.add(new Case("stack.MyStack.pushPop", new Workload() {
+            final MyStack<Integer> stack = new MyStack<>();
+            public long run() {
+                for (Integer v : values) stack.push(v);
+                long h = 0;
+                while (!stack.isEmpty()) h += stack.pop();
+                return h;
+            }
+            public int ops() { return 2 * N; }
+        }));
+        cases.add(new Case("queue.MyQueue.enqueueDequeue", new Workload() {
+            final MyQueue<Integer> queue = new MyQueue<>();
+            public long run() throws EmptyQueueException {
+                for (Integer v : values) queue.enqueue(v);
+                long h = 0;
+                while (!queue.isEmpty()) h += queue.dequeue();
+                return h;
+            }
+            public int ops() { return 2 * N; }
+        }));
+        cases.add(new Case("queue.MyArrayQueue.enqueueDequeue", new Workload() {
+            final MyArrayQueue<Integer> queue = new MyArrayQueue<>();
+            public long run() throws EmptyQueueException {
+                for (Integer v : values) queue.enqueue(v);
+                long h = 0;
+                while (!queue.isEmpty()) h += queue.dequeue();
+                return h;
+            }
+            public int ops() { return 2 * N; }
+        }));
+
+        cases.add(parserCase("xml.WIDE", XmlCorpus.Shape.WIDE, 0.0));
+        cases.add(parserCase("xml.DEEP", XmlCorpus.Shape.DEEP, 0.0));
+        cases.add(parserCase("xml.ATTRIBUTES", XmlCorpus.Shape.ATTRIBUTES, 0.0));
+        cases.add(parserCase("xml.MINIFIED", XmlCorpus.Shape.MINIFIED, 0.0));
+        cases.add(parserCase("xml.WIDE.errors", XmlCorpus.Shape.WIDE, 0.001));
+        return cases;
+    }
+
+    /**
+     * Whole-document parse of a 4 MB synthetic corpus; cost is reported per tag.
+     */
+    private static Case parserCase(String name, XmlCorpus.Shape shape, double errorRate) {
+        return new Case(name, () -> {
+            XmlCorpus.Document doc = XmlCorpus.generate(shape, 4 << 20, errorRate, 42L);
+            final File file = File.createTempFile("perfgate-", ".xml");
+            file.deleteOnExit();
+            doc.writeTo(file);
+            final int tags = (int) doc.tags();
+            return new Workload() {
+                public long run() {
+                    XMLParser parser = new XMLParser(QUIET);
+                    parser.parse(file);
+                    return parser.hashCode();
+                }
+                public int ops() { return tags; }
+            };
+        });
+    }
+
+    // ------------------ Measurement ------------------
+
+    /**
+     * Measures one case in a fresh JVM started with this JVM's options and
+     * class path, and returns that fork's mean cost per operation.
+     */
+    private static double fork(String name, boolean quick) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getPath());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(PerfGate.class.getName());
+        command.add(MEASURE);
+        command.add(name);
+        if (quick) command.add("--quick");
+
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        String output;
+        try (InputStream in = process.getInputStream()) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[256];
+            for (int n; (n = in.read(chunk)) != -1; ) buffer.write(chunk, 0, n);
+            output = new String(buffer.toByteArray(), StandardCharsets.UTF_8).trim();
+            output = output.substring(output.lastIndexOf('\n') + 1);
+        }
+        int status = process.waitFor();
+        if (status != 0)
+            throw new IOException("fork for " + name + " exited with status " + status);
+        try {
+            return Double.parseDouble(output);
+        } catch (NumberFormatException e) {
+            throw new IOException("fork for " + name + " printed \"" + output + "\"");
+        }
+    }
+
+    private static String verdict(Stats now, Stats base, double tolerance) {
+        double change = now.mean / base.mean - 1.0;
+        double t = now.welchT(base);
+        if (change > tolerance && t > T_CRITICAL) return "REGRESSION";
+        if (change < -tolerance && -t > T_CRITICAL) return "faster";
+        return "ok";
+    }
+
+    private static void report(String name, Stats now, Stats base, String verdict) {
+        System.out.println(String.format("%-32s %12.3f %12.3f %+8.1f%% %8.1f  %s",
+                name, base.mean, now.mean, (now.mean / base.mean - 1.0) * 100.0, now.welchT(base), verdict));
+    }
+
+    private static Stats measureForks(String name, int forks, boolean quick) throws Exception {
+        double[] means = new double[forks];
+        for (int f = 0; f < forks; f++) means[f] = fork(name, quick);
+        return Stats.of(means);
+    }
+
+    private Stats measure(Workload w, long warmupNanos, long sampleNanos, int samples) throws Exception {
+        long end = System.nanoTime() + warmupNanos;
+        while (System.nanoTime() < end) sink += w.run();
+
+        double[] nsPerOp = new double[samples];
+        for (int s = 0; s < samples; s++) {
+            long runs = 0;
+            long start = System.nanoTime();
+            long now;
+            do {
+                sink += w.run();
+                runs++;
+                now = System.nanoTime();
+            } while (now - start < sampleNanos);
+            nsPerOp[s] = (double) (now - start) / ((double) runs * w.ops());
+        }
+        return Stats.of(nsPerOp);
+    }
+
+    // ------------------ Baseline file ------------------
+
+    private static Map<String, Stats> readBaseline(File file) throws IOException {
+        String text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        Map<String, Object> root = Json.parseObject(text);
+        Object format = root.get("format");
+        if (!(format instanceof Double) || ((Double) format).intValue() != FORMAT)
+            throw new IllegalArgumentException("unsupported baseline format: " + format
+                    + "; re-record it with --update-baseline");
+        Object cases = root.get("cases");
+        if (!(cases instanceof Map))
+            throw new IllegalArgumentException("baseline has no \"cases\" object");
+
+        Map<String, Stats> out = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> e : ((Map<?, ?>) cases).entrySet()) {
+            Map<?, ?> c = (Map<?, ?>) e.getValue();
+            out.put((String) e.getKey(), new Stats(
+                    ((Double) c.get("mean")).doubleValue(),
+                    ((Double) c.get("stddev")).doubleValue(),
+                    ((Double) c.get("samples")).intValue()));
+        }
+        return out;
+    }
+
+    private static void writeBaseline(File file, Map<String, Stats> results) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"format\": ").append(FORMAT).append(",\n");
+        sb.append("  \"generated\": ").append(Json.quote(Instant.now().toString())).append(",\n");
+        sb.append("  \"jvm\": ").append(Json.quote(System.getProperty("java.vm.name") + " "
+                + System.getProperty("java.version"))).append(",\n");
+        sb.append("  \"os\": ").append(Json.quote(System.getProperty("os.name") + " "
+                + System.getProperty("os.arch"))).append(",\n");
+        sb.append("  \"processors\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+        sb.append("  \"unit\": \"ns/op\",\n");
+        sb.append("  \"cases\": {\n");
+        int i = 0;
+        for (Map.Entry<String, Stats> e : results.entrySet()) {
+            Stats s = e.getValue();
+            sb.append("    ").append(Json.quote(e.getKey())).append(": { ")
+              .append("\"mean\": ").append(String.format(Locale.ROOT, "%.4f", s.mean)).append(", ")
+              .append("\"stddev\": ").append(String.format(Locale.ROOT, "%.4f", s.stddev)).append(", ")
+              .append("\"samples\": ").append(s.samples).append(" }")
+              .append(++i < results.size() ? ",\n" : "\n");
+        }
+        sb.append("  }\n}\n");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ------------------ Driver ------------------
+
+    /**
+     * Runs the gate; see the class comment for options.
+     *
+     * @param args command-line options
+     */
+    public static void main(String[] args) {
+        File baseline = null;
+        boolean update = false;
+        double tolerance = 10.0;
+        String filter = "";
+        int forks = -1;
+        boolean quick = false;
+        String measure = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--baseline": baseline = new File(args[++i]); break;
+                    case "--update-baseline": update = true; break;
+                    case "--tolerance": tolerance = Double.parseDouble(args[++i]); break;
+                    case "--filter": filter = args[++i]; break;
+                    case "--forks": forks = Integer.parseInt(args[++i]); break;
+                    case "--quick": quick = true; break;
+                    case MEASURE: measure = args[++i]; break;
+                    default: throw new IllegalArgumentException("unknown option " + args[i]);
+                }
+            }
+            if (forks == -1) forks = quick ? 2 : 5;
+            if (forks < 2) throw new IllegalArgumentException("--forks must be at least 2");
+            if (baseline == null && measure == null) throw new IllegalArgumentException("--baseline is required");
+        } catch (RuntimeException e) {
+            System.err.println("perf-gate: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        try {
+            if (measure != null) {
+                System.out.println(new PerfGate().measureOne(measure, quick));
+                System.exit(0);
+            }
+            System.exit(run(baseline, update, tolerance / 100.0, filter, forks, quick));
+        } catch (Exception e) {
+            System.err.println("perf-gate: " + e);
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Body of a fork: measures the named case in this JVM.
+     *
+     * @return the mean cost per operation in nanoseconds
+     */
+    private double measureOne(String name, boolean quick) throws Exception {
+        long warmup = quick ? 200_000_000L : 1_000_000_000L;
+        long sample = quick ? 50_000_000L : 250_000_000L;
+        int samples = quick ? 5 : 10;
+        for (Case c : cases()) {
+            if (c.name.equals(name)) return measure(c.setup.create(), warmup, sample, samples).mean;
+        }
+        throw new IllegalArgumentException("unknown case " + name);
+    }
+
+    private static int run(File baselineFile, boolean update, double tolerance, String filter, int forks,
+            boolean quick) throws Exception {
+        Map<String, Stats> baseline = new LinkedHashMap<>();
+        if (baselineFile.exists()) {
+            try {
+                baseline = readBaseline(baselineFile);
+            } catch (IllegalArgumentException e) {
+                // An older format cannot be merged; --update-baseline starts over
+                if (!update) throw e;
+                System.out.println("Replacing baseline: " + e.getMessage());
+            }
+        } else if (!update) {
+            System.err.println("perf-gate: no baseline at " + baselineFile
+                    + "; run with --update-baseline first");
+            return 2;
+        }
+
+        Map<String, Stats> results = new LinkedHashMap<>();
+        List<String> suspects = new ArrayList<>();
+        System.out.println(String.format("%-32s %12s %12s %9s %8s  %s",
+                "case", "baseline", "current", "change", "t", "verdict"));
+
+        for (Case c : cases()) {
+            if (!c.name.contains(filter)) continue;
+            Stats now = measureForks(c.name, forks, quick);
+            results.put(c.name, now);
+
+            Stats base = baseline.get(c.name);
+            if (update || base == null) {
+                System.out.println(String.format("%-32s %12s %12.3f %9s %8s  %s",
+                        c.name, "-", now.mean, "-", "-", update ? "recorded" : "new"));
+                continue;
+            }
+            String verdict = verdict(now, base, tolerance);
+            if (verdict.equals("REGRESSION")) {
+                suspects.add(c.name);
+                verdict = "slower";
+            }
+            report(c.name, now, base, verdict);
+        }
+
+        // A slowdown fails the gate only if a second set of forks, measured
+        // after the other cases, shows it too
+        int regressions = 0;
+        if (!suspects.isEmpty()) System.out.println("Re-measuring the slower cases:");
+        for (String name : suspects) {
+            Stats base = baseline.get(name);
+            Stats again = measureForks(name, forks, quick);
+            String verdict = verdict(again, base, tolerance);
+            if (verdict.equals("REGRESSION")) regressions++;
+            else verdict = "ok (not reproduced)";
+            report(name, again, base, verdict);
+        }
+
+        if (update) {
+            // Keep cases that were filtered out of this run
+            Map<String, Stats> merged = new LinkedHashMap<>(baseline);
+            merged.putAll(results);
+            writeBaseline(baselineFile, merged);
+            System.out.println("Baseline written to " + baselineFile);
+            return 0;
+        }
+        if (regressions > 0) {
+            System.out.println(regressions + " case(s) regressed by more than "
+                    + Math.round(tolerance * 100) + "%.");
+            return 1;
+        }
+        System.out.println("No significant regressions.");
+        return 0;
+    }
+}
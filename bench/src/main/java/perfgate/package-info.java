@@ -0,0 +1,15 @@
+/**
+ * Offline performance regression gate.
+ *
+ * <p>
+ * {@code PerfGate} times a fixed set of data structure and {@code XMLParser}
+ * workloads and compares them with the baseline committed in
+ * {@code bench/perf-baseline.json}. Unlike the JMH module it depends only on
+ * the JDK, so {@code bench/perf-gate.sh} runs on any Linux box without Maven
+ * or network access.
+ * </p>
+ *
+ * @author Alexander Raagas, Minh Tam, Mrinal Jha, Noah Zschogner
+ * @since 2025
+ */
+package perfgate;
@@ -0,0 +1,263 @@
+package appDomain;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import implementations.MyArrayList;
+import implementations.MyBoundedBlockingQueue;
+import implementations.WorkStealingScheduler;
+
+/**
+ * DirectoryValidator
+ * ---------------------------------------------------------------
+ * Validates every .xml file under a directory tree in parallel.
+ *
+ * The pipeline has three stages joined by {@link MyBoundedBlockingQueue}s:
+ *
+ *   discovery  - the calling thread walks the tree depth first, reading each
+ *                directory through a lazy {@link DirectoryStream}, and puts
+ *                every XML file on the file queue;
+ *   parsing    - one parser loop per worker of a {@link WorkStealingScheduler}
+ *                takes files off that queue, runs its own {@link XMLParser}
+ *                into a private buffer and puts the finished report on the
+ *                report queue;
+ *   reporting  - a single reporter thread prints the reports, so reports
+ *                from different files never interleave.
+ *
+ * Both queues are bounded, so a stage that falls behind makes the stage
+ * before it block: a tree with millions of files holds only a few pending
+ * {@code File}s and reports per thread at any time, never the whole listing.
+ * Parsers pull the next file when they finish the last, which keeps every
+ * worker busy when the tree mixes small and very large files. Reports
+ * appear in completion order, not directory order.
+ */
+public class DirectoryValidator {
+
+    /** Discovered files allowed to wait for a parser, per worker thread. */
+    private static final int FILES_PER_THREAD = 4;
+
+    /** Finished reports allowed to wait for the reporter, per worker thread. */
+    private static final int REPORTS_PER_THREAD = 4;
+
+    /** Reports the reporter prints per lock acquisition on the queue. */
+    private static final int REPORT_BATCH = 64;
+
+    /** How long each attempt to queue the end of reports waits. */
+    private static final long END_RETRY_MILLIS = 10;
+
+    /** Marks the end of the file stream for one parser; compared by identity. */
+    private static final File END_OF_FILES = new File("");
+
+    /** Marks the end of the report stream; compared by identity. */
+    private static final String END_OF_REPORTS = new String("");
+
+    private final PrintStream out;
+    private final int threads;
+    private final AtomicInteger filesValidated = new AtomicInteger();
+
+    /**
+     * Creates a validator that reports to standard output and uses one
+     * thread per available processor.
+     */
+    public DirectoryValidator() {
+        this(System.out, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a validator.
+     *
+     * @param out     destination for the per-file reports
+     * @param threads number of worker threads
+     */
+    public DirectoryValidator(PrintStream out, int threads) {
+        if (out == null) throw new NullPointerException();
+        this.out = out;
+        this.threads = threads;
+    }
+
+    /**
+     * Validates every .xml file below {@code root}, recursively, and waits
+     * for all of them to finish.
+     *
+     * @param root the directory to walk
+     * @return the number of files validated
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException   if a validation task failed unexpectedly
+     */
+    public int validate(File root) throws InterruptedException, ExecutionException {
+        if (root == null || !root.isDirectory())
+            throw new IllegalArgumentException("Not a directory: " + root);
+
+        filesValidated.set(0);
+        WorkStealingScheduler scheduler = new WorkStealingScheduler(threads);
+        int parsers = scheduler.parallelism();
+        MyBoundedBlockingQueue<File> files = new MyBoundedBlockingQueue<>(FILES_PER_THREAD * parsers);
+        MyBoundedBlockingQueue<String> reports = new MyBoundedBlockingQueue<>(REPORTS_PER_THREAD * parsers);
+        Thread reporter = new Thread(() -> report(reports), "directory-reporter");
+        reporter.setDaemon(true);
+        reporter.start();
+        boolean filesEnded = false;
+        try {
+            for (int i = 0; i < parsers; i++)
+                scheduler.submit(() -> parse(files, reports));
+            walk(files, root.toPath());
+            // One end marker per parser, behind the files still queued
+            for (int i = 0; i < parsers; i++)
+                files.put(END_OF_FILES);
+            filesEnded = true;
+            scheduler.awaitQuiescence();
+        } finally {
+            if (!filesEnded) {
+                // Discovery failed: drop the backlog so the markers fit without blocking
+                files.dequeueAll();
+                for (int i = 0; i < parsers; i++)
+                    files.enqueue(END_OF_FILES);
+            }
+            scheduler.shutdown();
+            endReports(reports, reporter);
+        }
+        return filesValidated.get();
+    }
+
+    /**
+     * Puts every XML file below {@code dir} on the file queue, blocking
+     * while the parsers are behind. Directories that cannot be read are
+     * skipped, and so are symbolic links to directories: a link back up the
+     * tree would otherwise be walked again and again until the path got too
+     * long. Links to files are validated like the files themselves.
+     */
+    private void walk(MyBoundedBlockingQueue<File> files, Path dir) throws InterruptedException {
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(dir)) {
+            for (Path child : children) {
+                if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS))
+                    walk(files, child);
+                else if (child.getFileName().toString().toLowerCase().endsWith(".xml")
+                        && !Files.isDirectory(child))
+                    files.put(child.toFile());
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            // unreadable directory
+        }
+    }
+
+    /**
+     * Parser loop run by each scheduler worker: validates files until it
+     * takes an end marker. A file that fails does not stop the loop, not even
+     * with an {@link Error} such as a {@link StackOverflowError} or an
+     * {@link OutOfMemoryError} on a huge file: once every loop had died,
+     * nothing would take from the bounded file queue and discovery would
+     * block on it forever. The first failure is rethrown at the end and
+     * reported by the scheduler.
+     */
+    private void parse(MyBoundedBlockingQueue<File> files, MyBoundedBlockingQueue<String> reports) {
+        Throwable failure = null;
+        for (;;) {
+            File file;
+            try {
+                file = files.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for files", e);
+            }
+            if (file == END_OF_FILES)
+                break;
+            try {
+                validateFile(reports, file);
+            } catch (Throwable e) {
+                if (failure == null)
+                    failure = e;
+            }
+        }
+        // validateFile throws nothing checked, so this is one or the other
+        if (failure instanceof Error)
+            throw (Error) failure;
+        if (failure != null)
+            throw (RuntimeException) failure;
+    }
+
+    /**
+     * Parses one file into a private buffer and queues the finished report,
+     * blocking while the reporter is behind.
+     */
+    private void validateFile(MyBoundedBlockingQueue<String> reports, File file) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream report = new PrintStream(buffer);
+        report.println("File: " + file.getPath());
+        new XMLParser(report).parse(file);
+        report.flush();
+
+        try {
+            reports.put(buffer.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing report for " + file, e);
+        }
+        filesValidated.incrementAndGet();
+    }
+
+    /**
+     * Reporter thread body: prints queued reports in batches until the end
+     * marker arrives.
+     */
+    private void report(MyBoundedBlockingQueue<String> reports) {
+        MyArrayList<String> batch = new MyArrayList<>();
+        try {
+            for (;;) {
+                batch.add(reports.take());
+                reports.drainTo(batch, REPORT_BATCH - 1);
+                for (int i = 0; i < batch.size(); i++) {
+                    String r = batch.get(i);
+                    if (r == END_OF_REPORTS) {
+                        out.flush();
+                        return;
+                    }
+                    out.print(r);
+                }
+                out.flush();
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues the end marker for the reporter and waits for it to finish.
+     * Runs in {@code validate}'s {@code finally}, so an interrupt here must
+     * not replace a failure already on its way out: it is remembered and
+     * restored instead of thrown. Stops early if the reporter has died.
+     */
+    private static void endReports(MyBoundedBlockingQueue<String> reports, Thread reporter) {
+        boolean interrupted = false;
+        for (;;) {
+            try {
+                if (reports.enqueue(END_OF_REPORTS, END_RETRY_MILLIS, TimeUnit.MILLISECONDS))
+                    break;
+                if (!reporter.isAlive())
+                    break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        for (;;) {
+            try {
+                reporter.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+}
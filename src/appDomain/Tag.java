@@ -6,8 +6,9 @@ package appDomain;
  * A simple data structure representing a single XML tag and
  * the line number where it appeared in the file.
  *
- * This is used throughout the XMLParser to track:
- *   - Opening tags pushed onto the stack
+ * This is used by the XMLParser to track:
+ *   - Unmatched opening tags moved off the stack into the error queue
+ *     (the stack itself holds packed primitive entries, not Tag objects)
  *   - Tags stored in the error queue (errorQ)
  *   - Extra closing tags stored in extrasQ
  *
@@ -0,0 +1,102 @@
+package appDomain;
+
+import java.util.Arrays;
+
+/**
+ * TagNameTable
+ * ---------------------------------------------------------------
+ * Interns tag strings of the form {@code "<" + name + ">"} to small int IDs,
+ * so the parser can keep IDs on a primitive stack instead of String objects.
+ *
+ * Lookups take the name as a region of the current line and compare it in
+ * place, so a name that has been seen before costs no allocation at all.
+ * Only the first occurrence of each distinct name creates its String.
+ *
+ * Two IDs are equal exactly when their tag strings are equal.
+ */
+class TagNameTable {
+
+    private static final int INITIAL_SLOTS = 64;
+
+    /** Tag string for each ID, e.g. "&lt;note&gt;". */
+    private String[] names = new String[16];
+
+    /** Hash of the name region for each ID. */
+    private int[] hashes = new int[16];
+    private int count;
+
+    /** Open-addressing table of ID + 1 (0 marks an empty slot). */
+    private int[] slots = new int[INITIAL_SLOTS];
+
+    /**
+     * Returns the ID of {@code "<" + line[start, end) + ">"}, adding it if it
+     * has not been seen before.
+     *
+     * @param line  the text holding the name
+     * @param start index of the first name character
+     * @param end   index one past the last name character
+     * @return the tag's ID
+     */
+    int intern(String line, int start, int end) {
+        int len = end - start;
+        int h = 0;
+        for (int i = start; i < end; i++)
+            h = 31 * h + line.charAt(i);
+
+        int mask = slots.length - 1;
+        for (int i = mix(h) & mask; ; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == 0) {
+                int id = add(line, start, end, h);
+                slots[i] = id + 1;
+                if (count * 2 > slots.length)
+                    rehash();
+                return id;
+            }
+            int id = slot - 1;
+            String name = names[id];
+            if (hashes[id] == h && name.length() == len + 2
+                    && name.regionMatches(1, line, start, len))
+                return id;
+        }
+    }
+
+    /**
+     * Returns the tag string for an ID.
+     *
+     * @param id an ID returned by {@link #intern(String, int, int)}
+     * @return the tag string, including the angle brackets
+     */
+    String name(int id) {
+        return names[id];
+    }
+
+    private int add(String line, int start, int end, int h) {
+        if (count == names.length) {
+            names = Arrays.copyOf(names, count * 2);
+            hashes = Arrays.copyOf(hashes, count * 2);
+        }
+        names[count] = new StringBuilder(end - start + 2)
+                .append('<').append(line, start, end).append('>').toString();
+        hashes[count] = h;
+        return count++;
+    }
+
+    private void rehash() {
+        int[] bigger = new int[slots.length * 2];
+        int mask = bigger.length - 1;
+        for (int id = 0; id < count; id++) {
+            int i = mix(hashes[id]) & mask;
+            while (bigger[i] != 0)
+                i = (i + 1) & mask;
+            bigger[i] = id + 1;
+        }
+        slots = bigger;
+    }
+
+    /** Spreads String-style hashes, whose low bits cluster for short names. */
+    private static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -4,18 +4,21 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.util.EmptyStackException;
 
 import exceptions.EmptyQueueException;
+import implementations.LongStack;
 import implementations.MyQueue;
-import implementations.MyStack;
 
 /**
  * XMLParser
  * ---------------------------------------------------------------
  * A lightweight XML validator that:
  *  - Reads an XML file line-by-line
- *  - Tracks opening tags using a stack
+ *  - Tracks opening tags using a primitive stack of packed
+ *    (tag-name ID, line number) values, so well-formed input does not
+ *    allocate an object per tag
  *  - Detects mismatched, missing, or extra closing tags
  *  - Uses two queues:
  *      errorQ  → stores missing/mismatched opening tags
@@ -25,8 +28,14 @@ import implementations.MyStack;
  */
 public class XMLParser {
 
-    // Stack of expected closing tags (stores Tag objects)
-    MyStack<Tag> stack;
+    // Stack of expected closing tags: tag-name ID << 32 | line number
+    LongStack stack;
+
+    // Interned tag strings for the IDs on the stack
+    final TagNameTable names = new TagNameTable();
+
+    // Scratch stack for the downward search in processTag, reused per tag
+    private final LongStack temp = new LongStack();
 
     // Queue of unmatched/missing opening tags
     MyQueue<Tag> errorQ;
@@ -39,9 +48,24 @@ public class XMLParser {
     // Tracks current line number
     int counter;
 
+    // Destination for all error and summary messages
+    private final PrintStream out;
+
     public XMLParser() {
+        this(System.out);
+    }
+
+    /**
+     * Creates a parser that writes its report to the given stream instead of
+     * standard output (used for buffered or silenced reporting).
+     *
+     * @param out destination for error and summary messages
+     */
+    public XMLParser(PrintStream out) {
+        if (out == null) throw new NullPointerException();
+        this.out = out;
         counter = 1;
-        stack = new MyStack<>();
+        stack = new LongStack();
         errorQ = new MyQueue<>();
         extrasQ = new MyQueue<>();
     }
@@ -77,27 +101,36 @@ public class XMLParser {
     }
 
     /**
-     * Extracts tags from a line using < and > positions.
+     * Extracts tags from a line using < and > positions. Tags are handled as
+     * index ranges of the line; no substring is created for them.
      *
      * @param line the XML line
      */
     private void processXMLLine(String line) {
-        int openSymbol = line.indexOf("<");
-        int closeSymbol = line.indexOf(">");
+        int openSymbol = line.indexOf('<');
+        int closeSymbol = line.indexOf('>');
 
         // Extract all tags in the current line
         while (openSymbol != -1 && closeSymbol != -1) {
-            String tag = line.substring(openSymbol, closeSymbol + 1);
+            // A '>' before the '<' (as in "a > <b>") has no tag: report it
+            // and pair the '<' with the next '>' instead
+            if (openSymbol > closeSymbol + 1) {
+                out.println("Line " + counter + ": extra symbol found");
+                closeSymbol = line.indexOf('>', closeSymbol + 1);
+                continue;
+            }
 
-            processTag(tag, counter);
+            // An empty range ("><") is not a tag
+            if (openSymbol < closeSymbol)
+                processTag(line, openSymbol, closeSymbol + 1, counter);
 
-            openSymbol = line.indexOf("<", openSymbol + 1);
-            closeSymbol = line.indexOf(">", closeSymbol + 1);
+            openSymbol = line.indexOf('<', openSymbol + 1);
+            closeSymbol = line.indexOf('>', closeSymbol + 1);
         }
 
         // If a < or > is missing, it's an error
         if (!((openSymbol != -1) == (closeSymbol != -1))) {
-            System.out.println("Line " + counter + ": extra symbol found");
+            out.println("Line " + counter + ": extra symbol found");
         }
     }
 
@@ -107,66 +140,73 @@ public class XMLParser {
      *   - closing tag     </tag>
      *   - self-closing    <tag/>
      *
-     * @param tag full XML tag string
+     * @param line the XML line
+     * @param start index of the tag's '<'
+     * @param end index one past the tag's '>'
      * @param lineNumber current line
      */
-    private void processTag(String tag, int lineNumber) {
+    private void processTag(String line, int start, int end, int lineNumber) {
+        boolean closing = line.charAt(start + 1) == '/';
+        boolean selfClosing = line.charAt(end - 2) == '/';
 
         // ---------- Opening Tag ----------
-        if (tag.startsWith("<") && !tag.endsWith("/>") && !tag.startsWith("</")) {
+        if (!selfClosing && !closing) {
 
-            tag = handleOpeningTag(tag); // remove attributes
-            stack.push(new Tag(tag, lineNumber));
+            // Attributes are dropped: <note id="1"> → <note>
+            int nameEnd = line.indexOf(' ', start);
+            if (nameEnd == -1 || nameEnd >= end)
+                nameEnd = end - 1;
+            stack.push(pack(names.intern(line, start + 1, nameEnd), lineNumber));
         }
 
         // ---------- Closing Tag ----------
-        else if (tag.startsWith("</") && tag.endsWith(">")) {
+        else if (closing) {
 
-            // Convert closing tag </a> into normalized opening form <a>
-            String tagName = "<" + tag.substring(2, tag.length() - 1) + ">";
+            // Closing tag </a> is matched in its normalized opening form <a>
+            int nameId = names.intern(line, start + 2, end - 1);
 
             // Case 1: Perfect match on stack top
-            if (!stack.isEmpty() && stack.peek().tag.equals(tagName)) {
+            if (!stack.isEmpty() && idOf(stack.peek()) == nameId) {
                 stack.pop();
             }
 
             else try {
 
                 // Case 2: The closing tag matches something waiting in errorQ
-                if (!errorQ.isEmpty() && tagName.equals(errorQ.peek().tag)) {
+                if (!errorQ.isEmpty() && names.name(nameId).equals(errorQ.peek().tag)) {
                     errorQ.dequeue();
                 }
 
                 // Case 3: No opening tags exist → extra closing tag
                 else if (stack.isEmpty()) {
-                    errorQ.enqueue(new Tag(tag, lineNumber));
+                    errorQ.enqueue(new Tag(line.substring(start, end), lineNumber));
                 }
 
                 // Case 4: Search the stack for a matching opening tag
                 else {
                     boolean found = false;
-                    MyStack<Tag> temp = new MyStack<>();
+                    temp.clear();
 
                     // Copy of the error queue (used for rollback)
                     MyQueue<Tag> originalErrorQ = new MyQueue<>(errorQ);
 
                     // Search downwards through the stack
                     while (!stack.isEmpty()) {
-                        Tag t = stack.pop();
+                        long t = stack.pop();
 
-                        if (t.tag.equals(tagName)) {
+                        if (idOf(t) == nameId) {
                             found = true;
 
                             // Everything popped before finding the match is an error
                             while (!temp.isEmpty()) {
-                                Tag tempTag = temp.pop();
-                                System.out.println("Error at line "
-                                        + tempTag.line + ": " + tempTag.tag);
+                                long tempTag = temp.pop();
+                                out.println("Error at line "
+                                        + lineOf(tempTag) + ": " + names.name(idOf(tempTag)));
                             }
                             break;
                         } else {
                             // Unmatched opening tags go to errorQ
-                            errorQ.enqueue(t);
+                            errorQ.enqueue(toTag(t));
                             temp.push(t);
                         }
                     }
@@ -178,7 +218,7 @@ public class XMLParser {
                         errorQ = originalErrorQ;
 
                         // Store extra closing tag
-                        extrasQ.enqueue(new Tag(tag, lineNumber));
+                        extrasQ.enqueue(new Tag(line.substring(start, end), lineNumber));
                     }
                 }
             } catch (NullPointerException | EmptyStackException | EmptyQueueException e) {
@@ -198,14 +238,14 @@ public class XMLParser {
 
         // Move all leftover stack tags into error queue
         while (!stack.isEmpty()) {
-            errorQ.enqueue(stack.pop());
+            errorQ.enqueue(toTag(stack.pop()));
         }
 
         // Try to match errorQ and extrasQ entries
         while (!errorQ.isEmpty() && !extrasQ.isEmpty()) {
             try {
                 if (!errorQ.peek().tag.equals(extrasQ.peek().tag.replace("/", ""))) {
-                    System.out.println(errorQ.dequeue().tag +
+                    out.println(errorQ.dequeue().tag +
                             " does not match " + extrasQ.peek().tag);
                     errorsFound = true;
                 } else {
@@ -217,14 +257,14 @@ public class XMLParser {
             }
         }
 
-        System.out.println();
+        out.println();
 
         // Print remaining unmatched items
         while (!(errorQ.isEmpty() == extrasQ.isEmpty())) {
 
             while (!errorQ.isEmpty()) {
                 try {
-                    System.out.println("ErrorQ: " + errorQ.dequeue().tag);
+                    out.println("ErrorQ: " + errorQ.dequeue().tag);
                     errorsFound = true;
                 } catch (EmptyQueueException e) {
                     e.printStackTrace();
@@ -233,7 +273,7 @@ public class XMLParser {
 
             while (!extrasQ.isEmpty()) {
                 try {
-                    System.out.println("ExtrasQ: " + extrasQ.dequeue().tag);
+                    out.println("ExtrasQ: " + extrasQ.dequeue().tag);
                     errorsFound = true;
                 } catch (EmptyQueueException e) {
                     e.printStackTrace();
@@ -245,19 +285,30 @@ public class XMLParser {
         // SUCCESS MESSAGE
         // -----------------------------------------------
         if (!errorsFound) {
-            System.out.println("XML is well-formed, no errors found.");
+            out.println("XML is well-formed, no errors found.");
         }
     }
 
 
     /**
-     * Removes attributes from tags.
-     * Example: <note id="1"> → <note>
+     * Packs a tag-name ID and a line number into one stack entry.
      */
-    private String handleOpeningTag(String openingTag) {
-        if (openingTag.split(" ").length > 1) {
-            return openingTag.split(" ")[0] + ">";
-        }
-        return openingTag;
+    private static long pack(int nameId, int lineNumber) {
+        return ((long) nameId << 32) | (lineNumber & 0xFFFFFFFFL);
+    }
+
+    private static int idOf(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static int lineOf(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Expands a stack entry into a Tag for the error queues.
+     */
+    private Tag toTag(long packed) {
+        return new Tag(names.name(idOf(packed)), lineOf(packed));
     }
 }
@@ -52,6 +52,26 @@ public class XMLValidator {
         return null;
     }
 
+    /**
+     * Returns the first command-line argument that names an existing
+     * directory, used to validate a whole tree of XML files at once.
+     *
+     * @param args Command-line arguments passed to the program
+     * @return The directory, or {@code null} if no argument is a directory
+     */
+    public static File findDirectory(String args[]) {
+        if (args == null) return null;
+
+        for (String arg : args) {
+            if (arg == null || arg.isEmpty()) continue;
+
+            File dir = new File(arg.replace("\"", "").trim());
+            if (dir.isDirectory())
+                return dir;
+        }
+        return null;
+    }
+
     /**
      * Attempts to validate the supplied filename and resolve
      * its physical location by checking several fallback paths:
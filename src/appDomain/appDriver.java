@@ -13,9 +13,12 @@ import java.io.File;
  *        - Extract XML filename from args
  *        - Locate the physical file on disk
  *   3. Pass the valid File object to XMLParser for processing
+ *   4. If a directory is given instead, validate every XML file below it
+ *      in parallel with DirectoryValidator
  *
  * Expected usage:
  *     java -jar XMLValidator.jar -f example.xml
+ *     java -jar XMLValidator.jar -d path/to/folder
  *
  * Error handling:
  *     Any unexpected exception results in the message: "System Error"
@@ -28,6 +31,14 @@ public class appDriver {
         File file = null;
 
         try {
+            // A directory argument validates the whole tree in parallel
+            File dir = XMLValidator.findDirectory(args);
+            if (dir != null) {
+                int count = new DirectoryValidator().validate(dir);
+                System.out.println("Validated " + count + " XML file(s).");
+                return;
+            }
+
             // Extract filename from arguments (e.g., -f test.xml)
             String fileName = XMLValidator.parseArgs(args);
 
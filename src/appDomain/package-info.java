@@ -10,8 +10,12 @@
  *   <li>{@code XMLValidator} — locates and validates the input file path and
  *       attempts a few common relative lookups (working directory, res folder,
  *       JAR location).</li>
+ *   <li>{@code DirectoryValidator} — validates every XML file in a directory
+ *       tree in parallel on a work-stealing scheduler.</li>
+ *   <li>{@code TagNameTable} — interns tag names to int IDs so the parser
+ *       can keep its open-tag stack as packed primitives.</li>
  *   <li>{@code Tag} — simple value object representing a parsed XML tag and its
- *       source line number.</li>
+ *       source line number; used for the parser's error queues.</li>
  *   <li>{@code appDriver} — small CLI driver that accepts a filename argument
  *       and invokes the parser.</li>
  * </ul>
@@ -0,0 +1,270 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A dynamic array list of primitive {@code int} values.
+ * <p>
+ * Mirrors the {@link utilities.ListADT} operations of {@link MyArrayList}
+ * over a {@code int[]} instead of an {@code Object[]}, so values are stored
+ * inline: no boxed {@code Integer} per element, no reference per slot and no
+ * pointer dereference on {@link #get(int)}. Bulk operations
+ * ({@link #addAll(IntArrayList)}, {@link #toArray()}, {@link #toArray(int[])}) are
+ * single {@code System.arraycopy} calls.
+ * </p>
+ * <p>
+ * Removing by value is named {@link #removeValue(int)} because
+ * {@code remove(int)} already removes by index.
+ * </p>
+ */
+public class IntArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** Largest array length the VM reliably allocates. */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private int[] data;
+    private int size;
+
+    /**
+     * Constructs an empty list with default initial capacity.
+     */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with room for {@code initialCapacity} values
+     * before its first resize.
+     *
+     * @param initialCapacity number of values to reserve room for
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        data = new int[initialCapacity];
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param toAdd the value to add
+     * @return true when successfully added
+     */
+    public boolean add(int toAdd) {
+        if (size == data.length)
+            ensureCapacity(size + 1);
+        data[size++] = toAdd;
+        return true;
+    }
+
+    /**
+     * Inserts a value at the specified index.
+     *
+     * @param index position to insert
+     * @param toAdd value to insert
+     * @return true when successfully added
+     * @throws IndexOutOfBoundsException if index is negative or greater than size
+     */
+    public boolean add(int index, int toAdd) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index);
+
+        ensureCapacity(size + 1);
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = toAdd;
+        size++;
+        return true;
+    }
+
+    /**
+     * Appends all values from another list.
+     *
+     * @param toAdd list of values to add
+     * @return true when successful
+     * @throws NullPointerException if toAdd is null
+     */
+    public boolean addAll(IntArrayList toAdd) {
+        if (toAdd == null) throw new NullPointerException();
+        int n = toAdd.size;
+        ensureCapacity(size + n);
+        // Read n first: toAdd may be this list
+        System.arraycopy(toAdd.data, 0, data, size, n);
+        size += n;
+        return true;
+    }
+
+    /**
+     * Gets the value at a specified index.
+     *
+     * @param index index of the value
+     * @return the value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return data[index];
+    }
+
+    /**
+     * Removes and returns the value at a given index.
+     *
+     * @param index position to remove
+     * @return removed value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int remove(int index) {
+        checkIndex(index);
+        int removed = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes the first occurrence of a value.
+     *
+     * @param toRemove value to remove
+     * @return true if the value was found and removed
+     */
+    public boolean removeValue(int toRemove) {
+        int index = indexOf(toRemove);
+        if (index < 0)
+            return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Replaces the value at a given index.
+     *
+     * @param index the index to replace
+     * @param toChange the new value
+     * @return the old value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int set(int index, int toChange) {
+        checkIndex(index);
+        int old = data[index];
+        data[index] = toChange;
+        return old;
+    }
+
+    /**
+     * @return the number of stored values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all values from the list. The array keeps its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return true if this list has no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether the list contains a given value.
+     *
+     * @param toFind the value to locate
+     * @return true if found
+     */
+    public boolean contains(int toFind) {
+        return indexOf(toFind) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of a value.
+     *
+     * @param toFind the value to locate
+     * @return the index, or -1 if not found
+     */
+    public int indexOf(int toFind) {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == toFind) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing all values.
+     *
+     * @return array copy of values
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    /**
+     * Stores values into the given array. If the array is larger than the
+     * list, the remaining slots are left unchanged.
+     *
+     * @param holder the array to fill
+     * @return the filled array, or a new array if holder is too small
+     * @throws NullPointerException if holder is null
+     */
+    public int[] toArray(int[] holder) {
+        if (holder == null) throw new NullPointerException();
+        if (holder.length < size)
+            return Arrays.copyOf(data, size);
+        System.arraycopy(data, 0, holder, 0, size);
+        return holder;
+    }
+
+    /**
+     * Returns an iterator that traverses the list from index 0 upward
+     * without boxing.
+     *
+     * @return a primitive iterator
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return data[cursor++];
+            }
+        };
+    }
+
+    // ------------------ Helper Methods ------------------
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0)
+            throw new IllegalStateException("List exceeds maximum capacity");
+        if (minCapacity > data.length) {
+            int newCapacity = data.length * 2;
+            if (newCapacity < DEFAULT_CAPACITY)
+                newCapacity = DEFAULT_CAPACITY;
+            if (newCapacity < 0 || newCapacity > MAX_ARRAY_LENGTH)
+                newCapacity = MAX_ARRAY_LENGTH;
+            if (newCapacity < minCapacity)
+                newCapacity = minCapacity;
+            data = Arrays.copyOf(data, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index);
+    }
+}
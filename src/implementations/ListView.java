@@ -0,0 +1,165 @@
+package implementations;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import utilities.ListADT;
+import utilities.ListIterator;
+
+/**
+ * A {@code java.util.List} view of a {@link ListADT}, returned by
+ * {@link MyArrayList#asList()} and {@link MyDLL#asList()}.
+ * <p>
+ * Every call goes straight through to the backing list: nothing is copied,
+ * writes to the view change the list and writes to the list are visible in
+ * the view. Iteration uses the backing list's fail-fast list iterator, so
+ * {@code Iterator.remove()} and {@code ListIterator.add(E)} keep that list's
+ * costs (O(1) per removal in a filtering pass over either list). The backing
+ * lists reject {@code null}, so {@code add}/{@code set} of {@code null}
+ * throw {@link NullPointerException} and searches for {@code null} find
+ * nothing.
+ * </p>
+ *
+ * @param <E> type of elements in the list
+ */
+class ListView<E> extends AbstractList<E> {
+
+    private final ListADT<E> list;
+    private final IntFunction<ListIterator<E>> listIterators;
+
+    /**
+     * @param list          the backing list
+     * @param listIterators the backing list's {@code listIterator(int)}
+     */
+    ListView(ListADT<E> list, IntFunction<ListIterator<E>> listIterators) {
+        this.list = list;
+        this.listIterators = listIterators;
+    }
+
+    @Override
+    public E get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return list.set(index, element);
+    }
+
+    @Override
+    public boolean add(E element) {
+        return list.add(element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        list.add(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        return list.remove(index);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object o) {
+        return o != null && list.contains((E) o);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object o) {
+        return o != null && list.remove((E) o) != null;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    @Override
+    public java.util.Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public java.util.ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > list.size())
+            throw new IndexOutOfBoundsException("Index: " + index);
+        final ListIterator<E> it = listIterators.apply(index);
+        return new java.util.ListIterator<E>() {
+            @Override
+            public boolean hasNext() { return it.hasNext(); }
+
+            @Override
+            public E next() { return it.next(); }
+
+            @Override
+            public boolean hasPrevious() { return it.hasPrevious(); }
+
+            @Override
+            public E previous() { return it.previous(); }
+
+            @Override
+            public int nextIndex() { return it.nextIndex(); }
+
+            @Override
+            public int previousIndex() { return it.previousIndex(); }
+
+            @Override
+            public void remove() { it.remove(); }
+
+            @Override
+            public void set(E e) { it.set(e); }
+
+            @Override
+            public void add(E e) { it.add(e); }
+
+            @Override
+            public void forEachRemaining(Consumer<? super E> action) { it.forEachRemaining(action); }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        list.forEach(action);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return list.spliterator();
+    }
+
+    /**
+     * View over a list with O(1) indexed access; the {@link RandomAccess}
+     * marker lets JDK algorithms such as {@code Collections.binarySearch}
+     * use {@code get(int)} instead of an iterator.
+     *
+     * @param <E> type of elements in the list
+     */
+    static final class RandomAccessListView<E> extends ListView<E> implements RandomAccess {
+
+        RandomAccessListView(ListADT<E> list, IntFunction<ListIterator<E>> listIterators) {
+            super(list, listIterators);
+        }
+    }
+}
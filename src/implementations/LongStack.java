@@ -0,0 +1,206 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A stack of primitive {@code long} values backed by a growable {@code long[]}.
+ * <p>
+ * Mirrors the {@link utilities.StackADT} operations without boxing: every
+ * push stores the value directly in the array, so a working stack allocates
+ * nothing once it has reached its peak depth. Iteration and
+ * {@link #toArray()} run from top to bottom, like {@link MyStack}.
+ * </p>
+ */
+public class LongStack {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Largest array length the VM reliably allocates. */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /** Stack contents, bottom at index 0. */
+    private long[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty stack.
+     */
+    public LongStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty stack with room for {@code initialCapacity} values
+     * before its first resize.
+     *
+     * @param initialCapacity number of values to reserve room for
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public LongStack(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        elements = new long[initialCapacity];
+    }
+
+    /**
+     * Pushes a value onto the top of the stack.
+     *
+     * @param toAdd the value to push
+     */
+    public void push(long toAdd) {
+        if (size == elements.length)
+            grow();
+        elements[size++] = toAdd;
+    }
+
+    /**
+     * Removes and returns the value at the top of the stack.
+     *
+     * @return the popped value
+     * @throws EmptyStackException if the stack is empty
+     */
+    public long pop() throws EmptyStackException {
+        if (size == 0)
+            throw new EmptyStackException();
+        return elements[--size];
+    }
+
+    /**
+     * Returns the value at the top of the stack without removing it.
+     *
+     * @return the top value
+     * @throws EmptyStackException if the stack is empty
+     */
+    public long peek() throws EmptyStackException {
+        if (size == 0)
+            throw new EmptyStackException();
+        return elements[size - 1];
+    }
+
+    /**
+     * Removes all values from the stack. The array keeps its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return true if the stack contains no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an array containing all stack values from top to bottom.
+     *
+     * @return an array representation of the stack
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++)
+            result[i] = elements[size - 1 - i];
+        return result;
+    }
+
+    /**
+     * Checks whether the stack contains a given value.
+     *
+     * @param toFind the value to locate
+     * @return true if the value exists in the stack
+     */
+    public boolean contains(long toFind) {
+        return search(toFind) != -1;
+    }
+
+    /**
+     * Searches for a value and returns its 1-based position from the top.
+     *
+     * @param toFind the value to search for
+     * @return position from the top, or -1 if not found
+     */
+    public int search(long toFind) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == toFind)
+                return size - i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator that traverses the stack from top to bottom
+     * without boxing.
+     *
+     * @return a primitive stack iterator
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int index = size - 1;
+
+            @Override
+            public boolean hasNext() {
+                return index >= 0;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index < 0)
+                    throw new NoSuchElementException();
+                return elements[index--];
+            }
+        };
+    }
+
+    /**
+     * Compares this stack to another stack for equality.
+     *
+     * @param that another stack
+     * @return true if both stacks contain identical values (top to bottom)
+     */
+    public boolean equals(LongStack that) {
+        if (that == null || that.size != this.size)
+            return false;
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != that.elements[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of values in the stack.
+     *
+     * @return the stack size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The stack grows on demand and cannot overflow.
+     *
+     * @return false always
+     */
+    public boolean stackOverflow() {
+        return false;
+    }
+
+    /**
+     * Grows the array by half (at least to {@value #DEFAULT_CAPACITY}).
+     */
+    private void grow() {
+        if (elements.length == MAX_ARRAY_LENGTH)
+            throw new IllegalStateException("Stack exceeds maximum capacity");
+        int newCapacity = elements.length + (elements.length >> 1);
+        if (newCapacity < DEFAULT_CAPACITY)
+            newCapacity = DEFAULT_CAPACITY;
+        if (newCapacity < 0 || newCapacity > MAX_ARRAY_LENGTH)
+            newCapacity = MAX_ARRAY_LENGTH;
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+}
@@ -1,9 +1,16 @@
 package implementations;
 
+import utilities.BulkSource;
 import utilities.Iterator;
 import utilities.ListADT;
+import utilities.ListIterator;
 
+import java.lang.reflect.Array;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.Arrays;
 
 /**
@@ -12,12 +19,27 @@ import java.util.Arrays;
  *
  * @param <E> type of elements stored in the list
  */
-public class MyArrayList<E> implements ListADT<E> {
+public class MyArrayList<E> implements ListADT<E>, BulkSource<E> {
 
     private E[] data;
     private int size;
     private static final int DEFAULT_CAPACITY = 10;
 
+    /**
+     * Pending hole left by {@link ListIterator#remove()}: while
+     * {@code gapStart < gapEnd}, the elements are {@code data[0, gapStart)}
+     * followed by {@code data[gapEnd, gapEnd + size - gapStart)}, and the
+     * slots inside the hole are null. The list iterator carries the hole
+     * along with its cursor, so a filtering pass moves each surviving element
+     * at most once, and forgets it once it reaches the end of the list.
+     * Structural changes close it first; reads translate indices across it
+     * ({@link #slot(int)}), so they never write to the list.
+     */
+    private int gapStart;
+    private int gapEnd;
+    /** Count of structural modifications, for fail-fast list iterators. */
+    private int modCount;
+
     /**
      * Constructs an empty list with default initial capacity.
      */
@@ -27,6 +49,22 @@ public class MyArrayList<E> implements ListADT<E> {
         size = 0;
     }
 
+    /**
+     * Constructs a list holding the elements of another list, in order. A
+     * {@link BulkSource} is copied into an exactly sized array in one bulk
+     * transfer; other lists are read through their iterator.
+     *
+     * @param other the list to copy
+     * @throws NullPointerException if other or one of its elements is null
+     */
+    @SuppressWarnings("unchecked")
+    public MyArrayList(ListADT<? extends E> other) {
+        if (other == null) throw new NullPointerException();
+        data = (E[]) new Object[Math.max(other.size(), 1)];
+        size = 0;
+        addAll(other);
+    }
+
     /**
      * Appends an element to the end of the list.
      *
@@ -37,8 +75,10 @@ public class MyArrayList<E> implements ListADT<E> {
     public boolean add(E toAdd) {
         if (toAdd == null)
             throw new NullPointerException("Cannot add null element");
+        closeGap();
         ensureCapacity(size + 1);
         data[size++] = toAdd;
+        modCount++;
         return true;
     }
 
@@ -55,10 +95,12 @@ public class MyArrayList<E> implements ListADT<E> {
         if (index < 0 || index > size)
             throw new IndexOutOfBoundsException("Index: " + index);
 
+        closeGap();
         ensureCapacity(size + 1);
         System.arraycopy(data, index, data, index + 1, size - index);
         data[index] = toAdd;
         size++;
+        modCount++;
         return true;
     }
 
@@ -71,8 +113,20 @@ public class MyArrayList<E> implements ListADT<E> {
      */
     public boolean addAll(ListADT<? extends E> toAdd) {
         if (toAdd == null) throw new NullPointerException();
-        for (int i = 0; i < toAdd.size(); i++) {
-            add(toAdd.get(i));
+        // Read through the iterator so a linked source is not walked per
+        // element; fix the count first since toAdd may be this list
+        int n = toAdd.size();
+        closeGap();
+        ensureCapacity(size + n);
+        if (toAdd instanceof BulkSource) {
+            ((BulkSource<?>) toAdd).copyTo(0, data, size, n);
+            size += n;
+            modCount++;
+            return true;
+        }
+        Iterator<? extends E> it = toAdd.iterator();
+        for (int i = 0; i < n; i++) {
+            add(it.next());
         }
         return true;
     }
@@ -85,7 +139,7 @@ public class MyArrayList<E> implements ListADT<E> {
      */
     public E get(int index) {
         checkIndex(index);
-        return data[index];
+        return data[slot(index)];
     }
 
     /**
@@ -96,9 +150,11 @@ public class MyArrayList<E> implements ListADT<E> {
      */
     public E remove(int index) {
         checkIndex(index);
+        closeGap();
         E removed = data[index];
         System.arraycopy(data, index + 1, data, index, size - index - 1);
         data[--size] = null;
+        modCount++;
         return removed;
     }
 
@@ -110,6 +166,7 @@ public class MyArrayList<E> implements ListADT<E> {
      */
     public E remove(E toRemove) {
         if (toRemove == null) throw new NullPointerException();
+        closeGap();
         for (int i = 0; i < size; i++) {
             if (toRemove.equals(data[i])) {
                 return remove(i);
@@ -118,6 +175,26 @@ public class MyArrayList<E> implements ListADT<E> {
         return null;
     }
 
+    /**
+     * Removes every element that satisfies the predicate. The predicate sees
+     * each element once and the matches are noted in a bit set; survivors
+     * are then moved down in one pass, so each element moves at most once
+     * instead of the whole tail shifting per removal. Nothing is written
+     * while the predicate runs: if it modifies the list, the exception
+     * leaves the list as the predicate left it. If the predicate throws,
+     * only the elements it had already selected are removed.
+     *
+     * @param filter predicate selecting the elements to remove
+     * @return true if any element was removed
+     * @throws NullPointerException            if filter is null
+     * @throws ConcurrentModificationException if filter modifies the list
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) throw new NullPointerException();
+        return removeMatching(filter, 0, size, null);
+    }
+
     /**
      * Replaces an element at a given index.
      *
@@ -128,8 +205,9 @@ public class MyArrayList<E> implements ListADT<E> {
     public E set(int index, E toChange) {
         if (toChange == null) throw new NullPointerException();
         checkIndex(index);
-        E old = data[index];
-        data[index] = toChange;
+        int i = slot(index);
+        E old = data[i];
+        data[i] = toChange;
         return old;
     }
 
@@ -144,8 +222,10 @@ public class MyArrayList<E> implements ListADT<E> {
      * Removes all elements from the list.
      */
     public void clear() {
-        Arrays.fill(data, 0, size, null);
+        Arrays.fill(data, 0, size + (gapEnd - gapStart), null);
+        gapStart = gapEnd = 0;
         size = 0;
+        modCount++;
     }
 
     /**
@@ -163,10 +243,9 @@ public class MyArrayList<E> implements ListADT<E> {
      */
     public boolean contains(E toFind) {
         if (toFind == null) throw new NullPointerException();
-        for (int i = 0; i < size; i++) {
-            if (toFind.equals(data[i])) return true;
-        }
-        return false;
+        int gap = gapEnd - gapStart;
+        if (gap == 0) return findSlot(toFind, 0, size) >= 0;
+        return findSlot(toFind, 0, gapStart) >= 0 || findSlot(toFind, gapEnd, size + gap) >= 0;
     }
 
     /**
@@ -175,7 +254,10 @@ public class MyArrayList<E> implements ListADT<E> {
      * @return array copy of elements
      */
     public Object[] toArray() {
-        return Arrays.copyOf(data, size);
+        if (gapStart == gapEnd) return Arrays.copyOf(data, size);
+        Object[] result = new Object[size];
+        copyOut(0, result, 0, size);
+        return result;
     }
 
     /**
@@ -188,9 +270,10 @@ public class MyArrayList<E> implements ListADT<E> {
     public E[] toArray(E[] holder) {
         if (holder == null) throw new NullPointerException();
         if (holder.length < size) {
-            return (E[]) Arrays.copyOf(data, size, holder.getClass());
+            if (gapStart == gapEnd) return (E[]) Arrays.copyOf(data, size, holder.getClass());
+            holder = (E[]) Array.newInstance(holder.getClass().getComponentType(), size);
         }
-        System.arraycopy(data, 0, holder, 0, size);
+        copyOut(0, holder, 0, size);
         if (holder.length > size) holder[size] = null;
         return holder;
     }
@@ -204,8 +287,258 @@ public class MyArrayList<E> implements ListADT<E> {
         return new ArrayListIterator();
     }
 
+    /**
+     * Performs the given action on each element from index 0 upward, in one
+     * loop over the backing array.
+     *
+     * @param action the action to perform
+     * @throws NullPointerException            if action is null
+     * @throws ConcurrentModificationException if action structurally
+     *                                         modifies the list
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) throw new NullPointerException();
+        forEachRange(0, size, action);
+    }
+
+    /**
+     * Performs the given action on the elements from {@code index} down to
+     * 0, in one loop over the backing array. Used by {@link MyStack}, whose
+     * iteration order is top (last index) first.
+     *
+     * @param index  index of the first element to visit, or -1 for none
+     * @param action the action to perform
+     * @throws ConcurrentModificationException if action structurally
+     *                                         modifies the list
+     */
+    void forEachDescending(int index, Consumer<? super E> action) {
+        final E[] a = data;
+        final int gs = gapStart, gap = gapEnd - gapStart;
+        final int expected = modCount;
+        int i = index;
+        for (; i >= gs && modCount == expected; i--) {
+            action.accept(a[i + gap]);
+        }
+        for (; i >= 0 && modCount == expected; i--) {
+            action.accept(a[i]);
+        }
+        if (modCount != expected) throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Returns a late-binding, fail-fast spliterator over the list from index
+     * 0 upward. It splits by halving its index range, so parallel streams
+     * divide the list evenly without copying it.
+     *
+     * @return a {@code SIZED}, {@code SUBSIZED}, {@code ORDERED},
+     *         {@code NONNULL} spliterator
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArrayListSpliterator(0, -1, false);
+    }
+
+    /**
+     * Returns a {@code java.util.List} view of this list. Reads and writes
+     * go straight through without copying, and the view is
+     * {@link java.util.RandomAccess}.
+     *
+     * @return a live list view
+     */
+    public java.util.List<E> asList() {
+        return new ListView.RandomAccessListView<>(this, this::listIterator);
+    }
+
+    /**
+     * Returns a view of the elements from {@code fromIndex} (inclusive) to
+     * {@code toIndex} (exclusive) that shares this list's backing array.
+     * Reads, writes and iteration go straight to the array, with indices
+     * offset by {@code fromIndex}; {@code clear()} removes the whole range
+     * with one {@code System.arraycopy}. Structural changes made through the
+     * view are reflected in this list; after any other structural change to
+     * this list the view throws {@link ConcurrentModificationException}.
+     * Several threads may read views (for example disjoint slices of one
+     * list) at once as long as nothing modifies the list.
+     *
+     * @param fromIndex first index of the range
+     * @param toIndex   index after the last element of the range
+     * @return a live view of the range
+     * @throws IndexOutOfBoundsException if {@code fromIndex < 0},
+     *         {@code toIndex > size} or {@code fromIndex > toIndex}
+     */
+    public ListADT<E> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("Range: " + fromIndex + ", " + toIndex);
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns a spliterator like {@link #spliterator()} that traverses from
+     * the last index down to 0, for {@link MyStack}.
+     *
+     * @return a descending spliterator
+     */
+    Spliterator<E> descendingSpliterator() {
+        return new ArrayListSpliterator(0, -1, true);
+    }
+
+    /**
+     * Loop shared by {@link #forEach(Consumer)}, the iterator and subList
+     * views over the elements at {@code [from, to)}: the array, bounds and
+     * hole are read once, one loop runs on each side of the hole, and the
+     * action is checked for structural changes on every step.
+     */
+    private void forEachRange(int from, int to, Consumer<? super E> action) {
+        final E[] a = data;
+        final int split = Math.min(to, gapStart), gap = gapEnd - gapStart;
+        final int expected = modCount;
+        int i = from;
+        for (; i < split && modCount == expected; i++) {
+            action.accept(a[i]);
+        }
+        for (; i < to && modCount == expected; i++) {
+            action.accept(a[i + gap]);
+        }
+        if (modCount != expected) throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Returns a fail-fast list iterator positioned before index 0.
+     *
+     * @return a list iterator
+     */
+    public ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a fail-fast list iterator whose first {@code next()} returns
+     * the element at {@code index}. Removals through the iterator are O(1):
+     * the removed slots form a hole that travels with the cursor, so the
+     * shifting for a whole pass is done once, element by element.
+     *
+     * @param index starting cursor position, from 0 to {@code size}
+     * @return a list iterator
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index);
+        return new ArrayListListIterator(index);
+    }
+
+    /**
+     * Copies {@code length} elements starting at {@code srcIndex} into
+     * {@code dest} with one {@code System.arraycopy}.
+     *
+     * @param srcIndex index of the first element to copy
+     * @param dest     array to copy into
+     * @param destPos  first index of dest to write
+     * @param length   number of elements to copy
+     * @throws NullPointerException      if dest is null
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    @Override
+    public void copyTo(int srcIndex, Object[] dest, int destPos, int length) {
+        checkBulkRange(srcIndex, dest, destPos, length);
+        copyOut(srcIndex, dest, destPos, length);
+    }
+
     // ------------------ Helper Methods ------------------
 
+    private void checkBulkRange(int srcIndex, Object[] dest, int destPos, int length) {
+        if (dest == null) throw new NullPointerException();
+        if (srcIndex < 0 || length < 0 || srcIndex > size - length
+                || destPos < 0 || destPos > dest.length - length)
+            throw new IndexOutOfBoundsException("Range: " + srcIndex + ", " + destPos + ", " + length);
+    }
+
+    /**
+     * Removes the elements at {@code [from, to)} with one
+     * {@code System.arraycopy}.
+     */
+    private void removeRange(int from, int to) {
+        int n = to - from;
+        if (n == 0) return;
+        closeGap();
+        System.arraycopy(data, to, data, from, size - to);
+        Arrays.fill(data, size - n, size, null);
+        size -= n;
+        modCount++;
+    }
+
+    /**
+     * Removes the elements at {@code [from, to)} that satisfy the predicate,
+     * as described for {@link #removeIf(Predicate)}. The bit set is only
+     * allocated once a first match is found, and covers the range from that
+     * match on. {@code view}, if not null, is the subList view over exactly
+     * this range and has its size updated with the list's.
+     */
+    private boolean removeMatching(Predicate<? super E> filter, int from, int to, SubList view) {
+        closeGap();
+        final E[] a = data;
+        final int expected = modCount;
+        int first = from;
+        for (; first < to; first++) {
+            boolean drop = filter.test(a[first]);
+            if (modCount != expected) throw new ConcurrentModificationException();
+            if (drop) break;
+        }
+        if (first == to) return false;
+
+        // Bit i stands for the element at first + i
+        final long[] dead = new long[((to - first - 1) >> 6) + 1];
+        dead[0] = 1L;
+        int r = first + 1;
+        try {
+            for (; r < to; r++) {
+                boolean drop = filter.test(a[r]);
+                if (modCount != expected) throw new ConcurrentModificationException();
+                if (drop) dead[(r - first) >> 6] |= 1L << (r - first);
+            }
+        } finally {
+            if (modCount == expected) {
+                // Compact the visited part; the unvisited rest moves down with the tail
+                int w = first;
+                for (int i = first + 1; i < r; i++) {
+                    if ((dead[(i - first) >> 6] & (1L << (i - first))) == 0) a[w++] = a[i];
+                }
+                int removed = r - w;
+                System.arraycopy(a, r, a, w, size - r);
+                Arrays.fill(a, size - removed, size, null);
+                size -= removed;
+                modCount++;
+                if (view != null) {
+                    view.size -= removed;
+                    view.expectedModCount = modCount;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Inserts the first {@code n} entries of {@code items} at {@code index}
+     * with one shift of the tail.
+     *
+     * @throws NullPointerException if one of the entries is null; the list
+     *                              is then unchanged
+     */
+    @SuppressWarnings("unchecked")
+    private void insertAll(int index, Object[] items, int n) {
+        for (int i = 0; i < n; i++) {
+            if (items[i] == null)
+                throw new NullPointerException("Cannot add null element");
+        }
+        closeGap();
+        ensureCapacity(size + n);
+        System.arraycopy(data, index, data, index + n, size - index);
+        System.arraycopy(items, 0, data, index, n);
+        size += n;
+        modCount++;
+    }
+
     private void ensureCapacity(int minCapacity) {
         if (minCapacity > data.length) {
             int newCapacity = data.length * 2;
@@ -215,6 +548,48 @@ public class MyArrayList<E> implements ListADT<E> {
         }
     }
 
+    /**
+     * Returns the array slot holding the element at {@code index}, past the
+     * pending hole if there is one.
+     */
+    private int slot(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Returns the first slot in {@code data[from, to)} holding an element
+     * equal to {@code toFind}, or -1.
+     */
+    private int findSlot(E toFind, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (toFind.equals(data[i])) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Copies the elements at {@code [index, index + length)} into
+     * {@code dest} with at most two {@code System.arraycopy} calls, one on
+     * each side of the pending hole.
+     */
+    private void copyOut(int index, Object[] dest, int destPos, int length) {
+        int before = Math.min(length, Math.max(gapStart - index, 0));
+        System.arraycopy(data, index, dest, destPos, before);
+        System.arraycopy(data, slot(index + before), dest, destPos + before, length - before);
+    }
+
+    /**
+     * Shifts the elements after the pending hole down over it and clears the
+     * vacated tail slots. Called by structural changes only.
+     */
+    private void closeGap() {
+        int gap = gapEnd - gapStart;
+        if (gap == 0) return;
+        System.arraycopy(data, gapEnd, data, gapStart, size - gapStart);
+        Arrays.fill(data, size, size + gap, null);
+        gapEnd = gapStart;
+    }
+
     private void checkIndex(int index) {
         if (index < 0 || index >= size)
             throw new IndexOutOfBoundsException("Index: " + index);
@@ -234,7 +609,436 @@ public class MyArrayList<E> implements ListADT<E> {
         @Override
         public E next() {
             if (!hasNext()) throw new NoSuchElementException();
-            return data[cursor++];
+            return data[slot(cursor++)];
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            int from = cursor;
+            cursor = Math.max(cursor, size);
+            forEachRange(from, size, action);
+        }
+    }
+
+    /**
+     * Fail-fast bidirectional iterator for MyArrayList. The first
+     * {@code remove()} opens a hole at the cursor, and while the iterator
+     * owns that hole it always sits at the cursor: {@code next()} moves one
+     * element from after the hole to before it, {@code previous()} the
+     * reverse, and {@code remove()} and {@code add(E)} resize the hole in
+     * O(1). An iterator that has not removed anything only reads, skipping
+     * over a hole left behind by an earlier, unfinished pass.
+     */
+    private class ArrayListListIterator implements ListIterator<E> {
+        private int cursor;
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+        /** True once this iterator's removals made the pending hole. */
+        private boolean ownsHole;
+
+        ArrayListListIterator(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (cursor >= size) throw new NoSuchElementException();
+            E e;
+            if (ownsHole && gapStart != gapEnd) {
+                e = data[gapEnd];
+                data[gapStart++] = e;
+                data[gapEnd++] = null;
+            } else {
+                e = data[slot(cursor)];
+            }
+            lastRet = cursor++;
+            forgetHoleAtEnd();
+            return e;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (cursor <= 0) throw new NoSuchElementException();
+            E e;
+            if (ownsHole && gapStart != gapEnd) {
+                e = data[--gapStart];
+                data[--gapEnd] = e;
+                data[gapStart] = null;
+            } else {
+                e = data[slot(cursor - 1)];
+            }
+            lastRet = --cursor;
+            return e;
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) throw new IllegalStateException();
+            checkForComodification();
+            if (!ownsHole || gapStart == gapEnd) {
+                // Close any hole left by another pass, then open ours here
+                closeGap();
+                gapStart = gapEnd = cursor;
+                ownsHole = true;
+            }
+            if (lastRet < cursor) {
+                // Returned by next(): it sits just before the hole
+                data[--gapStart] = null;
+                cursor--;
+            } else {
+                // Returned by previous(): it sits just after the hole
+                data[gapEnd++] = null;
+            }
+            size--;
+            lastRet = -1;
+            expectedModCount = ++modCount;
+            forgetHoleAtEnd();
+        }
+
+        @Override
+        public void set(E toChange) {
+            if (toChange == null) throw new NullPointerException();
+            if (lastRet < 0) throw new IllegalStateException();
+            checkForComodification();
+            data[slot(lastRet)] = toChange;
+        }
+
+        @Override
+        public void add(E toAdd) {
+            if (toAdd == null) throw new NullPointerException("Cannot add null element");
+            checkForComodification();
+            if (ownsHole && gapStart != gapEnd) {
+                data[gapStart++] = toAdd;
+                size++;
+                modCount++;
+            } else {
+                MyArrayList.this.add(cursor, toAdd);
+            }
+            cursor++;
+            lastRet = -1;
+            expectedModCount = modCount;
+            forgetHoleAtEnd();
+        }
+
+        /**
+         * Once the cursor, and so the hole, reaches the end of the list no
+         * element follows the hole, and its slots are already null: the pass
+         * is over and the hole is dropped without moving anything.
+         */
+        private void forgetHoleAtEnd() {
+            if (ownsHole && cursor == size) gapEnd = gapStart;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Index-range spliterator over {@code data[lo, hi)}, ascending or
+     * descending. The range is bound to the current size on first use
+     * ({@code hi < 0} until then), and traversal throws
+     * {@link ConcurrentModificationException} if the list was structurally
+     * modified after binding. A split hands off the half that comes first
+     * in traversal order.
+     */
+    private class ArrayListSpliterator implements Spliterator<E> {
+        private int lo;
+        private int hi;
+        private final boolean descending;
+        private int expectedModCount;
+
+        ArrayListSpliterator(int lo, int hi, boolean descending) {
+            this.lo = lo;
+            this.hi = hi;
+            this.descending = descending;
+            if (hi >= 0) expectedModCount = modCount;
+        }
+
+        private int bind() {
+            if (hi < 0) {
+                expectedModCount = modCount;
+                hi = size;
+            }
+            return hi;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int h = bind(), mid = (lo + h) >>> 1;
+            if (mid <= lo) return null;
+            ArrayListSpliterator prefix;
+            if (descending) {
+                prefix = new ArrayListSpliterator(mid, h, true);
+                hi = mid;
+            } else {
+                prefix = new ArrayListSpliterator(lo, mid, false);
+                lo = mid;
+            }
+            prefix.expectedModCount = expectedModCount;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            int h = bind();
+            if (lo >= h) return false;
+            E e = data[slot(descending ? --hi : lo++)];
+            action.accept(e);
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            int h = bind(), l = lo;
+            final E[] a = data;
+            final int gs = gapStart, gap = gapEnd - gapStart;
+            lo = hi = h;
+            if (descending) {
+                for (int i = h - 1; i >= l; i--) action.accept(a[i < gs ? i : i + gap]);
+            } else {
+                for (int i = l; i < h; i++) action.accept(a[i < gs ? i : i + gap]);
+            }
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return bind() - lo;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * Range view returned by {@link #subList(int, int)}: the elements at
+     * {@code [offset, offset + size)} of the list. Every method first checks
+     * that the list has not been structurally modified behind the view's
+     * back. Like the list's own reads, the view's reads translate indices
+     * across a pending hole instead of closing it.
+     */
+    private class SubList implements ListADT<E>, BulkSource<E> {
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        SubList(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        @Override
+        public void clear() {
+            checkForComodification();
+            removeRange(offset, offset + size);
+            size = 0;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Removes the matching elements of the range in place, with the
+         * list's own single compaction pass; the list's tail then moves down
+         * once, as for {@link #clear()}.
+         */
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            if (filter == null) throw new NullPointerException();
+            checkForComodification();
+            return removeMatching(filter, offset, offset + size, this);
+        }
+
+        @Override
+        public boolean add(int index, E toAdd) {
+            if (toAdd == null)
+                throw new NullPointerException("Cannot add null element");
+            checkForComodification();
+            if (index < 0 || index > size)
+                throw new IndexOutOfBoundsException("Index: " + index);
+            MyArrayList.this.add(offset + index, toAdd);
+            size++;
+            expectedModCount = modCount;
+            return true;
+        }
+
+        @Override
+        public boolean add(E toAdd) {
+            return add(size(), toAdd);
+        }
+
+        @Override
+        public boolean addAll(ListADT<? extends E> toAdd) {
+            if (toAdd == null) throw new NullPointerException();
+            checkForComodification();
+            // Stage the source, which may overlap this range, then make room once
+            Object[] items = toAdd.toArray();
+            insertAll(offset + size, items, items.length);
+            size += items.length;
+            expectedModCount = modCount;
+            return true;
+        }
+
+        @Override
+        public E get(int index) {
+            checkForComodification();
+            checkSubIndex(index);
+            return data[slot(offset + index)];
+        }
+
+        @Override
+        public E set(int index, E toChange) {
+            if (toChange == null) throw new NullPointerException();
+            checkForComodification();
+            checkSubIndex(index);
+            int i = slot(offset + index);
+            E old = data[i];
+            data[i] = toChange;
+            return old;
+        }
+
+        @Override
+        public E remove(int index) {
+            checkForComodification();
+            checkSubIndex(index);
+            E removed = MyArrayList.this.remove(offset + index);
+            size--;
+            expectedModCount = modCount;
+            return removed;
+        }
+
+        @Override
+        public E remove(E toRemove) {
+            int index = indexOf(toRemove);
+            return index < 0 ? null : remove(index);
+        }
+
+        @Override
+        public boolean contains(E toFind) {
+            return indexOf(toFind) >= 0;
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            Object[] result = new Object[size];
+            copyOut(offset, result, 0, size);
+            return result;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E[] toArray(E[] holder) {
+            if (holder == null) throw new NullPointerException();
+            checkForComodification();
+            if (holder.length < size)
+                holder = (E[]) Array.newInstance(holder.getClass().getComponentType(), size);
+            copyOut(offset, holder, 0, size);
+            if (holder.length > size) holder[size] = null;
+            return holder;
+        }
+
+        @Override
+        public void copyTo(int srcIndex, Object[] dest, int destPos, int length) {
+            checkForComodification();
+            if (dest == null) throw new NullPointerException();
+            if (srcIndex < 0 || length < 0 || srcIndex > size - length
+                    || destPos < 0 || destPos > dest.length - length)
+                throw new IndexOutOfBoundsException("Range: " + srcIndex + ", " + destPos + ", " + length);
+            copyOut(offset + srcIndex, dest, destPos, length);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            checkForComodification();
+            return new Iterator<E>() {
+                private int cursor = offset;
+                private final int end = offset + size;
+                private final int expected = modCount;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < end;
+                }
+
+                @Override
+                public E next() {
+                    if (modCount != expected) throw new ConcurrentModificationException();
+                    if (cursor >= end) throw new NoSuchElementException();
+                    return data[slot(cursor++)];
+                }
+            };
+        }
+
+        @Override
+        public void forEach(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            checkForComodification();
+            forEachRange(offset, offset + size, action);
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            checkForComodification();
+            return new ArrayListSpliterator(offset, offset + size, false);
+        }
+
+        private int indexOf(E toFind) {
+            if (toFind == null) throw new NullPointerException();
+            checkForComodification();
+            for (int i = 0; i < size; i++) {
+                if (toFind.equals(data[slot(offset + i)])) return i;
+            }
+            return -1;
+        }
+
+        private void checkSubIndex(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
         }
     }
 }
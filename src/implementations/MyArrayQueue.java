@@ -0,0 +1,552 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import exceptions.EmptyQueueException;
+import utilities.BulkSource;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * Array-backed circular-buffer Queue implementation.
+ * <p>
+ * Elements live in a power-of-two sized array addressed through
+ * {@code (head + i) & mask}, so {@code enqueue} and {@code dequeue} are O(1)
+ * and allocate nothing once the buffer has reached its working size. When an
+ * unbounded queue fills up, the array doubles and the live range is moved to
+ * the front with at most two {@code System.arraycopy} calls.
+ * </p>
+ * <p>
+ * A queue created with {@link #MyArrayQueue(int, boolean)} and
+ * {@code fixed == true} never grows: {@link #isFull()} reports when it holds
+ * {@code capacity} elements and {@link #enqueue(Object)} then fails.
+ * </p>
+ *
+ * @param <E> the type of elements stored in the queue
+ */
+public class MyArrayQueue<E> implements QueueADT<E>, BulkSource<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Largest power-of-two array length that can be allocated. */
+    private static final int MAX_ARRAY_LENGTH = 1 << 30;
+
+    private Object[] elements;
+    private int mask;
+    private int head;
+    private int size;
+
+    /** Count of structural changes, checked by the spliterator. */
+    private int modCount;
+
+    /** Maximum number of elements; {@code Integer.MAX_VALUE} when unbounded. */
+    private final int limit;
+
+    /**
+     * Creates an empty, growable queue with the default initial capacity.
+     */
+    public MyArrayQueue() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Creates an empty, growable queue able to hold {@code initialCapacity}
+     * elements before its first resize.
+     *
+     * @param initialCapacity number of elements to reserve room for
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public MyArrayQueue(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Creates an empty queue with room for {@code capacity} elements.
+     *
+     * @param capacity number of elements to reserve room for
+     * @param fixed    {@code true} to make {@code capacity} a hard limit,
+     *                 {@code false} to let the queue grow beyond it
+     * @throws IllegalArgumentException if {@code capacity} is negative, or is
+     *                                  zero for a fixed queue, or exceeds
+     *                                  {@code 2^30}
+     */
+    public MyArrayQueue(int capacity, boolean fixed) {
+        if (capacity < 0 || capacity > MAX_ARRAY_LENGTH || (fixed && capacity == 0))
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        elements = new Object[tableSizeFor(capacity)];
+        mask = elements.length - 1;
+        limit = fixed ? capacity : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Copy constructor — creates a growable queue containing the same
+     * elements, in the same order, as another queue. The buffer is sized once
+     * for the whole copy, and a {@link BulkSource} fills it in one bulk
+     * transfer.
+     *
+     * @param other the queue to copy from
+     * @throws NullPointerException if the provided queue is null
+     */
+    public MyArrayQueue(QueueADT<E> other) throws NullPointerException {
+        this(sizeOf(other), false);
+        if (other instanceof BulkSource) {
+            size = other.size();
+            ((BulkSource<?>) other).copyTo(0, elements, 0, size);
+            return;
+        }
+        Iterator<E> it = other.iterator();
+        while (it.hasNext()) {
+            elements[size++] = it.next();
+        }
+    }
+
+    private static int sizeOf(QueueADT<?> other) {
+        if (other == null)
+            throw new NullPointerException("Cannot copy from a null queue");
+        return other.size();
+    }
+
+    /**
+     * Returns the smallest power of two that is at least {@code n} (and at
+     * least 2).
+     */
+    private static int tableSizeFor(int n) {
+        int cap = Integer.highestOneBit(Math.max(n, 2) - 1) << 1;
+        return Math.min(cap, MAX_ARRAY_LENGTH);
+    }
+
+    /**
+     * Adds an element to the rear of the queue.
+     *
+     * @param toAdd the element to be added
+     * @throws NullPointerException  if toAdd is null
+     * @throws IllegalStateException if this is a fixed-capacity queue and it
+     *                               is full
+     */
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException {
+        if (toAdd == null)
+            throw new NullPointerException("Cannot enqueue null");
+        if (size == limit)
+            throw new IllegalStateException("Queue is full");
+        if (size == elements.length)
+            grow();
+
+        elements[(head + size) & mask] = toAdd;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     *
+     * @return the removed element
+     * @throws EmptyQueueException if the queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E dequeue() throws EmptyQueueException {
+        if (size == 0)
+            throw new EmptyQueueException("Queue is empty");
+
+        E removed = (E) elements[head];
+        elements[head] = null;
+        head = (head + 1) & mask;
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     *
+     * @return the front element
+     * @throws EmptyQueueException if the queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() throws EmptyQueueException {
+        if (size == 0)
+            throw new EmptyQueueException("Queue is empty");
+
+        return (E) elements[head];
+    }
+
+    /**
+     * Removes all elements from the queue. The buffer keeps its capacity.
+     */
+    @Override
+    public void dequeueAll() {
+        int firstRun = Math.min(size, elements.length - head);
+        Arrays.fill(elements, head, head + firstRun, null);
+        Arrays.fill(elements, 0, size - firstRun, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if the queue contains the given element.
+     *
+     * @param toFind the element to search for
+     * @return true if found, false otherwise
+     * @throws NullPointerException if toFind is null
+     */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null)
+            throw new NullPointerException("Cannot search for null");
+
+        return indexOf(toFind) >= 0;
+    }
+
+    /**
+     * Searches for an element and returns its 1-based position.
+     *
+     * @param toFind the element to search for
+     * @return position of element, or -1 if not found
+     */
+    @Override
+    public int search(E toFind) {
+        if (toFind == null)
+            return -1;
+
+        int index = indexOf(toFind);
+        return index < 0 ? -1 : index + 1;
+    }
+
+    private int indexOf(E toFind) {
+        for (int i = 0; i < size; i++) {
+            if (toFind.equals(elements[(head + i) & mask]))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator over the queue from front to rear.
+     *
+     * @return an iterator over the queue elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size)
+                    throw new NoSuchElementException("No more elements in queue");
+
+                return (E) elements[(head + index++) & mask];
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super E> action) {
+                if (action == null)
+                    throw new NullPointerException();
+                int from = index;
+                index = Math.max(index, size);
+                forEachRange(from, size, action);
+            }
+        };
+    }
+
+    /**
+     * Performs the given action on each element from front to rear, with
+     * one plain loop for each side of the wrap-around instead of a masked
+     * index per element.
+     *
+     * @param action the action to perform
+     * @throws NullPointerException if action is null
+     */
+    public void forEach(Consumer<? super E> action) throws NullPointerException {
+        if (action == null)
+            throw new NullPointerException();
+        forEachRange(0, size, action);
+    }
+
+    /**
+     * Returns a spliterator over the queue from front to rear. It splits by
+     * halving its range of positions, so a parallel stream divides the
+     * buffer evenly without copying it. Like {@link MyArrayList}'s, it is
+     * late-binding: the front and size are read at the first traversal,
+     * split or size estimate, not when the spliterator is created, so a
+     * stream built before an {@code enqueue} or {@code dequeue} sees the
+     * queue as it is when the terminal operation starts. A structural change
+     * after that makes it throw {@link ConcurrentModificationException}.
+     *
+     * @return a late-binding, fail-fast {@code SIZED}, {@code SUBSIZED},
+     *         {@code ORDERED}, {@code NONNULL} spliterator
+     */
+    public Spliterator<E> spliterator() {
+        return new ArrayQueueSpliterator(0, -1);
+    }
+
+    /**
+     * Returns a {@code java.util.Queue} view of this queue. {@code offer},
+     * {@code poll} and {@code peek} go straight to the queue operations;
+     * nothing is copied.
+     *
+     * @return a live queue view
+     */
+    public java.util.Queue<E> asQueue() {
+        return new QueueView<>(this);
+    }
+
+    /**
+     * Returns a sequential stream over the queue from front to rear.
+     *
+     * @return a stream backed by {@link #spliterator()}
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the queue from front to rear.
+     *
+     * @return a parallel stream backed by {@link #spliterator()}
+     */
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Checks if this queue is equal to another queue.
+     *
+     * @param that the queue to compare with
+     * @return true if same size and same element order
+     */
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if ((that == null) || (this.size != that.size()))
+            return false;
+
+        Iterator<E> it1 = this.iterator();
+        Iterator<E> it2 = that.iterator();
+
+        while (it1.hasNext() && it2.hasNext()) {
+            E a = it1.next();
+            E b = it2.next();
+            if (!a.equals(b))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Copies the queue, front first, into a new Object array.
+     *
+     * @return the created array
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] arr = new Object[size];
+        copyTo(0, arr, 0, size);
+        return arr;
+    }
+
+    /**
+     * Copies queue elements, front first, into a provided array. If the array
+     * is larger than the queue, the slot after the last element is set to
+     * null.
+     *
+     * @param holder the array to write into
+     * @return the filled array, or a new array of the same runtime type if
+     *         holder is too small
+     * @throws NullPointerException if holder is null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null)
+            throw new NullPointerException("Holder array cannot be null");
+
+        if (holder.length < size) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(
+                holder.getClass().getComponentType(), size);
+        }
+        copyTo(0, holder, 0, size);
+        if (holder.length > size)
+            holder[size] = null;
+
+        return holder;
+    }
+
+    /**
+     * Checks if the queue is full. Only a fixed-capacity queue can be full.
+     *
+     * @return true if this is a fixed-capacity queue holding capacity elements
+     */
+    @Override
+    public boolean isFull() {
+        return size == limit;
+    }
+
+    /**
+     * Returns the number of elements in the queue.
+     *
+     * @return queue size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies {@code length} elements, counted from the front of the queue
+     * starting at {@code srcIndex}, into {@code dest} using at most two
+     * {@code System.arraycopy} calls (one per side of the wrap-around).
+     *
+     * @param srcIndex position from the front of the first element to copy
+     * @param dest     array to copy into
+     * @param destPos  first index of dest to write
+     * @param length   number of elements to copy
+     * @throws NullPointerException      if dest is null
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    @Override
+    public void copyTo(int srcIndex, Object[] dest, int destPos, int length) {
+        if (dest == null) throw new NullPointerException();
+        if (srcIndex < 0 || length < 0 || srcIndex > size - length
+                || destPos < 0 || destPos > dest.length - length)
+            throw new IndexOutOfBoundsException("Range: " + srcIndex + ", " + destPos + ", " + length);
+        int start = (head + srcIndex) & mask;
+        int firstRun = Math.min(length, elements.length - start);
+        System.arraycopy(elements, start, dest, destPos, firstRun);
+        System.arraycopy(elements, 0, dest, destPos + firstRun, length - firstRun);
+    }
+
+    // ------------------ Helper Methods ------------------
+
+    /**
+     * Visits the elements at positions {@code from} (inclusive) to
+     * {@code to} (exclusive), counted from the front.
+     */
+    @SuppressWarnings("unchecked")
+    private void forEachRange(int from, int to, Consumer<? super E> action) {
+        final Object[] a = elements;
+        int remaining = to - from;
+        if (remaining <= 0)
+            return;
+        int start = (head + from) & mask;
+        int end = Math.min(a.length, start + remaining);
+        for (int i = start; i < end; i++)
+            action.accept((E) a[i]);
+        for (int i = 0, wrapped = remaining - (end - start); i < wrapped; i++)
+            action.accept((E) a[i]);
+    }
+
+    /**
+     * Doubles the buffer and moves the live range to the front.
+     */
+    private void grow() {
+        if (elements.length == MAX_ARRAY_LENGTH)
+            throw new IllegalStateException("Queue exceeds maximum capacity");
+
+        Object[] bigger = new Object[elements.length << 1];
+        copyTo(0, bigger, 0, size);
+        elements = bigger;
+        mask = bigger.length - 1;
+        head = 0;
+    }
+
+    /**
+     * Spliterator over the positions {@code [lo, hi)} counted from the front.
+     * A negative {@code hi} means not yet bound: the first use reads the
+     * size and the modification count.
+     */
+    private class ArrayQueueSpliterator implements Spliterator<E> {
+        private int lo;
+        private int hi;
+        private int expectedModCount;
+
+        ArrayQueueSpliterator(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+            if (hi >= 0)
+                expectedModCount = modCount;
+        }
+
+        private int bind() {
+            if (hi < 0) {
+                expectedModCount = modCount;
+                hi = size;
+            }
+            return hi;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int h = bind(), mid = (lo + h) >>> 1;
+            if (mid <= lo)
+                return null;
+            ArrayQueueSpliterator prefix = new ArrayQueueSpliterator(lo, mid);
+            prefix.expectedModCount = expectedModCount;
+            lo = mid;
+            return prefix;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null)
+                throw new NullPointerException();
+            if (lo >= bind())
+                return false;
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            action.accept((E) elements[(head + lo++) & mask]);
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null)
+                throw new NullPointerException();
+            int h = bind(), from = lo;
+            lo = h;
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            forEachRange(from, h, action);
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return bind() - lo;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,618 @@
+package implementations;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.ListADT;
+import utilities.QueueADT;
+
+/**
+ * Thread-safe, bounded, blocking Queue implementation (two-lock queue).
+ * <p>
+ * The queue is a singly-linked list with a dummy head node. Producers only
+ * touch the tail, under {@code putLock}; consumers only touch the head, under
+ * {@code takeLock}. A producer and a consumer therefore never contend with
+ * each other; the element count is the only state they share and it is an
+ * atomic integer.
+ * </p>
+ * <p>
+ * The capacity is fixed, so {@link #isFull()} is meaningful and producers get
+ * backpressure in one of three ways:
+ * </p>
+ * <ul>
+ *   <li>{@link #enqueue(Object)} fails immediately with
+ *       {@link IllegalStateException} when the queue is full;</li>
+ *   <li>{@link #enqueue(Object, long, TimeUnit)} waits up to a timeout and
+ *       reports whether the element was added;</li>
+ *   <li>{@link #put(Object)} waits as long as it takes.</li>
+ * </ul>
+ * <p>
+ * Consumers have the matching {@link #dequeue()}, {@link #dequeue(long,
+ * TimeUnit)} and {@link #take()}, plus {@link #drainTo(ListADT, int)} to
+ * move many elements under a single lock acquisition. Whole-queue operations
+ * ({@code contains}, {@code search}, {@code iterator}, {@code toArray},
+ * {@code equals}, {@code dequeueAll}) hold both locks while they read, so
+ * they see a consistent snapshot; the iterator walks such a snapshot.
+ * </p>
+ *
+ * @param <E> the type of elements stored in the queue
+ */
+public class MyBoundedBlockingQueue<E> implements QueueADT<E> {
+
+    /**
+     * Linked node; {@code item} is {@code null} only for the dummy head.
+     */
+    private static final class Node<E> {
+        E item;
+        Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+
+    private final int capacity;
+    private final AtomicInteger count = new AtomicInteger();
+
+    /** Dummy node; the first element is {@code head.next}. Guarded by takeLock. */
+    private Node<E> head;
+
+    /** Last node. Guarded by putLock. */
+    private Node<E> last;
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final Condition notEmpty = takeLock.newCondition();
+
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final Condition notFull = putLock.newCondition();
+
+    /**
+     * Creates an empty queue that holds at most {@code capacity} elements.
+     *
+     * @param capacity maximum number of elements
+     * @throws IllegalArgumentException if capacity is less than 1
+     */
+    public MyBoundedBlockingQueue(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        this.capacity = capacity;
+        head = last = new Node<>(null);
+    }
+
+    // ------------------ Producers ------------------
+
+    /**
+     * Adds an element to the rear of the queue if there is room. Never blocks.
+     *
+     * @param toAdd the element to be added
+     * @throws NullPointerException  if toAdd is null
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException {
+        if (toAdd == null)
+            throw new NullPointerException("Cannot enqueue null");
+        if (count.get() == capacity)
+            throw new IllegalStateException("Queue is full");
+
+        int c;
+        putLock.lock();
+        try {
+            if (count.get() == capacity)
+                throw new IllegalStateException("Queue is full");
+            c = link(toAdd);
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0)
+            signalNotEmpty();
+    }
+
+    /**
+     * Adds an element to the rear of the queue, waiting up to the given time
+     * for room to become available.
+     *
+     * @param toAdd   the element to be added
+     * @param timeout how long to wait before giving up
+     * @param unit    the unit of {@code timeout}
+     * @return {@code true} if the element was added, {@code false} if the
+     *         queue was still full when the timeout elapsed
+     * @throws NullPointerException if toAdd is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean enqueue(E toAdd, long timeout, TimeUnit unit)
+            throws NullPointerException, InterruptedException {
+        if (toAdd == null)
+            throw new NullPointerException("Cannot enqueue null");
+
+        long nanos = unit.toNanos(timeout);
+        int c;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity) {
+                if (nanos <= 0)
+                    return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            c = link(toAdd);
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0)
+            signalNotEmpty();
+        return true;
+    }
+
+    /**
+     * Adds an element to the rear of the queue, waiting as long as necessary
+     * for room to become available.
+     *
+     * @param toAdd the element to be added
+     * @throws NullPointerException if toAdd is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(E toAdd) throws NullPointerException, InterruptedException {
+        if (toAdd == null)
+            throw new NullPointerException("Cannot enqueue null");
+
+        int c;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity)
+                notFull.await();
+            c = link(toAdd);
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0)
+            signalNotEmpty();
+    }
+
+    // ------------------ Consumers ------------------
+
+    /**
+     * Removes and returns the element at the front of the queue. Never blocks.
+     *
+     * @return the removed element
+     * @throws EmptyQueueException if the queue is empty
+     */
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        if (count.get() == 0)
+            throw new EmptyQueueException("Queue is empty");
+
+        E item;
+        int c;
+        takeLock.lock();
+        try {
+            if (count.get() == 0)
+                throw new EmptyQueueException("Queue is empty");
+            item = unlink();
+            c = count.getAndDecrement();
+            if (c > 1)
+                notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+        if (c == capacity)
+            signalNotFull();
+        return item;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, waiting up
+     * to the given time for one to arrive.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit    the unit of {@code timeout}
+     * @return the removed element, or {@code null} if the queue was still
+     *         empty when the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public E dequeue(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E item;
+        int c;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            item = unlink();
+            c = count.getAndDecrement();
+            if (c > 1)
+                notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+        if (c == capacity)
+            signalNotFull();
+        return item;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, waiting as
+     * long as necessary for one to arrive.
+     *
+     * @return the removed element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public E take() throws InterruptedException {
+        E item;
+        int c;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0)
+                notEmpty.await();
+            item = unlink();
+            c = count.getAndDecrement();
+            if (c > 1)
+                notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+        if (c == capacity)
+            signalNotFull();
+        return item;
+    }
+
+    /**
+     * Removes every available element and appends it to {@code target}, in
+     * queue order. Never blocks.
+     *
+     * @param target the list to add the elements to
+     * @return the number of elements moved
+     * @throws NullPointerException if target is null
+     */
+    public int drainTo(ListADT<? super E> target) throws NullPointerException {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes up to {@code maxElements} available elements and appends them
+     * to {@code target}, in queue order, under a single lock acquisition.
+     * Never blocks.
+     *
+     * @param target      the list to add the elements to
+     * @param maxElements the most elements to move
+     * @return the number of elements moved
+     * @throws NullPointerException if target is null
+     */
+    public int drainTo(ListADT<? super E> target, int maxElements) throws NullPointerException {
+        if (target == null)
+            throw new NullPointerException("Target list cannot be null");
+        if (maxElements <= 0)
+            return 0;
+
+        int n;
+        boolean wasFull;
+        takeLock.lock();
+        try {
+            n = Math.min(maxElements, count.get());
+            Node<E> h = head;
+            int moved = 0;
+            try {
+                while (moved < n) {
+                    Node<E> first = h.next;
+                    target.add(first.item);
+                    first.item = null;
+                    h.next = h; // help GC
+                    h = first;
+                    moved++;
+                }
+            } finally {
+                // Account for what was moved even if target.add threw
+                if (moved > 0) {
+                    head = h;
+                    wasFull = count.getAndAdd(-moved) == capacity;
+                } else {
+                    wasFull = false;
+                }
+                n = moved;
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (wasFull)
+            signalNotFull();
+        return n;
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     *
+     * @return the front element
+     * @throws EmptyQueueException if the queue is empty
+     */
+    @Override
+    public E peek() throws EmptyQueueException {
+        takeLock.lock();
+        try {
+            if (count.get() == 0)
+                throw new EmptyQueueException("Queue is empty");
+            return head.next.item;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    // ------------------ Whole-queue operations ------------------
+
+    /**
+     * Removes all elements from the queue and wakes any waiting producers.
+     */
+    @Override
+    public void dequeueAll() {
+        fullyLock();
+        try {
+            for (Node<E> h = head, p; (p = h.next) != null; h = p) {
+                h.next = h;
+                p.item = null;
+            }
+            head.next = null;
+            last = head;
+            if (count.getAndSet(0) == capacity)
+                notFull.signalAll();
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * Checks whether the queue is empty at the moment of the call.
+     *
+     * @return true if empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    /**
+     * Checks if the queue contains the given element.
+     *
+     * @param toFind the element to search for
+     * @return true if found, false otherwise
+     * @throws NullPointerException if toFind is null
+     */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null)
+            throw new NullPointerException("Cannot search for null");
+
+        return search(toFind) != -1;
+    }
+
+    /**
+     * Searches for an element and returns its 1-based position.
+     *
+     * @param toFind the element to search for
+     * @return position of element, or -1 if not found
+     */
+    @Override
+    public int search(E toFind) {
+        if (toFind == null)
+            return -1;
+
+        fullyLock();
+        try {
+            int index = 1;
+            for (Node<E> p = head.next; p != null; p = p.next, index++) {
+                if (toFind.equals(p.item))
+                    return index;
+            }
+            return -1;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the queue, front to rear.
+     *
+     * @return an iterator over the queue elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        final Object[] snapshot = toArray();
+        return new Iterator<E>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < snapshot.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= snapshot.length)
+                    throw new NoSuchElementException("No more elements in queue");
+
+                return (E) snapshot[index++];
+            }
+        };
+    }
+
+    /**
+     * Checks if this queue is equal to another queue.
+     *
+     * @param that the queue to compare with
+     * @return true if same element order and count
+     */
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == null)
+            return false;
+
+        Iterator<E> it1 = this.iterator();
+        Iterator<E> it2 = that.iterator();
+
+        while (it1.hasNext() && it2.hasNext()) {
+            if (!it1.next().equals(it2.next()))
+                return false;
+        }
+        return !it1.hasNext() && !it2.hasNext();
+    }
+
+    /**
+     * Copies the queue, front first, into a new Object array.
+     *
+     * @return the created array
+     */
+    @Override
+    public Object[] toArray() {
+        fullyLock();
+        try {
+            Object[] arr = new Object[count.get()];
+            int i = 0;
+            for (Node<E> p = head.next; p != null; p = p.next)
+                arr[i++] = p.item;
+            return arr;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * Copies queue elements, front first, into a provided array. If the array
+     * is larger than the queue, the slot after the last element is set to
+     * null.
+     *
+     * @param holder the array to write into
+     * @return the filled array, or a new array of the same runtime type if
+     *         holder is too small
+     * @throws NullPointerException if holder is null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null)
+            throw new NullPointerException("Holder array cannot be null");
+
+        fullyLock();
+        try {
+            int size = count.get();
+            if (holder.length < size) {
+                holder = (E[]) java.lang.reflect.Array.newInstance(
+                    holder.getClass().getComponentType(), size);
+            }
+            int i = 0;
+            for (Node<E> p = head.next; p != null; p = p.next)
+                holder[i++] = p.item;
+            if (holder.length > size)
+                holder[size] = null;
+            return holder;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * Checks if the queue holds {@code capacity} elements at the moment of
+     * the call.
+     *
+     * @return true if no more elements can be enqueued without waiting
+     */
+    @Override
+    public boolean isFull() {
+        return count.get() == capacity;
+    }
+
+    /**
+     * Returns the number of elements in the queue.
+     *
+     * @return queue size
+     */
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    /**
+     * Returns the fixed maximum number of elements.
+     *
+     * @return the capacity given at construction
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of elements that can be enqueued without waiting.
+     *
+     * @return {@code capacity() - size()} at the moment of the call
+     */
+    public int remainingCapacity() {
+        return capacity - count.get();
+    }
+
+    // ------------------ Helper Methods ------------------
+
+    /**
+     * Appends a node at the tail. Caller holds putLock and has checked for
+     * room; wakes another producer if room is left.
+     *
+     * @return the count before this element was added
+     */
+    private int link(E item) {
+        Node<E> node = new Node<>(item);
+        last.next = node;
+        last = node;
+        int c = count.getAndIncrement();
+        if (c + 1 < capacity)
+            notFull.signal();
+        return c;
+    }
+
+    /**
+     * Removes the first element. Caller holds takeLock and has checked that
+     * the queue is not empty.
+     */
+    private E unlink() {
+        Node<E> h = head;
+        Node<E> first = h.next;
+        h.next = h; // help GC
+        head = first;
+        E item = first.item;
+        first.item = null;
+        return item;
+    }
+
+    /** Wakes a waiting consumer; called by a producer that made the queue non-empty. */
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /** Wakes a waiting producer; called by a consumer that made room in a full queue. */
+    private void signalNotFull() {
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    private void fullyLock() {
+        putLock.lock();
+        takeLock.lock();
+    }
+
+    private void fullyUnlock() {
+        takeLock.unlock();
+        putLock.unlock();
+    }
+}
@@ -0,0 +1,362 @@
+package implementations;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * Thread-safe, lock-free Queue implementation (Michael–Scott queue).
+ * <p>
+ * The queue is a singly-linked list with a dummy head node. {@code enqueue}
+ * links a new node after the current tail with a compare-and-set and then
+ * swings {@code tail} forward; {@code dequeue} swings {@code head} forward
+ * with a compare-and-set. A thread that finds {@code tail} lagging helps move
+ * it, so no thread ever waits for another one: {@code enqueue},
+ * {@code dequeue} and {@code peek} are lock-free and safe to call from any
+ * number of threads.
+ * </p>
+ * <p>
+ * Bulk and inspection methods ({@code size}, {@code contains},
+ * {@code search}, {@code iterator}, {@code toArray}, {@code equals}) are
+ * weakly consistent: they never fail because of concurrent updates, but they
+ * may or may not reflect changes made while they run. {@code size()} in
+ * particular is maintained by a striped counter and is exact only when the
+ * queue is quiescent.
+ * </p>
+ *
+ * @param <E> the type of elements stored in the queue
+ */
+public class MyConcurrentQueue<E> implements QueueADT<E> {
+
+    /**
+     * Linked node; {@code item} is {@code null} only for the dummy head.
+     */
+    private static final class Node<E> {
+        volatile E item;
+        volatile Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MyConcurrentQueue, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(MyConcurrentQueue.class, Node.class, "head");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MyConcurrentQueue, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(MyConcurrentQueue.class, Node.class, "tail");
+
+    /** Dummy node; the first element is {@code head.next}. */
+    private volatile Node<E> head;
+
+    /** Last node, or a node close to it while an enqueue is in progress. */
+    private volatile Node<E> tail;
+
+    /** Weakly consistent element count. */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Creates an empty queue.
+     */
+    public MyConcurrentQueue() {
+        Node<E> dummy = new Node<>(null);
+        head = dummy;
+        tail = dummy;
+    }
+
+    /**
+     * Adds an element to the rear of the queue. Never blocks.
+     *
+     * @param toAdd the element to be added
+     * @throws NullPointerException if toAdd is null
+     */
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException {
+        if (toAdd == null)
+            throw new NullPointerException("Cannot enqueue null");
+
+        Node<E> node = new Node<>(toAdd);
+        for (;;) {
+            Node<E> t = tail;
+            Node<E> next = t.next;
+            if (t != tail)
+                continue;
+            if (next == null) {
+                if (NEXT.compareAndSet(t, null, node)) {
+                    // Failure is fine: another thread has already helped
+                    TAIL.compareAndSet(this, t, node);
+                    count.increment();
+                    return;
+                }
+            } else {
+                // Tail is lagging behind; help the other enqueuer
+                TAIL.compareAndSet(this, t, next);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, or returns
+     * {@code null} if the queue is empty. Never blocks.
+     *
+     * @return the removed element, or {@code null} if the queue is empty
+     */
+    public E poll() {
+        for (;;) {
+            Node<E> h = head;
+            Node<E> t = tail;
+            Node<E> first = h.next;
+            if (h != head)
+                continue;
+            if (first == null)
+                return null;
+            if (h == t) {
+                // Tail is lagging behind the element we are about to take
+                TAIL.compareAndSet(this, t, first);
+                continue;
+            }
+            E item = first.item;
+            if (HEAD.compareAndSet(this, h, first)) {
+                // first becomes the new dummy
+                first.item = null;
+                count.decrement();
+                return item;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     *
+     * @return the removed element
+     * @throws EmptyQueueException if the queue is empty
+     */
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        E item = poll();
+        if (item == null)
+            throw new EmptyQueueException("Queue is empty");
+        return item;
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     *
+     * @return the front element
+     * @throws EmptyQueueException if the queue is empty
+     */
+    @Override
+    public E peek() throws EmptyQueueException {
+        for (;;) {
+            Node<E> h = head;
+            Node<E> first = h.next;
+            if (first == null)
+                throw new EmptyQueueException("Queue is empty");
+            E item = first.item;
+            // item is null only if first was dequeued meanwhile; retry then
+            if (item != null && h == head)
+                return item;
+        }
+    }
+
+    /**
+     * Removes all elements present when the call starts. Elements enqueued
+     * concurrently may or may not be removed.
+     */
+    @Override
+    public void dequeueAll() {
+        Node<E> last = tail;
+        for (Node<E> n = last.next; n != null; n = n.next)
+            last = n;
+        // Every node up to last has been dequeued once it is the dummy head
+        while (head != last && poll() != null) {
+            // drain
+        }
+    }
+
+    /**
+     * Checks whether the queue is empty at the moment of the call.
+     *
+     * @return true if empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Checks if the queue contains the given element (weakly consistent).
+     *
+     * @param toFind the element to search for
+     * @return true if found, false otherwise
+     * @throws NullPointerException if toFind is null
+     */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null)
+            throw new NullPointerException("Cannot search for null");
+
+        return search(toFind) != -1;
+    }
+
+    /**
+     * Searches for an element and returns its 1-based position (weakly
+     * consistent).
+     *
+     * @param toFind the element to search for
+     * @return position of element, or -1 if not found
+     */
+    @Override
+    public int search(E toFind) {
+        if (toFind == null)
+            return -1;
+
+        int index = 1;
+        for (Node<E> n = head.next; n != null; n = n.next) {
+            E item = n.item;
+            if (item == null)
+                continue; // being dequeued
+            if (item.equals(toFind))
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a weakly consistent iterator from front to rear. It never
+     * throws because of concurrent updates.
+     *
+     * @return an iterator over the queue elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            /** Next node to return and its item, captured when it was reached. */
+            private Node<E> node;
+            private E item;
+
+            {
+                advance(head.next);
+            }
+
+            private void advance(Node<E> n) {
+                // Skip nodes whose item was taken by a concurrent dequeue
+                while (n != null) {
+                    E x = n.item;
+                    if (x != null) {
+                        node = n;
+                        item = x;
+                        return;
+                    }
+                    n = n.next;
+                }
+                node = null;
+                item = null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return node != null;
+            }
+
+            @Override
+            public E next() {
+                if (node == null)
+                    throw new NoSuchElementException("No more elements in queue");
+
+                E x = item;
+                advance(node.next);
+                return x;
+            }
+        };
+    }
+
+    /**
+     * Checks if this queue is equal to another queue (weakly consistent).
+     *
+     * @param that the queue to compare with
+     * @return true if same element order and count
+     */
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == null)
+            return false;
+
+        Iterator<E> it1 = this.iterator();
+        Iterator<E> it2 = that.iterator();
+
+        while (it1.hasNext() && it2.hasNext()) {
+            if (!it1.next().equals(it2.next()))
+                return false;
+        }
+        return !it1.hasNext() && !it2.hasNext();
+    }
+
+    /**
+     * Returns a snapshot of the queue as an Object array.
+     *
+     * @return the created array
+     */
+    @Override
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    /**
+     * Copies a snapshot of the queue into a provided array.
+     *
+     * @param holder the array to write into
+     * @return the filled array
+     * @throws NullPointerException if holder is null
+     */
+    @Override
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null)
+            throw new NullPointerException("Holder array cannot be null");
+
+        return snapshot().toArray(holder);
+    }
+
+    private MyArrayList<E> snapshot() {
+        MyArrayList<E> list = new MyArrayList<>();
+        Iterator<E> it = iterator();
+        while (it.hasNext())
+            list.add(it.next());
+        return list;
+    }
+
+    /**
+     * Unbounded queues are never full.
+     *
+     * @return false (always)
+     */
+    @Override
+    public boolean isFull() {
+        return false;
+    }
+
+    /**
+     * Returns the number of elements in the queue. The value is weakly
+     * consistent: concurrent enqueues and dequeues may or may not be counted.
+     *
+     * @return queue size
+     */
+    @Override
+    public int size() {
+        long n = count.sum();
+        if (n < 0)
+            return 0;
+        return n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+    }
+}
@@ -0,0 +1,348 @@
+package implementations;
+
+import java.lang.reflect.Array;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import utilities.Iterator;
+import utilities.StackADT;
+
+/**
+ * Thread-safe, lock-free stack (Treiber stack) with an elimination array.
+ * <p>
+ * The stack is a singly-linked list of immutable nodes whose top is swung
+ * with a compare-and-set. Under contention that single {@code head} word
+ * becomes the bottleneck, so a thread whose CAS fails backs off into a small
+ * elimination array instead of retrying immediately:
+ * </p>
+ * <ul>
+ *   <li>a pusher parks its node in a random slot and waits briefly; if a
+ *       popper takes it in the meantime, both operations complete without
+ *       touching {@code head} (the pair is linearized as a push immediately
+ *       followed by a pop);</li>
+ *   <li>a popper checks one random slot and takes any node parked there.</li>
+ * </ul>
+ * <p>
+ * A pusher that is not matched retracts its node and retries on
+ * {@code head}, so every operation still completes. Because nodes are never
+ * modified once published, {@code iterator()} and {@code toArray()} work on
+ * an exact snapshot of the stack. {@code size()} comes from a striped counter
+ * and is exact only when the stack is quiescent.
+ * </p>
+ *
+ * @param <E> the type of elements stored in the stack
+ */
+public class MyConcurrentStack<E> implements StackADT<E> {
+
+    /**
+     * Immutable list node; {@code next} is written only before publication.
+     */
+    private static final class Node<E> {
+        final E item;
+        Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MyConcurrentStack, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(MyConcurrentStack.class, Node.class, "head");
+
+    /** Number of elimination slots; enough to spread contention, small enough to meet. */
+    private static final int SLOTS =
+            Math.max(2, Math.min(16, Integer.highestOneBit(Runtime.getRuntime().availableProcessors())));
+
+    /** Spin iterations a pusher waits for a popper to take its node. */
+    private static final int PUSH_WAIT_SPINS = 64;
+
+    /** Top of the stack, or {@code null} when empty. */
+    private volatile Node<E> head;
+
+    /** Push offers waiting to be eliminated by a concurrent pop. */
+    private final AtomicReferenceArray<Node<E>> slots = new AtomicReferenceArray<>(SLOTS);
+
+    /** Weakly consistent element count. */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Constructs an empty stack.
+     */
+    public MyConcurrentStack() {
+        head = null;
+    }
+
+    /**
+     * Pushes an element onto the top of the stack. Never blocks.
+     *
+     * @param toAdd the element to push
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void push(E toAdd) throws NullPointerException {
+        if (toAdd == null)
+            throw new NullPointerException("Cannot push null onto stack.");
+
+        Node<E> node = new Node<>(toAdd);
+        count.increment();
+        for (;;) {
+            Node<E> h = head;
+            node.next = h;
+            if (HEAD.compareAndSet(this, h, node))
+                return;
+            if (eliminatePush(node))
+                return;
+        }
+    }
+
+    /**
+     * Parks {@code node} in a random slot for a short while.
+     *
+     * @return {@code true} if a popper took the node
+     */
+    private boolean eliminatePush(Node<E> node) {
+        int i = ThreadLocalRandom.current().nextInt(SLOTS);
+        if (!slots.compareAndSet(i, null, node))
+            return false;
+        for (int spin = 0; spin < PUSH_WAIT_SPINS; spin++) {
+            if (slots.get(i) != node)
+                return true;
+        }
+        // Retract the offer; failing means a popper took it just now
+        return !slots.compareAndSet(i, node, null);
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack. Never blocks.
+     *
+     * @return the popped element
+     * @throws EmptyStackException if the stack is empty
+     */
+    @Override
+    public E pop() throws EmptyStackException {
+        for (;;) {
+            Node<E> h = head;
+            if (h == null)
+                throw new EmptyStackException();
+            if (HEAD.compareAndSet(this, h, h.next)) {
+                count.decrement();
+                return h.item;
+            }
+            Node<E> offered = eliminatePop();
+            if (offered != null) {
+                count.decrement();
+                return offered.item;
+            }
+        }
+    }
+
+    /**
+     * Takes a node parked by a concurrent pusher, if there is one in a
+     * random slot.
+     */
+    private Node<E> eliminatePop() {
+        int i = ThreadLocalRandom.current().nextInt(SLOTS);
+        Node<E> offered = slots.get(i);
+        if (offered != null && slots.compareAndSet(i, offered, null))
+            return offered;
+        return null;
+    }
+
+    /**
+     * Returns the element at the top of the stack without removing it.
+     *
+     * @return the top element
+     * @throws EmptyStackException if the stack is empty
+     */
+    @Override
+    public E peek() throws EmptyStackException {
+        Node<E> h = head;
+        if (h == null)
+            throw new EmptyStackException();
+        return h.item;
+    }
+
+    /**
+     * Removes all elements present at the moment of the call.
+     */
+    @Override
+    public void clear() {
+        Node<E> h;
+        do {
+            h = head;
+        } while (h != null && !HEAD.compareAndSet(this, h, null));
+
+        // Only this thread owns the detached chain; account for it
+        long removed = 0;
+        for (Node<E> n = h; n != null; n = n.next)
+            removed++;
+        count.add(-removed);
+    }
+
+    /**
+     * Checks whether the stack is empty at the moment of the call.
+     *
+     * @return true if the stack contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+    /**
+     * Returns a snapshot of the stack from top to bottom.
+     *
+     * @return an array representation of the stack
+     */
+    @Override
+    public Object[] toArray() {
+        Node<E> h = head;
+        Object[] result = new Object[length(h)];
+        int i = 0;
+        for (Node<E> n = h; n != null; n = n.next)
+            result[i++] = n.item;
+        return result;
+    }
+
+    /**
+     * Fills the provided array with a snapshot of the stack from top to
+     * bottom.
+     *
+     * @param holder the array into which elements are stored
+     * @return the filled array
+     * @throws NullPointerException if the provided array is null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null)
+            throw new NullPointerException("Array holder cannot be null.");
+
+        Node<E> h = head;
+        int n = length(h);
+        E[] result = holder.length >= n
+                ? holder
+                : (E[]) Array.newInstance(holder.getClass().getComponentType(), n);
+        int i = 0;
+        for (Node<E> node = h; node != null; node = node.next)
+            result[i++] = node.item;
+        if (result.length > n)
+            result[n] = null;
+        return result;
+    }
+
+    private static int length(Node<?> h) {
+        int n = 0;
+        for (; h != null; h = h.next)
+            n++;
+        return n;
+    }
+
+    /**
+     * Checks whether the stack contains a given element.
+     *
+     * @param toFind the element to locate
+     * @return true if the element exists in the stack
+     * @throws NullPointerException if toFind is null
+     */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null)
+            throw new NullPointerException();
+        return search(toFind) != -1;
+    }
+
+    /**
+     * Searches for an element and returns its 1-based position from the top.
+     *
+     * @param toFind the element to search for
+     * @return position from the top, or -1 if not found
+     */
+    @Override
+    public int search(E toFind) {
+        if (toFind == null)
+            return -1;
+        int pos = 1;
+        for (Node<E> n = head; n != null; n = n.next, pos++) {
+            if (toFind.equals(n.item))
+                return pos;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the stack, from top to bottom.
+     *
+     * @return a stack iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node<E> current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public E next() {
+                if (current == null)
+                    throw new NoSuchElementException();
+                E item = current.item;
+                current = current.next;
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Compares a snapshot of this stack to another stack for equality.
+     *
+     * @param that another stack
+     * @return true if both stacks contain identical elements (top→bottom)
+     */
+    @Override
+    public boolean equals(StackADT<E> that) {
+        if (that == null)
+            return false;
+
+        Iterator<E> it1 = this.iterator();
+        Iterator<E> it2 = that.iterator();
+
+        while (it1.hasNext() && it2.hasNext()) {
+            if (!it1.next().equals(it2.next()))
+                return false;
+        }
+        return !it1.hasNext() && !it2.hasNext();
+    }
+
+    /**
+     * Returns the number of elements in the stack. The value is weakly
+     * consistent while other threads push or pop.
+     *
+     * @return the stack size
+     */
+    @Override
+    public int size() {
+        long n = count.sum();
+        if (n < 0)
+            return 0;
+        return n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+    }
+
+    /**
+     * This implementation is unbounded and cannot overflow.
+     *
+     * @return false always
+     */
+    @Override
+    public boolean stackOverflow() {
+        return false;
+    }
+}
@@ -1,9 +1,16 @@
 package implementations;
 
+import utilities.BulkSource;
 import utilities.Iterator;
 import utilities.ListADT;
+import utilities.ListIterator;
 
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Doubly-linked list implementation that implements {@link utilities.ListADT}.
@@ -15,10 +22,21 @@ import java.util.NoSuchElementException;
  * (e.g., {@code addFirst}, {@code addLast}, {@code removeFirst}, {@code getHead})
  * used by the driver code.
  * </p>
+ * <p>
+ * <strong>Not safe for concurrent readers.</strong> Index-based methods
+ * ({@link #get(int)}, {@link #set(int, Object)}, {@link #listIterator(int)},
+ * {@link #subList(int, int)} and the bulk copy used by {@code addAll})
+ * remember the node they reached in a shared finger, so even a read-only
+ * {@code get} writes to the list. Threads that share a list must
+ * synchronize every call, including reads. Iteration from the head
+ * ({@code iterator()}, {@code forEach}, {@code contains}, {@code toArray})
+ * does not touch the finger and may run on several threads at once while
+ * nothing modifies the list.
+ * </p>
  *
  * @param <E> element type
  */
-public class MyDLL<E> implements ListADT<E> {
+public class MyDLL<E> implements ListADT<E>, BulkSource<E> {
 
 	/** First node (head) of the list; {@code null} when the list is empty. */
     private MyDLLNode<E> head;
@@ -26,6 +44,17 @@ public class MyDLL<E> implements ListADT<E> {
     private MyDLLNode<E> tail;
     /** Number of elements currently stored in the list. */
     private int size;
+    /**
+     * Node most recently located by index, or {@code null} when unknown.
+     * {@link #nodeAt(int)} walks from whichever of head, tail or finger is
+     * nearest, so sequential {@code get(i)} / {@code set(i)} loops are O(1)
+     * per step instead of O(n).
+     */
+    private MyDLLNode<E> finger;
+    /** Index of {@link #finger}; meaningful only while finger is non-null. */
+    private int fingerIndex;
+    /** Count of structural modifications, for fail-fast list iterators. */
+    private int modCount;
 
     /**
      * Constructs an empty {@code MyDLL}.
@@ -71,7 +100,9 @@ public class MyDLL<E> implements ListADT<E> {
             cur = next;
         }
         head = tail = null;
+        finger = null;
         size = 0;
+        modCount++;
     }
 
     /**
@@ -105,15 +136,7 @@ public class MyDLL<E> implements ListADT<E> {
             addLastInternal(toAdd);
         } else {
         	// Insert in the middle: find successor and link new node between predecessor and successor
-            MyDLLNode<E> succ = nodeAt(index);
-            MyDLLNode<E> pred = succ.getPrev();
-            MyDLLNode<E> node = new MyDLLNode<>(toAdd);
-
-            node.setNext(succ);
-            node.setPrev(pred);
-            pred.setNext(node);
-            succ.setPrev(node);
-            size++;
+            linkBefore(toAdd, nodeAt(index), index);
         }
         return true;
     }
@@ -134,7 +157,7 @@ public class MyDLL<E> implements ListADT<E> {
 
     /**
      * Appends all elements from the provided {@code ListADT} to the end of this list.
-     * Elements are appended in the order returned by {@code toAdd.get(i)}.
+     * Elements are appended in the source's iteration order.
      *
      * @param toAdd the source list (must not be {@code null})
      * @return {@code true} once all elements are appended
@@ -143,14 +166,24 @@ public class MyDLL<E> implements ListADT<E> {
     @Override
     public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
         if (toAdd == null) throw new NullPointerException();
-        for (int i = 0; i < toAdd.size(); i++) {
-            add(toAdd.get(i));
+        // Read through the iterator so a linked source is not walked per
+        // element; fix the count first since toAdd may be this list
+        int n = toAdd.size();
+        Iterator<? extends E> it = toAdd.iterator();
+        for (int i = 0; i < n; i++) {
+            add(it.next());
         }
         return true;
     }
 
     /**
      * Returns the element at the specified position in this list.
+     * <p>
+     * The walk starts from the nearest of head, tail and the finger, and
+     * then moves the finger to {@code index}. Unlike most reads this is a
+     * write to shared state, so concurrent {@code get} calls on one list
+     * must be synchronized externally.
+     * </p>
      *
      * @param index index of element to return (0-based)
      * @return the element at the specified index
@@ -174,7 +207,7 @@ public class MyDLL<E> implements ListADT<E> {
         checkIndex(index);
         MyDLLNode<E> node = nodeAt(index);
         E val = node.getElement();
-        unlink(node);
+        unlinkAt(node, index);
         return val;
     }
 
@@ -189,10 +222,10 @@ public class MyDLL<E> implements ListADT<E> {
     public E remove(E toRemove) throws NullPointerException {
         if (toRemove == null) throw new NullPointerException();
         MyDLLNode<E> cur = head;
-        while (cur != null) {
+        for (int i = 0; cur != null; i++) {
             if (toRemove.equals(cur.getElement())) {
                 E val = cur.getElement();
-                unlink(cur);
+                unlinkAt(cur, i);
                 return val;
             }
             cur = cur.getNext();
@@ -200,6 +233,102 @@ public class MyDLL<E> implements ListADT<E> {
         return null;
     }
 
+    /**
+     * Removes every element that satisfies the predicate. A first walk only
+     * tests the elements and marks the removed positions in a bit set; no
+     * link is written while the predicate runs. A second walk then links
+     * each surviving node straight to the previous survivor, so a run of
+     * removed nodes is cut out with one relink, and {@code size},
+     * {@code modCount} and the finger are updated once at the end. If the
+     * predicate throws, only the elements it already selected are removed;
+     * if it modifies the list, the list is left as the predicate left it.
+     *
+     * @param filter predicate selecting the elements to remove
+     * @return {@code true} if any element was removed
+     * @throws NullPointerException if {@code filter} is {@code null}
+     * @throws ConcurrentModificationException if {@code filter} modifies the list
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) throw new NullPointerException();
+        return removeMatching(filter, head, size, null);
+    }
+
+    /**
+     * Removes the nodes that satisfy the predicate among the {@code count}
+     * nodes starting at {@code start}, in the two walks described for
+     * {@link #removeIf(Predicate)}. {@code view}, if not null, is the
+     * subList view over exactly these nodes and has its size and end nodes
+     * updated with the list's.
+     */
+    private boolean removeMatching(Predicate<? super E> filter, MyDLLNode<E> start, int count, SubList view) {
+        final int expected = modCount;
+        MyDLLNode<E> node = start;
+        int first = 0;
+        for (; first < count; first++) {
+            boolean drop = filter.test(node.getElement());
+            if (modCount != expected) throw new ConcurrentModificationException();
+            if (drop) break;
+            node = node.getNext();
+        }
+        if (first == count) return false;
+
+        // Bit i stands for the node at position first + i
+        final MyDLLNode<E> firstDead = node;
+        final long[] dead = new long[((count - first - 1) >> 6) + 1];
+        dead[0] = 1L;
+        int visited = first + 1;
+        node = node.getNext();
+        try {
+            for (; visited < count; visited++) {
+                boolean drop = filter.test(node.getElement());
+                if (modCount != expected) throw new ConcurrentModificationException();
+                if (drop) dead[(visited - first) >> 6] |= 1L << (visited - first);
+                node = node.getNext();
+            }
+        } finally {
+            if (modCount == expected) {
+                MyDLLNode<E> kept = firstDead.getPrev();
+                MyDLLNode<E> firstKept = first > 0 ? start : null;
+                MyDLLNode<E> cur = firstDead.getNext();
+                for (int i = first + 1; i < visited; i++) {
+                    MyDLLNode<E> next = cur.getNext();
+                    if ((dead[(i - first) >> 6] & (1L << (i - first))) == 0) {
+                        if (cur.getPrev() != kept) {
+                            cur.setPrev(kept);
+                            if (kept == null) head = cur;
+                            else kept.setNext(cur);
+                        }
+                        if (firstKept == null) firstKept = cur;
+                        kept = cur;
+                    }
+                    cur = next;
+                }
+                // Join the last survivor to the unvisited rest (the node after the range after a full walk)
+                if (kept == null) head = node;
+                else kept.setNext(node);
+                if (node == null) tail = kept;
+                else node.setPrev(kept);
+                int removed = 0;
+                for (long word : dead) removed += Long.bitCount(word);
+                size -= removed;
+                finger = null;
+                modCount++;
+                if (view != null) {
+                    view.size -= removed;
+                    if (view.size == 0) {
+                        view.first = view.last = null;
+                    } else {
+                        view.first = firstKept != null ? firstKept : node;
+                        if (visited == count) view.last = kept;
+                    }
+                    view.expectedModCount = modCount;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Replaces the element at the specified position with the given element.
      *
@@ -301,6 +430,140 @@ public class MyDLL<E> implements ListADT<E> {
         return new DLLIterator();
     }
 
+    /**
+     * Performs the given action on each element from head to tail, following
+     * the node links directly.
+     *
+     * @param action the action to perform
+     * @throws NullPointerException            if action is null
+     * @throws ConcurrentModificationException if action structurally
+     *                                         modifies the list
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) throw new NullPointerException();
+        forEachFrom(head, action);
+    }
+
+    /**
+     * Returns a late-binding, fail-fast spliterator over the list from head
+     * to tail. A linked list cannot be halved without walking it, so each
+     * split copies the next batch of elements into an array, with the batch
+     * growing by 1024 elements per split; parallel streams get array-backed
+     * pieces to work on while this spliterator keeps the rest.
+     *
+     * @return a {@code SIZED}, {@code ORDERED}, {@code NONNULL} spliterator
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new DLLSpliterator();
+    }
+
+    /**
+     * Returns a {@code java.util.List} view of this list. Reads and writes
+     * go straight through without copying; sequential {@code get(int)}
+     * calls stay cheap thanks to the cached finger node.
+     *
+     * @return a live list view
+     */
+    public java.util.List<E> asList() {
+        return new ListView<>(this, this::listIterator);
+    }
+
+    /**
+     * Returns a view of the elements from {@code fromIndex} (inclusive) to
+     * {@code toIndex} (exclusive) that shares this list's nodes. The view
+     * keeps its first and last node, so iteration starts without a walk and
+     * {@code clear()} unlinks the whole range with one relink. Indexed
+     * access goes through {@link #get(int)}'s finger-cached walk. Structural
+     * changes made through the view are reflected in this list; after any
+     * other structural change to this list the view throws
+     * {@link ConcurrentModificationException}.
+     * <p>
+     * Creating the view walks to both ends of the range. Several threads may
+     * iterate views at once as long as nothing modifies the list, but
+     * indexed access must stay on one thread because it moves the shared
+     * finger.
+     * </p>
+     *
+     * @param fromIndex first index of the range
+     * @param toIndex   index after the last element of the range
+     * @return a live view of the range
+     * @throws IndexOutOfBoundsException if {@code fromIndex < 0},
+     *         {@code toIndex > size} or {@code fromIndex > toIndex}
+     */
+    public ListADT<E> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("Range: " + fromIndex + ", " + toIndex);
+        if (fromIndex == toIndex) return new SubList(fromIndex, 0, null, null);
+        MyDLLNode<E> first = nodeAt(fromIndex);
+        MyDLLNode<E> last = nodeAt(toIndex - 1);
+        return new SubList(fromIndex, toIndex - fromIndex, first, last);
+    }
+
+    /**
+     * Walks from {@code node} to the tail, checking for structural changes
+     * made by the action on every step.
+     *
+     * @param node   first node to visit, or {@code null} for none
+     * @param action the action to perform
+     */
+    private void forEachFrom(MyDLLNode<E> node, Consumer<? super E> action) {
+        final int expected = modCount;
+        for (; node != null && modCount == expected; node = node.getNext()) {
+            action.accept(node.getElement());
+        }
+        if (modCount != expected) throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Returns a fail-fast list iterator positioned before the head.
+     *
+     * @return a list iterator
+     */
+    public ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a fail-fast list iterator whose first {@code next()} returns
+     * the element at {@code index}. Its {@code remove()} and {@code add(E)}
+     * relink nodes at the cursor in O(1), so filtering a list in one pass is
+     * O(n).
+     *
+     * @param index starting cursor position, from 0 to {@code size}
+     * @return a list iterator
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index);
+        return new DLLListIterator(index);
+    }
+
+    /**
+     * Copies {@code length} elements starting at {@code srcIndex} into
+     * {@code dest}, walking the nodes once from the start of the range.
+     *
+     * @param srcIndex index of the first element to copy
+     * @param dest     array to copy into
+     * @param destPos  first index of dest to write
+     * @param length   number of elements to copy
+     * @throws NullPointerException      if dest is null
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    @Override
+    public void copyTo(int srcIndex, Object[] dest, int destPos, int length) {
+        if (dest == null) throw new NullPointerException();
+        if (srcIndex < 0 || length < 0 || srcIndex > size - length
+                || destPos < 0 || destPos > dest.length - length)
+            throw new IndexOutOfBoundsException("Range: " + srcIndex + ", " + destPos + ", " + length);
+        if (length == 0) return;
+        MyDLLNode<E> cur = nodeAt(srcIndex);
+        for (int end = destPos + length; destPos < end; destPos++, cur = cur.getNext()) {
+            dest[destPos] = cur.getElement();
+        }
+    }
+
     // ADDITIONAL HELPERS
 
     /**
@@ -353,11 +616,147 @@ public class MyDLL<E> implements ListADT<E> {
      */
     public MyDLLNode<E> getTail() { return tail; }
 
+    // SPLICE AND SPLIT
+
+    /**
+     * Moves every node of {@code other} to the end of this list in O(1) by
+     * relinking the two chains; no element is copied. {@code other} is left
+     * empty.
+     *
+     * @param other list whose nodes are moved (must not be this list)
+     * @throws NullPointerException if {@code other} is {@code null}
+     * @throws IllegalArgumentException if {@code other} is this list
+     */
+    public void spliceLast(MyDLL<E> other) {
+        checkSpliceSource(other);
+        if (other.head == null) return;
+        if (tail == null) {
+            head = other.head;
+        } else {
+            tail.setNext(other.head);
+            other.head.setPrev(tail);
+        }
+        tail = other.tail;
+        size += other.size;
+        modCount++;
+        other.reset();
+    }
+
+    /**
+     * Moves every node of {@code other} to the front of this list in O(1).
+     * {@code other} is left empty.
+     *
+     * @param other list whose nodes are moved (must not be this list)
+     * @throws NullPointerException if {@code other} is {@code null}
+     * @throws IllegalArgumentException if {@code other} is this list
+     */
+    public void spliceFirst(MyDLL<E> other) {
+        checkSpliceSource(other);
+        if (other.head == null) return;
+        if (head == null) {
+            tail = other.tail;
+        } else {
+            other.tail.setNext(head);
+            head.setPrev(other.tail);
+        }
+        head = other.head;
+        size += other.size;
+        fingerIndex += other.size;
+        modCount++;
+        other.reset();
+    }
+
+    /**
+     * Moves every node of {@code other} into this list directly after
+     * {@code node} in O(1). {@code other} is left empty.
+     * <p>
+     * Precondition: {@code node} belongs to this list (as returned by
+     * {@link #getHead()}, {@link #getTail()} or by walking their links); this
+     * is not checked, since checking would cost a walk of the list.
+     * </p>
+     *
+     * @param node  node of this list after which to insert
+     * @param other list whose nodes are moved (must not be this list)
+     * @throws NullPointerException if {@code node} or {@code other} is {@code null}
+     * @throws IllegalArgumentException if {@code other} is this list
+     */
+    public void spliceAfter(MyDLLNode<E> node, MyDLL<E> other) {
+        if (node == null) throw new NullPointerException();
+        checkSpliceSource(other);
+        if (other.head == null) return;
+        MyDLLNode<E> succ = node.getNext();
+        node.setNext(other.head);
+        other.head.setPrev(node);
+        other.tail.setNext(succ);
+        if (succ == null) tail = other.tail;
+        else succ.setPrev(other.tail);
+        size += other.size;
+        // The index of node is unknown, so the finger cannot be adjusted
+        finger = null;
+        modCount++;
+        other.reset();
+    }
+
+    /**
+     * Splits this list at {@code index}: the elements from {@code index} to
+     * the end are moved, in order, into a new list that is returned, and
+     * this list keeps the elements before {@code index}.
+     * <p>
+     * Cutting the chain is O(1). Locating the node takes
+     * {@link #get(int)}'s walk, which is O(1) right after accessing a
+     * neighbouring index. (A split given only a node could not be O(1),
+     * because the size of each part would be unknown.)
+     * </p>
+     *
+     * @param index first index of the returned part, from 0 to {@code size}
+     * @return a new list holding the elements from {@code index} onwards
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public MyDLL<E> split(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index);
+        MyDLL<E> rest = new MyDLL<>();
+        if (index == size) return rest;
+
+        MyDLLNode<E> first = nodeAt(index);
+        MyDLLNode<E> last = first.getPrev();
+        rest.head = first;
+        rest.tail = tail;
+        rest.size = size - index;
+        first.setPrev(null);
+        if (last == null) head = null;
+        else last.setNext(null);
+        tail = last;
+        size = index;
+        finger = last;
+        fingerIndex = index - 1;
+        modCount++;
+        return rest;
+    }
+
     // INTERNAL HELPERS
 
     /**
-     * Returns the node at the specified index by walking from the nearer end
-     * (head or tail). This optimizes traversal time.
+     * Validates the source list of a splice.
+     */
+    private void checkSpliceSource(MyDLL<E> other) {
+        if (other == null) throw new NullPointerException();
+        if (other == this) throw new IllegalArgumentException("Cannot splice a list into itself");
+    }
+
+    /**
+     * Forgets all nodes without touching them, after they have been moved
+     * to another list.
+     */
+    private void reset() {
+        head = tail = null;
+        finger = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the node at the specified index by walking from the nearest of
+     * head, tail and the cached finger, then moves the finger to that node.
      *
      * Precondition: index should be in range 0..size-1 (caller is expected to check).
      *
@@ -365,15 +764,90 @@ public class MyDLL<E> implements ListADT<E> {
      * @return the node at {@code index}
      */
     private MyDLLNode<E> nodeAt(int index) {
-    	// Walk from head when index is in the first half; otherwise walk from tail.
-        if (index < (size >> 1)) {
-            MyDLLNode<E> cur = head;
-            for (int i = 0; i < index; i++) cur = cur.getNext();
-            return cur;
+        MyDLLNode<E> cur;
+        int from;
+        int toTail = size - 1 - index;
+        if (index <= toTail) {
+            cur = head;
+            from = 0;
         } else {
-            MyDLLNode<E> cur = tail;
-            for (int i = size - 1; i > index; i--) cur = cur.getPrev();
-            return cur;
+            cur = tail;
+            from = size - 1;
+        }
+        if (finger != null && Math.abs(index - fingerIndex) < Math.min(index, toTail)) {
+            cur = finger;
+            from = fingerIndex;
+        }
+        for (; from < index; from++) cur = cur.getNext();
+        for (; from > index; from--) cur = cur.getPrev();
+        finger = cur;
+        fingerIndex = index;
+        return cur;
+    }
+
+    /**
+     * Links a new node holding {@code item} immediately before {@code succ},
+     * which must be an interior or tail node at {@code index}, and shifts the
+     * finger if it is at or after the insertion point.
+     *
+     * @param item  element to insert (must not be {@code null})
+     * @param succ  the node that will follow the new node
+     * @param index the current index of {@code succ}
+     */
+    private void linkBefore(E item, MyDLLNode<E> succ, int index) {
+        MyDLLNode<E> pred = succ.getPrev();
+        MyDLLNode<E> node = new MyDLLNode<>(item);
+
+        node.setNext(succ);
+        node.setPrev(pred);
+        pred.setNext(node);
+        succ.setPrev(node);
+        size++;
+        modCount++;
+        if (finger != null && fingerIndex >= index) fingerIndex++;
+    }
+
+    /**
+     * Unlinks the node at a known index and keeps the finger valid: a finger
+     * on the removed node moves to its successor (which takes over the
+     * index), and a finger further along shifts down by one.
+     *
+     * @param node  the node to unlink (must be non-null and currently in the list)
+     * @param index the current index of {@code node}
+     */
+    private void unlinkAt(MyDLLNode<E> node, int index) {
+        MyDLLNode<E> next = node.getNext();
+        unlink(node);
+        if (finger != null) {
+            if (fingerIndex == index) finger = next;
+            else if (fingerIndex > index) fingerIndex--;
+        }
+    }
+
+    /**
+     * Unlinks the {@code n} nodes from {@code first} to {@code last}, which
+     * start at index {@code from}, by joining their neighbours directly. The
+     * removed chain is detached as a whole and left to the garbage
+     * collector rather than cleared node by node.
+     */
+    private void unlinkRange(MyDLLNode<E> first, MyDLLNode<E> last, int from, int n) {
+        MyDLLNode<E> pred = first.getPrev();
+        MyDLLNode<E> succ = last.getNext();
+        if (pred == null) head = succ;
+        else pred.setNext(succ);
+        if (succ == null) tail = pred;
+        else succ.setPrev(pred);
+        first.setPrev(null);
+        last.setNext(null);
+        size -= n;
+        modCount++;
+        if (finger != null) {
+            if (fingerIndex >= from + n) {
+                fingerIndex -= n;
+            } else if (fingerIndex >= from) {
+                finger = succ != null ? succ : pred;
+                fingerIndex = succ != null ? from : from - 1;
+            }
         }
     }
 
@@ -400,6 +874,7 @@ public class MyDLL<E> implements ListADT<E> {
         node.setPrev(null);
         node.setElement(null);
         size--;
+        modCount++;
     }
 
     /**
@@ -419,6 +894,7 @@ public class MyDLL<E> implements ListADT<E> {
             tail = node;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -428,6 +904,7 @@ public class MyDLL<E> implements ListADT<E> {
      */
     private void addFirstInternal(E item) {
         MyDLLNode<E> node = new MyDLLNode<>(item);
+        fingerIndex++;
         if (head == null) {
             head = tail = node;
         } else {
@@ -436,6 +913,7 @@ public class MyDLL<E> implements ListADT<E> {
             head = node;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -479,5 +957,422 @@ public class MyDLL<E> implements ListADT<E> {
             current = current.getNext();
             return val;
         }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param action the action to perform
+         * @throws NullPointerException if action is null
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            MyDLLNode<E> from = current;
+            current = null;
+            forEachFrom(from, action);
+        }
+    }
+
+    /**
+     * Fail-fast bidirectional iterator. {@code next} is the node after the
+     * cursor ({@code null} at the end) and {@code lastReturned} the node that
+     * {@code remove()} / {@code set(E)} act on.
+     */
+    private class DLLListIterator implements ListIterator<E> {
+        private MyDLLNode<E> next;
+        private MyDLLNode<E> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        DLLListIterator(int index) {
+            next = index == size ? null : nodeAt(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() { return nextIndex < size; }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (next == null) throw new NoSuchElementException();
+            lastReturned = next;
+            next = next.getNext();
+            nextIndex++;
+            return lastReturned.getElement();
+        }
+
+        @Override
+        public boolean hasPrevious() { return nextIndex > 0; }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (nextIndex == 0) throw new NoSuchElementException();
+            next = next == null ? tail : next.getPrev();
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.getElement();
+        }
+
+        @Override
+        public int nextIndex() { return nextIndex; }
+
+        @Override
+        public int previousIndex() { return nextIndex - 1; }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException();
+            checkForComodification();
+            if (lastReturned == next) {
+                // Returned by previous(): the cursor stays, the next node moves on
+                next = next.getNext();
+                unlinkAt(lastReturned, nextIndex);
+            } else {
+                unlinkAt(lastReturned, --nextIndex);
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E toChange) {
+            if (toChange == null) throw new NullPointerException();
+            if (lastReturned == null) throw new IllegalStateException();
+            checkForComodification();
+            lastReturned.setElement(toChange);
+        }
+
+        @Override
+        public void add(E toAdd) {
+            if (toAdd == null) throw new NullPointerException();
+            checkForComodification();
+            if (next == null) addLastInternal(toAdd);
+            else if (next == head) addFirstInternal(toAdd);
+            else linkBefore(toAdd, next, nextIndex);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Batch-splitting spliterator. The start node, remaining count and
+     * expected modCount are bound on first use ({@code est < 0} until then).
+     */
+    private class DLLSpliterator implements Spliterator<E> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private MyDLLNode<E> current;
+        private int est = -1;
+        private int expectedModCount;
+        private int batch;
+
+        private int bind() {
+            if (est < 0) {
+                current = head;
+                est = size;
+                expectedModCount = modCount;
+            }
+            return est;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int s = bind();
+            if (s <= 1 || current == null) return null;
+            int n = Math.min(Math.min(batch + BATCH_UNIT, s), MAX_BATCH);
+            Object[] a = new Object[n];
+            MyDLLNode<E> p = current;
+            int j = 0;
+            do {
+                a[j++] = p.getElement();
+            } while ((p = p.getNext()) != null && j < n);
+            current = p;
+            batch = j;
+            est = s - j;
+            return Spliterators.spliterator(a, 0, j, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            if (bind() <= 0 || current == null) return false;
+            est--;
+            E e = current.getElement();
+            current = current.getNext();
+            action.accept(e);
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            bind();
+            MyDLLNode<E> p = current;
+            current = null;
+            est = 0;
+            for (; p != null; p = p.getNext()) {
+                action.accept(p.getElement());
+            }
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return bind();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * Range view returned by {@link #subList(int, int)}: {@code size} nodes
+     * from {@code first} to {@code last}, starting at index {@code offset}.
+     * The end nodes are kept up to date by the view's own structural
+     * changes; every method first checks that the list has not been
+     * structurally modified behind the view's back.
+     */
+    private class SubList implements ListADT<E>, BulkSource<E> {
+        private final int offset;
+        private int size;
+        private MyDLLNode<E> first;
+        private MyDLLNode<E> last;
+        private int expectedModCount;
+
+        SubList(int offset, int size, MyDLLNode<E> first, MyDLLNode<E> last) {
+            this.offset = offset;
+            this.size = size;
+            this.first = first;
+            this.last = last;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        @Override
+        public void clear() {
+            checkForComodification();
+            if (size == 0) return;
+            unlinkRange(first, last, offset, size);
+            first = last = null;
+            size = 0;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Removes the matching nodes of the range in one walk, relinking
+         * each run of removed nodes once, as the list's own
+         * {@link MyDLL#removeIf(Predicate)} does.
+         */
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            if (filter == null) throw new NullPointerException();
+            checkForComodification();
+            return removeMatching(filter, first, size, this);
+        }
+
+        @Override
+        public boolean add(int index, E toAdd) {
+            if (toAdd == null) throw new NullPointerException();
+            checkForComodification();
+            if (index < 0 || index > size)
+                throw new IndexOutOfBoundsException("Index: " + index);
+            MyDLL.this.add(offset + index, toAdd);
+            MyDLLNode<E> node = nodeAt(offset + index);
+            if (index == 0) first = node;
+            if (index == size) last = node;
+            size++;
+            expectedModCount = modCount;
+            return true;
+        }
+
+        @Override
+        public boolean add(E toAdd) {
+            return add(size(), toAdd);
+        }
+
+        @Override
+        public boolean addAll(ListADT<? extends E> toAdd) {
+            if (toAdd == null) throw new NullPointerException();
+            checkForComodification();
+            // Stage the source, which may overlap this range
+            Object[] items = toAdd.toArray();
+            for (Object item : items) {
+                if (item == null) throw new NullPointerException();
+            }
+            if (items.length == 0) return true;
+            int end = offset + size;
+            for (Object item : items) {
+                @SuppressWarnings("unchecked")
+                E e = (E) item;
+                MyDLL.this.add(end++, e);
+            }
+            if (size == 0) first = nodeAt(offset);
+            size += items.length;
+            last = nodeAt(offset + size - 1);
+            expectedModCount = modCount;
+            return true;
+        }
+
+        @Override
+        public E get(int index) {
+            checkForComodification();
+            checkSubIndex(index);
+            return nodeAt(offset + index).getElement();
+        }
+
+        @Override
+        public E set(int index, E toChange) {
+            if (toChange == null) throw new NullPointerException();
+            checkForComodification();
+            checkSubIndex(index);
+            MyDLLNode<E> node = nodeAt(offset + index);
+            E old = node.getElement();
+            node.setElement(toChange);
+            return old;
+        }
+
+        @Override
+        public E remove(int index) {
+            checkForComodification();
+            checkSubIndex(index);
+            return removeNode(nodeAt(offset + index), index);
+        }
+
+        @Override
+        public E remove(E toRemove) {
+            if (toRemove == null) throw new NullPointerException();
+            checkForComodification();
+            MyDLLNode<E> node = first;
+            for (int i = 0; i < size; i++, node = node.getNext()) {
+                if (toRemove.equals(node.getElement())) return removeNode(node, i);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean contains(E toFind) {
+            if (toFind == null) throw new NullPointerException();
+            checkForComodification();
+            MyDLLNode<E> node = first;
+            for (int i = 0; i < size; i++, node = node.getNext()) {
+                if (toFind.equals(node.getElement())) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Object[] toArray() {
+            Object[] arr = new Object[size()];
+            copyTo(0, arr, 0, arr.length);
+            return arr;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E[] toArray(E[] holder) {
+            if (holder == null) throw new NullPointerException();
+            int n = size();
+            if (holder.length < n)
+                holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), n);
+            copyTo(0, holder, 0, n);
+            if (holder.length > n) holder[n] = null;
+            return holder;
+        }
+
+        @Override
+        public void copyTo(int srcIndex, Object[] dest, int destPos, int length) {
+            checkForComodification();
+            if (dest == null) throw new NullPointerException();
+            if (srcIndex < 0 || length < 0 || srcIndex > size - length
+                    || destPos < 0 || destPos > dest.length - length)
+                throw new IndexOutOfBoundsException("Range: " + srcIndex + ", " + destPos + ", " + length);
+            MyDLLNode<E> node = first;
+            for (int i = 0; i < srcIndex; i++) node = node.getNext();
+            for (int i = 0; i < length; i++, node = node.getNext()) {
+                dest[destPos + i] = node.getElement();
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            checkForComodification();
+            return new Iterator<E>() {
+                private MyDLLNode<E> next = first;
+                private int remaining = size;
+                private final int expected = modCount;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+
+                @Override
+                public E next() {
+                    if (modCount != expected) throw new ConcurrentModificationException();
+                    if (remaining <= 0) throw new NoSuchElementException();
+                    E val = next.getElement();
+                    next = next.getNext();
+                    remaining--;
+                    return val;
+                }
+            };
+        }
+
+        @Override
+        public void forEach(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            checkForComodification();
+            final int expected = modCount;
+            MyDLLNode<E> node = first;
+            for (int i = 0; i < size && modCount == expected; i++, node = node.getNext()) {
+                action.accept(node.getElement());
+            }
+            if (modCount != expected) throw new ConcurrentModificationException();
+        }
+
+        /**
+         * Unlinks {@code node}, the element at view index {@code index}, and
+         * moves the end node that referred to it.
+         */
+        private E removeNode(MyDLLNode<E> node, int index) {
+            if (index == 0) first = size > 1 ? node.getNext() : null;
+            if (index == size - 1) last = size > 1 ? node.getPrev() : null;
+            E val = node.getElement();
+            unlinkAt(node, offset + index);
+            size--;
+            expectedModCount = modCount;
+            return val;
+        }
+
+        private void checkSubIndex(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
     }
 }
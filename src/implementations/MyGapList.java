@@ -0,0 +1,429 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import utilities.BulkSource;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * A gap-buffer list for edit-heavy workloads.
+ * <p>
+ * The elements are stored in one array with a single run of free slots (the
+ * gap) somewhere inside it. An insert or remove first moves the gap to the
+ * edit position, copying only the elements between the old and new
+ * positions, and then takes or returns one slot of the gap. Edits that stay
+ * near a moving cursor therefore cost O(1) amortized plus the distance the
+ * cursor moved, instead of the O(n) tail shift {@link MyArrayList} pays.
+ * Indexed reads stay O(1): a logical index past the gap is offset by the
+ * gap length.
+ * </p>
+ * <p>
+ * Appending moves the gap to the end once, after which appends are as cheap
+ * as in {@link MyArrayList}. Null elements are not permitted.
+ * </p>
+ *
+ * @param <E> type of elements stored in the list
+ */
+public class MyGapList<E> implements ListADT<E>, BulkSource<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private Object[] data;
+    /** First slot of the gap; also the number of elements before it. */
+    private int gapStart;
+    /** First slot after the gap (exclusive end). */
+    private int gapEnd;
+
+    /**
+     * Constructs an empty list with default initial capacity.
+     */
+    public MyGapList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the given initial capacity.
+     *
+     * @param initialCapacity number of slots to reserve
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public MyGapList(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        data = new Object[initialCapacity];
+        gapStart = 0;
+        gapEnd = initialCapacity;
+    }
+
+    /**
+     * Appends an element to the end of the list.
+     *
+     * @param toAdd the element to add
+     * @return true when successfully added
+     * @throws NullPointerException if toAdd is null
+     */
+    public boolean add(E toAdd) {
+        return add(size(), toAdd);
+    }
+
+    /**
+     * Inserts an element at the specified index, moving the gap there first.
+     *
+     * @param index position to insert
+     * @param toAdd element to insert
+     * @return true when successfully added
+     * @throws NullPointerException      if toAdd is null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean add(int index, E toAdd) {
+        if (toAdd == null)
+            throw new NullPointerException("Cannot add null element");
+        if (index < 0 || index > size())
+            throw new IndexOutOfBoundsException("Index: " + index);
+
+        ensureGap(1);
+        moveGap(index);
+        data[gapStart++] = toAdd;
+        return true;
+    }
+
+    /**
+     * Appends all elements from another list, in order.
+     *
+     * @param toAdd list of elements to add
+     * @return true when successful
+     * @throws NullPointerException if toAdd or one of its elements is null
+     */
+    public boolean addAll(ListADT<? extends E> toAdd) {
+        if (toAdd == null) throw new NullPointerException();
+        // Fix the count first: toAdd may be this list, whose elements before
+        // the gap are not disturbed by filling it
+        int n = toAdd.size();
+        ensureGap(n);
+        moveGap(size());
+        if (toAdd instanceof BulkSource) {
+            ((BulkSource<?>) toAdd).copyTo(0, data, gapStart, n);
+            gapStart += n;
+            return true;
+        }
+        Iterator<? extends E> it = toAdd.iterator();
+        for (int i = 0; i < n; i++) {
+            E e = it.next();
+            if (e == null)
+                throw new NullPointerException("Cannot add null element");
+            data[gapStart++] = e;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the element at a specified index.
+     *
+     * @param index index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) data[physical(index)];
+    }
+
+    /**
+     * Removes and returns the element at a given index. Removing the element
+     * just before the gap (a backspace at the cursor) or just after it (a
+     * delete) does not move any other element.
+     *
+     * @param index position to remove
+     * @return removed element
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index);
+        E removed;
+        if (index == gapStart - 1) {
+            removed = (E) data[--gapStart];
+            data[gapStart] = null;
+        } else {
+            moveGap(index);
+            removed = (E) data[gapEnd];
+            data[gapEnd++] = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the first occurrence of an element.
+     *
+     * @param toRemove element to remove
+     * @return removed element or null if not found
+     * @throws NullPointerException if toRemove is null
+     */
+    public E remove(E toRemove) {
+        if (toRemove == null) throw new NullPointerException();
+        int index = indexOf(toRemove);
+        return index < 0 ? null : remove(index);
+    }
+
+    /**
+     * Removes every element that satisfies the predicate. The gap is moved
+     * to the end once and the matches are marked in a bit set; nothing is
+     * written while the predicate runs. The elements are then compacted in
+     * one read/write pass, so each survivor moves at most once. If the
+     * predicate throws, only the elements it already selected are removed.
+     * The list keeps no modification count, so a change by the predicate is
+     * detected as a moved gap or a replaced array; the list is then left as
+     * the predicate left it.
+     *
+     * @param filter predicate selecting the elements to remove
+     * @return true if any element was removed
+     * @throws NullPointerException if filter is null
+     * @throws ConcurrentModificationException if filter adds or removes elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) throw new NullPointerException();
+        moveGap(size());
+        final Object[] a = data;
+        final int n = gapStart;
+        final int end = gapEnd;
+        int first = 0;
+        for (; first < n; first++) {
+            boolean drop = filter.test((E) a[first]);
+            if (data != a || gapStart != n || gapEnd != end) throw new ConcurrentModificationException();
+            if (drop) break;
+        }
+        if (first == n) return false;
+
+        // Bit i stands for the element at first + i
+        final long[] dead = new long[((n - first - 1) >> 6) + 1];
+        dead[0] = 1L;
+        int r = first + 1;
+        try {
+            for (; r < n; r++) {
+                boolean drop = filter.test((E) a[r]);
+                if (data != a || gapStart != n || gapEnd != end) throw new ConcurrentModificationException();
+                if (drop) dead[(r - first) >> 6] |= 1L << (r - first);
+            }
+        } finally {
+            if (data == a && gapStart == n && gapEnd == end) {
+                // Compact the visited part; the unvisited rest moves down after it
+                int w = first;
+                for (int i = first + 1; i < r; i++) {
+                    if ((dead[(i - first) >> 6] & (1L << (i - first))) == 0) a[w++] = a[i];
+                }
+                System.arraycopy(a, r, a, w, n - r);
+                w += n - r;
+                Arrays.fill(a, w, n, null);
+                gapStart = w;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces an element at a given index. The gap does not move.
+     *
+     * @param index the index to replace
+     * @param toChange the new element
+     * @return the old element
+     * @throws NullPointerException      if toChange is null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E set(int index, E toChange) {
+        if (toChange == null) throw new NullPointerException();
+        checkIndex(index);
+        int p = physical(index);
+        E old = (E) data[p];
+        data[p] = toChange;
+        return old;
+    }
+
+    /**
+     * @return the number of stored elements
+     */
+    public int size() {
+        return data.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Removes all elements from the list, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(data, 0, gapStart, null);
+        Arrays.fill(data, gapEnd, data.length, null);
+        gapStart = 0;
+        gapEnd = data.length;
+    }
+
+    /**
+     * @return true if this list has no elements
+     */
+    public boolean isEmpty() {
+        return gapStart == 0 && gapEnd == data.length;
+    }
+
+    /**
+     * Checks whether the list contains a given element.
+     *
+     * @param toFind the element to locate
+     * @return true if found
+     * @throws NullPointerException if toFind is null
+     */
+    public boolean contains(E toFind) {
+        if (toFind == null) throw new NullPointerException();
+        return indexOf(toFind) >= 0;
+    }
+
+    /**
+     * Returns an array containing all elements.
+     *
+     * @return array copy of elements
+     */
+    public Object[] toArray() {
+        Object[] arr = new Object[size()];
+        copyTo(0, arr, 0, arr.length);
+        return arr;
+    }
+
+    /**
+     * Stores elements into the given array.
+     *
+     * @param holder the array to fill
+     * @return the filled array, or a new array of the same runtime type if
+     *         holder is too small
+     * @throws NullPointerException if holder is null
+     */
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] holder) {
+        if (holder == null) throw new NullPointerException();
+        int size = size();
+        if (holder.length < size)
+            holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+        copyTo(0, holder, 0, size);
+        if (holder.length > size) holder[size] = null;
+        return holder;
+    }
+
+    /**
+     * Copies {@code length} elements starting at {@code srcIndex} into
+     * {@code dest}, with one {@code System.arraycopy} for each side of the
+     * gap that the range touches.
+     *
+     * @param srcIndex index of the first element to copy
+     * @param dest     array to copy into
+     * @param destPos  first index of dest to write
+     * @param length   number of elements to copy
+     * @throws NullPointerException      if dest is null
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    @Override
+    public void copyTo(int srcIndex, Object[] dest, int destPos, int length) {
+        if (dest == null) throw new NullPointerException();
+        if (srcIndex < 0 || length < 0 || srcIndex > size() - length
+                || destPos < 0 || destPos > dest.length - length)
+            throw new IndexOutOfBoundsException("Range: " + srcIndex + ", " + destPos + ", " + length);
+        int before = Math.max(0, Math.min(length, gapStart - srcIndex));
+        System.arraycopy(data, srcIndex, dest, destPos, before);
+        System.arraycopy(data, physical(srcIndex + before), dest, destPos + before, length - before);
+    }
+
+    /**
+     * Returns an iterator that traverses the list from index 0 upward,
+     * stepping over the gap.
+     *
+     * @return an iterator
+     */
+    public Iterator<E> iterator() {
+        return new GapListIterator();
+    }
+
+    // ------------------ Helper Methods ------------------
+
+    private int physical(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    private int indexOf(E toFind) {
+        for (int i = 0; i < gapStart; i++) {
+            if (toFind.equals(data[i])) return i;
+        }
+        for (int i = gapEnd; i < data.length; i++) {
+            if (toFind.equals(data[i])) return i - (gapEnd - gapStart);
+        }
+        return -1;
+    }
+
+    /**
+     * Moves the gap so that it starts at the given logical index, copying
+     * only the elements between the old and new positions and clearing the
+     * slots they vacate.
+     */
+    private void moveGap(int index) {
+        int gapLength = gapEnd - gapStart;
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(data, index, data, index + gapLength, count);
+            Arrays.fill(data, index, index + Math.min(count, gapLength), null);
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(data, gapEnd, data, gapStart, count);
+            Arrays.fill(data, Math.max(gapEnd, index), index + gapLength, null);
+        } else {
+            return;
+        }
+        gapStart = index;
+        gapEnd = index + gapLength;
+    }
+
+    /**
+     * Makes the gap at least {@code needed} slots long, doubling the array
+     * and keeping the gap where it is.
+     */
+    private void ensureGap(int needed) {
+        int gapLength = gapEnd - gapStart;
+        if (gapLength >= needed)
+            return;
+        int size = data.length - gapLength;
+        int newCapacity = Math.max(data.length * 2, DEFAULT_CAPACITY);
+        if (newCapacity < size + needed)
+            newCapacity = size + needed;
+        Object[] grown = new Object[newCapacity];
+        int tail = data.length - gapEnd;
+        System.arraycopy(data, 0, grown, 0, gapStart);
+        System.arraycopy(data, gapEnd, grown, newCapacity - tail, tail);
+        data = grown;
+        gapEnd = newCapacity - tail;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    /**
+     * Iterator implementation for MyGapList (0 → size-1).
+     */
+    private class GapListIterator implements Iterator<E> {
+        private int cursor = 0;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return (E) data[physical(cursor++)];
+        }
+    }
+}
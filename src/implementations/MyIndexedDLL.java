@@ -0,0 +1,532 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import utilities.BulkSource;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Doubly-linked list whose links are array indices instead of node objects.
+ * <p>
+ * Element {@code s} of the backing storage lives in {@code elements[s]}, and
+ * its neighbours are {@code next[s]} and {@code prev[s]}, with {@link #NIL}
+ * marking the ends. Compared with {@link MyDLL}, each element saves a
+ * {@link MyDLLNode} object header and two references, and the links sit in
+ * two dense {@code int[]} arrays. Slots freed by removals are chained through
+ * {@code next} into a free list and reused by later inserts, so a list whose
+ * size is steady allocates nothing; the arrays only grow, by half, when
+ * every slot is in use.
+ * </p>
+ * <p>
+ * The API mirrors {@link MyDLL}: the {@link ListADT} operations plus
+ * {@code addFirst}, {@code addLast}, {@code removeFirst} and
+ * {@code removeLast}, all O(1) at the ends. Indexed access walks from the
+ * nearest of head, tail and the last located position. Null elements are
+ * not permitted.
+ * </p>
+ *
+ * @param <E> element type
+ */
+public class MyIndexedDLL<E> implements ListADT<E>, BulkSource<E> {
+
+    /** Link value meaning "no slot". */
+    private static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Element stored in each slot; {@code null} for free slots. */
+    private Object[] elements;
+    /** Next slot for each used slot; next free slot for each free slot. */
+    private int[] next;
+    /** Previous slot for each used slot. */
+    private int[] prev;
+
+    /** Slot of the first element, or {@link #NIL} when empty. */
+    private int head = NIL;
+    /** Slot of the last element, or {@link #NIL} when empty. */
+    private int tail = NIL;
+    /** First slot of the free list, or {@link #NIL}. */
+    private int freeHead = NIL;
+    /** Slots at or above this index have never been used. */
+    private int used;
+    /** Number of elements currently stored in the list. */
+    private int size;
+
+    /** Slot most recently located by index, or {@link #NIL} when unknown. */
+    private int finger = NIL;
+    /** Index of {@link #finger}; meaningful only while finger is not NIL. */
+    private int fingerIndex;
+
+    /**
+     * Constructs an empty list with the default initial capacity.
+     */
+    public MyIndexedDLL() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with room for the given number of elements
+     * before the backing arrays grow.
+     *
+     * @param initialCapacity number of slots to reserve
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public MyIndexedDLL(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        elements = new Object[initialCapacity];
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+    }
+
+    // ListADT METHODS
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the size of the list (>= 0)
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements from the list, keeping the backing arrays.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, used, null);
+        head = tail = freeHead = finger = NIL;
+        used = 0;
+        size = 0;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index position at which to insert (0-based, may equal {@code size} to append)
+     * @param toAdd element to insert
+     * @return {@code true} if addition succeeded
+     * @throws NullPointerException if {@code toAdd} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) throw new NullPointerException();
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index);
+
+        if (index == 0) {
+            addFirst(toAdd);
+        } else if (index == size) {
+            addLast(toAdd);
+        } else {
+            int succ = slotAt(index);
+            int pred = prev[succ];
+            int s = allocate(toAdd);
+            next[s] = succ;
+            prev[s] = pred;
+            next[pred] = s;
+            prev[succ] = s;
+            size++;
+            // slotAt left the finger on succ; the new slot now holds its index
+            finger = s;
+        }
+        return true;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param toAdd element to append (must not be {@code null})
+     * @return {@code true} if added
+     * @throws NullPointerException if {@code toAdd} is {@code null}
+     */
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        addLast(toAdd);
+        return true;
+    }
+
+    /**
+     * Appends all elements of {@code toAdd} to the end of this list.
+     *
+     * @param toAdd list whose elements are appended
+     * @return {@code true} once all elements are appended
+     * @throws NullPointerException if {@code toAdd} or one of its elements is {@code null}
+     */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException();
+        // Fix the count first: toAdd may be this list
+        int n = toAdd.size();
+        ensureCapacity(size + n);
+        Iterator<? extends E> it = toAdd.iterator();
+        for (int i = 0; i < n; i++) {
+            addLast(it.next());
+        }
+        return true;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of element to return (0-based)
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if {@code index} is out of range {@code 0 <= index < size}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return (E) elements[slotAt(index)];
+    }
+
+    /**
+     * Removes the element at the specified position in this list and returns it.
+     *
+     * @param index index of the element to remove (0-based)
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if {@code index} is out of range {@code 0 <= index < size}
+     */
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return unlinkAt(slotAt(index), index);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if present.
+     *
+     * @param toRemove the element to remove (must not be {@code null})
+     * @return the removed element if found, or {@code null} if not present
+     * @throws NullPointerException if {@code toRemove} is {@code null}
+     */
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        if (toRemove == null) throw new NullPointerException();
+        int i = 0;
+        for (int s = head; s != NIL; s = next[s], i++) {
+            if (toRemove.equals(elements[s])) return unlinkAt(s, i);
+        }
+        return null;
+    }
+
+    /**
+     * Removes every element that satisfies the predicate in a single walk
+     * from head to tail, returning each removed slot to the free list as it
+     * goes.
+     *
+     * @param filter predicate selecting the elements to remove
+     * @return {@code true} if any element was removed
+     * @throws NullPointerException if {@code filter} is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) throw new NullPointerException();
+        int before = size;
+        int i = 0;
+        for (int s = head; s != NIL; ) {
+            int n = next[s];
+            if (filter.test((E) elements[s])) unlinkAt(s, i);
+            else i++;
+            s = n;
+        }
+        return size != before;
+    }
+
+    /**
+     * Replaces the element at the specified position with the given element.
+     *
+     * @param index index of the element to replace (0-based)
+     * @param toChange the new element (must not be {@code null})
+     * @return the previous element at the specified position
+     * @throws NullPointerException if {@code toChange} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        if (toChange == null) throw new NullPointerException();
+        checkIndex(index);
+        int s = slotAt(index);
+        E old = (E) elements[s];
+        elements[s] = toChange;
+        return old;
+    }
+
+    /**
+     * Returns {@code true} if the list contains no elements.
+     *
+     * @return {@code true} if empty; {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified element.
+     *
+     * @param toFind element whose presence is to be tested (must not be {@code null})
+     * @return {@code true} if the element is present
+     * @throws NullPointerException if {@code toFind} is {@code null}
+     */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) throw new NullPointerException();
+        for (int s = head; s != NIL; s = next[s]) {
+            if (toFind.equals(elements[s])) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns an array containing all elements in list order.
+     *
+     * @return an {@code Object[]} of length {@code size} containing list elements
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] arr = new Object[size];
+        int i = 0;
+        for (int s = head; s != NIL; s = next[s]) arr[i++] = elements[s];
+        return arr;
+    }
+
+    /**
+     * Returns an array containing all elements in list order; the runtime
+     * type of the returned array is that of {@code toHold}.
+     *
+     * @param toHold the array into which elements are stored, if large enough
+     * @return an array containing the list elements
+     * @throws NullPointerException if {@code toHold} is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException();
+        if (toHold.length < size) {
+            toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+        }
+        int i = 0;
+        for (int s = head; s != NIL; s = next[s]) toHold[i++] = (E) elements[s];
+        if (toHold.length > size) toHold[size] = null;
+        return toHold;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence
+     * (from head to tail).
+     *
+     * @return iterator that traverses the list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new IndexedDLLIterator();
+    }
+
+    /**
+     * Copies {@code length} elements starting at {@code srcIndex} into
+     * {@code dest}, following the links once from the start of the range.
+     *
+     * @param srcIndex index of the first element to copy
+     * @param dest     array to copy into
+     * @param destPos  first index of dest to write
+     * @param length   number of elements to copy
+     * @throws NullPointerException      if dest is null
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    @Override
+    public void copyTo(int srcIndex, Object[] dest, int destPos, int length) {
+        if (dest == null) throw new NullPointerException();
+        if (srcIndex < 0 || length < 0 || srcIndex > size - length
+                || destPos < 0 || destPos > dest.length - length)
+            throw new IndexOutOfBoundsException("Range: " + srcIndex + ", " + destPos + ", " + length);
+        if (length == 0) return;
+        int s = slotAt(srcIndex);
+        for (int end = destPos + length; destPos < end; destPos++, s = next[s]) {
+            dest[destPos] = elements[s];
+        }
+    }
+
+    // ADDITIONAL HELPERS
+
+    /**
+     * Inserts the specified element at the front of the list.
+     *
+     * @param item element to add at the head (must not be {@code null})
+     * @throws NullPointerException if {@code item} is {@code null}
+     */
+    public void addFirst(E item) {
+        if (item == null) throw new NullPointerException();
+        int s = allocate(item);
+        prev[s] = NIL;
+        next[s] = head;
+        if (head == NIL) tail = s;
+        else prev[head] = s;
+        head = s;
+        size++;
+        fingerIndex++;
+    }
+
+    /**
+     * Appends the specified element at the end of the list.
+     *
+     * @param item element to add at the tail (must not be {@code null})
+     * @throws NullPointerException if {@code item} is {@code null}
+     */
+    public void addLast(E item) {
+        if (item == null) throw new NullPointerException();
+        int s = allocate(item);
+        next[s] = NIL;
+        prev[s] = tail;
+        if (tail == NIL) head = s;
+        else next[tail] = s;
+        tail = s;
+        size++;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * @return the removed element, or {@code null} if the list is empty
+     */
+    public E removeFirst() {
+        if (head == NIL) return null;
+        return unlinkAt(head, 0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * @return the removed element, or {@code null} if the list is empty
+     */
+    public E removeLast() {
+        if (tail == NIL) return null;
+        return unlinkAt(tail, size - 1);
+    }
+
+    // INTERNAL HELPERS
+
+    /**
+     * Takes a slot from the free list, or the next never-used slot, growing
+     * the arrays when neither exists, and stores the element in it.
+     */
+    private int allocate(E item) {
+        int s;
+        if (freeHead != NIL) {
+            s = freeHead;
+            freeHead = next[s];
+        } else {
+            if (used == elements.length) ensureCapacity(used + 1);
+            s = used++;
+        }
+        elements[s] = item;
+        return s;
+    }
+
+    /**
+     * Grows the three backing arrays together to hold at least
+     * {@code minCapacity} slots.
+     */
+    private void ensureCapacity(int minCapacity) {
+        int capacity = elements.length;
+        if (minCapacity <= capacity) return;
+        int newCapacity = capacity + (capacity >> 1) + 1;
+        if (newCapacity < minCapacity) newCapacity = minCapacity;
+        elements = Arrays.copyOf(elements, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+        prev = Arrays.copyOf(prev, newCapacity);
+    }
+
+    /**
+     * Returns the slot at the specified index by walking from the nearest of
+     * head, tail and the finger, then moves the finger to that slot.
+     *
+     * Precondition: index should be in range 0..size-1 (caller is expected to check).
+     */
+    private int slotAt(int index) {
+        int s;
+        int from;
+        int toTail = size - 1 - index;
+        if (index <= toTail) {
+            s = head;
+            from = 0;
+        } else {
+            s = tail;
+            from = size - 1;
+        }
+        if (finger != NIL && Math.abs(index - fingerIndex) < Math.min(index, toTail)) {
+            s = finger;
+            from = fingerIndex;
+        }
+        for (; from < index; from++) s = next[s];
+        for (; from > index; from--) s = prev[s];
+        finger = s;
+        fingerIndex = index;
+        return s;
+    }
+
+    /**
+     * Unlinks the slot at a known index, returns it to the free list and
+     * keeps the finger valid.
+     */
+    @SuppressWarnings("unchecked")
+    private E unlinkAt(int s, int index) {
+        int p = prev[s];
+        int n = next[s];
+        if (p != NIL) next[p] = n;
+        else head = n;
+        if (n != NIL) prev[n] = p;
+        else tail = p;
+
+        E val = (E) elements[s];
+        elements[s] = null;
+        next[s] = freeHead;
+        freeHead = s;
+        size--;
+
+        if (finger != NIL) {
+            if (fingerIndex == index) finger = n;
+            else if (fingerIndex > index) fingerIndex--;
+        }
+        return val;
+    }
+
+    /**
+     * Checks that the provided index is valid for accessing elements.
+     *
+     * @param index index to validate
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= size}
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    // ITERATOR IMPLEMENTATION
+
+    /**
+     * Iterator that follows the {@code next} links from head to tail.
+     */
+    private class IndexedDLLIterator implements Iterator<E> {
+        private int current = head;
+
+        @Override
+        public boolean hasNext() {
+            return current != NIL;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (current == NIL) throw new NoSuchElementException();
+            E val = (E) elements[current];
+            current = next[current];
+            return val;
+        }
+    }
+}
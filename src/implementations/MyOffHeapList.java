@@ -0,0 +1,468 @@
+package implementations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.RecordCodec;
+
+/**
+ * A list of fixed-width records stored off the Java heap.
+ * <p>
+ * Records live in direct {@link ByteBuffer} segments of a power-of-two
+ * number of records each, so record {@code i} is at segment
+ * {@code i >>> shift}, byte offset {@code (i & mask) * width}. The garbage
+ * collector sees only a handful of segment objects however many records the
+ * list holds, which keeps large index structures (line tables, tag offset
+ * tapes) out of GC marking and copying.
+ * </p>
+ * <p>
+ * Values are converted by a {@link RecordCodec}. Besides the codec-based
+ * {@link #add(Object)}, {@link #get(int)} and {@link #set(int, Object)}, the
+ * list offers unboxed field access ({@link #getInt(int, int)},
+ * {@link #putLong(int, int, long)} and friends) for records that are small
+ * structs, with {@link #addRecord()} to append one. {@link #copy(int,
+ * MyOffHeapList, int, int)} moves ranges of records as raw bytes, one
+ * segment-sized run at a time.
+ * </p>
+ * <p>
+ * The native memory is released by {@link #close()}; any use of the list
+ * after that throws {@link IllegalStateException}. A list that is never
+ * closed is freed when its segments are garbage collected, as with any
+ * direct buffer.
+ * </p>
+ *
+ * @param <E> the type of value each record encodes
+ */
+public class MyOffHeapList<E> implements AutoCloseable {
+
+    /** Default segment size in bytes. */
+    private static final int DEFAULT_SEGMENT_BYTES = 1 << 20;
+
+    private final RecordCodec<E> codec;
+    private final int width;
+
+    /** log2 of the number of records per segment. */
+    private final int shift;
+    private final int mask;
+
+    private ByteBuffer[] segments = new ByteBuffer[4];
+    private int segmentCount;
+    private int size;
+    private boolean closed;
+
+    /**
+     * Creates an empty list with 1 MB segments.
+     *
+     * @param codec converts values to and from records
+     * @throws NullPointerException if codec is null
+     */
+    public MyOffHeapList(RecordCodec<E> codec) {
+        this(codec, DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * Creates an empty list whose segments hold the largest power-of-two
+     * number of records that fits in {@code segmentBytes} (at least one).
+     *
+     * @param codec        converts values to and from records
+     * @param segmentBytes target size of each native segment
+     * @throws NullPointerException     if codec is null
+     * @throws IllegalArgumentException if segmentBytes or the codec width is
+     *                                  not positive
+     */
+    public MyOffHeapList(RecordCodec<E> codec, int segmentBytes) {
+        if (codec == null)
+            throw new NullPointerException("Codec cannot be null");
+        if (segmentBytes <= 0)
+            throw new IllegalArgumentException("Illegal segment size: " + segmentBytes);
+        int w = codec.width();
+        if (w <= 0)
+            throw new IllegalArgumentException("Illegal record width: " + w);
+
+        this.codec = codec;
+        this.width = w;
+        int records = Integer.highestOneBit(Math.max(1, segmentBytes / w));
+        this.shift = Integer.numberOfTrailingZeros(records);
+        this.mask = records - 1;
+    }
+
+    // ------------------ Codec access ------------------
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param toAdd the value to add
+     * @return true when successfully added
+     * @throws NullPointerException if toAdd is null
+     */
+    public boolean add(E toAdd) throws NullPointerException {
+        if (toAdd == null)
+            throw new NullPointerException("Cannot add null element");
+        int index = addRecord();
+        codec.write(segments[index >>> shift], offset(index), toAdd);
+        return true;
+    }
+
+    /**
+     * Decodes the record at a given index.
+     *
+     * @param index index of the record
+     * @return the decoded value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return codec.read(segments[index >>> shift], offset(index));
+    }
+
+    /**
+     * Overwrites the record at a given index.
+     *
+     * @param index    the index to replace
+     * @param toChange the new value
+     * @return the old value
+     * @throws NullPointerException      if toChange is null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        if (toChange == null)
+            throw new NullPointerException();
+        checkIndex(index);
+        ByteBuffer segment = segments[index >>> shift];
+        int offset = offset(index);
+        E old = codec.read(segment, offset);
+        codec.write(segment, offset, toChange);
+        return old;
+    }
+
+    /**
+     * Removes and returns the last record. Its segment is kept for reuse.
+     *
+     * @return the removed value, or {@code null} if the list is empty
+     */
+    public E removeLast() {
+        ensureOpen();
+        if (size == 0)
+            return null;
+        E last = get(size - 1);
+        size--;
+        return last;
+    }
+
+    // ------------------ Unboxed field access ------------------
+
+    /**
+     * Appends one zero-filled record, to be filled in with the
+     * {@code put*} methods.
+     *
+     * @return the index of the new record
+     */
+    public int addRecord() {
+        ensureOpen();
+        if (size == Integer.MAX_VALUE)
+            throw new IllegalStateException("List exceeds maximum size");
+        int index = size;
+        int seg = index >>> shift;
+        if (seg == segmentCount)
+            addSegment();
+        else
+            zero(segments[seg], offset(index), width);
+        size++;
+        return index;
+    }
+
+    /**
+     * Reads an int field of a record.
+     *
+     * @param index       index of the record
+     * @param fieldOffset byte offset of the field within the record
+     * @return the field value
+     * @throws IndexOutOfBoundsException if index or the field is out of range
+     */
+    public int getInt(int index, int fieldOffset) {
+        checkField(index, fieldOffset, Integer.BYTES);
+        return segments[index >>> shift].getInt(offset(index) + fieldOffset);
+    }
+
+    /**
+     * Writes an int field of a record.
+     *
+     * @param index       index of the record
+     * @param fieldOffset byte offset of the field within the record
+     * @param value       the new field value
+     * @throws IndexOutOfBoundsException if index or the field is out of range
+     */
+    public void putInt(int index, int fieldOffset, int value) {
+        checkField(index, fieldOffset, Integer.BYTES);
+        segments[index >>> shift].putInt(offset(index) + fieldOffset, value);
+    }
+
+    /**
+     * Reads a long field of a record.
+     *
+     * @param index       index of the record
+     * @param fieldOffset byte offset of the field within the record
+     * @return the field value
+     * @throws IndexOutOfBoundsException if index or the field is out of range
+     */
+    public long getLong(int index, int fieldOffset) {
+        checkField(index, fieldOffset, Long.BYTES);
+        return segments[index >>> shift].getLong(offset(index) + fieldOffset);
+    }
+
+    /**
+     * Writes a long field of a record.
+     *
+     * @param index       index of the record
+     * @param fieldOffset byte offset of the field within the record
+     * @param value       the new field value
+     * @throws IndexOutOfBoundsException if index or the field is out of range
+     */
+    public void putLong(int index, int fieldOffset, long value) {
+        checkField(index, fieldOffset, Long.BYTES);
+        segments[index >>> shift].putLong(offset(index) + fieldOffset, value);
+    }
+
+    // ------------------ Bulk copy ------------------
+
+    /**
+     * Copies {@code length} records from this list, starting at
+     * {@code srcIndex}, into {@code dest} starting at {@code destIndex}, as
+     * raw bytes. Records past the end of {@code dest} are appended, so
+     * {@code destIndex == dest.size()} extends {@code dest}. The two lists
+     * may have different segment sizes but must have the same record width.
+     *
+     * @param srcIndex  first record to copy from this list
+     * @param dest      the list to copy into; may be this list if the two
+     *                  ranges do not overlap
+     * @param destIndex first record to overwrite in dest
+     * @param length    number of records to copy
+     * @throws NullPointerException      if dest is null
+     * @throws IllegalArgumentException  if the record widths differ, or dest
+     *                                   is this list and the ranges overlap
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public void copy(int srcIndex, MyOffHeapList<E> dest, int destIndex, int length) {
+        if (dest == null)
+            throw new NullPointerException("Destination cannot be null");
+        ensureOpen();
+        dest.ensureOpen();
+        if (dest.width != width)
+            throw new IllegalArgumentException("Record widths differ: " + width + " vs " + dest.width);
+        if (length < 0 || srcIndex < 0 || srcIndex > size - length)
+            throw new IndexOutOfBoundsException("Source range: " + srcIndex + "+" + length);
+        if (destIndex < 0 || destIndex > dest.size || destIndex > Integer.MAX_VALUE - length)
+            throw new IndexOutOfBoundsException("Destination index: " + destIndex);
+        if (dest == this && srcIndex < destIndex + length && destIndex < srcIndex + length && length > 0)
+            throw new IllegalArgumentException("Overlapping ranges within one list");
+
+        dest.ensureSize(destIndex + length);
+        int s = srcIndex;
+        int d = destIndex;
+        int remaining = length;
+        while (remaining > 0) {
+            // Largest run that stays inside one source and one destination segment
+            int run = Math.min(remaining,
+                    Math.min(mask + 1 - (s & mask), dest.mask + 1 - (d & dest.mask)));
+            ByteBuffer from = segments[s >>> shift].duplicate();
+            int fromOffset = offset(s);
+            from.limit(fromOffset + run * width).position(fromOffset);
+            ByteBuffer to = dest.segments[d >>> dest.shift].duplicate();
+            to.position(dest.offset(d));
+            to.put(from);
+            s += run;
+            d += run;
+            remaining -= run;
+        }
+    }
+
+    /**
+     * Appends every record of another list, as raw bytes.
+     *
+     * @param other the list to append
+     * @return true when successful
+     * @throws NullPointerException     if other is null
+     * @throws IllegalArgumentException if the record widths differ
+     */
+    public boolean addAll(MyOffHeapList<E> other) {
+        if (other == null)
+            throw new NullPointerException();
+        other.copy(0, this, size, other.size);
+        return true;
+    }
+
+    // ------------------ List state ------------------
+
+    /**
+     * @return the number of records
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this list has no records
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all records. The segments are kept for reuse; call
+     * {@link #close()} to release them.
+     */
+    public void clear() {
+        ensureOpen();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of native bytes held by this list's segments.
+     *
+     * @return reserved off-heap bytes, or 0 once closed
+     */
+    public long reservedBytes() {
+        return (long) segmentCount * (mask + 1) * width;
+    }
+
+    /**
+     * Returns an iterator that decodes records from index 0 upward.
+     *
+     * @return an iterator
+     */
+    public Iterator<E> iterator() {
+        ensureOpen();
+        return new Iterator<E>() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return get(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Releases the native memory of every segment. Calling this more than
+     * once has no further effect.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        for (int i = 0; i < segmentCount; i++) {
+            Deallocator.free(segments[i]);
+            segments[i] = null;
+        }
+        segmentCount = 0;
+        size = 0;
+    }
+
+    // ------------------ Helper Methods ------------------
+
+    private int offset(int index) {
+        return (index & mask) * width;
+    }
+
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException("List is closed");
+    }
+
+    private void checkIndex(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    private void checkField(int index, int fieldOffset, int fieldWidth) {
+        checkIndex(index);
+        if (fieldOffset < 0 || fieldOffset > width - fieldWidth)
+            throw new IndexOutOfBoundsException("Field offset: " + fieldOffset);
+    }
+
+    /**
+     * Grows the list to {@code newSize} records, allocating segments as
+     * needed. New records are not cleared; callers overwrite them.
+     */
+    private void ensureSize(int newSize) {
+        if (newSize <= size)
+            return;
+        while (((long) segmentCount << shift) < newSize)
+            addSegment();
+        size = newSize;
+    }
+
+    private void addSegment() {
+        if (segmentCount == segments.length)
+            segments = Arrays.copyOf(segments, segmentCount * 2);
+        segments[segmentCount++] =
+                ByteBuffer.allocateDirect((mask + 1) * width).order(ByteOrder.nativeOrder());
+    }
+
+    private static void zero(ByteBuffer segment, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        for (; i + Long.BYTES <= end; i += Long.BYTES)
+            segment.putLong(i, 0L);
+        for (; i < end; i++)
+            segment.put(i, (byte) 0);
+    }
+
+    /**
+     * Frees a direct buffer immediately instead of waiting for the garbage
+     * collector. Uses {@code sun.misc.Unsafe.invokeCleaner} on Java 9+ and
+     * the buffer's own cleaner on Java 8; if neither is reachable the buffer
+     * is simply dropped and freed by GC.
+     */
+    private static final class Deallocator {
+        private static final Object UNSAFE;
+        private static final Method INVOKE_CLEANER;
+
+        static {
+            Object unsafe = null;
+            Method invoke = null;
+            try {
+                Class<?> type = Class.forName("sun.misc.Unsafe");
+                Field field = type.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                unsafe = field.get(null);
+                invoke = type.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                unsafe = null;
+                invoke = null;
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invoke;
+        }
+
+        static void free(ByteBuffer buffer) {
+            try {
+                if (INVOKE_CLEANER != null) {
+                    INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                    return;
+                }
+                // Java 8: DirectByteBuffer.cleaner().clean()
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null)
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // Not reachable on this VM; the GC frees the buffer instead
+            }
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package implementations;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import exceptions.EmptyQueueException;
+import utilities.BulkSource;
 import utilities.Iterator;
 import utilities.QueueADT;
 
@@ -9,7 +16,7 @@ import utilities.QueueADT;
  *
  * @param <e> the type of elements stored in the queue
  */
-public class MyQueue<e> implements QueueADT<e> {
+public class MyQueue<e> implements QueueADT<e>, BulkSource<e> {
 
     /**
      * Node class representing an element in the linked list.
@@ -29,7 +36,9 @@ public class MyQueue<e> implements QueueADT<e> {
 
     /**
      * Copy constructor — creates a new queue containing the same elements
-     * as another queue.
+     * as another queue. The new nodes are linked directly as the source is
+     * read, walking another {@code MyQueue}'s nodes without an iterator, so
+     * the copy allocates nothing beyond its own nodes.
      *
      * @param other the queue to copy from
      * @throws NullPointerException if the provided queue is null
@@ -42,10 +51,26 @@ public class MyQueue<e> implements QueueADT<e> {
         this.rear = null;
         this.size = 0;
 
-        Iterator<e> it = other.iterator();
-        while (it.hasNext()) {
-            this.enqueue(it.next());
+        Node tail = null;
+        int n = 0;
+        if (other instanceof MyQueue) {
+            for (Node cur = ((MyQueue<e>) other).front; cur != null; cur = cur.next, n++) {
+                Node node = new Node(cur.data);
+                if (tail == null) front = node;
+                else tail.next = node;
+                tail = node;
+            }
+        } else {
+            Iterator<e> it = other.iterator();
+            for (; it.hasNext(); n++) {
+                Node node = new Node(it.next());
+                if (tail == null) front = node;
+                else tail.next = node;
+                tail = node;
+            }
         }
+        rear = tail;
+        size = n;
     }
 
     /**
@@ -206,9 +231,102 @@ public class MyQueue<e> implements QueueADT<e> {
                 current = current.next;
                 return data;
             }
+
+            @Override
+            public void forEachRemaining(Consumer<? super e> action) {
+                if (action == null)
+                    throw new NullPointerException();
+                Node from = current;
+                current = null;
+                forEachFrom(from, action);
+            }
+        };
+    }
+
+    /**
+     * Performs the given action on each element from front to rear,
+     * following the node links directly instead of going through an
+     * iterator.
+     *
+     * @param action the action to perform
+     * @throws NullPointerException if action is null
+     */
+    public void forEach(Consumer<? super e> action) throws NullPointerException {
+        if (action == null)
+            throw new NullPointerException();
+        forEachFrom(front, action);
+    }
+
+    /**
+     * Returns a spliterator over the queue from front to rear. It walks the
+     * nodes directly and splits by copying batches of elements into arrays.
+     * The queue must not be modified while the spliterator is in use.
+     *
+     * @return a {@code SIZED}, {@code ORDERED}, {@code NONNULL} spliterator
+     */
+    public Spliterator<e> spliterator() {
+        return new Spliterators.AbstractSpliterator<e>(size,
+                Spliterator.SIZED | Spliterator.ORDERED | Spliterator.NONNULL) {
+            Node current = front;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super e> action) {
+                if (action == null)
+                    throw new NullPointerException();
+                if (current == null)
+                    return false;
+                e data = current.data;
+                current = current.next;
+                action.accept(data);
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super e> action) {
+                if (action == null)
+                    throw new NullPointerException();
+                Node from = current;
+                current = null;
+                forEachFrom(from, action);
+            }
         };
     }
 
+    /**
+     * Returns a {@code java.util.Queue} view of this queue. {@code offer},
+     * {@code poll} and {@code peek} go straight to the queue operations;
+     * nothing is copied.
+     *
+     * @return a live queue view
+     */
+    public java.util.Queue<e> asQueue() {
+        return new QueueView<>(this);
+    }
+
+    /**
+     * Returns a sequential stream over the queue from front to rear.
+     *
+     * @return a stream backed by {@link #spliterator()}
+     */
+    public Stream<e> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the queue from front to rear.
+     *
+     * @return a parallel stream backed by {@link #spliterator()}
+     */
+    public Stream<e> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    private void forEachFrom(Node node, Consumer<? super e> action) {
+        for (; node != null; node = node.next) {
+            action.accept(node.data);
+        }
+    }
+
     /**
      * Checks if this queue is equal to another queue.
      *
@@ -275,6 +393,32 @@ public class MyQueue<e> implements QueueADT<e> {
         return holder;
     }
 
+    /**
+     * Copies {@code length} elements, counted from the front of the queue
+     * starting at {@code srcIndex}, into {@code dest}.
+     *
+     * @param srcIndex position from the front of the first element to copy
+     * @param dest     array to copy into
+     * @param destPos  first index of dest to write
+     * @param length   number of elements to copy
+     * @throws NullPointerException      if dest is null
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    @Override
+    public void copyTo(int srcIndex, Object[] dest, int destPos, int length) {
+        if (dest == null)
+            throw new NullPointerException();
+        if (srcIndex < 0 || length < 0 || srcIndex > size - length
+                || destPos < 0 || destPos > dest.length - length)
+            throw new IndexOutOfBoundsException("Range: " + srcIndex + ", " + destPos + ", " + length);
+
+        Node current = front;
+        for (int i = 0; i < srcIndex; i++)
+            current = current.next;
+        for (int end = destPos + length; destPos < end; destPos++, current = current.next)
+            dest[destPos] = current.data;
+    }
+
     /**
      * Checks if the queue is full.
      * Linked-list queues can never be full.
@@ -0,0 +1,596 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import utilities.BulkSource;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * A list built from fixed-size chunks held in a directory array.
+ * <p>
+ * Element {@code i} lives in chunk {@code i >>> shift} at slot
+ * {@code i & mask}, so indexed access is O(1) with no search. Appending
+ * never copies elements: when the last chunk is full one new chunk is
+ * allocated, and only the directory (one reference per chunk) is ever
+ * resized. That avoids both the multi-hundred-megabyte copy and the
+ * transient 1.5&times; footprint that {@link MyArrayList} pays when it
+ * doubles a huge array.
+ * </p>
+ * <p>
+ * Because the size is a {@code long}, the list can hold more than
+ * {@code Integer.MAX_VALUE} elements. The {@code long}-indexed methods
+ * ({@link #get(long)}, {@link #set(long, Object)}, {@link #add(long, Object)},
+ * {@link #remove(long)}, {@link #sizeLong()}) address the whole list; the
+ * {@link ListADT} methods take {@code int} indices and {@link #size()} is
+ * capped at {@code Integer.MAX_VALUE}. Middle inserts and removes shift the
+ * later elements chunk by chunk and are O(n), as in {@link MyArrayList}.
+ * </p>
+ * <p>
+ * When removals leave two whole chunks unused at the end, the last one is
+ * released, so a shrinking list gives memory back without thrashing at a
+ * chunk boundary. Null elements are not permitted.
+ * </p>
+ *
+ * @param <E> type of elements stored in the list
+ */
+public class MySegmentedList<E> implements ListADT<E>, BulkSource<E> {
+
+    /** Default chunk size: 2^12 = 4096 elements. */
+    private static final int DEFAULT_CHUNK_SHIFT = 12;
+
+    private final int shift;
+    private final int chunkSize;
+    private final int mask;
+
+    private Object[][] chunks = new Object[4][];
+    private int chunkCount;
+    private long size;
+
+    /**
+     * Constructs an empty list with 4096-element chunks.
+     */
+    public MySegmentedList() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Constructs an empty list with chunks of {@code 2^chunkShift} elements.
+     *
+     * @param chunkShift log2 of the chunk size, from 1 to 30
+     * @throws IllegalArgumentException if chunkShift is out of range
+     */
+    public MySegmentedList(int chunkShift) {
+        if (chunkShift < 1 || chunkShift > 30)
+            throw new IllegalArgumentException("Illegal chunk shift: " + chunkShift);
+        shift = chunkShift;
+        chunkSize = 1 << chunkShift;
+        mask = chunkSize - 1;
+    }
+
+    // ------------------ long-indexed access ------------------
+
+    /**
+     * Returns the number of elements, which may exceed
+     * {@code Integer.MAX_VALUE}.
+     *
+     * @return the exact element count
+     */
+    public long sizeLong() {
+        return size;
+    }
+
+    /**
+     * Gets the element at a specified index.
+     *
+     * @param index index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return (E) chunks[(int) (index >>> shift)][(int) index & mask];
+    }
+
+    /**
+     * Replaces the element at a given index.
+     *
+     * @param index    the index to replace
+     * @param toChange the new element
+     * @return the old element
+     * @throws NullPointerException      if toChange is null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E set(long index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        if (toChange == null) throw new NullPointerException();
+        checkIndex(index);
+        Object[] chunk = chunks[(int) (index >>> shift)];
+        int slot = (int) index & mask;
+        E old = (E) chunk[slot];
+        chunk[slot] = toChange;
+        return old;
+    }
+
+    /**
+     * Inserts an element at the specified index, shifting later elements up
+     * by one.
+     *
+     * @param index position to insert, from 0 to {@link #sizeLong()}
+     * @param toAdd element to insert
+     * @return true when successfully added
+     * @throws NullPointerException      if toAdd is null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean add(long index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null)
+            throw new NullPointerException("Cannot add null element");
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index);
+
+        append(toAdd);
+        if (index == size - 1)
+            return true;
+
+        // Shift [index, size - 1) up by one, last chunk first
+        int first = (int) (index >>> shift);
+        int last = (int) ((size - 1) >>> shift);
+        for (int c = last; c > first; c--) {
+            Object[] chunk = chunks[c];
+            int used = c == last ? (int) ((size - 1) & mask) : mask;
+            System.arraycopy(chunk, 0, chunk, 1, used);
+            chunk[0] = chunks[c - 1][mask];
+        }
+        Object[] chunk = chunks[first];
+        int slot = (int) index & mask;
+        int end = first == last ? (int) ((size - 1) & mask) : mask;
+        System.arraycopy(chunk, slot, chunk, slot + 1, end - slot);
+        chunk[slot] = toAdd;
+        return true;
+    }
+
+    /**
+     * Removes and returns the element at a given index, shifting later
+     * elements down by one.
+     *
+     * @param index position to remove
+     * @return removed element
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(long index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        int first = (int) (index >>> shift);
+        int last = (int) ((size - 1) >>> shift);
+        Object[] chunk = chunks[first];
+        int slot = (int) index & mask;
+        E removed = (E) chunk[slot];
+
+        int end = first == last ? (int) ((size - 1) & mask) : mask;
+        System.arraycopy(chunk, slot + 1, chunk, slot, end - slot);
+        for (int c = first + 1; c <= last; c++) {
+            Object[] next = chunks[c];
+            chunks[c - 1][mask] = next[0];
+            int used = c == last ? (int) ((size - 1) & mask) : mask;
+            System.arraycopy(next, 1, next, 0, used);
+        }
+        chunks[last][(int) ((size - 1) & mask)] = null;
+        size--;
+        releaseSpareChunk();
+        return removed;
+    }
+
+    // ------------------ ListADT ------------------
+
+    /**
+     * Returns the number of elements, capped at {@code Integer.MAX_VALUE};
+     * see {@link #sizeLong()} for the exact count.
+     *
+     * @return the element count
+     */
+    @Override
+    public int size() {
+        return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+    }
+
+    /**
+     * Removes all elements and releases every chunk.
+     */
+    @Override
+    public void clear() {
+        chunks = new Object[4][];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Inserts an element at the specified index.
+     *
+     * @param index position to insert
+     * @param toAdd element to insert
+     * @return true when successfully added
+     * @throws NullPointerException      if toAdd is null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        return add((long) index, toAdd);
+    }
+
+    /**
+     * Appends an element to the end of the list, allocating one new chunk
+     * when the last one is full.
+     *
+     * @param toAdd the element to add
+     * @return true when successfully added
+     * @throws NullPointerException if toAdd is null
+     */
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        if (toAdd == null)
+            throw new NullPointerException("Cannot add null element");
+        append(toAdd);
+        return true;
+    }
+
+    /**
+     * Appends all elements from another list, in order.
+     *
+     * @param toAdd list of elements to add
+     * @return true when successful
+     * @throws NullPointerException if toAdd or one of its elements is null
+     */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException();
+        // Fix the count first: toAdd may be this list
+        int n = toAdd.size();
+        if (toAdd instanceof BulkSource) {
+            // Fill the free part of each chunk with one bulk copy
+            BulkSource<?> source = (BulkSource<?>) toAdd;
+            for (int read = 0; read < n; ) {
+                int slot = (int) size & mask;
+                int k = Math.min(chunkSize - slot, n - read);
+                source.copyTo(read, chunkFor(size), slot, k);
+                read += k;
+                size += k;
+            }
+            return true;
+        }
+        Iterator<? extends E> it = toAdd.iterator();
+        for (int i = 0; i < n; i++)
+            add(it.next());
+        return true;
+    }
+
+    /**
+     * Gets the element at a specified index.
+     *
+     * @param index index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        return get((long) index);
+    }
+
+    /**
+     * Removes and returns the element at a given index.
+     *
+     * @param index position to remove
+     * @return removed element
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        return remove((long) index);
+    }
+
+    /**
+     * Removes the first occurrence of an element.
+     *
+     * @param toRemove element to remove
+     * @return removed element or null if not found
+     * @throws NullPointerException if toRemove is null
+     */
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        if (toRemove == null) throw new NullPointerException();
+        long index = indexOf(toRemove);
+        return index < 0 ? null : remove(index);
+    }
+
+    /**
+     * Removes every element that satisfies the predicate without copying
+     * the list out. A first pass only tests the elements, one chunk at a
+     * time, and marks the matches in a bit set (one bit per element, an
+     * eighth of a byte against the four or eight of a reference). A second
+     * pass then compacts the survivors in place chunk by chunk, so each one
+     * moves at most once, and releases the trailing chunks that have become
+     * unused. If the predicate throws, only the elements it already selected
+     * are removed. The list keeps no modification count, so a change by the
+     * predicate is detected as a changed size or directory; the list is then
+     * left as the predicate left it.
+     *
+     * @param filter predicate selecting the elements to remove
+     * @return true if any element was removed
+     * @throws NullPointerException if filter is null
+     * @throws ConcurrentModificationException if filter adds or removes elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) throw new NullPointerException();
+        final Object[][] dir = chunks;
+        final long n = size;
+        Object[] chunk = null;
+        long first = 0;
+        for (; first < n; first++) {
+            int slot = (int) first & mask;
+            if (slot == 0 || chunk == null) chunk = dir[(int) (first >>> shift)];
+            boolean drop = filter.test((E) chunk[slot]);
+            if (size != n || chunks != dir) throw new ConcurrentModificationException();
+            if (drop) break;
+        }
+        if (first == n) return false;
+
+        // Bit i stands for the element at first + i
+        final long[] dead = new long[Math.toIntExact(((n - first - 1) >>> 6) + 1)];
+        dead[0] = 1L;
+        long r = first + 1;
+        try {
+            for (; r < n; r++) {
+                int slot = (int) r & mask;
+                if (slot == 0) chunk = dir[(int) (r >>> shift)];
+                boolean drop = filter.test((E) chunk[slot]);
+                if (size != n || chunks != dir) throw new ConcurrentModificationException();
+                if (drop) dead[(int) ((r - first) >>> 6)] |= 1L << (r - first);
+            }
+        } finally {
+            if (size == n && chunks == dir) compact(first, r, dead);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the element at a given index.
+     *
+     * @param index    the index to replace
+     * @param toChange the new element
+     * @return the old element
+     * @throws NullPointerException      if toChange is null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        return set((long) index, toChange);
+    }
+
+    /**
+     * @return true if this list has no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether the list contains a given element.
+     *
+     * @param toFind the element to locate
+     * @return true if found
+     * @throws NullPointerException if toFind is null
+     */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) throw new NullPointerException();
+        return indexOf(toFind) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element, scanning one
+     * chunk at a time.
+     *
+     * @param toFind the element to locate
+     * @return the index, or -1 if not found
+     * @throws NullPointerException if toFind is null
+     */
+    public long indexOf(E toFind) throws NullPointerException {
+        if (toFind == null) throw new NullPointerException();
+        long base = 0;
+        for (int c = 0; base < size; c++, base += chunkSize) {
+            Object[] chunk = chunks[c];
+            int used = (int) Math.min(chunkSize, size - base);
+            for (int i = 0; i < used; i++) {
+                if (toFind.equals(chunk[i]))
+                    return base + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing all elements.
+     *
+     * @return array copy of elements
+     * @throws IllegalStateException if the list holds more elements than an
+     *                               array can
+     */
+    @Override
+    public Object[] toArray() {
+        int n = arraySize();
+        Object[] arr = new Object[n];
+        copyTo(0, arr, 0, n);
+        return arr;
+    }
+
+    /**
+     * Stores elements into the given array.
+     *
+     * @param toHold the array to fill
+     * @return the filled array, or a new array of the same runtime type if
+     *         toHold is too small
+     * @throws NullPointerException  if toHold is null
+     * @throws IllegalStateException if the list holds more elements than an
+     *                               array can
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException();
+        int n = arraySize();
+        if (toHold.length < n)
+            toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), n);
+        copyTo(0, toHold, 0, n);
+        if (toHold.length > n) toHold[n] = null;
+        return toHold;
+    }
+
+    /**
+     * Returns an iterator that walks the list chunk by chunk from index 0.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private long cursor = 0;
+            private Object[] chunk;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (cursor >= size) throw new NoSuchElementException();
+                int slot = (int) cursor & mask;
+                if (slot == 0 || chunk == null)
+                    chunk = chunks[(int) (cursor >>> shift)];
+                cursor++;
+                return (E) chunk[slot];
+            }
+        };
+    }
+
+    /**
+     * Copies {@code length} elements starting at {@code srcIndex} into
+     * {@code dest}, one {@code System.arraycopy} per chunk touched.
+     *
+     * @param srcIndex index of the first element to copy
+     * @param dest     array to copy into
+     * @param destPos  first index of dest to write
+     * @param length   number of elements to copy
+     * @throws NullPointerException      if dest is null
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    @Override
+    public void copyTo(int srcIndex, Object[] dest, int destPos, int length) {
+        checkBulkRange(srcIndex, dest, destPos, length);
+        long pos = srcIndex;
+        while (length > 0) {
+            int slot = (int) pos & mask;
+            int k = Math.min(chunkSize - slot, length);
+            System.arraycopy(chunks[(int) (pos >>> shift)], slot, dest, destPos, k);
+            pos += k;
+            destPos += k;
+            length -= k;
+        }
+    }
+
+    // ------------------ Helper Methods ------------------
+
+    private void append(E toAdd) {
+        chunkFor(size)[(int) size & mask] = toAdd;
+        size++;
+    }
+
+    /**
+     * Compacts the survivors of a {@link #removeIf(Predicate)} pass: the
+     * elements in {@code [first, visited)} whose bit is set in {@code dead}
+     * are dropped and everything after them moves down, one chunk at a
+     * time. The vacated tail is cleared and the unused chunks are released.
+     */
+    private void compact(long first, long visited, long[] dead) {
+        final long oldSize = size;
+        Object[] in = chunks[(int) (first >>> shift)];
+        Object[] out = in;
+        long w = first;
+        for (long i = first + 1; i < oldSize; i++) {
+            int slot = (int) i & mask;
+            if (slot == 0) in = chunks[(int) (i >>> shift)];
+            if (i < visited && (dead[(int) ((i - first) >>> 6)] & (1L << (i - first))) != 0) continue;
+            int ws = (int) w & mask;
+            if (ws == 0) out = chunks[(int) (w >>> shift)];
+            out[ws] = in[slot];
+            w++;
+        }
+        size = w;
+        long needed = (size + mask) >>> shift;
+        while (chunkCount > needed + 1)
+            chunks[--chunkCount] = null;
+        for (long i = w; i < oldSize; ) {
+            int c = (int) (i >>> shift);
+            if (c >= chunkCount) break;
+            int from = (int) i & mask;
+            int to = c == (int) ((oldSize - 1) >>> shift) ? (int) ((oldSize - 1) & mask) + 1 : chunkSize;
+            Arrays.fill(chunks[c], from, to, null);
+            i += to - from;
+        }
+    }
+
+    /**
+     * Returns the chunk that holds {@code index}, allocating it when
+     * {@code index} is the first slot past the last chunk.
+     */
+    private Object[] chunkFor(long index) {
+        int c = (int) (index >>> shift);
+        if (c == chunkCount) {
+            if (c == Integer.MAX_VALUE)
+                throw new IllegalStateException("List exceeds maximum size");
+            if (chunkCount == chunks.length)
+                chunks = Arrays.copyOf(chunks, growDirectory(chunks.length));
+            chunks[chunkCount++] = new Object[chunkSize];
+        }
+        return chunks[c];
+    }
+
+    private static int growDirectory(int length) {
+        int grown = length + (length >> 1) + 1;
+        return grown < 0 ? Integer.MAX_VALUE : grown;
+    }
+
+    /**
+     * Releases the last chunk once the chunk before it is also unused.
+     */
+    private void releaseSpareChunk() {
+        long needed = (size + mask) >>> shift;
+        if (chunkCount > needed + 1)
+            chunks[--chunkCount] = null;
+    }
+
+    private int arraySize() {
+        if (size > Integer.MAX_VALUE - 8)
+            throw new IllegalStateException("List too large for an array: " + size);
+        return (int) size;
+    }
+
+    private void checkBulkRange(int srcIndex, Object[] dest, int destPos, int length) {
+        if (dest == null) throw new NullPointerException();
+        if (srcIndex < 0 || length < 0 || srcIndex > size - length
+                || destPos < 0 || destPos > dest.length - length)
+            throw new IndexOutOfBoundsException("Range: " + srcIndex + ", " + destPos + ", " + length);
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index);
+    }
+}
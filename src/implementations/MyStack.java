@@ -2,6 +2,8 @@ package implementations;
 
 import java.util.EmptyStackException;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import utilities.Iterator;
 import utilities.StackADT;
 
@@ -93,9 +95,7 @@ public class MyStack<E> implements StackADT<E> {
     @Override
     public Object[] toArray() {
         Object[] result = new Object[list.size()];
-        for (int i = 0; i < list.size(); i++) {
-            result[i] = list.get(list.size() - 1 - i);
-        }
+        copyTopFirst(result);
         return result;
     }
 
@@ -121,9 +121,7 @@ public class MyStack<E> implements StackADT<E> {
             result = (E[]) java.lang.reflect.Array.newInstance(
                     holder.getClass().getComponentType(), n);
 
-        for (int i = 0; i < n; i++) {
-            result[i] = list.get(n - 1 - i);
-        }
+        copyTopFirst(result);
 
         if (result.length > n)
             result[n] = null;
@@ -184,9 +182,48 @@ public class MyStack<E> implements StackADT<E> {
                     throw new NoSuchElementException();
                 return list.get(current--);
             }
+
+            @Override
+            public void forEachRemaining(Consumer<? super E> action) {
+                if (action == null)
+                    throw new NullPointerException();
+                int from = current;
+                current = -1;
+                list.forEachDescending(from, action);
+            }
         };
     }
 
+    /**
+     * Performs the given action on each element from top to bottom, in one
+     * loop over the backing array rather than one bounds-checked
+     * {@code get} per element.
+     *
+     * @param action the action to perform
+     * @throws NullPointerException if action is null
+     * @throws java.util.ConcurrentModificationException if action pushes or
+     *         pops
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (action == null)
+            throw new NullPointerException();
+        list.forEachDescending(list.size() - 1, action);
+    }
+
+    /**
+     * Returns a spliterator over the stack from top to bottom. It splits the
+     * backing array by index range, so a parallel stream over a large stack
+     * divides it evenly without copying.
+     *
+     * @return a {@code SIZED}, {@code SUBSIZED}, {@code ORDERED},
+     *         {@code NONNULL} spliterator
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return list.descendingSpliterator();
+    }
+
     /**
      * Compares this stack to another stack for equality.
      *
@@ -233,4 +270,29 @@ public class MyStack<E> implements StackADT<E> {
     public boolean stackOverflow() {
         return false;
     }
+
+    /**
+     * Returns a {@code java.util.Deque} view of this stack whose head is the
+     * top of the stack. {@code push}, {@code pop} and {@code peek} on the
+     * view are the stack operations; nothing is copied.
+     *
+     * @return a live deque view
+     */
+    public java.util.Deque<E> asDeque() {
+        return new StackDequeView<>(list);
+    }
+
+    /**
+     * Copies the stack into the start of {@code dest}, top first: one bulk
+     * copy out of the backing list, then an in-place reversal.
+     */
+    private void copyTopFirst(Object[] dest) {
+        int n = list.size();
+        list.copyTo(0, dest, 0, n);
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            Object tmp = dest[i];
+            dest[i] = dest[j];
+            dest[j] = tmp;
+        }
+    }
 }
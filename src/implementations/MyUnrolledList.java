@@ -0,0 +1,667 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import utilities.BulkSource;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Unrolled doubly-linked list: each node holds a small array of elements
+ * instead of a single one.
+ * <p>
+ * With up to {@value #NODE_CAPACITY} elements per node, the per-element cost
+ * of a {@link MyDLLNode} (object header plus three references) shrinks to
+ * one array slot plus a share of one node, and traversal, {@code contains}
+ * and {@code toArray} read contiguous arrays instead of chasing one pointer
+ * per element. Head and tail operations stay O(1): they touch only the
+ * first or last node, shifting at most {@value #NODE_CAPACITY} slots.
+ * </p>
+ * <p>
+ * A full node is split in half before an insert into it. A node that drops
+ * below a quarter full after a remove is merged with its successor when
+ * both fit in one node, and otherwise borrows from it to even out the two.
+ * Indexed operations walk node by node from the nearer end, which is
+ * {@value #NODE_CAPACITY} times fewer steps than {@link MyDLL}. Null
+ * elements are not permitted.
+ * </p>
+ *
+ * @param <E> element type
+ */
+public class MyUnrolledList<E> implements ListADT<E>, BulkSource<E> {
+
+    /** Maximum number of elements stored in one node. */
+    static final int NODE_CAPACITY = 64;
+    /** A node with fewer elements than this after a remove is rebalanced. */
+    private static final int MIN_FILL = NODE_CAPACITY / 4;
+
+    /** One block of up to {@link #NODE_CAPACITY} elements. */
+    private static final class Node {
+        final Object[] items = new Object[NODE_CAPACITY];
+        int count;
+        Node prev;
+        Node next;
+    }
+
+    /** First node; {@code null} when the list is empty. */
+    private Node head;
+    /** Last node; {@code null} when the list is empty. */
+    private Node tail;
+    /** Number of elements currently stored in the list. */
+    private int size;
+
+    /** Node found by the last {@link #locate(int)} call. */
+    private Node foundNode;
+    /** Offset within {@link #foundNode} found by the last {@link #locate(int)} call. */
+    private int foundOffset;
+
+    /**
+     * Constructs an empty {@code MyUnrolledList}.
+     */
+    public MyUnrolledList() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    // ListADT METHODS
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the size of the list (>= 0)
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements from the list, unlinking every node.
+     */
+    @Override
+    public void clear() {
+        Node cur = head;
+        while (cur != null) {
+            Node next = cur.next;
+            cur.prev = null;
+            cur.next = null;
+            cur = next;
+        }
+        head = tail = null;
+        foundNode = null;
+        size = 0;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list,
+     * splitting the target node first if it is full.
+     *
+     * @param index position at which to insert (0-based, may equal {@code size} to append)
+     * @param toAdd element to insert
+     * @return {@code true} if addition succeeded
+     * @throws NullPointerException if {@code toAdd} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) throw new NullPointerException();
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index);
+
+        if (index == size) {
+            addLast(toAdd);
+            return true;
+        }
+        locate(index);
+        Node node = foundNode;
+        int offset = foundOffset;
+        if (node.count == NODE_CAPACITY) {
+            Node upper = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = upper;
+            }
+        }
+        insertAt(node, offset, toAdd);
+        return true;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param toAdd element to append (must not be {@code null})
+     * @return {@code true} if added
+     * @throws NullPointerException if {@code toAdd} is {@code null}
+     */
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        addLast(toAdd);
+        return true;
+    }
+
+    /**
+     * Appends all elements of {@code toAdd} to the end of this list.
+     *
+     * @param toAdd list whose elements are appended
+     * @return {@code true} once all elements are appended
+     * @throws NullPointerException if {@code toAdd} or one of its elements is {@code null}
+     */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException();
+        // Fix the count first: toAdd may be this list
+        int n = toAdd.size();
+        if (toAdd instanceof BulkSource) {
+            // Fill the tail node, then whole new nodes, one bulk copy each
+            BulkSource<?> source = (BulkSource<?>) toAdd;
+            for (int read = 0; read < n; ) {
+                if (tail == null || tail.count == NODE_CAPACITY) linkLast(new Node());
+                int k = Math.min(NODE_CAPACITY - tail.count, n - read);
+                source.copyTo(read, tail.items, tail.count, k);
+                tail.count += k;
+                size += k;
+                read += k;
+            }
+            return true;
+        }
+        Iterator<? extends E> it = toAdd.iterator();
+        for (int i = 0; i < n; i++) {
+            addLast(it.next());
+        }
+        return true;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of element to return (0-based)
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if {@code index} is out of range {@code 0 <= index < size}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        locate(index);
+        return (E) foundNode.items[foundOffset];
+    }
+
+    /**
+     * Removes the element at the specified position in this list and returns it.
+     *
+     * @param index index of the element to remove (0-based)
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if {@code index} is out of range {@code 0 <= index < size}
+     */
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        locate(index);
+        return removeAt(foundNode, foundOffset);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if present.
+     *
+     * @param toRemove the element to remove (must not be {@code null})
+     * @return the removed element if found, or {@code null} if not present
+     * @throws NullPointerException if {@code toRemove} is {@code null}
+     */
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        if (toRemove == null) throw new NullPointerException();
+        for (Node node = head; node != null; node = node.next) {
+            Object[] items = node.items;
+            for (int i = 0, n = node.count; i < n; i++) {
+                if (toRemove.equals(items[i])) return removeAt(node, i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes every element that satisfies the predicate in place. A first
+     * walk only tests the elements and marks the matches in a bit set; no
+     * node is written while the predicate runs. A second walk then compacts
+     * each visited node's array, unlinks the nodes left empty and merges or
+     * evens out under-filled neighbours as {@link #remove(int)} does, so a
+     * survivor only moves within its node or into the node before it.
+     * If the predicate throws, only the elements it already selected are
+     * removed. The list keeps no modification count, so a change by the
+     * predicate is detected as a changed size; the list is then left as the
+     * predicate left it.
+     *
+     * @param filter predicate selecting the elements to remove
+     * @return {@code true} if any element was removed
+     * @throws NullPointerException if {@code filter} is {@code null}
+     * @throws ConcurrentModificationException if {@code filter} adds or removes elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) throw new NullPointerException();
+        final int n = size;
+        Node node = head;
+        int offset = 0;
+        int first = 0;
+        for (; first < n; first++, offset++) {
+            if (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            boolean drop = filter.test((E) node.items[offset]);
+            if (size != n) throw new ConcurrentModificationException();
+            if (drop) break;
+        }
+        if (first == n) return false;
+
+        // Bit i stands for the element at first + i
+        final Node firstNode = node;
+        final int base = first - offset;
+        final long[] dead = new long[((n - first - 1) >> 6) + 1];
+        dead[0] = 1L;
+        int r = first + 1;
+        offset++;
+        try {
+            for (; r < n; r++, offset++) {
+                if (offset == node.count) {
+                    node = node.next;
+                    offset = 0;
+                }
+                boolean drop = filter.test((E) node.items[offset]);
+                if (size != n) throw new ConcurrentModificationException();
+                if (drop) dead[(r - first) >> 6] |= 1L << (r - first);
+            }
+        } finally {
+            if (size == n) compact(firstNode, base, first, r, dead);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the element at the specified position with the given element.
+     *
+     * @param index index of the element to replace (0-based)
+     * @param toChange the new element (must not be {@code null})
+     * @return the previous element at the specified position
+     * @throws NullPointerException if {@code toChange} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        if (toChange == null) throw new NullPointerException();
+        checkIndex(index);
+        locate(index);
+        Object[] items = foundNode.items;
+        E old = (E) items[foundOffset];
+        items[foundOffset] = toChange;
+        return old;
+    }
+
+    /**
+     * Returns {@code true} if the list contains no elements.
+     *
+     * @return {@code true} if empty; {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified element,
+     * scanning each node's array in turn.
+     *
+     * @param toFind element whose presence is to be tested (must not be {@code null})
+     * @return {@code true} if the element is present
+     * @throws NullPointerException if {@code toFind} is {@code null}
+     */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) throw new NullPointerException();
+        for (Node node = head; node != null; node = node.next) {
+            Object[] items = node.items;
+            for (int i = 0, n = node.count; i < n; i++) {
+                if (toFind.equals(items[i])) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an array containing all elements in order, copying one node
+     * per {@code System.arraycopy}.
+     *
+     * @return an {@code Object[]} of length {@code size} containing list elements
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] arr = new Object[size];
+        copyTo(0, arr, 0, size);
+        return arr;
+    }
+
+    /**
+     * Returns an array containing all elements in order; the runtime type of
+     * the returned array is that of {@code toHold}.
+     *
+     * @param toHold the array into which elements are stored, if large enough
+     * @return an array containing the list elements
+     * @throws NullPointerException if {@code toHold} is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException();
+        if (toHold.length < size) {
+            toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+        }
+        copyTo(0, toHold, 0, size);
+        if (toHold.length > size) toHold[size] = null;
+        return toHold;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence
+     * (from head to tail).
+     *
+     * @return iterator that traverses the list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new UnrolledIterator();
+    }
+
+    /**
+     * Copies {@code length} elements starting at {@code srcIndex} into
+     * {@code dest}, one {@code System.arraycopy} per node touched.
+     *
+     * @param srcIndex index of the first element to copy
+     * @param dest     array to copy into
+     * @param destPos  first index of dest to write
+     * @param length   number of elements to copy
+     * @throws NullPointerException      if dest is null
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    @Override
+    public void copyTo(int srcIndex, Object[] dest, int destPos, int length) {
+        if (dest == null) throw new NullPointerException();
+        if (srcIndex < 0 || length < 0 || srcIndex > size - length
+                || destPos < 0 || destPos > dest.length - length)
+            throw new IndexOutOfBoundsException("Range: " + srcIndex + ", " + destPos + ", " + length);
+        if (length == 0) return;
+        locate(srcIndex);
+        Node node = foundNode;
+        int offset = foundOffset;
+        while (length > 0) {
+            int k = Math.min(node.count - offset, length);
+            System.arraycopy(node.items, offset, dest, destPos, k);
+            destPos += k;
+            length -= k;
+            node = node.next;
+            offset = 0;
+        }
+    }
+
+    // ADDITIONAL HELPERS
+
+    /**
+     * Inserts the specified element at the front of the list.
+     *
+     * @param item element to add at the head (must not be {@code null})
+     * @throws NullPointerException if {@code item} is {@code null}
+     */
+    public void addFirst(E item) {
+        if (item == null) throw new NullPointerException();
+        if (head == null || head.count == NODE_CAPACITY) linkFirst(new Node());
+        insertAt(head, 0, item);
+    }
+
+    /**
+     * Appends the specified element at the end of the list.
+     *
+     * @param item element to add at the tail (must not be {@code null})
+     * @throws NullPointerException if {@code item} is {@code null}
+     */
+    public void addLast(E item) {
+        if (item == null) throw new NullPointerException();
+        if (tail == null || tail.count == NODE_CAPACITY) linkLast(new Node());
+        tail.items[tail.count++] = item;
+        size++;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * @return the removed element, or {@code null} if the list is empty
+     */
+    public E removeFirst() {
+        if (head == null) return null;
+        return removeAt(head, 0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * @return the removed element, or {@code null} if the list is empty
+     */
+    public E removeLast() {
+        if (tail == null) return null;
+        return removeAt(tail, tail.count - 1);
+    }
+
+    // INTERNAL HELPERS
+
+    /**
+     * Finds the node holding {@code index} by walking whole nodes from the
+     * nearer end, and stores it in {@link #foundNode} / {@link #foundOffset}.
+     *
+     * Precondition: index should be in range 0..size-1 (caller is expected to check).
+     */
+    private void locate(int index) {
+        Node cur;
+        if (index < (size >> 1)) {
+            cur = head;
+            while (index >= cur.count) {
+                index -= cur.count;
+                cur = cur.next;
+            }
+        } else {
+            cur = tail;
+            int base = size - cur.count;
+            while (index < base) {
+                cur = cur.prev;
+                base -= cur.count;
+            }
+            index -= base;
+        }
+        foundNode = cur;
+        foundOffset = index;
+    }
+
+    /**
+     * Inserts an element into a node with spare room, shifting the later
+     * elements of that node up by one.
+     */
+    private void insertAt(Node node, int offset, E item) {
+        Object[] items = node.items;
+        System.arraycopy(items, offset, items, offset + 1, node.count - offset);
+        items[offset] = item;
+        node.count++;
+        size++;
+    }
+
+    /**
+     * Removes one element from a node, then unlinks the node if it is empty
+     * or rebalances it with its successor if it is under-filled.
+     */
+    @SuppressWarnings("unchecked")
+    private E removeAt(Node node, int offset) {
+        Object[] items = node.items;
+        E removed = (E) items[offset];
+        int moved = node.count - offset - 1;
+        System.arraycopy(items, offset + 1, items, offset, moved);
+        items[--node.count] = null;
+        size--;
+
+        if (node.count == 0) {
+            unlinkNode(node);
+        } else if (node.count < MIN_FILL && node.next != null) {
+            rebalance(node, node.next);
+        }
+        return removed;
+    }
+
+    /**
+     * Compacts the survivors of a {@link #removeIf(Predicate)} pass, node by
+     * node from {@code node}, whose first element is at position
+     * {@code base}. The elements in {@code [first, visited)} whose bit is set
+     * in {@code dead} are dropped; empty nodes are unlinked and under-filled
+     * ones are rebalanced with the node after them.
+     */
+    private void compact(Node node, int base, int first, int visited, long[] dead) {
+        Node kept = node.prev;
+        int removed = 0;
+        while (node != null && base < visited) {
+            Node next = node.next;
+            Object[] items = node.items;
+            int count = node.count;
+            int w = 0;
+            for (int j = 0; j < count; j++) {
+                int p = base + j - first;
+                if (p >= 0 && base + j < visited && (dead[p >> 6] & (1L << p)) != 0) continue;
+                items[w++] = items[j];
+            }
+            Arrays.fill(items, w, count, null);
+            removed += count - w;
+            base += count;
+            node.count = w;
+
+            if (w == 0) {
+                unlinkNode(node);
+            } else if (kept != null && (kept.count < MIN_FILL
+                    || w < MIN_FILL && kept.count + w <= NODE_CAPACITY)) {
+                rebalance(kept, node);
+                if (node.count > 0) kept = node;
+            } else {
+                kept = node;
+            }
+            node = next;
+        }
+        if (kept != null && kept.count < MIN_FILL && kept.next != null) {
+            rebalance(kept, kept.next);
+        }
+        size -= removed;
+        foundNode = null;
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node linked after it.
+     *
+     * @return the new node
+     */
+    private Node split(Node node) {
+        Node upper = new Node();
+        int keep = node.count >> 1;
+        int move = node.count - keep;
+        System.arraycopy(node.items, keep, upper.items, 0, move);
+        Arrays.fill(node.items, keep, node.count, null);
+        node.count = keep;
+        upper.count = move;
+        linkAfter(node, upper);
+        return upper;
+    }
+
+    /**
+     * Merges {@code next} into {@code node} when both fit in one node;
+     * otherwise moves elements from the front of {@code next} until the two
+     * hold roughly the same number.
+     */
+    private void rebalance(Node node, Node next) {
+        int move = node.count + next.count <= NODE_CAPACITY
+                ? next.count
+                : (next.count - node.count) >> 1;
+        System.arraycopy(next.items, 0, node.items, node.count, move);
+        node.count += move;
+        int rest = next.count - move;
+        System.arraycopy(next.items, move, next.items, 0, rest);
+        Arrays.fill(next.items, rest, next.count, null);
+        next.count = rest;
+        if (rest == 0) unlinkNode(next);
+    }
+
+    private void linkFirst(Node node) {
+        node.next = head;
+        if (head == null) tail = node;
+        else head.prev = node;
+        head = node;
+    }
+
+    private void linkLast(Node node) {
+        node.prev = tail;
+        if (tail == null) head = node;
+        else tail.next = node;
+        tail = node;
+    }
+
+    private void linkAfter(Node node, Node added) {
+        Node next = node.next;
+        added.prev = node;
+        added.next = next;
+        node.next = added;
+        if (next == null) tail = added;
+        else next.prev = added;
+    }
+
+    private void unlinkNode(Node node) {
+        Node prev = node.prev;
+        Node next = node.next;
+        if (prev != null) prev.next = next;
+        else head = next;
+        if (next != null) next.prev = prev;
+        else tail = prev;
+        node.prev = null;
+        node.next = null;
+        if (foundNode == node) foundNode = null;
+    }
+
+    /**
+     * Checks that the provided index is valid for accessing elements.
+     *
+     * @param index index to validate
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= size}
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    // ITERATOR IMPLEMENTATION
+
+    /**
+     * Iterator that walks each node's array from head to tail.
+     */
+    private class UnrolledIterator implements Iterator<E> {
+        private Node node = head;
+        private int offset = 0;
+
+        @Override
+        public boolean hasNext() {
+            while (node != null && offset >= node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            return node != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return (E) node.items[offset++];
+        }
+    }
+}
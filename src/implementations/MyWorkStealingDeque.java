@@ -0,0 +1,194 @@
+package implementations;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Chase–Lev work-stealing deque.
+ * <p>
+ * One thread, the <em>owner</em>, pushes and pops at the bottom end without
+ * locks or atomic read-modify-write instructions in the common case. Any
+ * number of other threads, the <em>thieves</em>, take elements from the top
+ * end with a compare-and-set on {@code top}. The only contended case is the
+ * owner and a thief racing for the last element, which is settled by the
+ * same CAS.
+ * </p>
+ * <p>
+ * Elements live in a circular array indexed by {@code index & mask}. When the
+ * owner finds the array full it doubles it; thieves that still hold the old
+ * array read the same elements from it, because a slot is never reused until
+ * it has been taken. Thieves never write to the array: a thief that cleared
+ * its slot after winning {@code top} could race with the owner refilling the
+ * same slot once further steals have advanced {@code top}. Instead the owner
+ * clears the slots of stolen elements on its next push, or on a pop that
+ * finds the deque empty, so finished elements are not kept reachable until
+ * the buffer wraps around.
+ * </p>
+ * <p>
+ * {@link #push(Object)} and {@link #pop()} must only be called by the owner
+ * thread. {@link #steal()}, {@link #size()} and {@link #isEmpty()} may be
+ * called from any thread. {@code null} elements are not permitted; methods
+ * that remove return {@code null} when they find nothing to take.
+ * </p>
+ *
+ * @param <E> the type of elements stored in the deque
+ */
+public class MyWorkStealingDeque<E> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Largest power-of-two array length that can be allocated. */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<MyWorkStealingDeque> TOP =
+            AtomicLongFieldUpdater.newUpdater(MyWorkStealingDeque.class, "top");
+
+    /** Index of the oldest element; advanced by thieves (and the owner on the last element). */
+    private volatile long top;
+
+    /** Index one past the newest element; written only by the owner. */
+    private volatile long bottom;
+
+    /** Circular buffer; replaced only by the owner when growing. */
+    private volatile Object[] array;
+
+    /** Every index below this has had its slot cleared; owner only. */
+    private long swept;
+
+    /**
+     * Creates an empty deque.
+     */
+    public MyWorkStealingDeque() {
+        array = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Pushes an element onto the bottom of the deque. Owner only.
+     *
+     * @param toAdd the element to push
+     * @throws NullPointerException if toAdd is null
+     */
+    public void push(E toAdd) throws NullPointerException {
+        if (toAdd == null)
+            throw new NullPointerException("Cannot push null");
+
+        long b = bottom;
+        long t = top;
+        Object[] a = array;
+        if (b - t >= a.length - 1)
+            a = grow(a, t, b);
+        else
+            sweep(a, t, b);
+        a[(int) b & (a.length - 1)] = toAdd;
+        // Volatile write publishes the element to thieves
+        bottom = b + 1;
+    }
+
+    /**
+     * Removes and returns the newest element. Owner only.
+     *
+     * @return the newest element, or {@code null} if the deque is empty or a
+     *         thief took the last element first
+     */
+    @SuppressWarnings("unchecked")
+    public E pop() {
+        long b = bottom - 1;
+        Object[] a = array;
+        // Volatile write then volatile read: thieves see the claim before we read top
+        bottom = b;
+        long t = top;
+        long size = b - t;
+        if (size < 0) {
+            bottom = t;
+            sweep(a, t, t);
+            return null;
+        }
+        int i = (int) b & (a.length - 1);
+        E x = (E) a[i];
+        if (size > 0) {
+            // Not the last element: no thief can reach index b
+            a[i] = null;
+            return x;
+        }
+        // Last element: race thieves for it
+        if (!TOP.compareAndSet(this, t, t + 1))
+            x = null;
+        bottom = t + 1;
+        return x;
+    }
+
+    /**
+     * Removes and returns the oldest element. Safe to call from any thread.
+     *
+     * @return the oldest element, or {@code null} if the deque is empty or
+     *         another thread took that element first
+     */
+    @SuppressWarnings("unchecked")
+    public E steal() {
+        long t = top;
+        long b = bottom;
+        if (t >= b)
+            return null;
+        Object[] a = array;
+        E x = (E) a[(int) t & (a.length - 1)];
+        if (x == null || !TOP.compareAndSet(this, t, t + 1))
+            return null;
+        return x;
+    }
+
+    /**
+     * Returns an estimate of the number of elements; exact only while no
+     * other thread is operating on the deque.
+     *
+     * @return the number of elements, never negative
+     */
+    public int size() {
+        long n = bottom - top;
+        if (n < 0)
+            return 0;
+        return n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+    }
+
+    /**
+     * Returns {@code true} if the deque appeared empty at the moment of the
+     * call.
+     *
+     * @return {@code true} if no elements were present
+     */
+    public boolean isEmpty() {
+        return bottom - top <= 0;
+    }
+
+    /**
+     * Clears the slots of indices below {@code t} that were taken by thieves
+     * or by the owner's last-element race. Indices below {@code t} can no
+     * longer be taken, because {@code top} only grows and a thief holding an
+     * older index fails its CAS; the walk starts above {@code b - length} so
+     * it never reaches a slot shared with the live range {@code [t, b)}.
+     * Owner only.
+     */
+    private void sweep(Object[] a, long t, long b) {
+        int mask = a.length - 1;
+        for (long i = Math.max(swept, b - mask); i < t; i++)
+            a[(int) i & mask] = null;
+        swept = t;
+    }
+
+    /**
+     * Doubles the buffer, copying the live range {@code [t, b)} to the same
+     * logical indices. Owner only.
+     */
+    private Object[] grow(Object[] old, long t, long b) {
+        if (old.length == MAX_CAPACITY)
+            throw new IllegalStateException("Deque exceeds maximum capacity");
+
+        Object[] bigger = new Object[old.length << 1];
+        int oldMask = old.length - 1;
+        int newMask = bigger.length - 1;
+        for (long i = t; i < b; i++)
+            bigger[(int) i & newMask] = old[(int) i & oldMask];
+        swept = t;
+        array = bigger;
+        return bigger;
+    }
+}
@@ -0,0 +1,103 @@
+package implementations;
+
+import java.util.AbstractQueue;
+import java.util.function.Consumer;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * A {@code java.util.Queue} view of a {@link QueueADT}, returned by
+ * {@link MyQueue#asQueue()} and {@link MyArrayQueue#asQueue()}.
+ * <p>
+ * {@code offer}, {@code poll} and {@code peek} go straight to
+ * {@code enqueue}, {@code dequeue} and {@code peek} of the backing queue;
+ * nothing is copied. {@code poll} and {@code peek} return {@code null} on
+ * an empty queue instead of throwing, and {@code offer} returns
+ * {@code false} when a fixed-capacity queue is full. The view's iterator is
+ * read-only.
+ * </p>
+ *
+ * @param <E> type of elements in the queue
+ */
+class QueueView<E> extends AbstractQueue<E> {
+
+    private final QueueADT<E> queue;
+
+    /**
+     * @param queue the backing queue
+     */
+    QueueView(QueueADT<E> queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) throw new NullPointerException();
+        if (queue.isFull()) return false;
+        queue.enqueue(e);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        if (queue.isEmpty()) return null;
+        try {
+            return queue.dequeue();
+        } catch (EmptyQueueException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public E peek() {
+        if (queue.isEmpty()) return null;
+        try {
+            return queue.peek();
+        } catch (EmptyQueueException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        queue.dequeueAll();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object o) {
+        return o != null && queue.contains((E) o);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return queue.toArray();
+    }
+
+    @Override
+    public java.util.Iterator<E> iterator() {
+        final Iterator<E> it = queue.iterator();
+        return new java.util.Iterator<E>() {
+            @Override
+            public boolean hasNext() { return it.hasNext(); }
+
+            @Override
+            public E next() { return it.next(); }
+
+            @Override
+            public void forEachRemaining(Consumer<? super E> action) { it.forEachRemaining(action); }
+        };
+    }
+}
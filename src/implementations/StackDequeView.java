@@ -0,0 +1,254 @@
+package implementations;
+
+import java.util.AbstractCollection;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import utilities.ListIterator;
+
+/**
+ * A {@code java.util.Deque} view of a {@link MyStack}, returned by
+ * {@link MyStack#asDeque()}.
+ * <p>
+ * The head of the deque is the top of the stack, so {@code push},
+ * {@code pop}, {@code peek} and the other head-end methods map to the stack
+ * operations and cost O(1), and iteration runs from top to bottom like the
+ * stack's own iterator. The view works directly on the stack's backing
+ * {@link MyArrayList}, where the top is the last index; tail-end methods
+ * ({@code addLast}, {@code offer}, {@code add}, {@code removeLast}, ...)
+ * therefore insert or remove at index 0 and cost O(n). Nothing is copied.
+ * Null elements are not permitted.
+ * </p>
+ *
+ * @param <E> type of elements in the deque
+ */
+class StackDequeView<E> extends AbstractCollection<E> implements Deque<E> {
+
+    private final MyArrayList<E> list;
+
+    /**
+     * @param list the stack's backing list, top at the last index
+     */
+    StackDequeView(MyArrayList<E> list) {
+        this.list = list;
+    }
+
+    // ------------------ Head (top of stack) ------------------
+
+    @Override
+    public void addFirst(E e) {
+        list.add(e);
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        list.add(e);
+        return true;
+    }
+
+    @Override
+    public E removeFirst() {
+        if (list.isEmpty()) throw new NoSuchElementException();
+        return list.remove(list.size() - 1);
+    }
+
+    @Override
+    public E pollFirst() {
+        return list.isEmpty() ? null : list.remove(list.size() - 1);
+    }
+
+    @Override
+    public E getFirst() {
+        if (list.isEmpty()) throw new NoSuchElementException();
+        return list.get(list.size() - 1);
+    }
+
+    @Override
+    public E peekFirst() {
+        return list.isEmpty() ? null : list.get(list.size() - 1);
+    }
+
+    // ------------------ Tail (bottom of stack) ------------------
+
+    @Override
+    public void addLast(E e) {
+        list.add(0, e);
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        list.add(0, e);
+        return true;
+    }
+
+    @Override
+    public E removeLast() {
+        if (list.isEmpty()) throw new NoSuchElementException();
+        return list.remove(0);
+    }
+
+    @Override
+    public E pollLast() {
+        return list.isEmpty() ? null : list.remove(0);
+    }
+
+    @Override
+    public E getLast() {
+        if (list.isEmpty()) throw new NoSuchElementException();
+        return list.get(0);
+    }
+
+    @Override
+    public E peekLast() {
+        return list.isEmpty() ? null : list.get(0);
+    }
+
+    // ------------------ Queue and stack methods ------------------
+
+    @Override
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    // ------------------ Collection methods ------------------
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        if (o == null) return false;
+        ListIterator<E> it = list.listIterator(list.size());
+        while (it.hasPrevious()) {
+            if (o.equals(it.previous())) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        if (o == null) return false;
+        ListIterator<E> it = list.listIterator();
+        while (it.hasNext()) {
+            if (o.equals(it.next())) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object o) {
+        return o != null && list.contains((E) o);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+    }
+
+    /**
+     * Iterates from top to bottom; {@code remove()} is supported.
+     */
+    @Override
+    public java.util.Iterator<E> iterator() {
+        final ListIterator<E> it = list.listIterator(list.size());
+        return new java.util.Iterator<E>() {
+            @Override
+            public boolean hasNext() { return it.hasPrevious(); }
+
+            @Override
+            public E next() { return it.previous(); }
+
+            @Override
+            public void remove() { it.remove(); }
+        };
+    }
+
+    /**
+     * Iterates from bottom to top; {@code remove()} is supported.
+     */
+    @Override
+    public java.util.Iterator<E> descendingIterator() {
+        final ListIterator<E> it = list.listIterator();
+        return new java.util.Iterator<E>() {
+            @Override
+            public boolean hasNext() { return it.hasNext(); }
+
+            @Override
+            public E next() { return it.next(); }
+
+            @Override
+            public void remove() { it.remove(); }
+
+            @Override
+            public void forEachRemaining(Consumer<? super E> action) { it.forEachRemaining(action); }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) throw new NullPointerException();
+        list.forEachDescending(list.size() - 1, action);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return list.descendingSpliterator();
+    }
+}
@@ -0,0 +1,233 @@
+package implementations;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Small fixed-size task scheduler built on {@link MyWorkStealingDeque}.
+ * <p>
+ * Each worker thread owns a deque. A task submitted from inside a running
+ * task (for example, a directory task forking one task per child) is pushed
+ * onto the current worker's own deque, which costs no locking at all. Tasks
+ * submitted from outside the pool go through a shared
+ * {@link MyConcurrentQueue}. An idle worker looks, in order, at its own deque
+ * (newest first), the shared queue, and then the deques of the other workers,
+ * stealing their oldest tasks. Oldest tasks tend to be the largest pieces of
+ * remaining work (whole subtrees), so a few steals spread a deep tree across
+ * all workers while one long-running task keeps only its own worker busy.
+ * </p>
+ * <p>
+ * Workers with nothing to do park for a short bounded time; submitting a task
+ * wakes one of them. {@link #awaitQuiescence()} waits until every submitted
+ * task, including tasks they submitted in turn, has finished.
+ * </p>
+ */
+public class WorkStealingScheduler {
+
+    /** Longest an idle worker sleeps before looking for work again. */
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    private final Worker[] workers;
+    private final MyConcurrentQueue<Runnable> submissions = new MyConcurrentQueue<>();
+
+    /** Tasks submitted but not yet finished. */
+    private final AtomicLong pending = new AtomicLong();
+    private final Object quiescenceLock = new Object();
+
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean shutdown;
+
+    /**
+     * Per-thread state: the owned deque and a flag telling submitters the
+     * thread may be parked.
+     */
+    private final class Worker implements Runnable {
+        final MyWorkStealingDeque<Runnable> deque = new MyWorkStealingDeque<>();
+        final int index;
+        Thread thread;
+        volatile boolean parked;
+
+        Worker(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            while (!shutdown) {
+                Runnable task = findTask(this);
+                if (task != null) {
+                    runTask(task);
+                    continue;
+                }
+                idleWorkers.incrementAndGet();
+                parked = true;
+                // A submitter that ran before the flag was set is caught by the timeout
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                parked = false;
+                idleWorkers.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Starts a scheduler with one worker per available processor.
+     */
+    public WorkStealingScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Starts a scheduler with the given number of worker threads.
+     *
+     * @param parallelism number of worker threads
+     * @throws IllegalArgumentException if parallelism is less than 1
+     */
+    public WorkStealingScheduler(int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Illegal parallelism: " + parallelism);
+
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++)
+            workers[i] = new Worker(i);
+        for (Worker w : workers) {
+            Thread t = new Thread(w, "work-stealing-" + w.index);
+            t.setDaemon(true);
+            w.thread = t;
+            t.start();
+        }
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the parallelism of this scheduler
+     */
+    public int parallelism() {
+        return workers.length;
+    }
+
+    /**
+     * Schedules a task. Called from one of this scheduler's workers, the task
+     * goes onto that worker's own deque; otherwise it goes onto the shared
+     * submission queue.
+     *
+     * @param task the task to run
+     * @throws NullPointerException  if task is null
+     * @throws IllegalStateException if the scheduler has been shut down
+     */
+    public void submit(Runnable task) throws NullPointerException {
+        if (task == null)
+            throw new NullPointerException("Cannot submit null task");
+        if (shutdown)
+            throw new IllegalStateException("Scheduler is shut down");
+
+        pending.incrementAndGet();
+        Worker self = currentWorker();
+        if (self != null)
+            self.deque.push(task);
+        else
+            submissions.enqueue(task);
+        signalWork();
+    }
+
+    /**
+     * Blocks until every submitted task has finished. If any task threw since
+     * the last call, the first such exception is reported and cleared.
+     *
+     * @throws InterruptedException if the calling thread is interrupted
+     * @throws ExecutionException   if a task completed by throwing
+     * @throws IllegalStateException if called from one of this scheduler's
+     *                               workers, which would wait for itself
+     */
+    public void awaitQuiescence() throws InterruptedException, ExecutionException {
+        if (currentWorker() != null)
+            throw new IllegalStateException("Cannot await quiescence from a worker");
+
+        synchronized (quiescenceLock) {
+            while (pending.get() != 0)
+                quiescenceLock.wait();
+        }
+        Throwable t = failure.getAndSet(null);
+        if (t != null)
+            throw new ExecutionException(t);
+    }
+
+    /**
+     * Stops the workers once they finish their current task. Tasks still
+     * queued are discarded; call {@link #awaitQuiescence()} first to run them.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (Worker w : workers)
+            LockSupport.unpark(w.thread);
+    }
+
+    // ------------------ Helper Methods ------------------
+
+    private Worker currentWorker() {
+        Thread current = Thread.currentThread();
+        for (Worker w : workers) {
+            if (w.thread == current)
+                return w;
+        }
+        return null;
+    }
+
+    /**
+     * Wakes one parked worker, if any worker is idle.
+     */
+    private void signalWork() {
+        if (idleWorkers.get() == 0)
+            return;
+        for (Worker w : workers) {
+            if (w.parked) {
+                LockSupport.unpark(w.thread);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Own deque first, then the shared queue, then one steal attempt from
+     * every other worker starting at a random victim.
+     */
+    private Runnable findTask(Worker self) {
+        Runnable task = self.deque.pop();
+        if (task != null)
+            return task;
+        task = submissions.poll();
+        if (task != null)
+            return task;
+
+        int n = workers.length;
+        int start = ThreadLocalRandom.current().nextInt(n);
+        for (int i = 0; i < n; i++) {
+            Worker victim = workers[(start + i) % n];
+            if (victim == self)
+                continue;
+            task = victim.deque.steal();
+            if (task != null)
+                return task;
+        }
+        return null;
+    }
+
+    private void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+        } finally {
+            if (pending.decrementAndGet() == 0) {
+                synchronized (quiescenceLock) {
+                    quiescenceLock.notifyAll();
+                }
+            }
+        }
+    }
+}
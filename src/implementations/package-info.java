@@ -9,8 +9,40 @@
  *   <li>{@code MyArrayList<E>} — array-backed list implementation.</li>
  *   <li>{@code MyDLL<E>} and {@code MyDLLNode<E>} — doubly-linked list and
  *       node classes used by the list and by the queue.</li>
+ *   <li>{@code MyIndexedDLL<E>} — doubly-linked list with {@code int[]}
+ *       links and a free list of recycled slots instead of node objects.</li>
  *   <li>{@code MyStack<E>} — stack implementation built on {@code MyArrayList}.</li>
  *   <li>{@code MyQueue<E>} — queue implementation built on {@code MyDLL}.</li>
+ *   <li>{@code IntArrayList}, {@code LongArrayList} and
+ *       {@code DoubleArrayList} — array lists of unboxed primitive values
+ *       mirroring the {@code MyArrayList} operations.</li>
+ *   <li>{@code IntStack} and {@code LongStack} — stacks of primitive values
+ *       over {@code int[]} / {@code long[]}, with no boxing.</li>
+ *   <li>{@code MyUnrolledList<E>} — doubly-linked list of small element
+ *       arrays that split and merge, for cache-friendly traversal.</li>
+ *   <li>{@code MyGapList<E>} — gap-buffer list; inserts and removes near
+ *       the last edit position are O(1) amortized.</li>
+ *   <li>{@code MySegmentedList<E>} — list of fixed-size chunks indexed by
+ *       shift/mask; grows one chunk at a time and accepts {@code long}
+ *       indices.</li>
+ *   <li>{@code MyOffHeapList<E>} — list of fixed-width records in direct
+ *       {@code ByteBuffer} segments, freed explicitly with {@code close()}.</li>
+ *   <li>{@code MyArrayQueue<E>} — circular-buffer queue with power-of-two
+ *       growth and an optional fixed capacity.</li>
+ *   <li>{@code MyConcurrentQueue<E>} — lock-free Michael–Scott queue that is
+ *       safe to share between threads.</li>
+ *   <li>{@code MyConcurrentStack<E>} — lock-free Treiber stack with an
+ *       elimination array for contended push/pop pairs.</li>
+ *   <li>{@code MyBoundedBlockingQueue<E>} — fixed-capacity two-lock queue
+ *       with blocking, timed and bulk-drain operations for backpressure.</li>
+ *   <li>{@code MyWorkStealingDeque<E>} — Chase–Lev deque: lock-free push/pop
+ *       for the owning thread, CAS-based steal for all others.</li>
+ *   <li>{@code WorkStealingScheduler} — fixed pool of workers that schedule
+ *       recursive tasks on work-stealing deques.</li>
+ *   <li>{@code ListView}, {@code StackDequeView} and {@code QueueView} —
+ *       package-private {@code java.util} List / Deque / Queue views behind
+ *       {@code asList()}, {@code asDeque()} and {@code asQueue()}; they
+ *       delegate to the backing structure without copying.</li>
  * </ul>
  * </p>
  *
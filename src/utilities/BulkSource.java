@@ -0,0 +1,41 @@
+package utilities;
+
+/**
+ * Optional bulk-export hook for the ADT implementations. A structure that
+ * implements this interface can copy a range of its elements straight into
+ * an array, typically with one <code>System.arraycopy</code> per contiguous
+ * run of storage, instead of being read one element at a time through
+ * <code>get(int)</code> or an iterator.
+ * <p>
+ * Bulk consumers (<code>addAll</code>, copy constructors, <code>toArray</code>)
+ * check for this interface, presize their storage once and call
+ * <code>copyTo</code>; other sources are still read element by element.
+ * </p>
+ *
+ * @param <E> The type of element this source holds.
+ */
+public interface BulkSource<E>
+{
+	/**
+	 * Returns the number of elements available to copy.
+	 *
+	 * @return The element count.
+	 */
+	public int size();
+
+	/**
+	 * Copies <code>length</code> elements, starting at position
+	 * <code>srcIndex</code> in iteration order, into <code>dest</code> starting
+	 * at <code>destPos</code>. The copied elements are never <code>null</code>.
+	 * <code>dest</code> may be this structure's own backing array as long as
+	 * the source and destination ranges do not overlap.
+	 *
+	 * @param srcIndex Position of the first element to copy.
+	 * @param dest The array to copy into.
+	 * @param destPos First index of <code>dest</code> to write.
+	 * @param length Number of elements to copy.
+	 * @throws NullPointerException If <code>dest</code> is <code>null</code>.
+	 * @throws IndexOutOfBoundsException If either range is out of bounds.
+	 */
+	public void copyTo( int srcIndex, Object[] dest, int destPos, int length ) throws NullPointerException, IndexOutOfBoundsException;
+}
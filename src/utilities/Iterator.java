@@ -1,6 +1,7 @@
 package utilities;
 
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * This interface will provide an mono-directional iterator for any of the data
@@ -31,4 +32,26 @@ public interface Iterator<E>
 	 * @throws NoSuchElementException If the iteration has no more elements.
 	 */
 	public E next() throws NoSuchElementException;
+
+	/**
+	 * Performs the given action on each remaining element, in iteration
+	 * order, until all elements have been processed. Afterwards
+	 * <code>hasNext()</code> returns <code>false</code>. Implementations
+	 * should override this with a loop over their own storage; the default
+	 * simply calls <code>hasNext()</code> and <code>next()</code>.
+	 * 
+	 * @param action The action to perform on each element.
+	 * @throws NullPointerException If <code>action</code> is <code>null</code>.
+	 */
+	public default void forEachRemaining( Consumer<? super E> action ) throws NullPointerException
+	{
+		if ( action == null )
+		{
+			throw new NullPointerException();
+		}
+		while ( hasNext() )
+		{
+			action.accept( next() );
+		}
+	}
 }
@@ -1,5 +1,12 @@
 package utilities;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * <p>
  * The <code>ListADT</code> interface is designed to be used as a basis for all
@@ -181,4 +188,142 @@ public interface ListADT<E>
 	 *         <code>java.util.Iterator</code>.
 	 */
 	public Iterator<E> iterator();
+
+	/**
+	 * Performs the given action on each element of this list, in proper sequence.
+	 * This internal iteration lets an implementation walk its storage in a
+	 * single loop instead of allocating an iterator; the default delegates
+	 * to <code>iterator().forEachRemaining( action )</code>.
+	 * 
+	 * @param action The action to perform on each element.
+	 * @throws NullPointerException If <code>action</code> is <code>null</code>.
+	 */
+	public default void forEach( Consumer<? super E> action ) throws NullPointerException
+	{
+		iterator().forEachRemaining( action );
+	}
+
+	/**
+	 * Removes every element of this list that satisfies the given predicate,
+	 * keeping the remaining elements in order. The default snapshots the
+	 * list, clears it and re-adds the survivors, which is O(n) for any list;
+	 * implementations should override it with a single compaction pass over
+	 * their own storage.
+	 * 
+	 * @param filter The predicate that selects the elements to remove.
+	 * @return <code>true</code> if any element was removed.
+	 * @throws NullPointerException If <code>filter</code> is <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public default boolean removeIf( Predicate<? super E> filter ) throws NullPointerException
+	{
+		if ( filter == null )
+		{
+			throw new NullPointerException();
+		}
+		Object[] all = toArray();
+		int kept = 0;
+		for ( Object e : all )
+		{
+			if ( !filter.test( (E) e ) )
+			{
+				all[kept++] = e;
+			}
+		}
+		if ( kept == all.length )
+		{
+			return false;
+		}
+		clear();
+		for ( int i = 0; i < kept; i++ )
+		{
+			add( (E) all[i] );
+		}
+		return true;
+	}
+
+	/**
+	 * Removes every element of this list that is equal to an element of the
+	 * given list. Runs as one <code>removeIf</code> pass; a large argument is
+	 * first copied into a temporary hash set, so the cost is O(n + m) rather
+	 * than O(n * m).
+	 * 
+	 * @param toRemove The elements to remove; may be this list.
+	 * @return <code>true</code> if any element was removed.
+	 * @throws NullPointerException If <code>toRemove</code> is <code>null</code>.
+	 */
+	public default boolean removeAll( ListADT<?> toRemove ) throws NullPointerException
+	{
+		return removeIf( Membership.in( toRemove ) );
+	}
+
+	/**
+	 * Removes every element of this list that is not equal to an element of
+	 * the given list. Runs as one <code>removeIf</code> pass with the same
+	 * membership test as <code>removeAll</code>.
+	 * 
+	 * @param toRetain The elements to keep; may be this list.
+	 * @return <code>true</code> if any element was removed.
+	 * @throws NullPointerException If <code>toRetain</code> is <code>null</code>.
+	 */
+	public default boolean retainAll( ListADT<?> toRetain ) throws NullPointerException
+	{
+		return removeIf( Membership.in( toRetain ).negate() );
+	}
+
+	/**
+	 * Returns a spliterator over the elements of this list, in proper sequence.
+	 * The default wraps <code>iterator()</code> and splits by copying
+	 * batches of elements into arrays; implementations with indexed or
+	 * otherwise divisible storage should override it.
+	 * 
+	 * @return A <code>SIZED</code>, <code>ORDERED</code>, <code>NONNULL</code>
+	 *         spliterator over this list.
+	 */
+	public default Spliterator<E> spliterator()
+	{
+		final Iterator<E> it = iterator();
+		return new Spliterators.AbstractSpliterator<E>( size(),
+				Spliterator.SIZED | Spliterator.ORDERED | Spliterator.NONNULL )
+		{
+			@Override
+			public boolean tryAdvance( Consumer<? super E> action )
+			{
+				if ( !it.hasNext() )
+				{
+					return false;
+				}
+				action.accept( it.next() );
+				return true;
+			}
+
+			@Override
+			public void forEachRemaining( Consumer<? super E> action )
+			{
+				it.forEachRemaining( action );
+			}
+		};
+	}
+
+	/**
+	 * Returns a sequential <code>Stream</code> over the elements of this list.
+	 * 
+	 * @return A sequential stream backed by <code>spliterator()</code>.
+	 */
+	public default Stream<E> stream()
+	{
+		return StreamSupport.stream( spliterator(), false );
+	}
+
+	/**
+	 * Returns a possibly parallel <code>Stream</code> over the elements of
+	 * this list. The list must not be structurally modified while the stream
+	 * runs.
+	 * 
+	 * @return A parallel stream backed by <code>spliterator()</code>.
+	 */
+	public default Stream<E> parallelStream()
+	{
+		return StreamSupport.stream( spliterator(), true );
+	}
 }
@@ -0,0 +1,97 @@
+package utilities;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * A bidirectional iterator over a list that can also modify the list at its
+ * current position. The cursor always lies between two elements: the one
+ * that <code>previous()</code> would return and the one that
+ * <code>next()</code> would return. In a list of length <i>n</i> there are
+ * <i>n + 1</i> cursor positions, from 0 to <i>n</i>.
+ * <p>
+ * <code>remove()</code> and <code>set(E)</code> act on the element returned by
+ * the most recent call to <code>next()</code> or <code>previous()</code>.
+ * Modifying the list by any means other than this iterator while it is in
+ * use makes it fail with a <code>ConcurrentModificationException</code> on
+ * its next operation.
+ * </p>
+ *
+ * @param <E> The type of element this iterator returns.
+ */
+public interface ListIterator<E> extends Iterator<E>
+{
+	/**
+	 * Returns <code>true</code> if there is an element before the cursor.
+	 *
+	 * @return <code>true</code> if <code>previous()</code> would return an
+	 *         element rather than throwing an exception.
+	 * @throws ConcurrentModificationException If the list was modified other
+	 *         than through this iterator.
+	 */
+	public boolean hasPrevious() throws ConcurrentModificationException;
+
+	/**
+	 * Returns the element before the cursor and moves the cursor backwards.
+	 *
+	 * @return The previous element in the list.
+	 * @throws NoSuchElementException If there is no previous element.
+	 * @throws ConcurrentModificationException If the list was modified other
+	 *         than through this iterator.
+	 */
+	public E previous() throws NoSuchElementException, ConcurrentModificationException;
+
+	/**
+	 * Returns the index of the element that a call to <code>next()</code>
+	 * would return, or the list size if the cursor is at the end.
+	 *
+	 * @return The index after the cursor.
+	 */
+	public int nextIndex();
+
+	/**
+	 * Returns the index of the element that a call to <code>previous()</code>
+	 * would return, or -1 if the cursor is at the beginning.
+	 *
+	 * @return The index before the cursor.
+	 */
+	public int previousIndex();
+
+	/**
+	 * Removes from the list the element last returned by <code>next()</code>
+	 * or <code>previous()</code>. May be called once per call to either, and
+	 * not after <code>add(E)</code>.
+	 *
+	 * @throws IllegalStateException If neither <code>next()</code> nor
+	 *         <code>previous()</code> has been called, or <code>remove()</code>
+	 *         or <code>add(E)</code> has been called since.
+	 * @throws ConcurrentModificationException If the list was modified other
+	 *         than through this iterator.
+	 */
+	public void remove() throws IllegalStateException, ConcurrentModificationException;
+
+	/**
+	 * Replaces the element last returned by <code>next()</code> or
+	 * <code>previous()</code>. Allowed only if neither <code>remove()</code> nor
+	 * <code>add(E)</code> has been called since.
+	 *
+	 * @param toChange The replacement element.
+	 * @throws NullPointerException If <code>toChange</code> is <code>null</code>.
+	 * @throws IllegalStateException If there is no element to replace.
+	 * @throws ConcurrentModificationException If the list was modified other
+	 *         than through this iterator.
+	 */
+	public void set( E toChange ) throws NullPointerException, IllegalStateException, ConcurrentModificationException;
+
+	/**
+	 * Inserts an element immediately before the cursor: a following
+	 * <code>next()</code> is unaffected and a following <code>previous()</code>
+	 * returns the new element.
+	 *
+	 * @param toAdd The element to insert.
+	 * @throws NullPointerException If <code>toAdd</code> is <code>null</code>.
+	 * @throws ConcurrentModificationException If the list was modified other
+	 *         than through this iterator.
+	 */
+	public void add( E toAdd ) throws NullPointerException, ConcurrentModificationException;
+}
@@ -0,0 +1,50 @@
+package utilities;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.function.Predicate;
+
+/**
+ * Membership tests for the bulk <code>removeAll</code> and
+ * <code>retainAll</code> defaults of {@link ListADT}. The argument list is
+ * snapshotted before the receiver is modified, so a list may be passed to
+ * its own bulk methods. Small arguments are scanned linearly; larger ones
+ * are loaded into a temporary <code>HashSet</code> so that each test is
+ * O(1) instead of O(m).
+ */
+final class Membership
+{
+	/** Argument sizes above this use a hash set. */
+	static final int HASH_THRESHOLD = 16;
+
+	private Membership()
+	{
+	}
+
+	/**
+	 * Returns a predicate that is <code>true</code> for the elements that are
+	 * equal to an element of <code>list</code>.
+	 * 
+	 * @param list The list whose elements are tested for.
+	 * @return A membership predicate over a snapshot of <code>list</code>.
+	 * @throws NullPointerException If <code>list</code> is <code>null</code>.
+	 */
+	static Predicate<Object> in( ListADT<?> list ) throws NullPointerException
+	{
+		final Object[] items = list.toArray();
+		if ( items.length > HASH_THRESHOLD )
+		{
+			return new HashSet<Object>( Arrays.asList( items ) )::contains;
+		}
+		return e -> {
+			for ( Object item : items )
+			{
+				if ( item.equals( e ) )
+				{
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+}
@@ -0,0 +1,89 @@
+package utilities;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts values of a type to and from fixed-width binary records, so that
+ * they can be stored outside the Java heap (for example in direct
+ * <code>ByteBuffer</code>s). Every record written by a codec occupies exactly
+ * <code>width()</code> bytes.
+ *
+ * @param <E> The type of value this codec encodes.
+ */
+public interface RecordCodec<E>
+{
+	/**
+	 * Codec for <code>Integer</code> values stored as 4-byte ints.
+	 */
+	public static final RecordCodec<Integer> INT = new RecordCodec<Integer>()
+	{
+		@Override
+		public int width()
+		{
+			return Integer.BYTES;
+		}
+
+		@Override
+		public void write( ByteBuffer buffer, int offset, Integer value )
+		{
+			buffer.putInt( offset, value );
+		}
+
+		@Override
+		public Integer read( ByteBuffer buffer, int offset )
+		{
+			return buffer.getInt( offset );
+		}
+	};
+
+	/**
+	 * Codec for <code>Long</code> values stored as 8-byte longs.
+	 */
+	public static final RecordCodec<Long> LONG = new RecordCodec<Long>()
+	{
+		@Override
+		public int width()
+		{
+			return Long.BYTES;
+		}
+
+		@Override
+		public void write( ByteBuffer buffer, int offset, Long value )
+		{
+			buffer.putLong( offset, value );
+		}
+
+		@Override
+		public Long read( ByteBuffer buffer, int offset )
+		{
+			return buffer.getLong( offset );
+		}
+	};
+
+	/**
+	 * Returns the number of bytes every record occupies.
+	 *
+	 * @return The record width in bytes, at least 1.
+	 */
+	public int width();
+
+	/**
+	 * Writes a value as one record, using absolute positioning so the
+	 * buffer's position and limit are left unchanged.
+	 *
+	 * @param buffer The buffer to write into.
+	 * @param offset Byte offset of the record within the buffer.
+	 * @param value The value to encode; never <code>null</code>.
+	 */
+	public void write( ByteBuffer buffer, int offset, E value );
+
+	/**
+	 * Reads the record at the given offset, using absolute positioning so the
+	 * buffer's position and limit are left unchanged.
+	 *
+	 * @param buffer The buffer to read from.
+	 * @param offset Byte offset of the record within the buffer.
+	 * @return The decoded value.
+	 */
+	public E read( ByteBuffer buffer, int offset );
+}
@@ -2,6 +2,9 @@ package utilities;
 
 import java.util.*;
 import java.io.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This is the professional Stack Interface for Object-Oriented Programming 3
@@ -107,6 +110,76 @@ public interface StackADT<E>
 	 */
 	public Iterator<E> iterator();
 
+	/**
+	 * Performs the given action on each element of this stack, in the order of <code>iterator()</code>.
+	 * This internal iteration lets an implementation walk its storage in a
+	 * single loop instead of allocating an iterator; the default delegates
+	 * to <code>iterator().forEachRemaining( action )</code>.
+	 * 
+	 * @param action The action to perform on each element.
+	 * @throws NullPointerException If <code>action</code> is <code>null</code>.
+	 */
+	public default void forEach( Consumer<? super E> action ) throws NullPointerException
+	{
+		iterator().forEachRemaining( action );
+	}
+
+	/**
+	 * Returns a spliterator over the elements of this stack, in the order of <code>iterator()</code>.
+	 * The default wraps <code>iterator()</code> and splits by copying
+	 * batches of elements into arrays; implementations with indexed or
+	 * otherwise divisible storage should override it.
+	 * 
+	 * @return A <code>SIZED</code>, <code>ORDERED</code>, <code>NONNULL</code>
+	 *         spliterator over this stack.
+	 */
+	public default Spliterator<E> spliterator()
+	{
+		final Iterator<E> it = iterator();
+		return new Spliterators.AbstractSpliterator<E>( size(),
+				Spliterator.SIZED | Spliterator.ORDERED | Spliterator.NONNULL )
+		{
+			@Override
+			public boolean tryAdvance( Consumer<? super E> action )
+			{
+				if ( !it.hasNext() )
+				{
+					return false;
+				}
+				action.accept( it.next() );
+				return true;
+			}
+
+			@Override
+			public void forEachRemaining( Consumer<? super E> action )
+			{
+				it.forEachRemaining( action );
+			}
+		};
+	}
+
+	/**
+	 * Returns a sequential <code>Stream</code> over the elements of this stack.
+	 * 
+	 * @return A sequential stream backed by <code>spliterator()</code>.
+	 */
+	public default Stream<E> stream()
+	{
+		return StreamSupport.stream( spliterator(), false );
+	}
+
+	/**
+	 * Returns a possibly parallel <code>Stream</code> over the elements of
+	 * this stack. The stack must not be structurally modified while the stream
+	 * runs.
+	 * 
+	 * @return A parallel stream backed by <code>spliterator()</code>.
+	 */
+	public default Stream<E> parallelStream()
+	{
+		return StreamSupport.stream( spliterator(), true );
+	}
+
 	/**
 	 * Used to compare two Stack ADT's. To be equal two stacks must contain equal
 	 * items appearing in the same order.
@@ -8,8 +8,17 @@
  * implementations in {@code implementations}. Important interfaces include:
  * <ul>
  *   <li>{@code ListADT<E>} — generic linear list contract (add/get/remove/set/iterator/etc.).</li>
- *   <li>{@code Iterator<E>} — simple forward-only iterator used by the custom lists.</li>
+ *   <li>{@code Iterator<E>} — simple forward-only iterator used by the custom lists,
+ *       with a {@code forEachRemaining} default for internal iteration.</li>
+ *   <li>{@code ListIterator<E>} — fail-fast bidirectional iterator that can
+ *       remove, replace and insert at its cursor.</li>
  *   <li>{@code StackADT<E>} and {@code QueueADT<E>} — stack and queue contracts used by the parser.</li>
+ *   <li>{@code BulkSource<E>} — optional hook that lets a structure copy a
+ *       range of its elements into an array in bulk.</li>
+ *   <li>{@code Membership} — package-private membership test (linear scan or
+ *       temporary hash set) behind the {@code removeAll} / {@code retainAll}
+ *       defaults of {@code ListADT}.</li>
+ *   <li>{@code RecordCodec<E>} — fixed-width binary encoding used to store values off-heap.</li>
  * </ul>
  * </p>
  *
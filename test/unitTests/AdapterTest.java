@@ -0,0 +1,244 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.RandomAccess;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.MyArrayList;
+import implementations.MyArrayQueue;
+import implementations.MyDLL;
+import implementations.MyQueue;
+import implementations.MyStack;
+
+/**
+ * Class Description:
+ * Test for the java.util adapter views: MyArrayList and MyDLL as List,
+ * MyStack as Deque, and the queues as Queue. Changes through a view must be
+ * visible in the backing structure and the other way round.
+ */
+
+public class AdapterTest
+{
+	// Attributes
+	private MyArrayList<Integer> arrayList;
+	private MyDLL<Integer> linkedList;
+
+	/**
+	 * Initializes both lists with the values 9 down to 0 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		arrayList = new MyArrayList<Integer>();
+		linkedList = new MyDLL<Integer>();
+		for ( int i = 9; i >= 0; i-- )
+		{
+			arrayList.add( i );
+			linkedList.add( i );
+		}
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		arrayList = null;
+		linkedList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#asList()} and
+	 * {@link implementations.MyDLL#asList()}
+	 * with JDK algorithms that read and write through the view.
+	 */
+	@Test
+	public void testAsList_JdkAlgorithms()
+	{
+		List<Integer> arrayView = arrayList.asList();
+		List<Integer> linkedView = linkedList.asList();
+		assertTrue( arrayView instanceof RandomAccess );
+		assertFalse( linkedView instanceof RandomAccess );
+
+		Collections.sort( arrayView );
+		Collections.sort( linkedView );
+		assertEquals( Integer.valueOf( 0 ), arrayList.get( 0 ) );
+		assertEquals( Integer.valueOf( 9 ), linkedList.get( 9 ) );
+		assertEquals( 7, Collections.binarySearch( arrayView, 7 ) );
+		assertEquals( 7, Collections.binarySearch( linkedView, 7 ) );
+
+		List<Integer> expected = new ArrayList<Integer>();
+		for ( int i = 0; i < 10; i++ )
+		{
+			expected.add( i );
+		}
+		assertEquals( expected, arrayView );
+		assertEquals( expected, linkedView );
+		assertEquals( expected.hashCode(), linkedView.hashCode() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#asList()} and
+	 * {@link implementations.MyDLL#asList()}
+	 * to write through in both directions without copying.
+	 */
+	@Test
+	public void testAsList_WriteThrough()
+	{
+		List<Integer> view = linkedList.asList();
+		view.add( 0, 100 );
+		view.set( 1, 200 );
+		assertEquals( Integer.valueOf( 100 ), linkedList.get( 0 ) );
+		assertEquals( Integer.valueOf( 200 ), linkedList.get( 1 ) );
+		linkedList.add( 300 );
+		assertEquals( 12, view.size() );
+		assertEquals( Integer.valueOf( 300 ), view.get( 11 ) );
+		assertTrue( view.remove( Integer.valueOf( 5 ) ) );
+		assertFalse( view.contains( 5 ) );
+		assertFalse( view.contains( null ) );
+		assertEquals( -1, view.indexOf( null ) );
+
+		List<Integer> arrayView = arrayList.asList();
+		arrayView.removeIf( e -> e % 2 == 0 );
+		assertEquals( 5, arrayList.size() );
+		assertArrayEquals( new Object[] { 9, 7, 5, 3, 1 }, arrayList.toArray() );
+		arrayView.subList( 1, 4 ).clear();
+		assertArrayEquals( new Object[] { 9, 1 }, arrayList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#asList()}
+	 * to reject null elements.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAsList_AddNull()
+	{
+		arrayList.asList().add( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#asDeque()}
+	 * against java.util.ArrayDeque over a random sequence of operations at
+	 * both ends.
+	 */
+	@Test
+	public void testAsDeque_MatchesArrayDeque()
+	{
+		MyStack<Integer> stack = new MyStack<Integer>();
+		Deque<Integer> view = stack.asDeque();
+		Deque<Integer> reference = new ArrayDeque<Integer>();
+		Random random = new Random( 7 );
+		for ( int step = 0; step < 2000; step++ )
+		{
+			int value = random.nextInt( 50 );
+			switch ( random.nextInt( 8 ) )
+			{
+				case 0:
+					view.push( value );
+					reference.push( value );
+					break;
+				case 1:
+					view.offerLast( value );
+					reference.offerLast( value );
+					break;
+				case 2:
+					assertEquals( reference.pollFirst(), view.pollFirst() );
+					break;
+				case 3:
+					assertEquals( reference.pollLast(), view.pollLast() );
+					break;
+				case 4:
+					assertEquals( reference.peekFirst(), view.peekFirst() );
+					assertEquals( reference.peekLast(), view.peekLast() );
+					break;
+				case 5:
+					assertEquals( reference.removeFirstOccurrence( value ), view.removeFirstOccurrence( value ) );
+					break;
+				case 6:
+					assertEquals( reference.removeLastOccurrence( value ), view.removeLastOccurrence( value ) );
+					break;
+				default:
+					view.add( value );
+					reference.add( value );
+					break;
+			}
+			assertEquals( reference.size(), view.size() );
+		}
+		assertArrayEquals( reference.toArray(), view.toArray() );
+		assertArrayEquals( stack.toArray(), view.toArray() );
+		List<Integer> descending = new ArrayList<Integer>();
+		view.descendingIterator().forEachRemaining( descending::add );
+		Collections.reverse( descending );
+		assertArrayEquals( reference.toArray(), descending.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#asDeque()}
+	 * to share the top of the stack with push, pop and peek.
+	 */
+	@Test
+	public void testAsDeque_StackEnd()
+	{
+		MyStack<Integer> stack = new MyStack<Integer>();
+		Deque<Integer> view = stack.asDeque();
+		view.push( 1 );
+		stack.push( 2 );
+		assertEquals( Integer.valueOf( 2 ), view.peek() );
+		assertEquals( Integer.valueOf( 2 ), view.pop() );
+		assertEquals( Integer.valueOf( 1 ), stack.peek() );
+		assertNull( new MyStack<Integer>().asDeque().poll() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#asQueue()} and
+	 * {@link implementations.MyArrayQueue#asQueue()}
+	 * to pass offer, poll and peek through to the queue.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testAsQueue() throws EmptyQueueException
+	{
+		MyQueue<Integer> linked = new MyQueue<Integer>();
+		Queue<Integer> view = linked.asQueue();
+		assertNull( view.poll() );
+		assertNull( view.peek() );
+		view.offer( 1 );
+		linked.enqueue( 2 );
+		assertEquals( 2, view.size() );
+		assertEquals( Integer.valueOf( 1 ), view.poll() );
+		assertEquals( Integer.valueOf( 2 ), linked.peek() );
+		assertTrue( view.contains( 2 ) );
+		assertFalse( view.contains( null ) );
+
+		MyArrayQueue<Integer> fixed = new MyArrayQueue<Integer>( 2, true );
+		Queue<Integer> fixedView = fixed.asQueue();
+		assertTrue( fixedView.offer( 1 ) );
+		assertTrue( fixedView.offer( 2 ) );
+		assertFalse( fixedView.offer( 3 ) );
+		List<Integer> seen = new ArrayList<Integer>( fixedView );
+		assertEquals( 2, seen.size() );
+		fixedView.clear();
+		assertTrue( fixed.isEmpty() );
+	}
+}
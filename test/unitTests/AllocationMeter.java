@@ -0,0 +1,121 @@
+package unitTests;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+/**
+ * Class Description:
+ * Test helper that measures how many bytes of heap an operation allocates on
+ * the calling thread, using
+ * {@code com.sun.management.ThreadMXBean.getThreadAllocatedBytes}.
+ * <p>
+ * Each measurement warms the operation up first (so class loading and
+ * interpreter-only allocations are not counted), then reports the smallest
+ * of several runs minus the cost of the measurement itself. The per-thread
+ * counter is exact, so a result of zero really means the operation did not
+ * allocate.
+ * </p>
+ * Tests should call {@link #assumeSupported()} (or use one of the assert
+ * methods, which do so) so they are skipped on JVMs without the counter.
+ */
+public final class AllocationMeter
+{
+	/** Number of untimed runs before measuring. */
+	private static final int WARMUP_RUNS = 20;
+
+	/** Number of measured runs; the minimum is reported. */
+	private static final int MEASURED_RUNS = 5;
+
+	private static final com.sun.management.ThreadMXBean MX = lookup();
+
+	private AllocationMeter()
+	{
+	}
+
+	private static com.sun.management.ThreadMXBean lookup()
+	{
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if ( !( bean instanceof com.sun.management.ThreadMXBean ) )
+		{
+			return null;
+		}
+		com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) bean;
+		if ( !mx.isThreadAllocatedMemorySupported() )
+		{
+			return null;
+		}
+		if ( !mx.isThreadAllocatedMemoryEnabled() )
+		{
+			mx.setThreadAllocatedMemoryEnabled( true );
+		}
+		return mx;
+	}
+
+	/**
+	 * Skips the calling test when the JVM cannot count allocated bytes.
+	 */
+	public static void assumeSupported()
+	{
+		assumeTrue( "Thread allocation counter not available", MX != null );
+	}
+
+	/**
+	 * Returns the number of bytes allocated by a single run of {@code op}.
+	 *
+	 * @param op the operation to measure; it must be repeatable
+	 * @return bytes allocated by one run, never negative
+	 */
+	public static long bytesAllocated( Runnable op )
+	{
+		assumeSupported();
+		Runnable empty = () -> { };
+		for ( int i = 0; i < WARMUP_RUNS; i++ )
+		{
+			op.run();
+			once( empty );
+		}
+		long overhead = Long.MAX_VALUE;
+		long best = Long.MAX_VALUE;
+		for ( int i = 0; i < MEASURED_RUNS; i++ )
+		{
+			overhead = Math.min( overhead, once( empty ) );
+			best = Math.min( best, once( op ) );
+		}
+		return Math.max( 0, best - overhead );
+	}
+
+	private static long once( Runnable op )
+	{
+		long id = Thread.currentThread().getId();
+		long before = MX.getThreadAllocatedBytes( id );
+		op.run();
+		return MX.getThreadAllocatedBytes( id ) - before;
+	}
+
+	/**
+	 * Fails unless one run of {@code op} allocates at most {@code maxBytes}.
+	 *
+	 * @param message  description of the operation, used in the failure message
+	 * @param maxBytes largest acceptable allocation in bytes
+	 * @param op       the operation to measure
+	 */
+	public static void assertAllocatesAtMost( String message, long maxBytes, Runnable op )
+	{
+		long actual = bytesAllocated( op );
+		assertTrue( message + ": allocated " + actual + " bytes, budget " + maxBytes,
+				actual <= maxBytes );
+	}
+
+	/**
+	 * Fails if one run of {@code op} allocates anything at all.
+	 *
+	 * @param message description of the operation, used in the failure message
+	 * @param op      the operation to measure
+	 */
+	public static void assertNoAllocation( String message, Runnable op )
+	{
+		assertAllocatesAtMost( message, 0, op );
+	}
+}
@@ -0,0 +1,367 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import appDomain.XMLParser;
+import exceptions.EmptyQueueException;
+import implementations.IntArrayList;
+import implementations.LongStack;
+import implementations.MyArrayList;
+import implementations.MyArrayQueue;
+import implementations.MyIndexedDLL;
+import implementations.MyQueue;
+import implementations.MyStack;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Allocation-regression tests for the hot paths of the data structures and
+ * the XML parser. Each test measures the bytes allocated by a steady-state
+ * operation with {@link AllocationMeter} and fails when it exceeds the
+ * budget, so a change that introduces garbage on these paths is caught here
+ * rather than as GC pauses in production.
+ */
+public class AllocationTest
+{
+	/** Elements pushed, iterated or parsed per measured run. */
+	private static final int OPS = 10_000;
+
+	/** Upper bound for one iterator object, independent of list size. */
+	private static final long ITERATOR_BUDGET = 64;
+
+	/**
+	 * Current allocation ceiling per tag for {@code XMLParser.parse}. Tags
+	 * live on a primitive stack as interned IDs, so what remains is the line
+	 * strings from {@code readLine}; this budget only guards against it
+	 * getting worse.
+	 */
+	private static final long PARSER_BYTES_PER_TAG = 150;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	// Attributes
+	private Integer[] values;
+	private long sink;
+
+	/**
+	 * Creates the boxed values used by the tests, so that boxing is not
+	 * counted as allocation by the operation under test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		AllocationMeter.assumeSupported();
+		values = new Integer[OPS];
+		for ( int i = 0; i < OPS; i++ )
+		{
+			values[i] = i + 1000;
+		}
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		values = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#push(Object)} and
+	 * {@link implementations.MyStack#pop()}
+	 * to allocate nothing once the stack has reached its working size.
+	 */
+	@Test
+	public void testStackPushPop_NoAllocation()
+	{
+		MyStack<Integer> stack = new MyStack<>();
+		AllocationMeter.assertNoAllocation( "MyStack push/pop", () -> {
+			for ( int i = 0; i < OPS; i++ )
+			{
+				stack.push( values[i] );
+			}
+			while ( !stack.isEmpty() )
+			{
+				stack.pop();
+			}
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongStack#push(long)} and
+	 * {@link implementations.LongStack#pop()}
+	 * to allocate nothing once the stack has reached its working size.
+	 */
+	@Test
+	public void testLongStackPushPop_NoAllocation()
+	{
+		LongStack stack = new LongStack();
+		AllocationMeter.assertNoAllocation( "LongStack push/pop", () -> {
+			for ( int i = 0; i < OPS; i++ )
+			{
+				stack.push( ( (long) i << 32 ) | i );
+			}
+			long total = 0;
+			while ( !stack.isEmpty() )
+			{
+				total += stack.pop();
+			}
+			sink = total;
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyIndexedDLL#addLast(Object)} and
+	 * {@link implementations.MyIndexedDLL#removeFirst()}
+	 * to allocate nothing once freed slots are being recycled.
+	 */
+	@Test
+	public void testIndexedDLLAddRemove_NoAllocation()
+	{
+		MyIndexedDLL<Integer> list = new MyIndexedDLL<>();
+		AllocationMeter.assertNoAllocation( "MyIndexedDLL addLast/removeFirst", () -> {
+			for ( int i = 0; i < OPS; i++ )
+			{
+				list.addLast( values[i] );
+			}
+			while ( !list.isEmpty() )
+			{
+				list.removeFirst();
+			}
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#MyArrayList(utilities.ListADT)}
+	 * to allocate one exactly sized array (plus the list object) when copying
+	 * another array list.
+	 */
+	@Test
+	public void testArrayListCopyConstructor_OneArray()
+	{
+		MyArrayList<Integer> source = new MyArrayList<>();
+		for ( int i = 0; i < OPS; i++ )
+		{
+			source.add( values[i] );
+		}
+		AllocationMeter.assertAllocatesAtMost( "MyArrayList copy constructor", 8L * OPS + 64, () -> {
+			sink = new MyArrayList<>( source ).size();
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#MyQueue(utilities.QueueADT)}
+	 * to allocate no more than enqueueing the same elements into an empty
+	 * queue: one node per element and no staging array.
+	 */
+	@Test
+	public void testQueueCopyConstructor_NodesOnly()
+	{
+		MyQueue<Integer> source = new MyQueue<>();
+		for ( int i = 0; i < OPS; i++ )
+		{
+			source.enqueue( values[i] );
+		}
+		long nodes = AllocationMeter.bytesAllocated( () -> {
+			MyQueue<Integer> queue = new MyQueue<>();
+			for ( int i = 0; i < OPS; i++ )
+			{
+				queue.enqueue( values[i] );
+			}
+			sink = queue.size();
+		} );
+		AllocationMeter.assertAllocatesAtMost( "MyQueue copy constructor", nodes + 64, () -> {
+			sink = new MyQueue<>( source ).size();
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#peek()}
+	 * to allocate nothing.
+	 */
+	@Test
+	public void testStackPeek_NoAllocation()
+	{
+		MyStack<Integer> stack = new MyStack<>();
+		stack.push( values[0] );
+		AllocationMeter.assertNoAllocation( "MyStack peek", () -> {
+			long total = 0;
+			for ( int i = 0; i < OPS; i++ )
+			{
+				total += stack.peek();
+			}
+			sink = total;
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#enqueue(Object)} and
+	 * {@link implementations.MyArrayQueue#dequeue()}
+	 * to allocate nothing once the buffer has reached its working size.
+	 */
+	@Test
+	public void testArrayQueueEnqueueDequeue_NoAllocation()
+	{
+		MyArrayQueue<Integer> queue = new MyArrayQueue<>();
+		AllocationMeter.assertNoAllocation( "MyArrayQueue enqueue/dequeue", () -> {
+			try
+			{
+				for ( int i = 0; i < OPS; i++ )
+				{
+					queue.enqueue( values[i] );
+				}
+				while ( !queue.isEmpty() )
+				{
+					queue.dequeue();
+				}
+			}
+			catch ( EmptyQueueException e )
+			{
+				throw new IllegalStateException( e );
+			}
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#iterator()}
+	 * to allocate at most one iterator regardless of the list size.
+	 */
+	@Test
+	public void testArrayListIteration_BoundedAllocation()
+	{
+		MyArrayList<Integer> list = new MyArrayList<>();
+		for ( int i = 0; i < OPS; i++ )
+		{
+			list.add( values[i] );
+		}
+		AllocationMeter.assertAllocatesAtMost( "MyArrayList iteration", ITERATOR_BUDGET, () -> {
+			long total = 0;
+			Iterator<Integer> it = list.iterator();
+			while ( it.hasNext() )
+			{
+				total += it.next();
+			}
+			sink = total;
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#get(int)} and
+	 * {@link implementations.MyArrayList#set(int, Object)}
+	 * to allocate nothing.
+	 */
+	@Test
+	public void testArrayListGetSet_NoAllocation()
+	{
+		MyArrayList<Integer> list = new MyArrayList<>();
+		for ( int i = 0; i < OPS; i++ )
+		{
+			list.add( values[i] );
+		}
+		AllocationMeter.assertNoAllocation( "MyArrayList get/set", () -> {
+			for ( int i = 0; i < OPS; i++ )
+			{
+				list.set( i, list.get( OPS - 1 - i ) );
+			}
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#add(int)} and
+	 * {@link implementations.IntArrayList#get(int)}
+	 * to allocate nothing, since values are stored unboxed.
+	 */
+	@Test
+	public void testIntArrayListAddGet_NoAllocation()
+	{
+		IntArrayList list = new IntArrayList( OPS );
+		AllocationMeter.assertNoAllocation( "IntArrayList add/get", () -> {
+			list.clear();
+			for ( int i = 0; i < OPS; i++ )
+			{
+				list.add( i );
+			}
+			long total = 0;
+			for ( int i = 0; i < OPS; i++ )
+			{
+				total += list.get( i );
+			}
+			sink = total;
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#parse(File)}
+	 * to stay within the per-tag allocation budget on a well-formed document.
+	 * @throws IOException 
+	 */
+	@Test
+	public void testParserTagLoop_BoundedAllocation() throws IOException
+	{
+		File file = folder.newFile( "alloc.xml" );
+		int tags = writeDocument( file, OPS );
+		PrintStream quiet = new PrintStream( new OutputStream()
+		{
+			@Override
+			public void write( int b )
+			{
+			}
+		} );
+
+		long bytes = AllocationMeter.bytesAllocated( () -> new XMLParser( quiet ).parse( file ) );
+		long perTag = bytes / tags;
+		assertTrue( "XMLParser allocated " + perTag + " bytes per tag, budget " + PARSER_BYTES_PER_TAG,
+				perTag <= PARSER_BYTES_PER_TAG );
+	}
+
+	/**
+	 * Writes a well-formed document with nested and attributed elements.
+	 *
+	 * @return the number of tags written
+	 */
+	private static int writeDocument( File file, int elements ) throws IOException
+	{
+		int tags = 2;
+		try ( Writer w = new FileWriter( file ) )
+		{
+			w.write( "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n<XMLDATA>\n" );
+			for ( int i = 0; i < elements; i += 2 )
+			{
+				w.write( "\t<Driver FolderName=\"driver" + i + "\">\n" );
+				w.write( "\t\t<Name>value " + i + "</Name>\n" );
+				w.write( "\t</Driver>\n" );
+				tags += 4;
+			}
+			w.write( "</XMLDATA>\n" );
+		}
+		return tags;
+	}
+}
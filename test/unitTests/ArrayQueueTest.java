@@ -0,0 +1,432 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.MyArrayQueue;
+import implementations.MyQueue;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the circular-buffer implementation of the QueueADT, covering the
+ * wrap-around, growth and fixed-capacity behaviour on top of the ordinary
+ * queue contract.
+ */
+
+public class ArrayQueueTest
+{
+	// Attributes
+	private MyArrayQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+	private Integer four;
+	private Integer five;
+
+	/**
+	 * Initializes a MyArrayQueue instance and five Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyArrayQueue<Integer>();
+		one = 111;
+		two = 222;
+		three = 333;
+		four = 444;
+		five = 555;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+		four = null;
+		five = null;
+	}
+
+	/**
+	 * Fills a queue so that its live range wraps around the end of the buffer.
+	 */
+	private void wrap( MyArrayQueue<Integer> q, int capacity ) throws EmptyQueueException
+	{
+		for ( int i = 0; i < capacity - 2; i++ )
+		{
+			q.enqueue( i );
+		}
+		for ( int i = 0; i < capacity - 2; i++ )
+		{
+			q.dequeue();
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#enqueue(Object)} and
+	 * {@link implementations.MyArrayQueue#dequeue()}
+	 * to return items in FIFO order.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testEnqueueDequeue_Order() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		assertEquals( "Failed to dequeue first item.", one, queue.dequeue() );
+		assertEquals( "Failed to dequeue second item.", two, queue.dequeue() );
+		assertEquals( "Failed to dequeue third item.", three, queue.dequeue() );
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#enqueue(Object)}
+	 * to throw NullPointerException when enqueuing null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testEnqueue_NullPointerException()
+	{
+		queue.enqueue( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#dequeue()}
+	 * to throw EmptyQueueException on an empty queue.
+	 * @throws EmptyQueueException 
+	 */
+	@Test( expected = EmptyQueueException.class )
+	public void testDequeue_Empty() throws EmptyQueueException
+	{
+		queue.dequeue();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#peek()}
+	 * to return the front item without removing it.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testPeek_First() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		assertEquals( "Failed to peek front item.", one, queue.peek() );
+		assertEquals( "Failed to keep item after peek.", 2, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#peek()}
+	 * to throw EmptyQueueException on an empty queue.
+	 * @throws EmptyQueueException 
+	 */
+	@Test( expected = EmptyQueueException.class )
+	public void testPeek_Empty() throws EmptyQueueException
+	{
+		queue.peek();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#enqueue(Object)}
+	 * to keep FIFO order when the buffer grows while wrapped around.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testEnqueue_GrowWhileWrapped() throws EmptyQueueException
+	{
+		MyArrayQueue<Integer> q = new MyArrayQueue<>( 8 );
+		wrap( q, 8 );
+		for ( int i = 0; i < 100; i++ )
+		{
+			q.enqueue( i );
+		}
+		assertEquals( "Failed to grow.", 100, q.size() );
+		for ( int i = 0; i < 100; i++ )
+		{
+			assertEquals( "Failed to keep order after growth.", Integer.valueOf( i ), q.dequeue() );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#isFull()}
+	 * to return false for a growable queue.
+	 */
+	@Test
+	public void testIsFull_Growable()
+	{
+		for ( int i = 0; i < 1000; i++ )
+		{
+			queue.enqueue( i );
+		}
+		assertFalse( "Failed to report growable queue as not full.", queue.isFull() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#isFull()}
+	 * to return true once a fixed queue holds its capacity, even when the
+	 * capacity is not a power of two.
+	 */
+	@Test
+	public void testIsFull_Fixed()
+	{
+		MyArrayQueue<Integer> q = new MyArrayQueue<>( 3, true );
+		q.enqueue( one );
+		q.enqueue( two );
+		assertFalse( "Failed to report queue as not full.", q.isFull() );
+		q.enqueue( three );
+		assertTrue( "Failed to report queue as full.", q.isFull() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#enqueue(Object)}
+	 * to throw IllegalStateException when a fixed queue is full.
+	 */
+	@Test( expected = IllegalStateException.class )
+	public void testEnqueue_FixedFull()
+	{
+		MyArrayQueue<Integer> q = new MyArrayQueue<>( 2, true );
+		q.enqueue( one );
+		q.enqueue( two );
+		q.enqueue( three );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#isFull()}
+	 * to return false again after a dequeue from a full fixed queue.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testIsFull_AfterDequeue() throws EmptyQueueException
+	{
+		MyArrayQueue<Integer> q = new MyArrayQueue<>( 2, true );
+		q.enqueue( one );
+		q.enqueue( two );
+		q.dequeue();
+		assertFalse( "Failed to report queue as not full.", q.isFull() );
+		q.enqueue( three );
+		assertEquals( "Failed to keep order.", two, q.dequeue() );
+		assertEquals( "Failed to keep order.", three, q.dequeue() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#MyArrayQueue(int, boolean)}
+	 * to reject a negative capacity.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_NegativeCapacity()
+	{
+		new MyArrayQueue<Integer>( -1, false );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#MyArrayQueue(utilities.QueueADT)}
+	 * to copy another queue in order.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testCopyConstructor() throws EmptyQueueException
+	{
+		MyQueue<Integer> source = new MyQueue<>();
+		source.enqueue( one );
+		source.enqueue( two );
+		source.enqueue( three );
+		MyArrayQueue<Integer> copy = new MyArrayQueue<>( source );
+		assertEquals( "Failed to copy size.", 3, copy.size() );
+		assertTrue( "Failed to copy items.", copy.equals( source ) );
+		copy.enqueue( four );
+		assertEquals( "Failed to keep source independent.", 3, source.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#dequeueAll()}
+	 * to clear a wrapped queue.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testDequeueAll_Wrapped() throws EmptyQueueException
+	{
+		MyArrayQueue<Integer> q = new MyArrayQueue<>( 8 );
+		wrap( q, 8 );
+		q.enqueue( one );
+		q.enqueue( two );
+		q.enqueue( three );
+		q.enqueue( four );
+		q.dequeueAll();
+		assertTrue( "Failed to clear.", q.isEmpty() );
+		q.enqueue( five );
+		assertEquals( "Failed to reuse cleared queue.", five, q.peek() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#iterator()}
+	 * to walk a wrapped queue from front to rear.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testIterator_Wrapped() throws EmptyQueueException
+	{
+		MyArrayQueue<Integer> q = new MyArrayQueue<>( 8 );
+		wrap( q, 8 );
+		q.enqueue( one );
+		q.enqueue( two );
+		q.enqueue( three );
+		q.enqueue( four );
+		Iterator<Integer> it = q.iterator();
+		assertEquals( one, it.next() );
+		assertEquals( two, it.next() );
+		assertEquals( three, it.next() );
+		assertEquals( four, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#iterator()}
+	 * to throw NoSuchElementException past the end.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_Exhausted()
+	{
+		queue.iterator().next();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#toArray()}
+	 * to copy a wrapped queue front first.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testToArray_Wrapped() throws EmptyQueueException
+	{
+		MyArrayQueue<Integer> q = new MyArrayQueue<>( 8 );
+		wrap( q, 8 );
+		q.enqueue( one );
+		q.enqueue( two );
+		q.enqueue( three );
+		q.enqueue( four );
+		assertArrayEquals( "Failed to convert queue to array.",
+				new Object[] { one, two, three, four }, q.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#toArray(Object[])}
+	 * to fill a large enough array and null-terminate it.
+	 */
+	@Test
+	public void testToArrayEArray_SufficientArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Integer[] holder = { five, five, five, five };
+		Integer[] actual = queue.toArray( holder );
+		assertSame( "Failed to reuse the array.", holder, actual );
+		assertArrayEquals( "Failed to convert queue to array.",
+				new Integer[] { one, two, null, five }, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#toArray(Object[])}
+	 * to allocate a new array of the same type when the holder is too small.
+	 */
+	@Test
+	public void testToArrayEArray_InsufficientArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		Integer[] actual = queue.toArray( new Integer[1] );
+		assertArrayEquals( "Failed to convert queue to array.",
+				new Integer[] { one, two, three }, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#toArray(Object[])}
+	 * to throw NullPointerException for a null holder.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testToArrayNullArray()
+	{
+		queue.toArray( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#contains(Object)} and
+	 * {@link implementations.MyArrayQueue#search(Object)}
+	 * to find items in a wrapped queue.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testContainsSearch_Wrapped() throws EmptyQueueException
+	{
+		MyArrayQueue<Integer> q = new MyArrayQueue<>( 4 );
+		wrap( q, 4 );
+		q.enqueue( one );
+		q.enqueue( two );
+		q.enqueue( three );
+		assertTrue( "Failed to find item.", q.contains( three ) );
+		assertFalse( "Failed to miss item.", q.contains( four ) );
+		assertEquals( "Failed to search item.", 3, q.search( three ) );
+		assertEquals( "Failed to search missing item.", -1, q.search( four ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#contains(Object)}
+	 * to throw NullPointerException for null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testContains_NullPointerException()
+	{
+		queue.contains( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#equals(utilities.QueueADT)}
+	 * to compare by content and order.
+	 */
+	@Test
+	public void testEquals()
+	{
+		MyArrayQueue<Integer> other = new MyArrayQueue<>();
+		queue.enqueue( one );
+		queue.enqueue( two );
+		other.enqueue( one );
+		other.enqueue( two );
+		assertTrue( "Failed to return true.", queue.equals( other ) );
+		other.enqueue( three );
+		assertFalse( "Failed to return false.", queue.equals( other ) );
+	}
+}
@@ -0,0 +1,360 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.MyArrayList;
+import implementations.MyBoundedBlockingQueue;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the bounded, blocking (two-lock) implementation of the QueueADT.
+ * Covers the non-blocking queue contract, the full/empty behaviour of the
+ * timed and blocking variants, bulk draining, and a producer/consumer stress
+ * run through a small buffer.
+ */
+
+public class BoundedBlockingQueueTest
+{
+	/** Elements put by each producer in the stress test. */
+	private static final int PER_PRODUCER = 20_000;
+
+	// Attributes
+	private MyBoundedBlockingQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a MyBoundedBlockingQueue of capacity 3 and three Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyBoundedBlockingQueue<Integer>( 3 );
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#enqueue(Object)} and
+	 * {@link implementations.MyBoundedBlockingQueue#dequeue()}
+	 * to return items in FIFO order.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testEnqueueDequeue_Order() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		assertEquals( "Failed to update size.", 3, queue.size() );
+		assertEquals( "Failed to peek front item.", one, queue.peek() );
+		assertEquals( one, queue.dequeue() );
+		assertEquals( two, queue.dequeue() );
+		assertEquals( three, queue.dequeue() );
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#isFull()} and
+	 * {@link implementations.MyBoundedBlockingQueue#enqueue(Object)}
+	 * to report a full queue and reject further elements.
+	 */
+	@Test
+	public void testEnqueue_Full()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		assertFalse( "Failed to report room left.", queue.isFull() );
+		queue.enqueue( three );
+		assertTrue( "Failed to report full queue.", queue.isFull() );
+		assertEquals( "Failed to report remaining capacity.", 0, queue.remainingCapacity() );
+		try
+		{
+			queue.enqueue( one );
+			fail( "Failed to reject element on a full queue." );
+		}
+		catch ( IllegalStateException e )
+		{
+			assertEquals( "Failed to keep size on rejection.", 3, queue.size() );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#dequeue()}
+	 * to throw EmptyQueueException on an empty queue.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = EmptyQueueException.class )
+	public void testDequeue_Empty() throws EmptyQueueException
+	{
+		queue.dequeue();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#enqueue(Object)}
+	 * to throw NullPointerException on null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testEnqueue_Null()
+	{
+		queue.enqueue( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#MyBoundedBlockingQueue(int)}
+	 * to reject a capacity below one.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_ZeroCapacity()
+	{
+		new MyBoundedBlockingQueue<Integer>( 0 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#enqueue(Object, long, TimeUnit)} and
+	 * {@link implementations.MyBoundedBlockingQueue#dequeue(long, TimeUnit)}
+	 * to give up after the timeout on a full or empty queue.
+	 * @throws InterruptedException
+	 */
+	@Test( timeout = 10_000 )
+	public void testTimed_Timeout() throws InterruptedException
+	{
+		assertNull( "Failed to time out on empty queue.", queue.dequeue( 10, TimeUnit.MILLISECONDS ) );
+		assertTrue( queue.enqueue( one, 10, TimeUnit.MILLISECONDS ) );
+		assertTrue( queue.enqueue( two, 10, TimeUnit.MILLISECONDS ) );
+		assertTrue( queue.enqueue( three, 10, TimeUnit.MILLISECONDS ) );
+		assertFalse( "Failed to time out on full queue.", queue.enqueue( one, 10, TimeUnit.MILLISECONDS ) );
+		assertEquals( one, queue.dequeue( 10, TimeUnit.MILLISECONDS ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#put(Object)}
+	 * to block on a full queue until a consumer makes room.
+	 * @throws Exception
+	 */
+	@Test( timeout = 10_000 )
+	public void testPut_BlocksUntilTake() throws Exception
+	{
+		queue.put( one );
+		queue.put( two );
+		queue.put( three );
+		CountDownLatch done = new CountDownLatch( 1 );
+		Thread producer = new Thread( () -> {
+			try
+			{
+				queue.put( 444 );
+				done.countDown();
+			}
+			catch ( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+			}
+		} );
+		producer.start();
+
+		assertFalse( "Failed to block producer on full queue.", done.await( 50, TimeUnit.MILLISECONDS ) );
+		assertEquals( one, queue.take() );
+		assertTrue( "Failed to wake producer.", done.await( 5, TimeUnit.SECONDS ) );
+		producer.join();
+		assertEquals( two, queue.take() );
+		assertEquals( three, queue.take() );
+		assertEquals( Integer.valueOf( 444 ), queue.take() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#drainTo(utilities.ListADT, int)}
+	 * to move at most the requested number of elements in queue order.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDrainTo_Max() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		MyArrayList<Integer> target = new MyArrayList<Integer>();
+		assertEquals( 2, queue.drainTo( target, 2 ) );
+		assertEquals( one, target.get( 0 ) );
+		assertEquals( two, target.get( 1 ) );
+		assertEquals( "Failed to keep undrained element.", three, queue.peek() );
+		assertEquals( 1, queue.drainTo( target ) );
+		assertEquals( three, target.get( 2 ) );
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+		assertEquals( 0, queue.drainTo( target ) );
+		queue.enqueue( one );
+		assertEquals( "Failed to reuse queue after drain.", one, queue.dequeue() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#dequeueAll()}
+	 * to empty the queue and leave it usable.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeueAll() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.dequeueAll();
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+		assertEquals( 0, queue.toArray().length );
+		queue.enqueue( three );
+		assertEquals( three, queue.dequeue() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#iterator()},
+	 * {@link implementations.MyBoundedBlockingQueue#search(Object)} and
+	 * {@link implementations.MyBoundedBlockingQueue#toArray(Object[])}
+	 * to report elements front to rear.
+	 */
+	@Test
+	public void testIteratorSearchToArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		Iterator<Integer> it = queue.iterator();
+		assertEquals( one, it.next() );
+		assertEquals( two, it.next() );
+		assertEquals( three, it.next() );
+		assertFalse( it.hasNext() );
+		assertEquals( 2, queue.search( two ) );
+		assertEquals( -1, queue.search( 999 ) );
+		assertTrue( queue.contains( three ) );
+		Integer[] holder = new Integer[5];
+		Integer[] result = queue.toArray( holder );
+		assertSame( holder, result );
+		assertEquals( three, result[2] );
+		assertNull( result[3] );
+	}
+
+	/**
+	 * Stress test for
+	 * {@link implementations.MyBoundedBlockingQueue#put(Object)} and
+	 * {@link implementations.MyBoundedBlockingQueue#take()}
+	 * through a small buffer, checking that every value arrives exactly once
+	 * and in per-producer order.
+	 * @throws InterruptedException
+	 */
+	@Test( timeout = 60_000 )
+	public void testStress_PutTake() throws InterruptedException
+	{
+		final int producers = 4;
+		final int consumers = 3;
+		final int total = producers * PER_PRODUCER;
+		final MyBoundedBlockingQueue<Integer> buffer = new MyBoundedBlockingQueue<Integer>( 8 );
+		final AtomicIntegerArray seen = new AtomicIntegerArray( total );
+		final AtomicReference<String> failure = new AtomicReference<>();
+		final CountDownLatch consumed = new CountDownLatch( total );
+		Thread[] threads = new Thread[producers + consumers];
+
+		for ( int p = 0; p < producers; p++ )
+		{
+			final int base = p * PER_PRODUCER;
+			threads[p] = new Thread( () -> {
+				try
+				{
+					for ( int i = 0; i < PER_PRODUCER; i++ )
+					{
+						buffer.put( base + i );
+					}
+				}
+				catch ( InterruptedException e )
+				{
+					Thread.currentThread().interrupt();
+				}
+			} );
+		}
+		for ( int c = 0; c < consumers; c++ )
+		{
+			threads[producers + c] = new Thread( () -> {
+				int[] lastFromProducer = new int[producers];
+				java.util.Arrays.fill( lastFromProducer, -1 );
+				try
+				{
+					while ( consumed.getCount() > 0 )
+					{
+						Integer v = buffer.dequeue( 10, TimeUnit.MILLISECONDS );
+						if ( v == null )
+						{
+							continue;
+						}
+						if ( buffer.size() > buffer.capacity() )
+						{
+							failure.compareAndSet( null, "over capacity" );
+						}
+						int producer = v / PER_PRODUCER;
+						if ( v <= lastFromProducer[producer] )
+						{
+							failure.compareAndSet( null, "out of order: " + v );
+						}
+						lastFromProducer[producer] = v;
+						if ( seen.getAndIncrement( v ) != 0 )
+						{
+							failure.compareAndSet( null, "duplicate: " + v );
+						}
+						consumed.countDown();
+					}
+				}
+				catch ( InterruptedException e )
+				{
+					Thread.currentThread().interrupt();
+				}
+			} );
+		}
+
+		for ( Thread t : threads )
+		{
+			t.start();
+		}
+		for ( Thread t : threads )
+		{
+			t.join();
+		}
+
+		assertNull( failure.get(), failure.get() );
+		for ( int i = 0; i < total; i++ )
+		{
+			assertEquals( "Lost or duplicated value " + i, 1, seen.get( i ) );
+		}
+		assertTrue( "Failed to drain queue.", buffer.isEmpty() );
+	}
+}
@@ -0,0 +1,469 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import implementations.MyGapList;
+import implementations.MyIndexedDLL;
+import implementations.MySegmentedList;
+import implementations.MyUnrolledList;
+import utilities.ListADT;
+
+/**
+ * Class Description:
+ * Test for the bulk removal methods removeIf, removeAll and retainAll on
+ * every list type, checked against java.util.ArrayList, including a
+ * predicate that throws part way through.
+ */
+
+public class BulkRemoveTest
+{
+	/** Elements per list; spans several chunks and nodes. */
+	private static final int N = 500;
+
+	// Attributes
+	private Random random;
+
+	/**
+	 * Creates a seeded random source before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		random = new Random( 5 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		random = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link utilities.ListADT#removeIf(java.util.function.Predicate)}
+	 * on every list type with random predicates.
+	 */
+	@Test
+	public void testRemoveIf_AllLists()
+	{
+		for ( int kind = 0; kind < 6; kind++ )
+		{
+			for ( int round = 0; round < 5; round++ )
+			{
+				final int modulus = 2 + random.nextInt( 5 );
+				ListADT<Integer> list = filled( kind );
+				List<Integer> expected = reference();
+				boolean changed = expected.removeIf( e -> e % modulus == 0 );
+				assertEquals( changed, list.removeIf( e -> e % modulus == 0 ) );
+				assertContents( "list " + kind, expected, list );
+				assertFalse( list.removeIf( e -> e < 0 ) );
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link utilities.ListADT#removeAll(utilities.ListADT)} and
+	 * {@link utilities.ListADT#retainAll(utilities.ListADT)}
+	 * with small (linear scan) and large (hash set) arguments.
+	 */
+	@Test
+	public void testRemoveAllRetainAll_AllLists()
+	{
+		for ( int kind = 0; kind < 6; kind++ )
+		{
+			for ( int argSize : new int[] { 3, 200 } )
+			{
+				MyDLL<Integer> argument = new MyDLL<Integer>();
+				Set<Integer> set = new HashSet<Integer>();
+				for ( int i = 0; i < argSize; i++ )
+				{
+					int value = random.nextInt( N + 50 );
+					argument.add( value );
+					set.add( value );
+				}
+
+				ListADT<Integer> removed = filled( kind );
+				List<Integer> expectedRemoved = reference();
+				expectedRemoved.removeAll( set );
+				assertTrue( removed.removeAll( argument ) );
+				assertContents( "removeAll " + kind, expectedRemoved, removed );
+
+				ListADT<Integer> retained = filled( kind );
+				List<Integer> expectedRetained = reference();
+				expectedRetained.retainAll( set );
+				assertTrue( retained.retainAll( argument ) );
+				assertContents( "retainAll " + kind, expectedRetained, retained );
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link utilities.ListADT#removeAll(utilities.ListADT)} and
+	 * {@link utilities.ListADT#retainAll(utilities.ListADT)}
+	 * with the list itself as the argument.
+	 */
+	@Test
+	public void testRemoveAllRetainAll_Self()
+	{
+		for ( int kind = 0; kind < 6; kind++ )
+		{
+			ListADT<Integer> list = filled( kind );
+			assertFalse( list.retainAll( list ) );
+			assertEquals( N, list.size() );
+			assertTrue( list.removeAll( list ) );
+			assertTrue( list.isEmpty() );
+			list.add( 1 );
+			assertEquals( Integer.valueOf( 1 ), list.get( 0 ) );
+		}
+	}
+
+	/**
+	 * Test method for the removeIf overrides of MyArrayList, MyDLL,
+	 * MySegmentedList, MyGapList and MyUnrolledList to keep the unvisited
+	 * elements when the predicate throws.
+	 */
+	@Test
+	public void testRemoveIf_PredicateThrows()
+	{
+		for ( int kind = 0; kind < 5; kind++ )
+		{
+			ListADT<Integer> list = filled( kind );
+			try
+			{
+				list.removeIf( e -> {
+					if ( e == 100 )
+					{
+						throw new IllegalStateException();
+					}
+					return e % 2 == 0;
+				} );
+				fail( "predicate exception was swallowed" );
+			}
+			catch ( IllegalStateException expectedException )
+			{
+				// expected
+			}
+			List<Integer> expected = reference();
+			expected.removeIf( e -> e < 100 && e % 2 == 0 );
+			assertContents( "list " + kind, expected, list );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#removeIf(java.util.function.Predicate)}
+	 * to throw ConcurrentModificationException when the predicate modifies
+	 * the list, and to leave the list exactly as the predicate left it.
+	 */
+	@Test
+	public void testArrayList_RemoveIf_Modified()
+	{
+		final MyArrayList<Integer> list = new MyArrayList<Integer>();
+		for ( int i = 0; i < 10; i++ )
+		{
+			list.add( i );
+		}
+		try
+		{
+			// Selects 0 and 1, then appends past the initial capacity
+			list.removeIf( e -> e < 2 || list.add( 100 + e ) && false );
+			fail( "modification by the predicate was not detected" );
+		}
+		catch ( ConcurrentModificationException expectedException )
+		{
+			// expected
+		}
+		assertArrayEquals( new Object[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 102 }, list.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#removeIf(java.util.function.Predicate)}
+	 * to throw ConcurrentModificationException when the predicate modifies
+	 * the list, and to leave the list exactly as the predicate left it.
+	 */
+	@Test
+	public void testDLL_RemoveIf_Modified()
+	{
+		final MyDLL<Integer> list = new MyDLL<Integer>();
+		for ( int i = 0; i < 10; i++ )
+		{
+			list.add( i );
+		}
+		try
+		{
+			// Selects 0 and 1, then removes 5 while testing 2
+			list.removeIf( e -> e < 2 || e == 2 && list.remove( 5 ) == null );
+			fail( "modification by the predicate was not detected" );
+		}
+		catch ( ConcurrentModificationException expectedException )
+		{
+			// expected
+		}
+		List<Integer> expected = reference().subList( 0, 10 );
+		expected.remove( 5 );
+		assertContents( "linked", expected, list );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#removeIf(java.util.function.Predicate)}
+	 * to throw ConcurrentModificationException when the predicate adds an
+	 * element, and to leave the list exactly as the predicate left it.
+	 */
+	@Test
+	public void testGapList_RemoveIf_Modified()
+	{
+		final MyGapList<Integer> list = new MyGapList<Integer>( 2 );
+		for ( int i = 0; i < 5; i++ )
+		{
+			list.add( i );
+		}
+		try
+		{
+			// Selects 0, then inserts at the front while testing 2
+			list.removeIf( e -> {
+				if ( e == 2 )
+				{
+					list.add( 0, 99 );
+				}
+				return e == 0;
+			} );
+			fail( "modification by the predicate was not detected" );
+		}
+		catch ( ConcurrentModificationException expectedException )
+		{
+			// expected
+		}
+		assertArrayEquals( new Object[] { 99, 0, 1, 2, 3, 4 }, list.toArray() );
+	}
+
+	/**
+	 * Test method for the removeIf overrides of MySegmentedList and
+	 * MyUnrolledList to throw ConcurrentModificationException when the
+	 * predicate adds an element, and to leave the list exactly as the
+	 * predicate left it.
+	 */
+	@Test
+	public void testChunkedLists_RemoveIf_Modified()
+	{
+		for ( int kind : new int[] { 2, 4 } )
+		{
+			final ListADT<Integer> list = filled( kind );
+			try
+			{
+				// Selects the even elements, then inserts at the front while testing 300
+				list.removeIf( e -> {
+					if ( e == 300 )
+					{
+						list.add( 0, -5 );
+					}
+					return e % 2 == 0;
+				} );
+				fail( "modification by the predicate was not detected" );
+			}
+			catch ( ConcurrentModificationException expectedException )
+			{
+				// expected
+			}
+			List<Integer> expected = reference();
+			expected.add( 0, -5 );
+			assertContents( "list " + kind, expected, list );
+		}
+	}
+
+	/**
+	 * Test method for the removeIf overrides of MySegmentedList and
+	 * MyUnrolledList to give the emptied storage back, so the list is still
+	 * usable after everything, or everything but the ends, is removed.
+	 */
+	@Test
+	public void testChunkedLists_RemoveIf_MostElements()
+	{
+		for ( int kind : new int[] { 2, 4 } )
+		{
+			ListADT<Integer> list = filled( kind );
+			assertTrue( list.removeIf( e -> e > 0 && e < N - 1 ) );
+			List<Integer> expected = reference();
+			expected.removeIf( e -> e > 0 && e < N - 1 );
+			assertContents( "list " + kind, expected, list );
+
+			assertTrue( list.removeIf( e -> true ) );
+			assertTrue( list.isEmpty() );
+			for ( int i = 0; i < N; i++ )
+			{
+				list.add( i );
+			}
+			assertContents( "list " + kind, reference(), list );
+		}
+	}
+
+	/**
+	 * Test method for the removeIf overrides of the MyArrayList and MyDLL
+	 * subList views, removing only inside the range and keeping the view
+	 * usable afterwards.
+	 */
+	@Test
+	public void testRemoveIf_SubList()
+	{
+		int[][] ranges = { { 100, 200 }, { 0, 50 }, { 450, 500 }, { 0, 500 }, { 300, 300 } };
+		for ( int[] range : ranges )
+		{
+			for ( int modulus : new int[] { 3, 1 } )
+			{
+				MyArrayList<Integer> arrayList = (MyArrayList<Integer>) filled( 0 );
+				MyDLL<Integer> linkedList = (MyDLL<Integer>) filled( 1 );
+				List<Integer> expected = reference();
+				List<Integer> expectedView = expected.subList( range[0], range[1] );
+				ListADT<Integer> arrayView = arrayList.subList( range[0], range[1] );
+				ListADT<Integer> linkedView = linkedList.subList( range[0], range[1] );
+
+				boolean changed = expectedView.removeIf( e -> e % modulus == 0 );
+				assertEquals( changed, arrayView.removeIf( e -> e % modulus == 0 ) );
+				assertEquals( changed, linkedView.removeIf( e -> e % modulus == 0 ) );
+				assertArrayEquals( expectedView.toArray(), arrayView.toArray() );
+				assertArrayEquals( expectedView.toArray(), linkedView.toArray() );
+
+				// The views' ends must still be right for further edits
+				expectedView.add( -7 );
+				arrayView.add( -7 );
+				linkedView.add( -7 );
+				expectedView.add( 0, -8 );
+				arrayView.add( 0, -8 );
+				linkedView.add( 0, -8 );
+				assertArrayEquals( expectedView.toArray(), linkedView.toArray() );
+				assertContents( "array", expected, arrayList );
+				assertContents( "linked", expected, linkedList );
+			}
+		}
+	}
+
+	/**
+	 * Test method for the removeIf overrides of the subList views to keep
+	 * the unvisited elements and the view consistent when the predicate
+	 * throws.
+	 */
+	@Test
+	public void testRemoveIf_SubList_PredicateThrows()
+	{
+		MyArrayList<Integer> arrayList = (MyArrayList<Integer>) filled( 0 );
+		MyDLL<Integer> linkedList = (MyDLL<Integer>) filled( 1 );
+		List<ListADT<Integer>> views = new ArrayList<ListADT<Integer>>();
+		views.add( arrayList.subList( 50, 150 ) );
+		views.add( linkedList.subList( 50, 150 ) );
+		for ( ListADT<Integer> view : views )
+		{
+			try
+			{
+				view.removeIf( e -> {
+					if ( e == 100 )
+					{
+						throw new IllegalStateException();
+					}
+					return e % 2 == 0;
+				} );
+				fail( "predicate exception was swallowed" );
+			}
+			catch ( IllegalStateException expectedException )
+			{
+				// expected
+			}
+			assertEquals( 75, view.size() );
+			assertEquals( Integer.valueOf( 51 ), view.get( 0 ) );
+			assertEquals( Integer.valueOf( 149 ), view.get( 74 ) );
+		}
+		List<Integer> expected = reference();
+		expected.removeIf( e -> e >= 50 && e < 100 && e % 2 == 0 );
+		assertContents( "array", expected, arrayList );
+		assertContents( "linked", expected, linkedList );
+	}
+
+	// ------------------ Helpers ------------------
+
+	/**
+	 * Creates a list of the given kind holding 0 to N-1.
+	 */
+	private static ListADT<Integer> filled( int kind )
+	{
+		ListADT<Integer> list;
+		switch ( kind )
+		{
+			case 0:
+				list = new MyArrayList<Integer>();
+				break;
+			case 1:
+				list = new MyDLL<Integer>();
+				break;
+			case 2:
+				list = new MySegmentedList<Integer>( 4 );
+				break;
+			case 3:
+				list = new MyGapList<Integer>( 2 );
+				break;
+			case 4:
+				list = new MyUnrolledList<Integer>();
+				break;
+			default:
+				list = new MyIndexedDLL<Integer>( 2 );
+				break;
+		}
+		for ( int i = 0; i < N; i++ )
+		{
+			list.add( i );
+		}
+		// Leave the gap list's gap in the middle
+		list.add( N / 2, -1 );
+		list.remove( N / 2 );
+		return list;
+	}
+
+	/**
+	 * @return a java.util.ArrayList holding 0 to N-1
+	 */
+	private static List<Integer> reference()
+	{
+		List<Integer> reference = new ArrayList<Integer>();
+		for ( int i = 0; i < N; i++ )
+		{
+			reference.add( i );
+		}
+		return reference;
+	}
+
+	/**
+	 * Checks the contents through toArray, get and the iterator, which walk
+	 * the structure in different ways.
+	 */
+	private static void assertContents( String message, List<Integer> expected, ListADT<Integer> actual )
+	{
+		assertEquals( message, expected.size(), actual.size() );
+		assertArrayEquals( message, expected.toArray(), actual.toArray() );
+		for ( int i = expected.size() - 1; i >= 0; i -= 7 )
+		{
+			assertEquals( message, expected.get( i ), actual.get( i ) );
+		}
+		List<Integer> walked = new ArrayList<Integer>();
+		actual.forEach( walked::add );
+		assertEquals( message, expected, walked );
+	}
+}
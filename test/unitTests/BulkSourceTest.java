@@ -0,0 +1,278 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.MyArrayList;
+import implementations.MyArrayQueue;
+import implementations.MyDLL;
+import implementations.MyGapList;
+import implementations.MyIndexedDLL;
+import implementations.MyQueue;
+import implementations.MySegmentedList;
+import implementations.MyStack;
+import implementations.MyUnrolledList;
+import utilities.BulkSource;
+import utilities.ListADT;
+
+/**
+ * Class Description:
+ * Test for the bulk-transfer hook: every list type is copied into every
+ * other through addAll, and the range copies, copy constructors and
+ * MyStack.toArray are checked against element-by-element results.
+ */
+
+public class BulkSourceTest
+{
+	/** Elements per source list; spans several chunks, nodes and growths. */
+	private static final int N = 300;
+
+	// Attributes
+	private Object[] expected;
+
+	/**
+	 * Builds the expected contents 0 to N-1 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		expected = new Object[N];
+		for ( int i = 0; i < N; i++ )
+		{
+			expected[i] = i;
+		}
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		expected = null;
+	}
+
+	/**
+	 * Test method for the addAll methods of every list type, with every list
+	 * type as the source, appending after existing elements.
+	 */
+	@Test
+	public void testAddAll_AllPairs()
+	{
+		for ( int s = 0; s < 6; s++ )
+		{
+			for ( int t = 0; t < 6; t++ )
+			{
+				ListADT<Integer> source = filled( s );
+				ListADT<Integer> target = newList( t );
+				target.add( -1 );
+				target.addAll( source );
+				assertEquals( "pair " + s + "," + t, N + 1, target.size() );
+				assertEquals( Integer.valueOf( -1 ), target.get( 0 ) );
+				for ( int i = 0; i < N; i++ )
+				{
+					assertEquals( "pair " + s + "," + t, Integer.valueOf( i ), target.get( i + 1 ) );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test method for the addAll methods of every list type to append a list
+	 * to itself.
+	 */
+	@Test
+	public void testAddAll_Self()
+	{
+		for ( int t = 0; t < 6; t++ )
+		{
+			ListADT<Integer> list = filled( t );
+			list.addAll( list );
+			assertEquals( 2 * N, list.size() );
+			assertEquals( Integer.valueOf( N - 1 ), list.get( N - 1 ) );
+			assertEquals( Integer.valueOf( 0 ), list.get( N ) );
+			assertEquals( Integer.valueOf( N - 1 ), list.get( 2 * N - 1 ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link utilities.BulkSource#copyTo(int, Object[], int, int)}
+	 * on every list type for ranges that start and end mid-storage.
+	 */
+	@Test
+	public void testCopyTo_Ranges()
+	{
+		for ( int t = 0; t < 6; t++ )
+		{
+			BulkSource<?> source = (BulkSource<?>) filled( t );
+			Object[] dest = new Object[N + 2];
+			source.copyTo( 37, dest, 1, 200 );
+			assertNull( dest[0] );
+			for ( int i = 0; i < 200; i++ )
+			{
+				assertEquals( "list " + t, Integer.valueOf( 37 + i ), dest[1 + i] );
+			}
+			assertNull( dest[201] );
+			source.copyTo( N, dest, 0, 0 );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#copyTo(int, Object[], int, int)}
+	 * with the gap in the middle of the copied range.
+	 */
+	@Test
+	public void testCopyTo_AcrossGap()
+	{
+		MyGapList<Integer> list = new MyGapList<>();
+		for ( int i = 0; i < N; i++ )
+		{
+			list.add( i );
+		}
+		list.remove( 100 );
+		list.add( 100, 100 );
+		Object[] dest = new Object[50];
+		list.copyTo( 80, dest, 0, 50 );
+		for ( int i = 0; i < 50; i++ )
+		{
+			assertEquals( Integer.valueOf( 80 + i ), dest[i] );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link utilities.BulkSource#copyTo(int, Object[], int, int)}
+	 * to throw IndexOutOfBoundsException for a range past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testCopyTo_OutOfRange()
+	{
+		MyDLL<Integer> list = new MyDLL<>();
+		list.add( 1 );
+		list.copyTo( 0, new Object[2], 0, 2 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#MyArrayList(utilities.ListADT)}
+	 * from an array list and a linked list.
+	 */
+	@Test
+	public void testArrayListCopyConstructor()
+	{
+		MyArrayList<Integer> fromArray = new MyArrayList<>( filled( 0 ) );
+		MyArrayList<Integer> fromLinked = new MyArrayList<>( filled( 1 ) );
+		assertArrayEquals( expected, fromArray.toArray() );
+		assertArrayEquals( expected, fromLinked.toArray() );
+		fromArray.add( N );
+		assertEquals( N + 1, fromArray.size() );
+		assertEquals( 0, new MyArrayList<Integer>( new MyDLL<Integer>() ).size() );
+	}
+
+	/**
+	 * Test method for the queue copy constructors
+	 * {@link implementations.MyArrayQueue#MyArrayQueue(utilities.QueueADT)} and
+	 * {@link implementations.MyQueue#MyQueue(utilities.QueueADT)}
+	 * from a wrapped-around array queue and from a linked queue.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testQueueCopyConstructors() throws EmptyQueueException
+	{
+		MyArrayQueue<Integer> wrapped = new MyArrayQueue<>( 8 );
+		for ( int i = 0; i < 6; i++ )
+		{
+			wrapped.enqueue( -1 );
+		}
+		for ( int i = 0; i < 6; i++ )
+		{
+			wrapped.dequeue();
+		}
+		for ( int i = 0; i < 8; i++ )
+		{
+			wrapped.enqueue( i );
+		}
+		MyQueue<Integer> linked = new MyQueue<>( wrapped );
+		MyArrayQueue<Integer> array = new MyArrayQueue<>( linked );
+		MyQueue<Integer> again = new MyQueue<>( array );
+		Object[] eight = { 0, 1, 2, 3, 4, 5, 6, 7 };
+		assertArrayEquals( eight, linked.toArray() );
+		assertArrayEquals( eight, array.toArray() );
+		assertArrayEquals( eight, again.toArray() );
+		again.enqueue( 8 );
+		assertEquals( Integer.valueOf( 0 ), again.dequeue() );
+		assertEquals( 8, again.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#toArray()} and
+	 * {@link implementations.MyStack#toArray(Object[])}
+	 * to list the elements from top to bottom.
+	 */
+	@Test
+	public void testStackToArray_TopFirst()
+	{
+		MyStack<Integer> stack = new MyStack<>();
+		for ( int i = 0; i < 5; i++ )
+		{
+			stack.push( i );
+		}
+		assertArrayEquals( new Object[] { 4, 3, 2, 1, 0 }, stack.toArray() );
+		Integer[] holder = stack.toArray( new Integer[6] );
+		assertEquals( Integer.valueOf( 4 ), holder[0] );
+		assertEquals( Integer.valueOf( 0 ), holder[4] );
+		assertNull( holder[5] );
+	}
+
+	// ------------------ Helpers ------------------
+
+	/**
+	 * Creates an empty list of the given kind. Small chunk and initial sizes
+	 * are used so that bulk copies cross internal boundaries.
+	 */
+	private static ListADT<Integer> newList( int kind )
+	{
+		switch ( kind )
+		{
+			case 0:
+				return new MyArrayList<Integer>();
+			case 1:
+				return new MyDLL<Integer>();
+			case 2:
+				return new MySegmentedList<Integer>( 4 );
+			case 3:
+				return new MyGapList<Integer>( 2 );
+			case 4:
+				return new MyUnrolledList<Integer>();
+			default:
+				return new MyIndexedDLL<Integer>( 2 );
+		}
+	}
+
+	/**
+	 * Creates a list of the given kind holding 0 to N-1, built with a middle
+	 * insert so that gap and node layouts are not trivially contiguous.
+	 */
+	private static ListADT<Integer> filled( int kind )
+	{
+		ListADT<Integer> list = newList( kind );
+		for ( int i = 0; i < N; i++ )
+		{
+			if ( i != N / 2 )
+			{
+				list.add( i );
+			}
+		}
+		list.add( N / 2, N / 2 );
+		return list;
+	}
+}
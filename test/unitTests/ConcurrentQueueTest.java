@@ -0,0 +1,297 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.MyConcurrentQueue;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the lock-free (Michael–Scott) implementation of the QueueADT.
+ * The single-threaded tests cover the queue contract; the stress tests run
+ * several producers and consumers at once and check that every element is
+ * delivered exactly once and in per-producer FIFO order.
+ */
+
+public class ConcurrentQueueTest
+{
+	/** Elements enqueued by each producer in the stress tests. */
+	private static final int PER_PRODUCER = 50_000;
+
+	// Attributes
+	private MyConcurrentQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a MyConcurrentQueue instance and three Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyConcurrentQueue<Integer>();
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentQueue#enqueue(Object)} and
+	 * {@link implementations.MyConcurrentQueue#dequeue()}
+	 * to return items in FIFO order.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testEnqueueDequeue_Order() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		assertEquals( "Failed to update size.", 3, queue.size() );
+		assertEquals( "Failed to peek front item.", one, queue.peek() );
+		assertEquals( one, queue.dequeue() );
+		assertEquals( two, queue.dequeue() );
+		assertEquals( three, queue.dequeue() );
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+		assertEquals( "Failed to update size.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentQueue#dequeue()}
+	 * to throw EmptyQueueException on an empty queue.
+	 * @throws EmptyQueueException 
+	 */
+	@Test( expected = EmptyQueueException.class )
+	public void testDequeue_Empty() throws EmptyQueueException
+	{
+		queue.dequeue();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentQueue#peek()}
+	 * to throw EmptyQueueException on an empty queue.
+	 * @throws EmptyQueueException 
+	 */
+	@Test( expected = EmptyQueueException.class )
+	public void testPeek_Empty() throws EmptyQueueException
+	{
+		queue.peek();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentQueue#poll()}
+	 * to return null on an empty queue.
+	 */
+	@Test
+	public void testPoll_Empty()
+	{
+		assertNull( "Failed to return null.", queue.poll() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentQueue#enqueue(Object)}
+	 * to throw NullPointerException when enqueuing null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testEnqueue_NullPointerException()
+	{
+		queue.enqueue( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentQueue#dequeueAll()}
+	 * to clear the queue.
+	 */
+	@Test
+	public void testDequeueAll()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.dequeueAll();
+		assertTrue( "Failed to clear.", queue.isEmpty() );
+		assertEquals( "Failed to clear.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentQueue#iterator()},
+	 * {@link implementations.MyConcurrentQueue#toArray()} and
+	 * {@link implementations.MyConcurrentQueue#search(Object)}
+	 * on a quiescent queue.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testInspection() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.dequeue();
+		Iterator<Integer> it = queue.iterator();
+		assertEquals( two, it.next() );
+		assertEquals( three, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		assertArrayEquals( new Object[] { two, three }, queue.toArray() );
+		assertArrayEquals( new Integer[] { two, three }, queue.toArray( new Integer[0] ) );
+		assertEquals( "Failed to search item.", 2, queue.search( three ) );
+		assertFalse( "Failed to miss removed item.", queue.contains( one ) );
+		assertFalse( "Failed to report not full.", queue.isFull() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentQueue#equals(utilities.QueueADT)}
+	 * to compare by content and order.
+	 */
+	@Test
+	public void testEquals()
+	{
+		MyConcurrentQueue<Integer> other = new MyConcurrentQueue<>();
+		queue.enqueue( one );
+		other.enqueue( one );
+		assertTrue( "Failed to return true.", queue.equals( other ) );
+		other.enqueue( two );
+		assertFalse( "Failed to return false.", queue.equals( other ) );
+	}
+
+	/**
+	 * Stress test for
+	 * {@link implementations.MyConcurrentQueue#enqueue(Object)} and
+	 * {@link implementations.MyConcurrentQueue#poll()}
+	 * with four producers and four consumers.
+	 * @throws InterruptedException 
+	 */
+	@Test( timeout = 60_000 )
+	public void testStress_FourProducersFourConsumers() throws InterruptedException
+	{
+		stress( 4, 4 );
+	}
+
+	/**
+	 * Stress test for
+	 * {@link implementations.MyConcurrentQueue#enqueue(Object)} and
+	 * {@link implementations.MyConcurrentQueue#poll()}
+	 * with more producers than consumers, so the queue builds up.
+	 * @throws InterruptedException 
+	 */
+	@Test( timeout = 60_000 )
+	public void testStress_EightProducersTwoConsumers() throws InterruptedException
+	{
+		stress( 8, 2 );
+	}
+
+	/**
+	 * Runs producers and consumers concurrently and verifies that every value
+	 * is consumed exactly once and that each consumer sees every producer's
+	 * values in increasing order.
+	 */
+	private void stress( int producers, int consumers ) throws InterruptedException
+	{
+		final int total = producers * PER_PRODUCER;
+		final AtomicIntegerArray seen = new AtomicIntegerArray( total );
+		final AtomicReference<String> failure = new AtomicReference<>();
+		final CountDownLatch start = new CountDownLatch( 1 );
+		final CountDownLatch consumed = new CountDownLatch( total );
+		Thread[] threads = new Thread[producers + consumers];
+
+		for ( int p = 0; p < producers; p++ )
+		{
+			final int base = p * PER_PRODUCER;
+			threads[p] = new Thread( () -> {
+				awaitQuietly( start );
+				for ( int i = 0; i < PER_PRODUCER; i++ )
+				{
+					queue.enqueue( base + i );
+				}
+			} );
+		}
+		for ( int c = 0; c < consumers; c++ )
+		{
+			threads[producers + c] = new Thread( () -> {
+				int[] lastFromProducer = new int[producers];
+				java.util.Arrays.fill( lastFromProducer, -1 );
+				awaitQuietly( start );
+				while ( consumed.getCount() > 0 )
+				{
+					Integer v = queue.poll();
+					if ( v == null )
+					{
+						Thread.yield();
+						continue;
+					}
+					int producer = v / PER_PRODUCER;
+					if ( v <= lastFromProducer[producer] )
+					{
+						failure.compareAndSet( null, "out of order: " + v );
+					}
+					lastFromProducer[producer] = v;
+					if ( seen.getAndIncrement( v ) != 0 )
+					{
+						failure.compareAndSet( null, "duplicate: " + v );
+					}
+					consumed.countDown();
+				}
+			} );
+		}
+
+		for ( Thread t : threads )
+		{
+			t.start();
+		}
+		start.countDown();
+		for ( Thread t : threads )
+		{
+			t.join();
+		}
+
+		assertNull( failure.get(), failure.get() );
+		for ( int i = 0; i < total; i++ )
+		{
+			assertEquals( "Lost or duplicated value " + i, 1, seen.get( i ) );
+		}
+		assertTrue( "Failed to drain queue.", queue.isEmpty() );
+		assertEquals( "Failed to keep size consistent.", 0, queue.size() );
+	}
+
+	private static void awaitQuietly( CountDownLatch latch )
+	{
+		try
+		{
+			latch.await();
+		}
+		catch ( InterruptedException e )
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}
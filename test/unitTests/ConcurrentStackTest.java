@@ -0,0 +1,233 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyConcurrentStack;
+import implementations.MyStack;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the lock-free (Treiber with elimination) implementation of the
+ * StackADT. The single-threaded tests cover the stack contract; the stress
+ * test runs many threads that push and pop at once and checks that every
+ * element is popped exactly once.
+ */
+
+public class ConcurrentStackTest
+{
+	/** Elements pushed by each thread in the stress test. */
+	private static final int PER_THREAD = 50_000;
+
+	// Attributes
+	private MyConcurrentStack<Integer> stack;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a MyConcurrentStack instance and three Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		stack = new MyConcurrentStack<Integer>();
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		stack = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#push(Object)} and
+	 * {@link implementations.MyConcurrentStack#pop()}
+	 * to return items in LIFO order.
+	 */
+	@Test
+	public void testPushPop_Order()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		assertEquals( "Failed to update size.", 3, stack.size() );
+		assertEquals( "Failed to peek top item.", three, stack.peek() );
+		assertEquals( three, stack.pop() );
+		assertEquals( two, stack.pop() );
+		assertEquals( one, stack.pop() );
+		assertTrue( "Failed to empty stack.", stack.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#pop()}
+	 * to throw EmptyStackException on an empty stack.
+	 */
+	@Test( expected = EmptyStackException.class )
+	public void testPop_Empty()
+	{
+		stack.pop();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#peek()}
+	 * to throw EmptyStackException on an empty stack.
+	 */
+	@Test( expected = EmptyStackException.class )
+	public void testPeek_Empty()
+	{
+		stack.peek();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#push(Object)}
+	 * to throw NullPointerException when pushing null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testPush_NullPointerException()
+	{
+		stack.push( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#clear()}
+	 * to remove all items and reset the size.
+	 */
+	@Test
+	public void testClear()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.clear();
+		assertTrue( "Failed to clear.", stack.isEmpty() );
+		assertEquals( "Failed to reset size.", 0, stack.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#iterator()},
+	 * {@link implementations.MyConcurrentStack#toArray()} and
+	 * {@link implementations.MyConcurrentStack#search(Object)}
+	 * to report items from top to bottom.
+	 */
+	@Test
+	public void testInspection()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		Iterator<Integer> it = stack.iterator();
+		assertEquals( three, it.next() );
+		assertEquals( two, it.next() );
+		assertEquals( one, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		assertArrayEquals( new Object[] { three, two, one }, stack.toArray() );
+		assertArrayEquals( new Integer[] { three, two, one }, stack.toArray( new Integer[0] ) );
+		assertEquals( "Failed to search item.", 3, stack.search( one ) );
+		assertEquals( "Failed to search missing item.", -1, stack.search( 999 ) );
+		assertTrue( "Failed to find item.", stack.contains( two ) );
+		assertFalse( "Failed to report no overflow.", stack.stackOverflow() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#equals(utilities.StackADT)}
+	 * to compare with another StackADT implementation.
+	 */
+	@Test
+	public void testEquals_MyStack()
+	{
+		MyStack<Integer> other = new MyStack<>();
+		stack.push( one );
+		stack.push( two );
+		other.push( one );
+		other.push( two );
+		assertTrue( "Failed to return true.", stack.equals( other ) );
+		other.push( three );
+		assertFalse( "Failed to return false.", stack.equals( other ) );
+	}
+
+	/**
+	 * Stress test for
+	 * {@link implementations.MyConcurrentStack#push(Object)} and
+	 * {@link implementations.MyConcurrentStack#pop()}
+	 * with eight threads that each push and pop their share.
+	 * @throws InterruptedException 
+	 */
+	@Test( timeout = 60_000 )
+	public void testStress_PushPopEightThreads() throws InterruptedException
+	{
+		final int threads = 8;
+		final int total = threads * PER_THREAD;
+		final AtomicIntegerArray seen = new AtomicIntegerArray( total );
+		final CountDownLatch start = new CountDownLatch( 1 );
+		Thread[] workers = new Thread[threads];
+
+		for ( int t = 0; t < threads; t++ )
+		{
+			final int base = t * PER_THREAD;
+			workers[t] = new Thread( () -> {
+				try
+				{
+					start.await();
+				}
+				catch ( InterruptedException e )
+				{
+					return;
+				}
+				// Alternate bursts of pushes and pops to keep the head contended
+				for ( int i = 0; i < PER_THREAD; i += 10 )
+				{
+					for ( int j = i; j < i + 10; j++ )
+					{
+						stack.push( base + j );
+					}
+					for ( int j = 0; j < 10; j++ )
+					{
+						seen.incrementAndGet( stack.pop() );
+					}
+				}
+			} );
+		}
+		for ( Thread w : workers )
+		{
+			w.start();
+		}
+		start.countDown();
+		for ( Thread w : workers )
+		{
+			w.join();
+		}
+
+		for ( int i = 0; i < total; i++ )
+		{
+			assertEquals( "Lost or duplicated value " + i, 1, seen.get( i ) );
+		}
+		assertTrue( "Failed to drain stack.", stack.isEmpty() );
+		assertEquals( "Failed to keep size consistent.", 0, stack.size() );
+	}
+}
@@ -2,7 +2,9 @@ package unitTests;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
@@ -1325,4 +1327,207 @@ public class DLLTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#get(int)} and
+	 * {@link implementations.MyDLL#set(int, java.lang.Object)}
+	 * to stay consistent while the cached finger is moved by interleaved
+	 * inserts and removes at random positions.
+	 */
+	@Test
+	public void testFinger_RandomEditsMatchArrayList()
+	{
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		Random random = new Random( 40 );
+		for ( int step = 0; step < 4000; step++ )
+		{
+			int op = random.nextInt( 5 );
+			if ( expected.isEmpty() || op == 0 )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				expected.add( index, step );
+				myList.add( index, step );
+			}
+			else if ( op == 1 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( expected.remove( index ), myList.remove( index ) );
+			}
+			else if ( op == 2 )
+			{
+				Integer value = expected.get( random.nextInt( expected.size() ) );
+				expected.remove( value );
+				assertEquals( value, myList.remove( value ) );
+			}
+			else if ( op == 3 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( expected.set( index, -step ), myList.set( index, -step ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( expected.get( index ), myList.get( index ) );
+			}
+		}
+		assertArrayEquals( expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#get(int)}
+	 * to return the right elements in a sequential scan after removing at the
+	 * scan position and inserting at the front.
+	 */
+	@Test
+	public void testFinger_SequentialScanAfterEdits()
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( Integer.valueOf( 40 ), myList.get( 40 ) );
+		myList.remove( 40 );
+		assertEquals( Integer.valueOf( 41 ), myList.get( 40 ) );
+		myList.addFirst( -1 );
+		assertEquals( Integer.valueOf( 41 ), myList.get( 41 ) );
+		myList.removeFirst();
+		myList.removeLast();
+		for ( int i = 0; i < 98; i++ )
+		{
+			assertEquals( Integer.valueOf( i < 40 ? i : i + 1 ), myList.get( i ) );
+		}
+		myList.clear();
+		myList.add( 7 );
+		assertEquals( Integer.valueOf( 7 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#addAll(utilities.ListADT)}
+	 * to append a list to itself.
+	 */
+	@Test
+	public void testAddAll_Self()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.addAll( myList );
+		assertArrayEquals( new Object[] { 1, 2, 3, 1, 2, 3 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#spliceLast(MyDLL)} and
+	 * {@link implementations.MyDLL#spliceFirst(MyDLL)}
+	 * to move all nodes, empty the source and keep indexing consistent.
+	 */
+	@Test
+	public void testSpliceLastFirst()
+	{
+		MyDLL<Integer> front = new MyDLL<>();
+		MyDLL<Integer> back = new MyDLL<>();
+		front.add( one );
+		front.add( two );
+		back.add( four );
+		back.add( five );
+		myList.add( three );
+		assertEquals( Integer.valueOf( 3 ), myList.get( 0 ) );
+		myList.spliceLast( back );
+		myList.spliceFirst( front );
+		assertArrayEquals( new Object[] { 1, 2, 3, 4, 5 }, myList.toArray() );
+		assertEquals( Integer.valueOf( 3 ), myList.get( 2 ) );
+		assertEquals( Integer.valueOf( 5 ), myList.getTail().getElement() );
+		assertTrue( "Failed to empty source.", front.isEmpty() );
+		assertTrue( "Failed to empty source.", back.isEmpty() );
+		assertNull( back.getHead() );
+		back.add( one );
+		assertEquals( 1, back.size() );
+		assertEquals( 5, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#spliceLast(MyDLL)}
+	 * into an empty list.
+	 */
+	@Test
+	public void testSpliceLast_IntoEmpty()
+	{
+		MyDLL<Integer> other = new MyDLL<>();
+		other.add( one );
+		other.add( two );
+		myList.spliceLast( other );
+		assertArrayEquals( new Object[] { 1, 2 }, myList.toArray() );
+		assertEquals( Integer.valueOf( 1 ), myList.removeFirst() );
+		assertEquals( Integer.valueOf( 2 ), myList.removeLast() );
+		assertTrue( myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#spliceAfter(implementations.MyDLLNode, MyDLL)}
+	 * in the middle and at the tail.
+	 */
+	@Test
+	public void testSpliceAfter()
+	{
+		myList.add( one );
+		myList.add( four );
+		MyDLL<Integer> middle = new MyDLL<>();
+		middle.add( two );
+		middle.add( three );
+		assertEquals( Integer.valueOf( 4 ), myList.get( 1 ) );
+		myList.spliceAfter( myList.getHead(), middle );
+		MyDLL<Integer> end = new MyDLL<>();
+		end.add( five );
+		myList.spliceAfter( myList.getTail(), end );
+		assertArrayEquals( new Object[] { 1, 2, 3, 4, 5 }, myList.toArray() );
+		assertEquals( Integer.valueOf( 4 ), myList.get( 3 ) );
+		assertEquals( Integer.valueOf( 5 ), myList.getTail().getElement() );
+		assertEquals( Integer.valueOf( 4 ), myList.getTail().getPrev().getElement() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#spliceLast(MyDLL)}
+	 * to throw IllegalArgumentException when splicing a list into itself.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testSplice_Self()
+	{
+		myList.add( one );
+		myList.spliceLast( myList );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#split(int)}
+	 * in the middle, at the start and at the end of the list.
+	 */
+	@Test
+	public void testSplit()
+	{
+		for ( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( Integer.valueOf( 8 ), myList.get( 8 ) );
+		MyDLL<Integer> rest = myList.split( 6 );
+		assertArrayEquals( new Object[] { 0, 1, 2, 3, 4, 5 }, myList.toArray() );
+		assertArrayEquals( new Object[] { 6, 7, 8, 9 }, rest.toArray() );
+		assertEquals( Integer.valueOf( 5 ), myList.get( 5 ) );
+		assertEquals( Integer.valueOf( 9 ), rest.get( 3 ) );
+		assertEquals( 0, myList.split( 6 ).size() );
+
+		MyDLL<Integer> all = myList.split( 0 );
+		assertTrue( myList.isEmpty() );
+		assertNull( myList.getTail() );
+		assertEquals( 6, all.size() );
+		all.spliceLast( rest );
+		assertEquals( 10, all.size() );
+		assertEquals( Integer.valueOf( 6 ), all.get( 6 ) );
+	}
 }
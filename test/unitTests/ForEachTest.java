@@ -0,0 +1,267 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.MyArrayList;
+import implementations.MyArrayQueue;
+import implementations.MyDLL;
+import implementations.MyGapList;
+import implementations.MyQueue;
+import implementations.MyStack;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for internal iteration: forEach on the lists, stack and queues and
+ * forEachRemaining on their iterators must visit the same elements, in the
+ * same order, as a hasNext()/next() loop.
+ */
+
+public class ForEachTest
+{
+	// Attributes
+	private ArrayList<Object> seen;
+
+	/**
+	 * Creates an empty collector before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		seen = new ArrayList<Object>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		seen = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#forEach(java.util.function.Consumer)}
+	 * to visit the elements from index 0 upward.
+	 */
+	@Test
+	public void testArrayList_ForEach()
+	{
+		MyArrayList<Integer> list = new MyArrayList<Integer>();
+		for ( int i = 0; i < 25; i++ )
+		{
+			list.add( i );
+		}
+		list.forEach( seen::add );
+		assertArrayEquals( list.toArray(), seen.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#forEach(java.util.function.Consumer)}
+	 * to visit the elements from head to tail.
+	 */
+	@Test
+	public void testDLL_ForEach()
+	{
+		MyDLL<Integer> list = new MyDLL<Integer>();
+		for ( int i = 0; i < 25; i++ )
+		{
+			list.add( i );
+		}
+		list.forEach( seen::add );
+		assertArrayEquals( list.toArray(), seen.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#forEach(java.util.function.Consumer)}
+	 * to visit the elements from top to bottom.
+	 */
+	@Test
+	public void testStack_ForEach_TopFirst()
+	{
+		MyStack<Integer> stack = new MyStack<Integer>();
+		for ( int i = 0; i < 5; i++ )
+		{
+			stack.push( i );
+		}
+		stack.forEach( seen::add );
+		assertArrayEquals( new Object[] { 4, 3, 2, 1, 0 }, seen.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#forEach(java.util.function.Consumer)}
+	 * to visit the elements from front to rear.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testQueue_ForEach() throws EmptyQueueException
+	{
+		MyQueue<Integer> queue = new MyQueue<Integer>();
+		for ( int i = 0; i < 6; i++ )
+		{
+			queue.enqueue( i );
+		}
+		queue.dequeue();
+		queue.forEach( seen::add );
+		assertArrayEquals( new Object[] { 1, 2, 3, 4, 5 }, seen.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#forEach(java.util.function.Consumer)}
+	 * on a buffer whose contents wrap around the end of the array.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testArrayQueue_ForEach_Wrapped() throws EmptyQueueException
+	{
+		MyArrayQueue<Integer> queue = new MyArrayQueue<Integer>( 8 );
+		for ( int i = 0; i < 6; i++ )
+		{
+			queue.enqueue( -1 );
+			queue.dequeue();
+		}
+		for ( int i = 0; i < 7; i++ )
+		{
+			queue.enqueue( i );
+		}
+		queue.forEach( seen::add );
+		assertArrayEquals( queue.toArray(), seen.toArray() );
+		assertEquals( 7, seen.size() );
+	}
+
+	/**
+	 * Test method for the default
+	 * {@link utilities.ListADT#forEach(java.util.function.Consumer)}
+	 * on a list that does not override it.
+	 */
+	@Test
+	public void testDefault_ForEach()
+	{
+		MyGapList<Integer> list = new MyGapList<Integer>();
+		for ( int i = 0; i < 25; i++ )
+		{
+			list.add( i );
+		}
+		list.add( 10, 99 );
+		list.forEach( seen::add );
+		assertArrayEquals( list.toArray(), seen.toArray() );
+	}
+
+	/**
+	 * Test method for the forEachRemaining overrides of every iterator,
+	 * picking up after some elements were taken with next().
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testForEachRemaining_AfterNext() throws EmptyQueueException
+	{
+		MyArrayList<Integer> arrayList = new MyArrayList<Integer>();
+		MyDLL<Integer> linkedList = new MyDLL<Integer>();
+		MyStack<Integer> stack = new MyStack<Integer>();
+		MyQueue<Integer> queue = new MyQueue<Integer>();
+		MyArrayQueue<Integer> arrayQueue = new MyArrayQueue<Integer>( 4 );
+		for ( int i = 0; i < 10; i++ )
+		{
+			arrayList.add( i );
+			linkedList.add( i );
+			stack.push( 9 - i );
+			queue.enqueue( i );
+			arrayQueue.enqueue( i );
+		}
+		Object[] tail = { 3, 4, 5, 6, 7, 8, 9 };
+		assertRemaining( tail, arrayList.iterator() );
+		assertRemaining( tail, linkedList.iterator() );
+		assertRemaining( tail, stack.iterator() );
+		assertRemaining( tail, queue.iterator() );
+		assertRemaining( tail, arrayQueue.iterator() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link utilities.Iterator#forEachRemaining(java.util.function.Consumer)}
+	 * on an empty list.
+	 */
+	@Test
+	public void testForEachRemaining_Empty()
+	{
+		Iterator<Integer> it = new MyDLL<Integer>().iterator();
+		it.forEachRemaining( seen::add );
+		assertTrue( seen.isEmpty() );
+		assertFalse( it.hasNext() );
+		new MyArrayList<Integer>().forEach( seen::add );
+		new MyStack<Integer>().forEach( seen::add );
+		assertTrue( seen.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#forEach(java.util.function.Consumer)}
+	 * to throw NullPointerException for a null action.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testForEach_NullAction()
+	{
+		new MyArrayList<Integer>().forEach( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#forEach(java.util.function.Consumer)}
+	 * to throw ConcurrentModificationException when the action adds.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testArrayList_ForEach_Modified()
+	{
+		final MyArrayList<Integer> list = new MyArrayList<Integer>();
+		list.add( 1 );
+		list.add( 2 );
+		list.forEach( e -> list.add( e ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#forEach(java.util.function.Consumer)}
+	 * to throw ConcurrentModificationException when the action removes.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testDLL_ForEach_Modified()
+	{
+		final MyDLL<Integer> list = new MyDLL<Integer>();
+		list.add( 1 );
+		list.add( 2 );
+		list.forEach( e -> list.remove( e ) );
+	}
+
+	// ------------------ Helpers ------------------
+
+	/**
+	 * Skips three elements with next(), then checks that forEachRemaining
+	 * visits exactly the expected rest and exhausts the iterator.
+	 */
+	private static void assertRemaining( Object[] expected, Iterator<Integer> it )
+	{
+		for ( int i = 0; i < 3; i++ )
+		{
+			it.next();
+		}
+		ArrayList<Object> rest = new ArrayList<Object>();
+		it.forEachRemaining( rest::add );
+		assertArrayEquals( expected, rest.toArray() );
+		assertFalse( it.hasNext() );
+	}
+}
@@ -0,0 +1,245 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyGapList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the gap-buffer implementation of the ListADT. A small initial
+ * capacity is used so that the buffer grows while the gap is mid-list.
+ */
+
+public class GapListTest
+{
+	// Attributes
+	private MyGapList<Integer> list;
+
+	/**
+	 * Initializes a MyGapList with capacity 2 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		list = new MyGapList<Integer>( 2 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		list = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#add(Object)} and
+	 * {@link implementations.MyGapList#get(int)}.
+	 */
+	@Test
+	public void testAddGet()
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			list.add( i );
+		}
+		assertEquals( "Failed to update size.", 100, list.size() );
+		for ( int i = 0; i < 100; i++ )
+		{
+			assertEquals( Integer.valueOf( i ), list.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#add(int, Object)},
+	 * {@link implementations.MyGapList#remove(int)} and
+	 * {@link implementations.MyGapList#set(int, Object)}
+	 * against java.util.ArrayList with random positions.
+	 */
+	@Test
+	public void testRandomEdits_MatchesArrayList()
+	{
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		Random random = new Random( 39 );
+		for ( int step = 0; step < 5000; step++ )
+		{
+			int op = random.nextInt( 4 );
+			if ( expected.isEmpty() || op < 2 )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				expected.add( index, step );
+				list.add( index, step );
+			}
+			else if ( op == 2 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( expected.remove( index ), list.remove( index ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( expected.set( index, -step ), list.set( index, -step ) );
+			}
+		}
+		assertArrayEquals( expected.toArray(), list.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#add(int, Object)} and
+	 * {@link implementations.MyGapList#remove(int)}
+	 * for cursor-style typing, backspace and delete in the middle of the list.
+	 */
+	@Test
+	public void testCursorEdits()
+	{
+		for ( int i = 0; i < 10; i++ )
+		{
+			list.add( i );
+		}
+		int cursor = 5;
+		list.add( cursor++, 100 );
+		list.add( cursor++, 101 );
+		assertEquals( Integer.valueOf( 101 ), list.remove( --cursor ) );
+		assertEquals( Integer.valueOf( 5 ), list.remove( cursor ) );
+		assertArrayEquals( new Object[] { 0, 1, 2, 3, 4, 100, 6, 7, 8, 9 }, list.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#get(int)}
+	 * to throw IndexOutOfBoundsException past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_OutOfBounds()
+	{
+		list.add( 1 );
+		list.get( 1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#add(int, Object)}
+	 * to throw IndexOutOfBoundsException for a negative index.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAdd_NegativeIndex()
+	{
+		list.add( -1, 1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#add(Object)}
+	 * to throw NullPointerException on null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAdd_Null()
+	{
+		list.add( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#remove(Object)},
+	 * {@link implementations.MyGapList#contains(Object)} and
+	 * {@link implementations.MyGapList#clear()}
+	 * with the gap in the middle of the list.
+	 */
+	@Test
+	public void testRemoveByValueContainsClear()
+	{
+		for ( int i = 0; i < 6; i++ )
+		{
+			list.add( i );
+		}
+		list.add( 3, 30 );
+		assertTrue( list.contains( 5 ) );
+		assertTrue( list.contains( 1 ) );
+		assertEquals( Integer.valueOf( 4 ), list.remove( Integer.valueOf( 4 ) ) );
+		assertNull( list.remove( Integer.valueOf( 40 ) ) );
+		assertFalse( list.contains( 4 ) );
+		list.clear();
+		assertTrue( "Failed to clear list.", list.isEmpty() );
+		assertEquals( 0, list.size() );
+		list.add( 7 );
+		assertEquals( Integer.valueOf( 7 ), list.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#addAll(utilities.ListADT)}
+	 * from another list type and from itself.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyArrayList<Integer> source = new MyArrayList<Integer>();
+		source.add( 1 );
+		source.add( 2 );
+		source.add( 3 );
+		list.addAll( source );
+		list.add( 0, 0 );
+		list.addAll( list );
+		assertArrayEquals( new Object[] { 0, 1, 2, 3, 0, 1, 2, 3 }, list.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#toArray(Object[])}
+	 * to fill a large enough holder and null-terminate it.
+	 */
+	@Test
+	public void testToArrayHolder()
+	{
+		for ( int i = 0; i < 6; i++ )
+		{
+			list.add( i );
+		}
+		list.remove( 2 );
+		Integer[] holder = new Integer[8];
+		Integer[] result = list.toArray( holder );
+		assertSame( holder, result );
+		assertEquals( Integer.valueOf( 3 ), result[2] );
+		assertNull( result[5] );
+		assertEquals( 5, list.toArray( new Integer[0] ).length );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#iterator()}
+	 * to step over the gap and then throw NoSuchElementException.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator()
+	{
+		for ( int i = 0; i < 8; i++ )
+		{
+			list.add( i );
+		}
+		list.remove( 3 );
+		list.add( 3, 3 );
+		Iterator<Integer> it = list.iterator();
+		for ( int i = 0; i < 8; i++ )
+		{
+			assertEquals( Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( it.hasNext() );
+		it.next();
+	}
+}
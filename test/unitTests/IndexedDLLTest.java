@@ -0,0 +1,267 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyIndexedDLL;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the array-indexed doubly-linked list. Small initial capacities
+ * are used so that the backing arrays grow and freed slots are reused.
+ */
+
+public class IndexedDLLTest
+{
+	// Attributes
+	private MyIndexedDLL<Integer> list;
+
+	/**
+	 * Initializes a MyIndexedDLL with capacity 2 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		list = new MyIndexedDLL<Integer>( 2 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		list = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyIndexedDLL#add(Object)} and
+	 * {@link implementations.MyIndexedDLL#get(int)}
+	 * across several array growths.
+	 */
+	@Test
+	public void testAddGet()
+	{
+		for ( int i = 0; i < 1000; i++ )
+		{
+			list.add( i );
+		}
+		assertEquals( "Failed to update size.", 1000, list.size() );
+		for ( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( Integer.valueOf( i ), list.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyIndexedDLL#add(int, Object)},
+	 * {@link implementations.MyIndexedDLL#remove(int)},
+	 * {@link implementations.MyIndexedDLL#remove(Object)} and
+	 * {@link implementations.MyIndexedDLL#set(int, Object)}
+	 * against java.util.ArrayList with random positions.
+	 */
+	@Test
+	public void testRandomEdits_MatchesArrayList()
+	{
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		Random random = new Random( 42 );
+		for ( int step = 0; step < 20000; step++ )
+		{
+			int op = random.nextInt( 5 );
+			if ( expected.isEmpty() || op < 2 )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				expected.add( index, step );
+				list.add( index, step );
+			}
+			else if ( op == 2 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( expected.remove( index ), list.remove( index ) );
+			}
+			else if ( op == 3 )
+			{
+				Integer value = expected.get( random.nextInt( expected.size() ) );
+				expected.remove( value );
+				assertEquals( value, list.remove( value ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( expected.set( index, -step ), list.set( index, -step ) );
+			}
+		}
+		assertEquals( expected.size(), list.size() );
+		assertArrayEquals( expected.toArray(), list.toArray() );
+	}
+
+	/**
+	 * Test method for the deque-style methods
+	 * {@link implementations.MyIndexedDLL#addFirst(Object)},
+	 * {@link implementations.MyIndexedDLL#addLast(Object)},
+	 * {@link implementations.MyIndexedDLL#removeFirst()} and
+	 * {@link implementations.MyIndexedDLL#removeLast()}.
+	 */
+	@Test
+	public void testHeadTailOperations()
+	{
+		for ( int i = 0; i < 200; i++ )
+		{
+			list.addFirst( -i );
+			list.addLast( i );
+		}
+		assertEquals( 400, list.size() );
+		assertEquals( Integer.valueOf( -199 ), list.get( 0 ) );
+		assertEquals( Integer.valueOf( 199 ), list.get( 399 ) );
+		for ( int i = 199; i >= 0; i-- )
+		{
+			assertEquals( Integer.valueOf( -i ), list.removeFirst() );
+			assertEquals( Integer.valueOf( i ), list.removeLast() );
+		}
+		assertTrue( list.isEmpty() );
+		assertNull( "Failed to return null on empty list.", list.removeFirst() );
+		assertNull( "Failed to return null on empty list.", list.removeLast() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyIndexedDLL#removeFirst()} and
+	 * {@link implementations.MyIndexedDLL#add(int, Object)}
+	 * to reuse freed slots, keeping the list order independent of slot order.
+	 */
+	@Test
+	public void testSlotReuse()
+	{
+		for ( int i = 0; i < 10; i++ )
+		{
+			list.add( i );
+		}
+		for ( int i = 0; i < 5; i++ )
+		{
+			list.removeFirst();
+		}
+		for ( int i = 0; i < 5; i++ )
+		{
+			list.add( 2 * i, 100 + i );
+		}
+		assertArrayEquals( new Object[] { 100, 5, 101, 6, 102, 7, 103, 8, 104, 9 }, list.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyIndexedDLL#get(int)}
+	 * to throw IndexOutOfBoundsException past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_OutOfBounds()
+	{
+		list.add( 1 );
+		list.get( 1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyIndexedDLL#addFirst(Object)}
+	 * to throw NullPointerException on null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAddFirst_Null()
+	{
+		list.addFirst( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyIndexedDLL#contains(Object)} and
+	 * {@link implementations.MyIndexedDLL#clear()}.
+	 */
+	@Test
+	public void testContainsClear()
+	{
+		for ( int i = 0; i < 300; i++ )
+		{
+			list.add( i );
+		}
+		assertTrue( list.contains( 299 ) );
+		assertFalse( list.contains( 300 ) );
+		list.clear();
+		assertTrue( "Failed to clear list.", list.isEmpty() );
+		assertFalse( list.contains( 0 ) );
+		list.add( 5 );
+		assertEquals( Integer.valueOf( 5 ), list.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyIndexedDLL#addAll(utilities.ListADT)}
+	 * from another list type and from itself.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyArrayList<Integer> source = new MyArrayList<Integer>();
+		for ( int i = 0; i < 100; i++ )
+		{
+			source.add( i );
+		}
+		list.addAll( source );
+		list.addAll( list );
+		assertEquals( 200, list.size() );
+		assertEquals( Integer.valueOf( 99 ), list.get( 99 ) );
+		assertEquals( Integer.valueOf( 0 ), list.get( 100 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyIndexedDLL#toArray(Object[])}
+	 * to fill a large enough holder and null-terminate it.
+	 */
+	@Test
+	public void testToArrayHolder()
+	{
+		for ( int i = 0; i < 6; i++ )
+		{
+			list.add( i );
+		}
+		Integer[] holder = new Integer[8];
+		Integer[] result = list.toArray( holder );
+		assertSame( holder, result );
+		assertEquals( Integer.valueOf( 5 ), result[5] );
+		assertNull( result[6] );
+		assertEquals( 6, list.toArray( new Integer[0] ).length );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyIndexedDLL#iterator()}
+	 * to walk every link in order and then throw NoSuchElementException.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator()
+	{
+		for ( int i = 0; i < 150; i++ )
+		{
+			list.add( i );
+		}
+		Iterator<Integer> it = list.iterator();
+		for ( int i = 0; i < 150; i++ )
+		{
+			assertEquals( Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( it.hasNext() );
+		it.next();
+	}
+}
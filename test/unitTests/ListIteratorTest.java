@@ -0,0 +1,469 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import utilities.ListIterator;
+
+/**
+ * Class Description:
+ * Test for the fail-fast list iterators of MyArrayList and MyDLL. Random
+ * sequences of iterator operations are checked against
+ * java.util.ArrayList's list iterator.
+ */
+
+public class ListIteratorTest
+{
+	// Attributes
+	private MyArrayList<Integer> arrayList;
+	private MyDLL<Integer> linkedList;
+
+	/**
+	 * Initializes both lists with the values 0 to 9 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		arrayList = new MyArrayList<Integer>();
+		linkedList = new MyDLL<Integer>();
+		for ( int i = 0; i < 10; i++ )
+		{
+			arrayList.add( i );
+			linkedList.add( i );
+		}
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		arrayList = null;
+		linkedList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator()}
+	 * to filter a list in one pass with remove().
+	 */
+	@Test
+	public void testArrayList_FilterPass()
+	{
+		ListIterator<Integer> it = arrayList.listIterator();
+		while ( it.hasNext() )
+		{
+			if ( it.next() % 2 == 0 )
+			{
+				it.remove();
+			}
+		}
+		assertArrayEquals( new Object[] { 1, 3, 5, 7, 9 }, arrayList.toArray() );
+		assertEquals( 5, arrayList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * to filter a list in one pass with remove().
+	 */
+	@Test
+	public void testDLL_FilterPass()
+	{
+		ListIterator<Integer> it = linkedList.listIterator();
+		while ( it.hasNext() )
+		{
+			if ( it.next() % 2 == 0 )
+			{
+				it.remove();
+			}
+		}
+		assertArrayEquals( new Object[] { 1, 3, 5, 7, 9 }, linkedList.toArray() );
+		assertEquals( Integer.valueOf( 9 ), linkedList.get( 4 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator()}
+	 * against java.util.ArrayList with random next, previous, remove, set and
+	 * add calls, including plain list reads in between.
+	 */
+	@Test
+	public void testArrayList_RandomOpsMatchJavaUtil()
+	{
+		runRandomOps( new Random( 43 ), new ArrayListTarget( arrayList ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * against java.util.ArrayList with random next, previous, remove, set and
+	 * add calls, including plain list reads in between.
+	 */
+	@Test
+	public void testDLL_RandomOpsMatchJavaUtil()
+	{
+		runRandomOps( new Random( 44 ), new DLLTarget( linkedList ) );
+	}
+
+	/**
+	 * Test method for the reads of
+	 * {@link implementations.MyArrayList}
+	 * after a removal pass that stopped half way and left its hole open.
+	 */
+	@Test
+	public void testArrayList_ReadsAfterAbandonedPass()
+	{
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		for ( int i = 0; i < 10; i++ )
+		{
+			expected.add( i );
+		}
+		abandonedPass( arrayList, expected );
+
+		Object[] contents = expected.toArray();
+		assertArrayEquals( contents, arrayList.toArray() );
+		assertArrayEquals( contents, arrayList.toArray( new Integer[0] ) );
+		assertArrayEquals( contents, new MyArrayList<Integer>( arrayList ).toArray() );
+		for ( int i = 0; i < expected.size(); i++ )
+		{
+			assertEquals( expected.get( i ), arrayList.get( i ) );
+		}
+		assertTrue( arrayList.contains( 9 ) );
+		assertFalse( arrayList.contains( 2 ) );
+		ArrayList<Integer> walked = new ArrayList<Integer>();
+		arrayList.forEach( walked::add );
+		assertEquals( expected, walked );
+		assertEquals( expected.stream().mapToInt( Integer::intValue ).sum(),
+				arrayList.stream().mapToInt( Integer::intValue ).sum() );
+		assertArrayEquals( expected.subList( 1, 6 ).toArray(), arrayList.subList( 1, 6 ).toArray() );
+
+		// A second pass reads across the old hole, then removes
+		ListIterator<Integer> it = arrayList.listIterator( expected.size() );
+		assertEquals( expected.get( expected.size() - 1 ), it.previous() );
+		assertEquals( expected.get( expected.size() - 2 ), it.previous() );
+		it.remove();
+		expected.remove( expected.size() - 2 );
+		arrayList.add( 0, 100 );
+		expected.add( 0, 100 );
+		assertArrayEquals( expected.toArray(), arrayList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList}
+	 * read from several threads at once after a removal pass that stopped
+	 * half way; the reads must not move the hole under each other.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testArrayList_ConcurrentReadsAfterAbandonedPass() throws InterruptedException
+	{
+		final int n = 100000;
+		arrayList.clear();
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		for ( int i = 0; i < n; i++ )
+		{
+			arrayList.add( i );
+			expected.add( i );
+		}
+		abandonedPass( arrayList, expected );
+		long sum = 0;
+		for ( int e : expected )
+		{
+			sum += e;
+		}
+
+		final long[] sums = new long[4];
+		Thread[] readers = new Thread[4];
+		for ( int t = 0; t < readers.length; t++ )
+		{
+			final int slot = t;
+			readers[t] = new Thread( () -> {
+				for ( int i = 0; i < arrayList.size(); i++ )
+				{
+					sums[slot] += arrayList.get( i );
+				}
+			} );
+		}
+		for ( Thread reader : readers )
+		{
+			reader.start();
+		}
+		for ( int t = 0; t < readers.length; t++ )
+		{
+			readers[t].join();
+			assertEquals( sum, sums[t] );
+		}
+		assertArrayEquals( expected.toArray(), arrayList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator(int)}
+	 * to walk backwards from the end.
+	 */
+	@Test
+	public void testDLL_Backwards()
+	{
+		ListIterator<Integer> it = linkedList.listIterator( 10 );
+		assertFalse( it.hasNext() );
+		for ( int i = 9; i >= 0; i-- )
+		{
+			assertEquals( i, it.previousIndex() );
+			assertEquals( Integer.valueOf( i ), it.previous() );
+		}
+		assertFalse( it.hasPrevious() );
+		assertEquals( 0, it.nextIndex() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator()}
+	 * to throw ConcurrentModificationException after the list is modified
+	 * directly.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testArrayList_FailFast()
+	{
+		ListIterator<Integer> it = arrayList.listIterator();
+		it.next();
+		arrayList.add( 10 );
+		it.next();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * to throw ConcurrentModificationException when another iterator removed
+	 * an element.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testDLL_FailFast()
+	{
+		ListIterator<Integer> first = linkedList.listIterator();
+		ListIterator<Integer> second = linkedList.listIterator();
+		first.next();
+		first.remove();
+		second.next();
+	}
+
+	/**
+	 * Test method for
+	 * {@link utilities.ListIterator#remove()}
+	 * to throw IllegalStateException when called twice.
+	 */
+	@Test( expected = IllegalStateException.class )
+	public void testArrayList_RemoveTwice()
+	{
+		ListIterator<Integer> it = arrayList.listIterator();
+		it.next();
+		it.remove();
+		it.remove();
+	}
+
+	/**
+	 * Test method for
+	 * {@link utilities.ListIterator#set(Object)}
+	 * to throw IllegalStateException after add.
+	 */
+	@Test( expected = IllegalStateException.class )
+	public void testDLL_SetAfterAdd()
+	{
+		ListIterator<Integer> it = linkedList.listIterator();
+		it.next();
+		it.add( 100 );
+		it.set( 101 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link utilities.ListIterator#next()}
+	 * to throw NoSuchElementException at the end.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testArrayList_NextPastEnd()
+	{
+		arrayList.listIterator( 10 ).next();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator(int)}
+	 * to throw IndexOutOfBoundsException past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testArrayList_StartOutOfBounds()
+	{
+		arrayList.listIterator( 11 );
+	}
+
+	// ------------------ Helpers ------------------
+
+	/**
+	 * Removes the even elements from the first half of the list through a
+	 * list iterator and then abandons it, mirroring the removals in expected.
+	 */
+	private static void abandonedPass( MyArrayList<Integer> list, ArrayList<Integer> expected )
+	{
+		ListIterator<Integer> it = list.listIterator();
+		int half = list.size() / 2;
+		for ( int i = 0; i < half; i++ )
+		{
+			if ( it.next() % 2 == 0 )
+			{
+				it.remove();
+			}
+		}
+		expected.subList( 0, half ).removeIf( e -> e % 2 == 0 );
+	}
+
+	/**
+	 * Both list types under test, seen through the same small interface.
+	 */
+	private interface Target
+	{
+		ListIterator<Integer> listIterator();
+
+		Object[] toArray();
+
+		Integer get( int index );
+
+		int size();
+	}
+
+	private static final class ArrayListTarget implements Target
+	{
+		private final MyArrayList<Integer> list;
+
+		ArrayListTarget( MyArrayList<Integer> list )
+		{
+			this.list = list;
+		}
+
+		public ListIterator<Integer> listIterator()
+		{
+			return list.listIterator();
+		}
+
+		public Object[] toArray()
+		{
+			return list.toArray();
+		}
+
+		public Integer get( int index )
+		{
+			return list.get( index );
+		}
+
+		public int size()
+		{
+			return list.size();
+		}
+	}
+
+	private static final class DLLTarget implements Target
+	{
+		private final MyDLL<Integer> list;
+
+		DLLTarget( MyDLL<Integer> list )
+		{
+			this.list = list;
+		}
+
+		public ListIterator<Integer> listIterator()
+		{
+			return list.listIterator();
+		}
+
+		public Object[] toArray()
+		{
+			return list.toArray();
+		}
+
+		public Integer get( int index )
+		{
+			return list.get( index );
+		}
+
+		public int size()
+		{
+			return list.size();
+		}
+	}
+
+	/**
+	 * Applies the same random iterator operations to the target and to a
+	 * java.util.ArrayList copy and compares results and final contents. A
+	 * fresh iterator pair is started every few hundred steps, after plain
+	 * reads that must see through any state the abandoned iterator left.
+	 */
+	private static void runRandomOps( Random random, Target target )
+	{
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		for ( Object o : target.toArray() )
+		{
+			expected.add( (Integer) o );
+		}
+		for ( int round = 0; round < 20; round++ )
+		{
+			java.util.ListIterator<Integer> ref = expected.listIterator();
+			ListIterator<Integer> it = target.listIterator();
+			boolean canModify = false;
+			for ( int step = 0; step < 300; step++ )
+			{
+				int op = random.nextInt( 6 );
+				if ( op == 0 && ref.hasNext() )
+				{
+					assertEquals( ref.next(), it.next() );
+					canModify = true;
+				}
+				else if ( op == 1 && ref.hasPrevious() )
+				{
+					assertEquals( ref.previous(), it.previous() );
+					canModify = true;
+				}
+				else if ( op == 2 && canModify )
+				{
+					ref.remove();
+					it.remove();
+					canModify = false;
+				}
+				else if ( op == 3 && canModify )
+				{
+					ref.set( -step );
+					it.set( -step );
+				}
+				else if ( op == 4 )
+				{
+					ref.add( round * 1000 + step );
+					it.add( round * 1000 + step );
+					canModify = false;
+				}
+				assertEquals( ref.nextIndex(), it.nextIndex() );
+				assertEquals( ref.hasNext(), it.hasNext() );
+				assertEquals( ref.hasPrevious(), it.hasPrevious() );
+			}
+			assertEquals( expected.size(), target.size() );
+			if ( !expected.isEmpty() )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( expected.get( index ), target.get( index ) );
+			}
+			assertArrayEquals( expected.toArray(), target.toArray() );
+		}
+	}
+}
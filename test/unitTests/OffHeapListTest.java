@@ -0,0 +1,281 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyOffHeapList;
+import utilities.Iterator;
+import utilities.RecordCodec;
+
+/**
+ * Class Description:
+ * Test for the off-heap list of fixed-width records. Small segment sizes are
+ * used so that every test crosses several segment boundaries.
+ */
+
+public class OffHeapListTest
+{
+	/** Record of a line number (int) and a byte offset (long), padded to 16 bytes. */
+	private static final RecordCodec<long[]> LINE_ENTRY = new RecordCodec<long[]>()
+	{
+		@Override
+		public int width()
+		{
+			return 16;
+		}
+
+		@Override
+		public void write( ByteBuffer buffer, int offset, long[] value )
+		{
+			buffer.putInt( offset, (int) value[0] );
+			buffer.putLong( offset + 8, value[1] );
+		}
+
+		@Override
+		public long[] read( ByteBuffer buffer, int offset )
+		{
+			return new long[] { buffer.getInt( offset ), buffer.getLong( offset + 8 ) };
+		}
+	};
+
+	// Attributes
+	private MyOffHeapList<Long> list;
+
+	/**
+	 * Initializes a list of longs with 32-byte (4-record) segments before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		list = new MyOffHeapList<Long>( RecordCodec.LONG, 32 );
+	}
+
+	/**
+	 * Releases the list after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		list.close();
+		list = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#add(Object)} and
+	 * {@link implementations.MyOffHeapList#get(int)}
+	 * across many segments.
+	 */
+	@Test
+	public void testAddGet_ManySegments()
+	{
+		for ( long i = 0; i < 100; i++ )
+		{
+			list.add( i * 1_000_000_007L );
+		}
+		assertEquals( "Failed to update size.", 100, list.size() );
+		for ( int i = 0; i < 100; i++ )
+		{
+			assertEquals( Long.valueOf( i * 1_000_000_007L ), list.get( i ) );
+		}
+		assertEquals( "Failed to allocate whole segments.", 25 * 32, list.reservedBytes() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#set(int, Object)} and
+	 * {@link implementations.MyOffHeapList#removeLast()}.
+	 */
+	@Test
+	public void testSetRemoveLast()
+	{
+		list.add( 1L );
+		list.add( 2L );
+		assertEquals( Long.valueOf( 2L ), list.set( 1, 20L ) );
+		assertEquals( Long.valueOf( 20L ), list.removeLast() );
+		assertEquals( Long.valueOf( 1L ), list.removeLast() );
+		assertNull( "Failed to return null on empty list.", list.removeLast() );
+		assertTrue( list.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#get(int)}
+	 * to throw IndexOutOfBoundsException past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_OutOfBounds()
+	{
+		list.add( 1L );
+		list.get( 1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#add(Object)}
+	 * to throw NullPointerException on null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAdd_Null()
+	{
+		list.add( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#addRecord()}
+	 * to hand out zeroed records, even when reusing space freed by
+	 * {@link implementations.MyOffHeapList#removeLast()}.
+	 */
+	@Test
+	public void testAddRecord_Zeroed()
+	{
+		list.add( -1L );
+		list.removeLast();
+		int index = list.addRecord();
+		assertEquals( 0, index );
+		assertEquals( 0L, list.getLong( index, 0 ) );
+	}
+
+	/**
+	 * Test method for struct access through
+	 * {@link implementations.MyOffHeapList#putInt(int, int, int)},
+	 * {@link implementations.MyOffHeapList#putLong(int, int, long)} and the
+	 * matching getters, checked against the codec.
+	 */
+	@Test
+	public void testStructFields()
+	{
+		try ( MyOffHeapList<long[]> lines = new MyOffHeapList<long[]>( LINE_ENTRY, 40 ) )
+		{
+			for ( int i = 0; i < 10; i++ )
+			{
+				int r = lines.addRecord();
+				lines.putInt( r, 0, i + 1 );
+				lines.putLong( r, 8, i * 80L );
+			}
+			lines.add( new long[] { 11, 800 } );
+			assertEquals( 11, lines.size() );
+			assertEquals( 4, lines.getInt( 3, 0 ) );
+			assertEquals( 240L, lines.getLong( 3, 8 ) );
+			assertArrayEquals( new long[] { 11, 800 }, lines.get( 10 ) );
+			assertArrayEquals( new long[] { 1, 0 }, lines.get( 0 ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#getLong(int, int)}
+	 * to reject a field that runs past the end of the record.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testField_OutOfRecord()
+	{
+		list.add( 1L );
+		list.getInt( 0, 5 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#copy(int, MyOffHeapList, int, int)}
+	 * between lists with different segment sizes, overwriting and extending
+	 * the destination.
+	 */
+	@Test
+	public void testCopy_DifferentSegments()
+	{
+		for ( long i = 0; i < 50; i++ )
+		{
+			list.add( i );
+		}
+		try ( MyOffHeapList<Long> dest = new MyOffHeapList<Long>( RecordCodec.LONG, 56 ) )
+		{
+			for ( long i = 0; i < 10; i++ )
+			{
+				dest.add( -i );
+			}
+			list.copy( 5, dest, 3, 40 );
+			assertEquals( "Failed to extend destination.", 43, dest.size() );
+			assertEquals( Long.valueOf( -2L ), dest.get( 2 ) );
+			for ( int i = 0; i < 40; i++ )
+			{
+				assertEquals( Long.valueOf( 5 + i ), dest.get( 3 + i ) );
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#addAll(MyOffHeapList)}
+	 * to append a list to itself.
+	 */
+	@Test
+	public void testAddAll_Self()
+	{
+		for ( long i = 0; i < 7; i++ )
+		{
+			list.add( i );
+		}
+		list.addAll( list );
+		assertEquals( 14, list.size() );
+		Iterator<Long> it = list.iterator();
+		for ( long i = 0; i < 14; i++ )
+		{
+			assertEquals( Long.valueOf( i % 7 ), it.next() );
+		}
+		assertFalse( it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#copy(int, MyOffHeapList, int, int)}
+	 * to reject overlapping ranges within one list.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testCopy_Overlap()
+	{
+		for ( long i = 0; i < 10; i++ )
+		{
+			list.add( i );
+		}
+		list.copy( 0, list, 5, 6 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#copy(int, MyOffHeapList, int, int)}
+	 * to reject lists with different record widths.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	@SuppressWarnings( { "unchecked", "rawtypes" } )
+	public void testCopy_WidthMismatch()
+	{
+		list.add( 1L );
+		try ( MyOffHeapList ints = new MyOffHeapList( RecordCodec.INT ) )
+		{
+			list.copy( 0, ints, 0, 1 );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#close()}
+	 * to release the segments and make further use fail.
+	 */
+	@Test( expected = IllegalStateException.class )
+	public void testClose_ThenUse()
+	{
+		list.add( 1L );
+		list.close();
+		list.close();
+		assertEquals( 0L, list.reservedBytes() );
+		list.get( 0 );
+	}
+}
@@ -0,0 +1,284 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.DoubleArrayList;
+import implementations.IntArrayList;
+import implementations.LongArrayList;
+
+/**
+ * Class Description:
+ * Test for the primitive-specialized array lists IntArrayList,
+ * LongArrayList and DoubleArrayList, which mirror the ListADT operations of
+ * MyArrayList over int[], long[] and double[].
+ */
+
+public class PrimitiveListTest
+{
+	// Attributes
+	private IntArrayList ints;
+	private LongArrayList longs;
+	private DoubleArrayList doubles;
+
+	/**
+	 * Initializes one list of each type before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		ints = new IntArrayList();
+		longs = new LongArrayList();
+		doubles = new DoubleArrayList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		ints = null;
+		longs = null;
+		doubles = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#add(int)} and
+	 * {@link implementations.IntArrayList#get(int)}
+	 * to keep values in insertion order across resizes.
+	 */
+	@Test
+	public void testIntAddGet_Grow()
+	{
+		for ( int i = 0; i < 1000; i++ )
+		{
+			ints.add( i * 3 );
+		}
+		assertEquals( "Failed to update size.", 1000, ints.size() );
+		for ( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( i * 3, ints.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#add(int, int)} and
+	 * {@link implementations.IntArrayList#remove(int)}
+	 * to shift values at the head, middle and tail.
+	 */
+	@Test
+	public void testIntInsertRemove()
+	{
+		ints.add( 2 );
+		ints.add( 0, 1 );
+		ints.add( 2, 4 );
+		ints.add( 2, 3 );
+		assertArrayEquals( new int[] { 1, 2, 3, 4 }, ints.toArray() );
+		assertEquals( 3, ints.remove( 2 ) );
+		assertEquals( 1, ints.remove( 0 ) );
+		assertEquals( 4, ints.remove( 1 ) );
+		assertArrayEquals( new int[] { 2 }, ints.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#get(int)}
+	 * to throw IndexOutOfBoundsException past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testIntGet_OutOfBounds()
+	{
+		ints.add( 1 );
+		ints.get( 1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#add(int, int)}
+	 * to throw IndexOutOfBoundsException for a negative index.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testIntAdd_NegativeIndex()
+	{
+		ints.add( -1, 5 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#set(int, int)},
+	 * {@link implementations.IntArrayList#contains(int)},
+	 * {@link implementations.IntArrayList#indexOf(int)} and
+	 * {@link implementations.IntArrayList#removeValue(int)}.
+	 */
+	@Test
+	public void testIntSetContainsRemoveValue()
+	{
+		ints.add( 7 );
+		ints.add( 8 );
+		ints.add( 7 );
+		assertEquals( 8, ints.set( 1, 9 ) );
+		assertTrue( ints.contains( 9 ) );
+		assertFalse( ints.contains( 8 ) );
+		assertEquals( 0, ints.indexOf( 7 ) );
+		assertTrue( ints.removeValue( 7 ) );
+		assertArrayEquals( new int[] { 9, 7 }, ints.toArray() );
+		assertFalse( ints.removeValue( 42 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#addAll(IntArrayList)}
+	 * to append another list, and this list to itself.
+	 */
+	@Test
+	public void testIntAddAll_Self()
+	{
+		IntArrayList other = new IntArrayList( 0 );
+		other.add( 1 );
+		other.add( 2 );
+		ints.add( 0 );
+		ints.addAll( other );
+		ints.addAll( ints );
+		assertArrayEquals( new int[] { 0, 1, 2, 0, 1, 2 }, ints.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#addAll(IntArrayList)}
+	 * to throw NullPointerException on null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testIntAddAll_Null()
+	{
+		ints.addAll( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#toArray(int[])}
+	 * to fill a large enough holder and allocate for a small one.
+	 */
+	@Test
+	public void testIntToArrayHolder()
+	{
+		ints.add( 1 );
+		ints.add( 2 );
+		int[] big = new int[] { 9, 9, 9 };
+		assertSame( big, ints.toArray( big ) );
+		assertArrayEquals( new int[] { 1, 2, 9 }, big );
+		int[] small = new int[1];
+		int[] result = ints.toArray( small );
+		assertNotSame( small, result );
+		assertArrayEquals( new int[] { 1, 2 }, result );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#iterator()}
+	 * to traverse in index order and then throw NoSuchElementException.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIntIterator()
+	{
+		ints.add( 4 );
+		ints.add( 5 );
+		PrimitiveIterator.OfInt it = ints.iterator();
+		assertEquals( 4, it.nextInt() );
+		assertEquals( 5, it.nextInt() );
+		assertFalse( it.hasNext() );
+		it.nextInt();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#clear()}
+	 * to empty the list and leave it usable.
+	 */
+	@Test
+	public void testIntClear()
+	{
+		ints.add( 1 );
+		ints.clear();
+		assertTrue( "Failed to clear list.", ints.isEmpty() );
+		ints.add( 2 );
+		assertEquals( 2, ints.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#add(long)},
+	 * {@link implementations.LongArrayList#get(int)} and
+	 * {@link implementations.LongArrayList#removeValue(long)}
+	 * with values beyond the int range.
+	 */
+	@Test
+	public void testLongFullWidth()
+	{
+		longs.add( Long.MAX_VALUE );
+		longs.add( 5_000_000_000L );
+		longs.add( Long.MIN_VALUE );
+		assertEquals( 5_000_000_000L, longs.get( 1 ) );
+		assertTrue( longs.contains( Long.MIN_VALUE ) );
+		assertTrue( longs.removeValue( Long.MAX_VALUE ) );
+		assertArrayEquals( new long[] { 5_000_000_000L, Long.MIN_VALUE }, longs.toArray() );
+		PrimitiveIterator.OfLong it = longs.iterator();
+		assertEquals( 5_000_000_000L, it.nextLong() );
+		assertEquals( Long.MIN_VALUE, it.nextLong() );
+		assertFalse( it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#remove(int)}
+	 * to throw IndexOutOfBoundsException on an empty list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testLongRemove_Empty()
+	{
+		longs.remove( 0 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.DoubleArrayList#add(double)},
+	 * {@link implementations.DoubleArrayList#set(int, double)} and
+	 * {@link implementations.DoubleArrayList#toArray()}.
+	 */
+	@Test
+	public void testDoubleAddSet()
+	{
+		doubles.add( 1.5 );
+		doubles.add( 0, -2.25 );
+		assertEquals( 1.5, doubles.set( 1, 3.75 ), 0.0 );
+		assertArrayEquals( new double[] { -2.25, 3.75 }, doubles.toArray(), 0.0 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.DoubleArrayList#contains(double)} and
+	 * {@link implementations.DoubleArrayList#indexOf(double)}
+	 * to compare like Double.equals: NaN matches NaN and the two zeros differ.
+	 */
+	@Test
+	public void testDoubleContains_EqualsSemantics()
+	{
+		doubles.add( Double.NaN );
+		doubles.add( 0.0 );
+		assertTrue( "Failed to find NaN.", doubles.contains( Double.NaN ) );
+		assertEquals( 1, doubles.indexOf( 0.0 ) );
+		assertFalse( "Failed to distinguish -0.0.", doubles.contains( -0.0 ) );
+		assertTrue( doubles.removeValue( Double.NaN ) );
+		assertEquals( 1, doubles.size() );
+	}
+}
@@ -0,0 +1,224 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.IntStack;
+import implementations.LongStack;
+
+/**
+ * Class Description:
+ * Test for the primitive-specialized stacks IntStack and LongStack, which
+ * mirror the StackADT operations over int[] and long[].
+ */
+
+public class PrimitiveStackTest
+{
+	// Attributes
+	private IntStack ints;
+	private LongStack longs;
+
+	/**
+	 * Initializes an IntStack and a LongStack before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		ints = new IntStack();
+		longs = new LongStack();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		ints = null;
+		longs = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#push(int)},
+	 * {@link implementations.IntStack#peek()} and
+	 * {@link implementations.IntStack#pop()}
+	 * to return values in LIFO order.
+	 */
+	@Test
+	public void testIntPushPop_Order()
+	{
+		ints.push( 1 );
+		ints.push( 2 );
+		ints.push( 3 );
+		assertEquals( "Failed to update size.", 3, ints.size() );
+		assertEquals( 3, ints.peek() );
+		assertEquals( 3, ints.pop() );
+		assertEquals( 2, ints.pop() );
+		assertEquals( 1, ints.pop() );
+		assertTrue( "Failed to empty stack.", ints.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#pop()}
+	 * to throw EmptyStackException on an empty stack.
+	 */
+	@Test( expected = EmptyStackException.class )
+	public void testIntPop_Empty()
+	{
+		ints.pop();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#peek()}
+	 * to throw EmptyStackException on an empty stack.
+	 */
+	@Test( expected = EmptyStackException.class )
+	public void testIntPeek_Empty()
+	{
+		ints.peek();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#push(int)}
+	 * to grow past the initial capacity, including from zero.
+	 */
+	@Test
+	public void testIntPush_Grow()
+	{
+		IntStack small = new IntStack( 0 );
+		for ( int i = 0; i < 1000; i++ )
+		{
+			small.push( i );
+		}
+		assertEquals( "Failed to update size.", 1000, small.size() );
+		for ( int i = 999; i >= 0; i-- )
+		{
+			assertEquals( i, small.pop() );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#search(int)},
+	 * {@link implementations.IntStack#contains(int)} and
+	 * {@link implementations.IntStack#toArray()}
+	 * to report positions and contents from the top.
+	 */
+	@Test
+	public void testIntSearchToArray()
+	{
+		ints.push( 10 );
+		ints.push( 20 );
+		ints.push( 30 );
+		assertEquals( 1, ints.search( 30 ) );
+		assertEquals( 3, ints.search( 10 ) );
+		assertEquals( -1, ints.search( 40 ) );
+		assertTrue( ints.contains( 20 ) );
+		assertFalse( ints.contains( 40 ) );
+		assertArrayEquals( new int[] { 30, 20, 10 }, ints.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#iterator()}
+	 * to traverse from top to bottom and then throw NoSuchElementException.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIntIterator()
+	{
+		ints.push( 1 );
+		ints.push( 2 );
+		PrimitiveIterator.OfInt it = ints.iterator();
+		assertEquals( 2, it.nextInt() );
+		assertEquals( 1, it.nextInt() );
+		assertFalse( it.hasNext() );
+		it.nextInt();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#equals(IntStack)} and
+	 * {@link implementations.IntStack#clear()}.
+	 */
+	@Test
+	public void testIntEqualsClear()
+	{
+		IntStack other = new IntStack( 1 );
+		ints.push( 5 );
+		ints.push( 6 );
+		other.push( 5 );
+		assertFalse( ints.equals( other ) );
+		other.push( 6 );
+		assertTrue( ints.equals( other ) );
+		assertFalse( ints.equals( (IntStack) null ) );
+		ints.clear();
+		assertTrue( "Failed to clear stack.", ints.isEmpty() );
+		assertFalse( ints.stackOverflow() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongStack#push(long)} and
+	 * {@link implementations.LongStack#pop()}
+	 * to keep full 64-bit values, as used for packed tag entries.
+	 */
+	@Test
+	public void testLongPushPop_FullWidth()
+	{
+		long packed = ( (long) 123456 << 32 ) | 0xFFFFFFFFL;
+		longs.push( Long.MIN_VALUE );
+		longs.push( packed );
+		assertEquals( packed, longs.peek() );
+		assertEquals( 1, longs.search( packed ) );
+		assertEquals( packed, longs.pop() );
+		assertEquals( Long.MIN_VALUE, longs.pop() );
+		assertTrue( "Failed to empty stack.", longs.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongStack#pop()}
+	 * to throw EmptyStackException on an empty stack.
+	 */
+	@Test( expected = EmptyStackException.class )
+	public void testLongPop_Empty()
+	{
+		longs.pop();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongStack#toArray()} and
+	 * {@link implementations.LongStack#iterator()}
+	 * to run from top to bottom.
+	 */
+	@Test
+	public void testLongToArrayIterator()
+	{
+		for ( long i = 0; i < 100; i++ )
+		{
+			longs.push( i * 1_000_000_000L );
+		}
+		long[] arr = longs.toArray();
+		PrimitiveIterator.OfLong it = longs.iterator();
+		for ( int i = 0; i < 100; i++ )
+		{
+			assertEquals( ( 99 - i ) * 1_000_000_000L, arr[i] );
+			assertEquals( arr[i], it.nextLong() );
+		}
+		assertFalse( it.hasNext() );
+	}
+}
@@ -0,0 +1,267 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MySegmentedList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the chunked (segmented) implementation of the ListADT. Most tests
+ * use four-element chunks so that every operation crosses chunk boundaries.
+ */
+
+public class SegmentedListTest
+{
+	// Attributes
+	private MySegmentedList<Integer> list;
+
+	/**
+	 * Initializes a MySegmentedList with 4-element chunks before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		list = new MySegmentedList<Integer>( 2 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		list = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#add(Object)} and
+	 * {@link implementations.MySegmentedList#get(int)}
+	 * across many chunks.
+	 */
+	@Test
+	public void testAddGet()
+	{
+		for ( int i = 0; i < 1000; i++ )
+		{
+			list.add( i );
+		}
+		assertEquals( "Failed to update size.", 1000, list.size() );
+		assertEquals( 1000L, list.sizeLong() );
+		for ( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( Integer.valueOf( i ), list.get( i ) );
+			assertEquals( Integer.valueOf( i ), list.get( (long) i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#add(int, Object)} and
+	 * {@link implementations.MySegmentedList#remove(int)}
+	 * against java.util.ArrayList with random positions.
+	 */
+	@Test
+	public void testInsertRemove_MatchesArrayList()
+	{
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		Random random = new Random( 38 );
+		for ( int step = 0; step < 5000; step++ )
+		{
+			if ( expected.isEmpty() || random.nextInt( 3 ) != 0 )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				expected.add( index, step );
+				list.add( index, step );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( expected.remove( index ), list.remove( index ) );
+			}
+		}
+		assertArrayEquals( expected.toArray(), list.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#set(long, Object)} and
+	 * {@link implementations.MySegmentedList#remove(long)}.
+	 */
+	@Test
+	public void testLongIndexVariants()
+	{
+		for ( int i = 0; i < 10; i++ )
+		{
+			list.add( i );
+		}
+		assertEquals( Integer.valueOf( 5 ), list.set( 5L, 50 ) );
+		assertEquals( Integer.valueOf( 50 ), list.remove( 5L ) );
+		assertTrue( list.add( 8L, 99 ) );
+		assertEquals( Integer.valueOf( 99 ), list.get( 8L ) );
+		assertEquals( Integer.valueOf( 9 ), list.get( 9L ) );
+		assertEquals( 8L, list.indexOf( 99 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#get(long)}
+	 * to throw IndexOutOfBoundsException for an index past the int range.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_LongOutOfBounds()
+	{
+		list.add( 1 );
+		list.get( 1L << 32 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#add(int, Object)}
+	 * to throw IndexOutOfBoundsException past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAdd_OutOfBounds()
+	{
+		list.add( 1, 1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#add(Object)}
+	 * to throw NullPointerException on null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAdd_Null()
+	{
+		list.add( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#remove(Object)},
+	 * {@link implementations.MySegmentedList#contains(Object)} and
+	 * {@link implementations.MySegmentedList#clear()}.
+	 */
+	@Test
+	public void testRemoveByValueContainsClear()
+	{
+		for ( int i = 0; i < 9; i++ )
+		{
+			list.add( i );
+		}
+		assertEquals( Integer.valueOf( 7 ), list.remove( Integer.valueOf( 7 ) ) );
+		assertNull( list.remove( Integer.valueOf( 70 ) ) );
+		assertFalse( list.contains( 7 ) );
+		assertTrue( list.contains( 8 ) );
+		list.clear();
+		assertTrue( "Failed to clear list.", list.isEmpty() );
+		list.add( 3 );
+		assertEquals( Integer.valueOf( 3 ), list.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#remove(int)}
+	 * to keep working while shrinking to empty and growing again.
+	 */
+	@Test
+	public void testShrinkAndRegrow()
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			list.add( i );
+		}
+		while ( !list.isEmpty() )
+		{
+			list.remove( list.size() - 1 );
+		}
+		for ( int i = 0; i < 20; i++ )
+		{
+			list.add( i );
+		}
+		assertEquals( Integer.valueOf( 19 ), list.get( 19 ) );
+		assertEquals( 20, list.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#addAll(utilities.ListADT)}
+	 * from another list type and from itself.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyArrayList<Integer> source = new MyArrayList<Integer>();
+		source.add( 1 );
+		source.add( 2 );
+		source.add( 3 );
+		list.addAll( source );
+		list.addAll( list );
+		assertArrayEquals( new Object[] { 1, 2, 3, 1, 2, 3 }, list.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#toArray(Object[])}
+	 * to fill a large enough holder and null-terminate it.
+	 */
+	@Test
+	public void testToArrayHolder()
+	{
+		for ( int i = 0; i < 6; i++ )
+		{
+			list.add( i );
+		}
+		Integer[] holder = new Integer[8];
+		Integer[] result = list.toArray( holder );
+		assertSame( holder, result );
+		assertEquals( Integer.valueOf( 5 ), result[5] );
+		assertNull( result[6] );
+		assertEquals( 6, list.toArray( new Integer[0] ).length );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#iterator()}
+	 * to walk every chunk in order and then throw NoSuchElementException.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator()
+	{
+		for ( int i = 0; i < 11; i++ )
+		{
+			list.add( i );
+		}
+		Iterator<Integer> it = list.iterator();
+		for ( int i = 0; i < 11; i++ )
+		{
+			assertEquals( Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( it.hasNext() );
+		it.next();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#MySegmentedList(int)}
+	 * to reject an out-of-range chunk shift.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_BadShift()
+	{
+		new MySegmentedList<Integer>( 0 );
+	}
+}
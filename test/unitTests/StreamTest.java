@@ -0,0 +1,270 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.MyArrayList;
+import implementations.MyArrayQueue;
+import implementations.MyDLL;
+import implementations.MyGapList;
+import implementations.MyQueue;
+import implementations.MyStack;
+
+/**
+ * Class Description:
+ * Test for the spliterators and stream accessors: sequential and parallel
+ * streams over every structure must see the same elements in the same
+ * order as the iterator, and splitting must partition the elements exactly.
+ */
+
+public class StreamTest
+{
+	/** Large enough for parallel streams to split several times. */
+	private static final int N = 100000;
+
+	// Attributes
+	private MyArrayList<Integer> arrayList;
+	private MyDLL<Integer> linkedList;
+
+	/**
+	 * Fills both lists with the values 0 to N-1 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		arrayList = new MyArrayList<Integer>();
+		linkedList = new MyDLL<Integer>();
+		for ( int i = 0; i < N; i++ )
+		{
+			arrayList.add( i );
+			linkedList.add( i );
+		}
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		arrayList = null;
+		linkedList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#spliterator()} and
+	 * {@link implementations.MyDLL#spliterator()}
+	 * through sequential and parallel sums.
+	 */
+	@Test
+	public void testLists_Sum()
+	{
+		long expected = (long) N * ( N - 1 ) / 2;
+		assertEquals( expected, arrayList.stream().mapToLong( Integer::longValue ).sum() );
+		assertEquals( expected, arrayList.parallelStream().mapToLong( Integer::longValue ).sum() );
+		assertEquals( expected, linkedList.stream().mapToLong( Integer::longValue ).sum() );
+		assertEquals( expected, linkedList.parallelStream().mapToLong( Integer::longValue ).sum() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#parallelStream()} and
+	 * {@link implementations.MyDLL#parallelStream()}
+	 * to keep encounter order when collecting.
+	 */
+	@Test
+	public void testLists_ParallelOrder()
+	{
+		List<Integer> fromArray = arrayList.parallelStream().collect( Collectors.toList() );
+		List<Integer> fromLinked = linkedList.parallelStream().collect( Collectors.toList() );
+		assertArrayEquals( arrayList.toArray(), fromArray.toArray() );
+		assertArrayEquals( linkedList.toArray(), fromLinked.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#spliterator()}
+	 * to split into two exact halves that together cover the list.
+	 */
+	@Test
+	public void testArrayList_TrySplit()
+	{
+		Spliterator<Integer> rest = arrayList.spliterator();
+		Spliterator<Integer> prefix = rest.trySplit();
+		assertEquals( N / 2, prefix.estimateSize() );
+		assertEquals( N / 2, rest.estimateSize() );
+		assertTrue( rest.hasCharacteristics( Spliterator.SUBSIZED ) );
+		prefix.tryAdvance( e -> assertEquals( Integer.valueOf( 0 ), e ) );
+		rest.tryAdvance( e -> assertEquals( Integer.valueOf( N / 2 ), e ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#spliterator()}
+	 * to hand off array batches and keep an exact remaining count.
+	 */
+	@Test
+	public void testDLL_TrySplit()
+	{
+		Spliterator<Integer> rest = linkedList.spliterator();
+		Spliterator<Integer> first = rest.trySplit();
+		Spliterator<Integer> second = rest.trySplit();
+		assertEquals( 1024, first.getExactSizeIfKnown() );
+		assertEquals( 2048, second.getExactSizeIfKnown() );
+		assertEquals( N - 3072, rest.getExactSizeIfKnown() );
+		rest.tryAdvance( e -> assertEquals( Integer.valueOf( 3072 ), e ) );
+		assertEquals( N - 3073, rest.estimateSize() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#spliterator()}
+	 * to bind to the list size on first use, not on creation.
+	 */
+	@Test
+	public void testArrayList_LateBinding()
+	{
+		Spliterator<Integer> split = arrayList.spliterator();
+		arrayList.add( N );
+		assertEquals( N + 1, split.estimateSize() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#spliterator()}
+	 * to throw ConcurrentModificationException when the list changes during
+	 * traversal.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testDLL_Spliterator_Modified()
+	{
+		linkedList.stream().forEach( e -> {
+			if ( e == 10 )
+			{
+				linkedList.add( -1 );
+			}
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#spliterator()}
+	 * to bind to the front and size on first use, so a stream built before
+	 * an enqueue and a dequeue sees the queue as it is when it runs.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testArrayQueue_LateBinding() throws EmptyQueueException
+	{
+		MyArrayQueue<Integer> queue = new MyArrayQueue<Integer>();
+		for ( int i = 0; i < 10; i++ )
+		{
+			queue.enqueue( i );
+		}
+		Stream<Integer> stream = queue.stream();
+		queue.dequeue();
+		queue.enqueue( 10 );
+		queue.enqueue( 11 );
+		assertArrayEquals( new Object[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 },
+				stream.collect( Collectors.toList() ).toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayQueue#spliterator()}
+	 * to throw ConcurrentModificationException when the queue changes during
+	 * traversal.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testArrayQueue_Spliterator_Modified() throws EmptyQueueException
+	{
+		final MyArrayQueue<Integer> queue = new MyArrayQueue<Integer>();
+		for ( int i = 0; i < 100; i++ )
+		{
+			queue.enqueue( i );
+		}
+		queue.stream().forEach( e -> {
+			if ( e == 10 )
+			{
+				queue.enqueue( -1 );
+			}
+		} );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#spliterator()}
+	 * to stream from top to bottom, sequentially and in parallel.
+	 */
+	@Test
+	public void testStack_TopFirst()
+	{
+		MyStack<Integer> stack = new MyStack<Integer>();
+		for ( int i = 0; i < N; i++ )
+		{
+			stack.push( i );
+		}
+		List<Integer> sequential = stack.stream().limit( 3 ).collect( Collectors.toList() );
+		assertArrayEquals( new Object[] { N - 1, N - 2, N - 3 }, sequential.toArray() );
+		assertArrayEquals( stack.toArray(), stack.parallelStream().collect( Collectors.toList() ).toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#parallelStream()} and
+	 * {@link implementations.MyArrayQueue#parallelStream()}
+	 * including a buffer that wraps around.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testQueues_ParallelOrder() throws EmptyQueueException
+	{
+		MyQueue<Integer> queue = new MyQueue<Integer>();
+		MyArrayQueue<Integer> arrayQueue = new MyArrayQueue<Integer>( 1 << 17 );
+		for ( int i = 0; i < N; i++ )
+		{
+			arrayQueue.enqueue( -1 );
+			arrayQueue.dequeue();
+		}
+		for ( int i = 0; i < N; i++ )
+		{
+			queue.enqueue( i );
+			arrayQueue.enqueue( i );
+		}
+		assertArrayEquals( queue.toArray(), queue.parallelStream().collect( Collectors.toList() ).toArray() );
+		assertArrayEquals( arrayQueue.toArray(), arrayQueue.parallelStream().collect( Collectors.toList() ).toArray() );
+		assertEquals( (long) N * ( N - 1 ) / 2, arrayQueue.stream().mapToLong( Integer::longValue ).sum() );
+	}
+
+	/**
+	 * Test method for the default
+	 * {@link utilities.ListADT#parallelStream()}
+	 * on a list that does not override its spliterator.
+	 */
+	@Test
+	public void testDefault_ParallelStream()
+	{
+		MyGapList<Integer> list = new MyGapList<Integer>();
+		for ( int i = 0; i < N; i++ )
+		{
+			list.add( i );
+		}
+		assertEquals( N, list.spliterator().getExactSizeIfKnown() );
+		assertArrayEquals( list.toArray(), list.parallelStream().collect( Collectors.toList() ).toArray() );
+		assertEquals( 0, new MyGapList<Integer>().stream().count() );
+	}
+}
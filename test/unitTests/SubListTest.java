@@ -0,0 +1,308 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Class Description:
+ * Test for the subList range views of MyArrayList and MyDLL. Random
+ * sequences of view operations are checked against java.util.ArrayList's
+ * subList, and the parent list is compared after every step.
+ */
+
+public class SubListTest
+{
+	// Attributes
+	private MyArrayList<Integer> arrayList;
+	private MyDLL<Integer> linkedList;
+
+	/**
+	 * Initializes both lists with the values 0 to 9 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		arrayList = new MyArrayList<Integer>();
+		linkedList = new MyDLL<Integer>();
+		for ( int i = 0; i < 10; i++ )
+		{
+			arrayList.add( i );
+			linkedList.add( i );
+		}
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		arrayList = null;
+		linkedList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)} and
+	 * {@link implementations.MyDLL#subList(int, int)}
+	 * to read, write and iterate the range in place.
+	 */
+	@Test
+	public void testSubList_ReadWrite()
+	{
+		List<ListADT<Integer>> views = new ArrayList<ListADT<Integer>>();
+		views.add( arrayList.subList( 3, 7 ) );
+		views.add( linkedList.subList( 3, 7 ) );
+		for ( ListADT<Integer> view : views )
+		{
+			assertEquals( 4, view.size() );
+			assertEquals( Integer.valueOf( 3 ), view.get( 0 ) );
+			assertEquals( Integer.valueOf( 6 ), view.get( 3 ) );
+			assertEquals( Integer.valueOf( 4 ), view.set( 1, 40 ) );
+			assertArrayEquals( new Object[] { 3, 40, 5, 6 }, view.toArray() );
+			assertTrue( view.contains( 40 ) );
+			assertFalse( view.contains( 7 ) );
+			int sum = 0;
+			Iterator<Integer> it = view.iterator();
+			while ( it.hasNext() )
+			{
+				sum += it.next();
+			}
+			assertEquals( 54, sum );
+		}
+		assertEquals( Integer.valueOf( 40 ), arrayList.get( 4 ) );
+		assertEquals( Integer.valueOf( 40 ), linkedList.get( 4 ) );
+	}
+
+	/**
+	 * Test method for the subList views' clear() to remove exactly the range
+	 * at the start, middle and end of the list.
+	 */
+	@Test
+	public void testSubList_Clear()
+	{
+		int[][] ranges = { { 0, 3 }, { 4, 8 }, { 7, 10 }, { 0, 10 }, { 5, 5 } };
+		for ( int[] range : ranges )
+		{
+			setUpLists();
+			List<Integer> reference = reference();
+			reference.subList( range[0], range[1] ).clear();
+			ListADT<Integer> arrayView = arrayList.subList( range[0], range[1] );
+			ListADT<Integer> linkedView = linkedList.subList( range[0], range[1] );
+			arrayView.clear();
+			linkedView.clear();
+			assertTrue( arrayView.isEmpty() );
+			assertTrue( linkedView.isEmpty() );
+			assertArrayEquals( reference.toArray(), arrayList.toArray() );
+			assertArrayEquals( reference.toArray(), linkedList.toArray() );
+			for ( int i = 0; i < reference.size(); i++ )
+			{
+				assertEquals( reference.get( i ), linkedList.get( i ) );
+			}
+			arrayView.add( 99 );
+			linkedView.add( 99 );
+			reference.add( range[0], 99 );
+			assertArrayEquals( reference.toArray(), arrayList.toArray() );
+			assertArrayEquals( reference.toArray(), linkedList.toArray() );
+		}
+	}
+
+	/**
+	 * Test method for the subList views against java.util.ArrayList's
+	 * subList over random add, remove, set and addAll sequences.
+	 */
+	@Test
+	public void testSubList_RandomEditsMatchArrayList()
+	{
+		Random random = new Random( 11 );
+		for ( int round = 0; round < 50; round++ )
+		{
+			setUpLists();
+			List<Integer> reference = reference();
+			int from = random.nextInt( 11 );
+			int to = from + random.nextInt( 11 - from );
+			List<Integer> expected = reference.subList( from, to );
+			ListADT<Integer> arrayView = arrayList.subList( from, to );
+			ListADT<Integer> linkedView = linkedList.subList( from, to );
+			for ( int step = 0; step < 40; step++ )
+			{
+				int value = 100 + random.nextInt( 100 );
+				int op = random.nextInt( 5 );
+				if ( op == 0 || expected.isEmpty() )
+				{
+					int index = random.nextInt( expected.size() + 1 );
+					expected.add( index, value );
+					arrayView.add( index, value );
+					linkedView.add( index, value );
+				}
+				else if ( op == 1 )
+				{
+					int index = random.nextInt( expected.size() );
+					Integer removed = expected.remove( index );
+					assertEquals( removed, arrayView.remove( index ) );
+					assertEquals( removed, linkedView.remove( index ) );
+				}
+				else if ( op == 2 )
+				{
+					Integer target = expected.get( random.nextInt( expected.size() ) );
+					expected.remove( target );
+					assertEquals( target, arrayView.remove( target ) );
+					assertEquals( target, linkedView.remove( target ) );
+				}
+				else if ( op == 3 )
+				{
+					int index = random.nextInt( expected.size() );
+					expected.set( index, value );
+					arrayView.set( index, value );
+					linkedView.set( index, value );
+				}
+				else
+				{
+					MyArrayList<Integer> more = new MyArrayList<Integer>();
+					more.add( value );
+					more.add( value + 1 );
+					expected.addAll( java.util.Arrays.asList( value, value + 1 ) );
+					arrayView.addAll( more );
+					linkedView.addAll( more );
+				}
+				assertArrayEquals( expected.toArray(), arrayView.toArray() );
+				assertArrayEquals( expected.toArray(), linkedView.toArray() );
+				assertArrayEquals( reference.toArray(), arrayList.toArray() );
+				assertArrayEquals( reference.toArray(), linkedList.toArray() );
+			}
+		}
+	}
+
+	/**
+	 * Test method for the subList views' addAll to append the view to itself.
+	 */
+	@Test
+	public void testSubList_AddAllSelf()
+	{
+		ListADT<Integer> view = linkedList.subList( 8, 10 );
+		view.addAll( view );
+		assertArrayEquals( new Object[] { 8, 9, 8, 9 }, view.toArray() );
+		assertEquals( 12, linkedList.size() );
+		assertEquals( Integer.valueOf( 9 ), linkedList.get( 11 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to throw ConcurrentModificationException after the parent changes.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testArrayList_SubList_ParentModified()
+	{
+		ListADT<Integer> view = arrayList.subList( 2, 5 );
+		arrayList.add( 0, -1 );
+		view.get( 0 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#subList(int, int)}
+	 * to throw ConcurrentModificationException after the parent changes.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testDLL_SubList_ParentModified()
+	{
+		ListADT<Integer> view = linkedList.subList( 2, 5 );
+		linkedList.remove( 0 );
+		view.iterator();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to throw IndexOutOfBoundsException for a reversed range.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testSubList_BadRange()
+	{
+		arrayList.subList( 5, 4 );
+	}
+
+	/**
+	 * Test method for the subList views read from several threads at once,
+	 * one disjoint slice per thread.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testSubList_ParallelSlices() throws InterruptedException
+	{
+		final int n = 100000;
+		final MyArrayList<Integer> big = new MyArrayList<Integer>();
+		final MyDLL<Integer> bigLinked = new MyDLL<Integer>();
+		for ( int i = 0; i < n; i++ )
+		{
+			big.add( i );
+			bigLinked.add( i );
+		}
+		final long[] sums = new long[8];
+		Thread[] workers = new Thread[8];
+		for ( int t = 0; t < 4; t++ )
+		{
+			final int slot = t;
+			final ListADT<Integer> slice = big.subList( t * n / 4, ( t + 1 ) * n / 4 );
+			final ListADT<Integer> linkedSlice = bigLinked.subList( t * n / 4, ( t + 1 ) * n / 4 );
+			workers[2 * t] = new Thread( () -> slice.forEach( e -> sums[2 * slot] += e ) );
+			workers[2 * t + 1] = new Thread( () -> linkedSlice.forEach( e -> sums[2 * slot + 1] += e ) );
+		}
+		for ( Thread worker : workers )
+		{
+			worker.start();
+		}
+		long total = 0;
+		for ( int i = 0; i < workers.length; i++ )
+		{
+			workers[i].join();
+			total += sums[i];
+		}
+		assertEquals( 2L * n * ( n - 1 ) / 2, total );
+	}
+
+	// ------------------ Helpers ------------------
+
+	/**
+	 * Refills both lists with 0 to 9.
+	 */
+	private void setUpLists()
+	{
+		arrayList.clear();
+		linkedList.clear();
+		for ( int i = 0; i < 10; i++ )
+		{
+			arrayList.add( i );
+			linkedList.add( i );
+		}
+	}
+
+	/**
+	 * @return a java.util.ArrayList holding 0 to 9
+	 */
+	private static List<Integer> reference()
+	{
+		List<Integer> reference = new ArrayList<Integer>();
+		for ( int i = 0; i < 10; i++ )
+		{
+			reference.add( i );
+		}
+		return reference;
+	}
+}
@@ -0,0 +1,438 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeNoException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.DirectoryValidator;
+import implementations.MyWorkStealingDeque;
+import implementations.WorkStealingScheduler;
+
+/**
+ * Class Description:
+ * Test for the Chase–Lev work-stealing deque and the scheduler and directory
+ * validator built on it. The stress test runs one owner pushing and popping
+ * against several thieves and checks that every element is taken exactly
+ * once.
+ */
+
+public class WorkStealingDequeTest
+{
+	/** Elements pushed by the owner in the stress test. */
+	private static final int STRESS_ELEMENTS = 200_000;
+
+	// Attributes
+	private MyWorkStealingDeque<Integer> deque;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a MyWorkStealingDeque instance and three Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		deque = new MyWorkStealingDeque<Integer>();
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		deque = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyWorkStealingDeque#pop()}
+	 * to return the newest element first.
+	 */
+	@Test
+	public void testPop_Lifo()
+	{
+		deque.push( one );
+		deque.push( two );
+		deque.push( three );
+		assertEquals( "Failed to update size.", 3, deque.size() );
+		assertEquals( three, deque.pop() );
+		assertEquals( two, deque.pop() );
+		assertEquals( one, deque.pop() );
+		assertTrue( "Failed to empty deque.", deque.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyWorkStealingDeque#steal()}
+	 * to return the oldest element first.
+	 */
+	@Test
+	public void testSteal_Fifo()
+	{
+		deque.push( one );
+		deque.push( two );
+		deque.push( three );
+		assertEquals( one, deque.steal() );
+		assertEquals( two, deque.steal() );
+		assertEquals( three, deque.pop() );
+		assertTrue( "Failed to empty deque.", deque.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyWorkStealingDeque#pop()} and
+	 * {@link implementations.MyWorkStealingDeque#steal()}
+	 * to return null on an empty deque.
+	 */
+	@Test
+	public void testPopSteal_Empty()
+	{
+		assertNull( deque.pop() );
+		assertNull( deque.steal() );
+		deque.push( one );
+		assertEquals( one, deque.pop() );
+		assertNull( deque.pop() );
+		assertEquals( "Failed to keep size consistent.", 0, deque.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyWorkStealingDeque#push(Object)}
+	 * to throw NullPointerException on null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testPush_Null()
+	{
+		deque.push( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyWorkStealingDeque#push(Object)}
+	 * to grow the buffer while keeping elements in order, including after
+	 * the indices have wrapped around.
+	 */
+	@Test
+	public void testPush_GrowAfterWrap()
+	{
+		for ( int i = 0; i < 50; i++ )
+		{
+			deque.push( i );
+		}
+		for ( int i = 0; i < 50; i++ )
+		{
+			assertEquals( Integer.valueOf( i ), deque.steal() );
+		}
+		for ( int i = 0; i < 1000; i++ )
+		{
+			deque.push( i );
+		}
+		assertEquals( "Failed to update size.", 1000, deque.size() );
+		assertEquals( Integer.valueOf( 0 ), deque.steal() );
+		for ( int i = 999; i >= 1; i-- )
+		{
+			assertEquals( Integer.valueOf( i ), deque.pop() );
+		}
+		assertTrue( "Failed to empty deque.", deque.isEmpty() );
+	}
+
+	/**
+	 * Stress test for
+	 * {@link implementations.MyWorkStealingDeque#pop()} racing
+	 * {@link implementations.MyWorkStealingDeque#steal()}
+	 * so that every element is taken exactly once.
+	 * @throws InterruptedException
+	 */
+	@Test( timeout = 60_000 )
+	public void testStress_OwnerAndThieves() throws InterruptedException
+	{
+		final int thieves = 3;
+		final AtomicIntegerArray seen = new AtomicIntegerArray( STRESS_ELEMENTS );
+		final CountDownLatch taken = new CountDownLatch( STRESS_ELEMENTS );
+		final CountDownLatch start = new CountDownLatch( 1 );
+		Thread[] threads = new Thread[thieves + 1];
+
+		threads[0] = new Thread( () -> {
+			awaitQuietly( start );
+			for ( int i = 0; i < STRESS_ELEMENTS; i++ )
+			{
+				deque.push( i );
+				// Pop every third push so the owner races thieves for the last element
+				if ( i % 3 == 0 )
+				{
+					take( deque.pop(), seen, taken );
+				}
+			}
+			while ( taken.getCount() > 0 )
+			{
+				take( deque.pop(), seen, taken );
+			}
+		} );
+		for ( int t = 1; t <= thieves; t++ )
+		{
+			threads[t] = new Thread( () -> {
+				awaitQuietly( start );
+				while ( taken.getCount() > 0 )
+				{
+					take( deque.steal(), seen, taken );
+				}
+			} );
+		}
+
+		for ( Thread t : threads )
+		{
+			t.start();
+		}
+		start.countDown();
+		for ( Thread t : threads )
+		{
+			t.join();
+		}
+
+		for ( int i = 0; i < STRESS_ELEMENTS; i++ )
+		{
+			assertEquals( "Lost or duplicated value " + i, 1, seen.get( i ) );
+		}
+		assertTrue( "Failed to drain deque.", deque.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.WorkStealingScheduler#submit(Runnable)}
+	 * to run every task forked recursively from other tasks before
+	 * {@link implementations.WorkStealingScheduler#awaitQuiescence()} returns.
+	 * @throws Exception
+	 */
+	@Test( timeout = 60_000 )
+	public void testScheduler_RecursiveFork() throws Exception
+	{
+		WorkStealingScheduler scheduler = new WorkStealingScheduler( 4 );
+		AtomicLong leaves = new AtomicLong();
+		try
+		{
+			scheduler.submit( () -> fork( scheduler, 14, leaves ) );
+			scheduler.awaitQuiescence();
+		}
+		finally
+		{
+			scheduler.shutdown();
+		}
+		assertEquals( "Failed to run every forked task.", 1L << 14, leaves.get() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.WorkStealingScheduler#awaitQuiescence()}
+	 * to report an exception thrown by a task.
+	 * @throws Exception
+	 */
+	@Test( timeout = 60_000 )
+	public void testScheduler_Failure() throws Exception
+	{
+		WorkStealingScheduler scheduler = new WorkStealingScheduler( 2 );
+		try
+		{
+			scheduler.submit( () -> {
+				throw new IllegalStateException( "boom" );
+			} );
+			scheduler.awaitQuiescence();
+			fail( "Failed to report task exception." );
+		}
+		catch ( ExecutionException e )
+		{
+			assertTrue( e.getCause() instanceof IllegalStateException );
+		}
+		finally
+		{
+			scheduler.shutdown();
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.DirectoryValidator#validate(File)}
+	 * to validate every XML file in a nested directory tree and print each
+	 * report in one piece.
+	 * @throws Exception
+	 */
+	@Test( timeout = 60_000 )
+	public void testDirectoryValidator_Tree() throws Exception
+	{
+		File root = Files.createTempDirectory( "wsdeque" ).toFile();
+		try
+		{
+			File nested = new File( new File( root, "a" ), "b" );
+			assertTrue( nested.mkdirs() );
+			write( new File( root, "good.xml" ), "<?xml version=\"1.0\"?>\n<a>\n<b></b>\n</a>\n" );
+			write( new File( root, "a/bad.xml" ), "<?xml version=\"1.0\"?>\n<a>\n<b>\n</a>\n" );
+			write( new File( nested, "deep.xml" ), "<?xml version=\"1.0\"?>\n<x/>\n" );
+			write( new File( nested, "notes.txt" ), "<a>" );
+
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			PrintStream out = new PrintStream( buffer, true, "UTF-8" );
+			int count = new DirectoryValidator( out, 3 ).validate( root );
+			String report = buffer.toString( "UTF-8" );
+
+			assertEquals( "Failed to validate every XML file.", 3, count );
+			assertEquals( "Failed to print one header per file.", 3, report.split( "File: ", -1 ).length - 1 );
+			assertFalse( "Failed to skip non-XML files.", report.contains( "notes.txt" ) );
+		}
+		finally
+		{
+			delete( root );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.DirectoryValidator#validate(File)}
+	 * on a flat directory holding many more files than the bounded file and
+	 * report queues, with a single parser.
+	 * @throws Exception
+	 */
+	@Test( timeout = 60_000 )
+	public void testDirectoryValidator_ManyFilesOneThread() throws Exception
+	{
+		File root = Files.createTempDirectory( "wsdeque" ).toFile();
+		try
+		{
+			for ( int i = 0; i < 200; i++ )
+			{
+				write( new File( root, "f" + i + ".xml" ), "<?xml version=\"1.0\"?>\n<a>\n<b></b>\n</a>\n" );
+			}
+
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			PrintStream out = new PrintStream( buffer, true, "UTF-8" );
+			int count = new DirectoryValidator( out, 1 ).validate( root );
+			String report = buffer.toString( "UTF-8" );
+
+			assertEquals( "Failed to validate every XML file.", 200, count );
+			assertEquals( "Failed to print one header per file.", 200, report.split( "File: ", -1 ).length - 1 );
+		}
+		finally
+		{
+			delete( root );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.DirectoryValidator#validate(File)}
+	 * to not follow symbolic links back up the tree, which would revisit the
+	 * same files until the path got too long.
+	 * @throws Exception
+	 */
+	@Test( timeout = 60_000 )
+	public void testDirectoryValidator_SymlinkLoop() throws Exception
+	{
+		File root = Files.createTempDirectory( "wsdeque" ).toFile();
+		try
+		{
+			File a = new File( root, "a" );
+			assertTrue( a.mkdir() );
+			write( new File( root, "one.xml" ), "<?xml version=\"1.0\"?>\n<a>\n</a>\n" );
+			write( new File( a, "two.xml" ), "<?xml version=\"1.0\"?>\n<a>\n</a>\n" );
+			write( new File( a, "three.xml" ), "<?xml version=\"1.0\"?>\n<a>\n</a>\n" );
+			try
+			{
+				Files.createSymbolicLink( new File( a, "loop" ).toPath(), Paths.get( ".." ) );
+				Files.createSymbolicLink( new File( a, "loop2" ).toPath(), Paths.get( ".." ) );
+			}
+			catch ( UnsupportedOperationException | IOException e )
+			{
+				assumeNoException( e );
+			}
+
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			PrintStream out = new PrintStream( buffer, true, "UTF-8" );
+			int count = new DirectoryValidator( out, 2 ).validate( root );
+
+			assertEquals( "Failed to visit each XML file once.", 3, count );
+		}
+		finally
+		{
+			delete( root );
+		}
+	}
+
+	private static void fork( WorkStealingScheduler scheduler, int depth, AtomicLong leaves )
+	{
+		if ( depth == 0 )
+		{
+			leaves.incrementAndGet();
+			return;
+		}
+		scheduler.submit( () -> fork( scheduler, depth - 1, leaves ) );
+		scheduler.submit( () -> fork( scheduler, depth - 1, leaves ) );
+	}
+
+	private static void take( Integer v, AtomicIntegerArray seen, CountDownLatch taken )
+	{
+		if ( v == null )
+		{
+			return;
+		}
+		seen.incrementAndGet( v );
+		taken.countDown();
+	}
+
+	private static void write( File file, String content ) throws IOException
+	{
+		try ( FileWriter w = new FileWriter( file ) )
+		{
+			w.write( content );
+		}
+	}
+
+	private static void delete( File file )
+	{
+		// Remove a link itself, never the tree it points to
+		File[] children = Files.isSymbolicLink( file.toPath() ) ? null : file.listFiles();
+		if ( children != null )
+		{
+			for ( File child : children )
+			{
+				delete( child );
+			}
+		}
+		file.delete();
+	}
+
+	private static void awaitQuietly( CountDownLatch latch )
+	{
+		try
+		{
+			latch.await();
+		}
+		catch ( InterruptedException e )
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}